@@ -0,0 +1,171 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara el rendimiento de {@link MonitorExecutor} contra un
+ * <tt>ThreadPoolExecutor</tt> con el mismo n&uacute;mero de hilos: cada
+ * invocaci&oacute;n entrega un lote de tareas peque&ntilde;as y espera a que
+ * terminen todas. El resultado es en tareas por segundo. La capacidad del
+ * <tt>MonitorExecutor</tt> es menor que el lote, as&iacute; que tambi&eacute;n
+ * mide el costo de frenar al productor. Tambi&eacute;n se mide entregar el
+ * lote con {@link MonitorExecutor#submitAll}, y dejarlo en espera para
+ * pasarlo a ejecuci&oacute;n con {@link MonitorExecutor#signal()} por tarea o
+ * con {@link MonitorExecutor#signalN(int)} por bloques.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitorExecutorBenchmark {
+
+    // atributos de clase
+
+    private static final int BATCH = 10000;
+    private static final int BLOCK = 250;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    private MonitorExecutor<Runnable> monitorExecutor;
+    private ThreadPoolExecutor threadPool;
+    private List<Runnable> batch;
+    private volatile CountDownLatch done;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        Comparator<Runnable> unordered = new Comparator<Runnable>() {
+            @Override
+            public int compare(Runnable a, Runnable b) {
+                return 0;
+            }//compare
+        };
+        monitorExecutor = new MonitorExecutor<Runnable>(workers, 1024,
+                unordered, Executors.defaultThreadFactory());
+        threadPool = new ThreadPoolExecutor(workers, workers, 0,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+        threadPool.prestartAllCoreThreads();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                done.countDown();
+            }//run
+        };
+        batch = new ArrayList<Runnable>(BATCH);
+        for(int i = 0; i < BATCH; i++) {
+            batch.add(task);
+        }//arma el lote
+    }//setUp
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        monitorExecutor.shutdown();
+        threadPool.shutdown();
+        monitorExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        threadPool.awaitTermination(10, TimeUnit.SECONDS);
+    }//tearDown
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void monitorExecutor() throws InterruptedException {
+        done = new CountDownLatch(BATCH);
+        for(Runnable task : batch) {
+            monitorExecutor.submit(task);
+        }//entrega el lote
+        done.await();
+    }//monitorExecutor
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void threadPoolExecutor() throws InterruptedException {
+        done = new CountDownLatch(BATCH);
+        for(Runnable task : batch) {
+            threadPool.execute(task);
+        }//entrega el lote
+        done.await();
+    }//threadPoolExecutor
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void monitorExecutorSubmitAll() throws InterruptedException {
+        done = new CountDownLatch(BATCH);
+        monitorExecutor.submitAll(batch);
+        done.await();
+    }//monitorExecutorSubmitAll
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void deferSignal() throws InterruptedException {
+        done = new CountDownLatch(BATCH);
+        for(int i = 0; i < BATCH; i += BLOCK) {
+            for(int j = 0; j < BLOCK; j++) {
+                monitorExecutor.defer(batch.get(i +j));
+            }//deja el bloque en espera
+            for(int j = 0; j < BLOCK; j++) {
+                monitorExecutor.signal();
+            }//lo pasa tarea por tarea
+        }//entrega el lote por bloques
+        done.await();
+    }//deferSignal
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void deferSignalN() throws InterruptedException {
+        done = new CountDownLatch(BATCH);
+        for(int i = 0; i < BATCH; i += BLOCK) {
+            for(int j = 0; j < BLOCK; j++) {
+                monitorExecutor.defer(batch.get(i +j));
+            }//deja el bloque en espera
+            monitorExecutor.signalN(BLOCK);
+        }//entrega el lote por bloques
+        done.await();
+    }//deferSignalN
+
+}//MonitorExecutorBenchmark class
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara los modos de {@link LockMode} de {@link MonitorExecutor} con varios
+ * hilos a la vez. En el grupo <tt>producers</tt> cuatro hilos agregan tareas
+ * a la cola de espera y las pasan a ejecuci&oacute;n; en el grupo
+ * <tt>readers</tt> tres hilos consultan el n&uacute;mero de tareas en espera
+ * mientras uno produce. El resultado es en operaciones por microsegundo.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitorLockModeBenchmark {
+
+    // atributos de clase
+
+    @Param({"FAIR", "NON_FAIR", "OPTIMISTIC", "STRIPED"})
+    public LockMode mode;
+
+    private MonitorExecutor<Task> executor;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        executor = new MonitorExecutor<Task>(1, 1 << 16, null,
+                Executors.defaultThreadFactory(), mode);
+    }//setUp
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }//tearDown
+
+    @Benchmark
+    @Group("producers")
+    @GroupThreads(4)
+    public void deferSignal() throws InterruptedException {
+        produce();
+    }//deferSignal
+
+    @Benchmark
+    @Group("readers")
+    @GroupThreads(1)
+    public void readersProducer() throws InterruptedException {
+        produce();
+    }//readersProducer
+
+    @Benchmark
+    @Group("readers")
+    @GroupThreads(3)
+    public int waitingCount() {
+        return executor.getWaitingCount();
+    }//waitingCount
+
+    /**
+     * Agrega una tarea nueva a la cola de espera y pasa una a
+     * ejecuci&oacute;n. Cada tarea es un objeto distinto para que se repartan
+     * entre las colas en el modo {@link LockMode#STRIPED}.
+     * @throws InterruptedException - Si se interrumpe mientras espera lugar.
+     */
+    private void produce() throws InterruptedException {
+        executor.defer(new Task());
+        executor.signal();
+    }//produce
+
+    // clases anidadas
+
+    /**
+     * Tarea que no hace nada; todas tienen la misma prioridad.
+     */
+    private static final class Task implements Runnable, Comparable<Task> {
+
+        @Override
+        public void run() {
+        }//run
+
+        @Override
+        public int compareTo(Task other) {
+            return 0;
+        }//compareTo
+
+    }//Task class
+
+}//MonitorLockModeBenchmark class
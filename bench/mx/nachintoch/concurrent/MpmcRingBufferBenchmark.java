@@ -0,0 +1,131 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara {@link MpmcRingBuffer} contra <tt>ConcurrentLinkedQueue</tt>, la
+ * cola de ejecuci&oacute;n que usa {@link MonitorExecutor}. En
+ * <tt>*OfferPoll</tt> cuatro hilos agregan y sacan un elemento cada uno sobre
+ * la misma cola; en <tt>*Batch</tt> cada operaci&oacute;n agrega un lote y lo
+ * saca completo, con <tt>drainTo</tt> en el caso del arreglo circular. El
+ * resultado es en elementos por microsegundo.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MpmcRingBufferBenchmark {
+
+    // atributos de clase
+
+    private static final int BATCH = 64;
+
+    private static final Runnable TASK = new Runnable() {
+        @Override
+        public void run() {
+        }//run
+    };
+
+    private MpmcRingBuffer<Runnable> ringBuffer;
+    private ConcurrentLinkedQueue<Runnable> linkedQueue;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        ringBuffer = new MpmcRingBuffer<Runnable>(1024);
+        linkedQueue = new ConcurrentLinkedQueue<Runnable>();
+    }//setUp
+
+    @Benchmark
+    @Threads(4)
+    public Runnable ringOfferPoll() {
+        ringBuffer.offer(TASK);
+        return ringBuffer.poll();
+    }//ringOfferPoll
+
+    @Benchmark
+    @Threads(4)
+    public Runnable linkedOfferPoll() {
+        linkedQueue.offer(TASK);
+        return linkedQueue.poll();
+    }//linkedOfferPoll
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int ringBatch(Drain drain) {
+        for(int i = 0; i < BATCH; i++) {
+            ringBuffer.offer(TASK);
+        }//agrega el lote
+        drain.target.clear();
+        return ringBuffer.drainTo(drain.target, BATCH);
+    }//ringBatch
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int linkedBatch(Drain drain) {
+        for(int i = 0; i < BATCH; i++) {
+            linkedQueue.offer(TASK);
+        }//agrega el lote
+        drain.target.clear();
+        Runnable task;
+        while(drain.target.size() < BATCH
+                && (task = linkedQueue.poll()) != null) {
+            drain.target.add(task);
+        }//saca el lote
+        return drain.target.size();
+    }//linkedBatch
+
+    // clases anidadas
+
+    /**
+     * La lista en la que cada hilo saca sus lotes.
+     */
+    @State(Scope.Thread)
+    public static class Drain {
+
+        final List<Runnable> target = new ArrayList<Runnable>(BATCH);
+
+    }//Drain class
+
+}//MpmcRingBufferBenchmark class
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara recibir un mensaje UTF-8, calcular su hash, compararlo y volver a
+ * codificarlo con {@link CompactNachintochString} contra hacerlo con una
+ * {@link NachintochString} que decodifica los bytes al construirse.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactNachintochStringBenchmark {
+
+    // atributos de clase
+
+    @Param({"ascii", "utf8"})
+    public String content;
+
+    private byte[] message;
+    private NachintochString nchKey;
+    private CompactNachintochString compactKey;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < 16; i++) {
+            builder.append(content.equals("ascii") ? "campo" : "año")
+                    .append(i).append(';');
+        }//arma el mensaje
+        message = builder.toString().getBytes(StandardCharsets.UTF_8);
+        nchKey = new NachintochString(message, 0, message.length,
+                StandardCharsets.UTF_8);
+        compactKey = new CompactNachintochString(message,
+                StandardCharsets.UTF_8);
+    }//setUp
+
+    @Benchmark
+    public byte[] nachintochRoundTrip() {
+        NachintochString s = new NachintochString(message, 0, message.length,
+                StandardCharsets.UTF_8);
+        return s.hashCode() == nchKey.hashCode() && s.equals(nchKey)
+                ? s.getBytes(StandardCharsets.UTF_8) : null;
+    }//nachintochRoundTrip
+
+    @Benchmark
+    public byte[] compactRoundTrip() {
+        CompactNachintochString s = new CompactNachintochString(message,
+                StandardCharsets.UTF_8);
+        return s.hashCode() == compactKey.hashCode() && s.equals(compactKey)
+                ? s.getBytes(StandardCharsets.UTF_8) : null;
+    }//compactRoundTrip
+
+    @Benchmark
+    public boolean nachintochStartsWith() {
+        return nchKey.startsWith("campo0;") || nchKey.startsWith("año0;");
+    }//nachintochStartsWith
+
+    @Benchmark
+    public boolean compactStartsWith() {
+        return compactKey.startsWith("campo0;")
+                || compactKey.startsWith("año0;");
+    }//compactStartsWith
+
+}//CompactNachintochStringBenchmark class
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el ordenamiento de arreglos de {@link ComparableInteger} y
+ * {@link ComparableDouble}, con <tt>Integer</tt> y <tt>Double</tt> como
+ * referencia, y con {@link ComparableSort} en uno y en varios hilos. Cada
+ * invocaci&oacute;n ordena una copia del mismo arreglo desordenado.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparableSortBenchmark {
+
+    // atributos de clase
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ComparableInteger[] comparableIntegers;
+    private ComparableDouble[] comparableDoubles;
+    private Integer[] integers;
+    private Double[] doubles;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        comparableIntegers = new ComparableInteger[size];
+        comparableDoubles = new ComparableDouble[size];
+        integers = new Integer[size];
+        doubles = new Double[size];
+        for(int i = 0; i < size; i++) {
+            int n = random.nextInt();
+            double d = random.nextDouble() *1e6;
+            comparableIntegers[i] = new ComparableInteger(n);
+            comparableDoubles[i] = new ComparableDouble(d);
+            integers[i] = n;
+            doubles[i] = d;
+        }//llena los arreglos
+    }//setUp
+
+    @Benchmark
+    public ComparableInteger[] sortComparableInteger() {
+        ComparableInteger[] copy = comparableIntegers.clone();
+        Arrays.sort(copy);
+        return copy;
+    }//sortComparableInteger
+
+    @Benchmark
+    public Integer[] sortInteger() {
+        Integer[] copy = integers.clone();
+        Arrays.sort(copy);
+        return copy;
+    }//sortInteger
+
+    @Benchmark
+    public ComparableDouble[] sortComparableDouble() {
+        ComparableDouble[] copy = comparableDoubles.clone();
+        Arrays.sort(copy);
+        return copy;
+    }//sortComparableDouble
+
+    @Benchmark
+    public Double[] sortDouble() {
+        Double[] copy = doubles.clone();
+        Arrays.sort(copy);
+        return copy;
+    }//sortDouble
+
+    @Benchmark
+    public ComparableInteger[] radixSortComparableInteger() {
+        ComparableInteger[] copy = comparableIntegers.clone();
+        ComparableSort.sort(copy);
+        return copy;
+    }//radixSortComparableInteger
+
+    @Benchmark
+    public ComparableInteger[] parallelSortComparableInteger() {
+        ComparableInteger[] copy = comparableIntegers.clone();
+        ComparableSort.parallelSort(copy);
+        return copy;
+    }//parallelSortComparableInteger
+
+    @Benchmark
+    public ComparableDouble[] radixSortComparableDouble() {
+        ComparableDouble[] copy = comparableDoubles.clone();
+        ComparableSort.sort(copy);
+        return copy;
+    }//radixSortComparableDouble
+
+    @Benchmark
+    public ComparableDouble[] parallelSortComparableDouble() {
+        ComparableDouble[] copy = comparableDoubles.clone();
+        ComparableSort.parallelSort(copy);
+        return copy;
+    }//parallelSortComparableDouble
+
+}//ComparableSortBenchmark class
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara buscar las l&iacute;neas de una bit&aacute;cora UTF-8 de 16 MB que
+ * contienen un texto, con {@link MappedNachintochString} sobre el archivo
+ * mapeado contra leer el archivo al heap y construir una
+ * {@link NachintochString} con sus bytes. Tambi&eacute;n compara dividir la
+ * bit&aacute;cora en l&iacute;neas, que tienen caracteres fuera de ASCII, con
+ * un delimitador literal y con una expresi&oacute;n regular.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedNachintochStringBenchmark {
+
+    // atributos de clase
+
+    private static final Pattern NEWLINE = Pattern.compile("\r?\n");
+
+    private File log;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() throws IOException {
+        log = File.createTempFile("nachintoch-bench", ".log");
+        FileOutputStream out = new FileOutputStream(log);
+        try {
+            StringBuilder line = new StringBuilder();
+            for(int i = 0; out.getChannel().size() < 16 << 20; i++) {
+                line.setLength(0);
+                line.append("2026-10-18 12:00:").append(i %60)
+                        .append(i %97 == 0 ? " ERROR " : " INFO ")
+                        .append("petición ").append(i).append(" atendida\n");
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            }//escribe la bitácora
+        } finally {
+            out.close();
+        }//cierra el archivo
+    }//setUp
+
+    @TearDown
+    public void tearDown() {
+        log.delete();
+    }//tearDown
+
+    @Benchmark
+    public int mappedScan() throws IOException {
+        return countErrors(MappedNachintochString.map(log,
+                StandardCharsets.UTF_8));
+    }//mappedScan
+
+    @Benchmark
+    public int heapScan() throws IOException {
+        return countErrors(readLog());
+    }//heapScan
+
+    @Benchmark
+    public int mappedSplit() throws IOException {
+        return MappedNachintochString.map(log, StandardCharsets.UTF_8)
+                .split("\n").length;
+    }//mappedSplit
+
+    @Benchmark
+    public int mappedPatternSplit() throws IOException {
+        return MappedNachintochString.map(log, StandardCharsets.UTF_8)
+                .split(NEWLINE).length;
+    }//mappedPatternSplit
+
+    @Benchmark
+    public int heapSplit() throws IOException {
+        return readLog().split("\n").length;
+    }//heapSplit
+
+    /**
+     * Lee toda la bit&aacute;cora al heap.
+     * @return NachintochString - La bit&aacute;cora.
+     * @throws IOException - Si no se puede leer el archivo.
+     */
+    private NachintochString readLog() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(log, "r");
+        byte[] bytes;
+        try {
+            bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+        } finally {
+            raf.close();
+        }//lee todo el archivo
+        return new NachintochString(bytes, 0, bytes.length,
+                StandardCharsets.UTF_8);
+    }//readLog
+
+    /**
+     * Cuenta las l&iacute;neas con <tt>ERROR</tt>.
+     * @param text - La bit&aacute;cora.
+     * @return int - El n&uacute;mero de l&iacute;neas.
+     */
+    private static int countErrors(NachintochString text) {
+        int count = 0;
+        int index = 0;
+        while((index = text.indexOf(" ERROR ", index)) != -1) {
+            count++;
+            index = text.indexOf('\n', index);
+        }//busca cada línea
+        return count;
+    }//countErrors
+
+}//MappedNachintochStringBenchmark class
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara buscar cu&aacute;les de cientos de palabras aparecen en un
+ * documento con <tt>contains</tt> de {@link NachintochString}, una vez por
+ * palabra, contra una sola pasada de {@link MultiPatternMatcher}.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiPatternMatcherBenchmark {
+
+    // atributos de clase
+
+    @Param({"10", "300"})
+    public int keywords;
+
+    private NachintochString document;
+    private String[] words;
+    private MultiPatternMatcher matcher;
+    private boolean[] found;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[keywords];
+        for(int i = 0; i < keywords; i++) {
+            words[i] = randomWord(random, 5 +random.nextInt(6));
+        }//crea las palabras
+        StringBuilder builder = new StringBuilder();
+        while(builder.length() < 64 *1024) {
+            builder.append(random.nextInt(50) == 0
+                    ? words[random.nextInt(keywords)]
+                    : randomWord(random, 2 +random.nextInt(8))).append(' ');
+        }//arma el documento
+        document = new NachintochString(builder.toString());
+        matcher = new MultiPatternMatcher(words);
+        found = new boolean[keywords];
+    }//setUp
+
+    @Benchmark
+    public boolean[] containsLoop() {
+        for(int i = 0; i < keywords; i++) {
+            found[i] = document.contains(words[i]);
+        }//busca cada palabra
+        return found;
+    }//containsLoop
+
+    @Benchmark
+    public boolean[] multiPattern() {
+        final boolean[] result = found;
+        Arrays.fill(result, false);
+        matcher.match(document, new MultiPatternMatcher.MatchListener() {
+            @Override
+            public boolean onMatch(int keyword, int start, int end) {
+                result[keyword] = true;
+                return true;
+            }//onMatch
+        });
+        return result;
+    }//multiPattern
+
+    /**
+     * Crea una palabra al azar con letras min&uacute;sculas.
+     * @param random - El generador.
+     * @param length - La longitud.
+     * @return String - La palabra.
+     */
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for(int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' +random.nextInt(26));
+        }//elige cada letra
+        return new String(chars);
+    }//randomWord
+
+}//MultiPatternMatcherBenchmark class
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara una edici&oacute;n peque&ntilde;a (insertar y luego borrar unos
+ * caracteres en una posici&oacute;n al azar) sobre un documento grande con
+ * {@link NachintochRope}, con <tt>StringBuilder</tt> y con
+ * <tt>substring</tt> y <tt>concat</tt> de {@link NachintochString}.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NachintochRopeBenchmark {
+
+    // atributos de clase
+
+    @Param({"65536", "4194304"})
+    public int size;
+
+    private Random random;
+    private NachintochRope rope;
+    private StringBuilder builder;
+    private NachintochString nchString;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        char[] chars = new char[size];
+        for(int i = 0; i < size; i++) {
+            chars[i] = (char) ('a' +i %26);
+        }//llena el documento
+        String document = new String(chars);
+        rope = new NachintochRope(document);
+        builder = new StringBuilder(document);
+        nchString = new NachintochString(document);
+    }//setUp
+
+    @Benchmark
+    public int ropeEdit() {
+        int index = random.nextInt(size);
+        rope.insert(index, "edit");
+        rope.delete(index, index +4);
+        return rope.hashCode();
+    }//ropeEdit
+
+    @Benchmark
+    public int builderEdit() {
+        int index = random.nextInt(size);
+        builder.insert(index, "edit");
+        builder.delete(index, index +4);
+        return builder.length();
+    }//builderEdit
+
+    @Benchmark
+    public int nachintochEdit() {
+        int index = random.nextInt(size);
+        NachintochString inserted = nchString.substring(0, index)
+                .concat("edit").concat(nchString.substring(index));
+        nchString = inserted.substring(0, index)
+                .concat(inserted.substring(index +4));
+        return nchString.hashCode();
+    }//nachintochEdit
+
+}//NachintochRopeBenchmark class
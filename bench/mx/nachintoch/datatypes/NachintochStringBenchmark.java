@@ -0,0 +1,225 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara <tt>split</tt>, <tt>replace</tt>, <tt>matches</tt>,
+ * <tt>substring</tt> y <tt>concat</tt> de {@link NachintochString} contra los
+ * de <tt>String</tt>, sobre una l&iacute;nea con campos separados por comas.
+ * <tt>split</tt> y <tt>substring</tt> se miden tambi&eacute;n sobre una
+ * {@link NachintochStringView}, y <tt>split</tt> contra recorrer las piezas
+ * con {@link NachintochStringTokenizer}. <tt>getValue</tt> se mide sobre
+ * cadenas num&eacute;ricas y sobre cadenas que no lo son, tomando cada vez
+ * una instancia distinta para que siempre se interprete, contra la forma
+ * anterior con <tt>Double.valueOf</tt> y <tt>NumberFormatException</tt>; se
+ * mide tambi&eacute;n el caso en que la cadena no cambia y el valor ya
+ * est&aacute; guardado.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NachintochStringBenchmark {
+
+    // atributos de clase
+
+    private static final int VALUES = 16;
+
+    @Param({"8", "64"})
+    public int fields;
+
+    private String string;
+    private NachintochString nchString;
+    private NachintochStringView view;
+    private String suffix;
+    private NachintochString nchSuffix;
+    private NachintochString number;
+    private NachintochString text;
+    private String[] numbers;
+    private String[] lines;
+    private int next;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < fields; i++) {
+            if(i > 0) {
+                builder.append(',');
+            }//separa los campos
+            builder.append("field").append(i).append("-value");
+        }//arma la línea
+        string = builder.toString();
+        nchString = new NachintochString(string);
+        view = nchString.view();
+        suffix = ",extra-field";
+        nchSuffix = new NachintochString(suffix);
+        number = new NachintochString("12345.678");
+        text = new NachintochString(string);
+        numbers = new String[VALUES];
+        lines = new String[VALUES];
+        for(int i = 0; i < VALUES; i++) {
+            numbers[i] = new String("12345.678");
+            lines[i] = new String(string);
+        }//crea instancias distintas con el mismo contenido
+    }//setUp
+
+    @Benchmark
+    public String[] stringSplit() {
+        return string.split(",");
+    }//stringSplit
+
+    @Benchmark
+    public NachintochString[] nachintochSplit() {
+        return nchString.split(",");
+    }//nachintochSplit
+
+    @Benchmark
+    public NachintochStringView[] viewSplit() {
+        return view.split(",");
+    }//viewSplit
+
+    @Benchmark
+    public int tokenize() {
+        int total = 0;
+        NachintochStringTokenizer tokens = nchString.tokenize(",");
+        while(tokens.hasNext()) {
+            total += tokens.next().length();
+        }//recorre las piezas
+        return total;
+    }//tokenize
+
+    @Benchmark
+    public String stringReplace() {
+        return string.replace("value", "v");
+    }//stringReplace
+
+    @Benchmark
+    public NachintochString nachintochReplace() {
+        return nchString.replace("value", "v");
+    }//nachintochReplace
+
+    @Benchmark
+    public boolean stringMatches() {
+        return string.matches("[a-z0-9,-]+");
+    }//stringMatches
+
+    @Benchmark
+    public boolean nachintochMatches() {
+        return nchString.matches("[a-z0-9,-]+");
+    }//nachintochMatches
+
+    @Benchmark
+    public String stringSubstring() {
+        return string.substring(5, string.length() -5);
+    }//stringSubstring
+
+    @Benchmark
+    public NachintochString nachintochSubstring() {
+        return nchString.substring(5, nchString.length() -5);
+    }//nachintochSubstring
+
+    @Benchmark
+    public NachintochStringView viewSubstring() {
+        return view.substring(5, view.length() -5);
+    }//viewSubstring
+
+    @Benchmark
+    public String stringConcat() {
+        return string.concat(suffix);
+    }//stringConcat
+
+    @Benchmark
+    public NachintochString nachintochConcat() {
+        return nchString.concat(nchSuffix);
+    }//nachintochConcat
+
+    @Benchmark
+    public int numericValue() {
+        number.string = numbers[advance()];
+        return number.getValue();
+    }//numericValue
+
+    @Benchmark
+    public int nonNumericValue() {
+        text.string = lines[advance()];
+        return text.getValue();
+    }//nonNumericValue
+
+    @Benchmark
+    public int exceptionNumericValue() {
+        return exceptionValue(numbers[advance()]);
+    }//exceptionNumericValue
+
+    @Benchmark
+    public int exceptionNonNumericValue() {
+        return exceptionValue(lines[advance()]);
+    }//exceptionNonNumericValue
+
+    @Benchmark
+    public int cachedValue() {
+        return number.getValue();
+    }//cachedValue
+
+    /**
+     * Pasa a la siguiente de las cadenas preparadas.
+     * @return int - El &iacute;ndice de la cadena a usar.
+     */
+    private int advance() {
+        next = (next +1) %VALUES;
+        return next;
+    }//advance
+
+    /**
+     * Interpreta la cadena como lo hac&iacute;a <tt>getValue</tt> antes de
+     * guardar su valor: con <tt>Double.valueOf</tt>, usando el
+     * <tt>hashCode</tt> cuando lanza una excepci&oacute;n.
+     * @param s - La cadena.
+     * @return int - El valor.
+     */
+    private static int exceptionValue(String s) {
+        try {
+            return Double.valueOf(s).intValue();
+        } catch(NumberFormatException e) {
+            return s.hashCode();
+        }//trata de interpretar la cadena como entero
+    }//exceptionValue
+
+}//NachintochStringBenchmark class
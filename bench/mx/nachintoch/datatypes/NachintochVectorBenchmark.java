@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide las operaciones de {@link NachintochVector} sobre un arreglo de
+ * vectores, como las usa un ciclo de f&iacute;sica.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NachintochVectorBenchmark {
+
+    // atributos de clase
+
+    private static final int COUNT = 1024;
+
+    // los benchmarks que modifican los vectores alternan una operación y su
+    // inversa en cada invocación, para que no decaigan a subnormales
+    private static final double FACTOR = 0.999;
+
+    private NachintochVector[] vectors;
+    private NachintochVector[] others;
+    private NachintochVector[] opposites;
+    private boolean back;
+    private NachintochVector[] results;
+    private double[] out;
+
+    // métodos de implementación
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new NachintochVector[COUNT];
+        others = new NachintochVector[COUNT];
+        opposites = new NachintochVector[COUNT];
+        results = new NachintochVector[COUNT];
+        out = new double[COUNT];
+        for(int i = 0; i < COUNT; i++) {
+            vectors[i] = new NachintochVector(random.nextDouble() *10,
+                    random.nextDouble() *10, random.nextDouble());
+            others[i] = new NachintochVector(random.nextDouble() *2 -1,
+                    random.nextDouble() *2 -1, 0);
+            opposites[i] = new NachintochVector(-others[i].getX(),
+                    -others[i].getY(), 0);
+        }//llena los vectores
+        back = false;
+    }//setUp
+
+    @Benchmark
+    public NachintochVector[] sum() {
+        NachintochVector[] addends = (back = !back) ? others : opposites;
+        for(int i = 0; i < COUNT; i++) {
+            vectors[i].sum(addends[i]);
+        }//suma cada par
+        return vectors;
+    }//sum
+
+    @Benchmark
+    public NachintochVector[] staticSum() {
+        for(int i = 0; i < COUNT; i++) {
+            results[i] = NachintochVector.sum(vectors[i], others[i]);
+        }//suma cada par en un vector nuevo
+        return results;
+    }//staticSum
+
+    @Benchmark
+    public NachintochVector[] vectorMathAdd() {
+        NachintochVector[] addends = (back = !back) ? others : opposites;
+        for(int i = 0; i < COUNT; i++) {
+            VectorMath.add(vectors[i], addends[i], vectors[i]);
+        }//suma cada par sin crear vectores
+        return vectors;
+    }//vectorMathAdd
+
+    @Benchmark
+    public NachintochVector[] scalarProd() {
+        double s = (back = !back) ? FACTOR : 1 /FACTOR;
+        for(NachintochVector v : vectors) {
+            v.scalarProd(s);
+        }//escala cada vector
+        return vectors;
+    }//scalarProd
+
+    @Benchmark
+    public double[] dotProd() {
+        for(int i = 0; i < COUNT; i++) {
+            out[i] = vectors[i].dotProd(others[i]);
+        }//producto punto de cada par
+        return out;
+    }//dotProd
+
+    @Benchmark
+    public double[] getNorm() {
+        for(int i = 0; i < COUNT; i++) {
+            out[i] = vectors[i].getNorm();
+        }//norma de cada vector
+        return out;
+    }//getNorm
+
+    @Benchmark
+    public NachintochVector[] setAngle() {
+        for(int i = 0; i < COUNT; i++) {
+            vectors[i].setAngle(i *0.01);
+        }//orienta cada vector
+        return vectors;
+    }//setAngle
+
+    @Benchmark
+    public NachintochVector[] addAngle() {
+        for(NachintochVector v : vectors) {
+            v.addAngle(0.01);
+        }//rota cada vector
+        return vectors;
+    }//addAngle
+
+}//NachintochVectorBenchmark class
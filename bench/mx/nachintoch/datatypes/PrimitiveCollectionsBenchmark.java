@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara {@link IntArraySet}, {@link IntHashMap} y {@link DoubleHeap} contra
+ * <tt>TreeSet</tt>, <tt>HashMap</tt> y <tt>PriorityQueue</tt> de
+ * {@link ComparableInteger} y {@link ComparableDouble}: b&uacute;squedas en
+ * los conjuntos y mapas, y llenar y vaciar los mont&iacute;culos.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveCollectionsBenchmark {
+
+    // atributos de clase
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] probes;
+    private ComparableInteger[] comparableProbes;
+    private double[] doubles;
+    private ComparableDouble[] comparableDoubles;
+    private TreeSet<ComparableInteger> treeSet;
+    private IntArraySet arraySet;
+    private HashMap<ComparableInteger, String> hashMap;
+    private IntHashMap<String> intHashMap;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        probes = new int[size];
+        comparableProbes = new ComparableInteger[size];
+        doubles = new double[size];
+        comparableDoubles = new ComparableDouble[size];
+        treeSet = new TreeSet<ComparableInteger>();
+        arraySet = new IntArraySet();
+        hashMap = new HashMap<ComparableInteger, String>();
+        intHashMap = new IntHashMap<String>();
+        for(int i = 0; i < size; i++) {
+            int n = random.nextInt(size *2);
+            treeSet.add(new ComparableInteger(n));
+            arraySet.add(n);
+            hashMap.put(new ComparableInteger(n), "value");
+            intHashMap.put(n, "value");
+            probes[i] = random.nextInt(size *2);
+            comparableProbes[i] = new ComparableInteger(probes[i]);
+            doubles[i] = random.nextDouble() *1e6;
+            comparableDoubles[i] = new ComparableDouble(doubles[i]);
+        }//llena las colecciones
+    }//setUp
+
+    @Benchmark
+    public int treeSetContains() {
+        int found = 0;
+        for(ComparableInteger probe : comparableProbes) {
+            if(treeSet.contains(probe)) {
+                found++;
+            }//si lo encontró
+        }//busca cada valor
+        return found;
+    }//treeSetContains
+
+    @Benchmark
+    public int arraySetContains() {
+        int found = 0;
+        for(int probe : probes) {
+            if(arraySet.contains(probe)) {
+                found++;
+            }//si lo encontró
+        }//busca cada valor
+        return found;
+    }//arraySetContains
+
+    @Benchmark
+    public int hashMapGet() {
+        int found = 0;
+        for(ComparableInteger probe : comparableProbes) {
+            if(hashMap.get(probe) != null) {
+                found++;
+            }//si lo encontró
+        }//busca cada llave
+        return found;
+    }//hashMapGet
+
+    @Benchmark
+    public int intHashMapGet() {
+        int found = 0;
+        for(int probe : probes) {
+            if(intHashMap.get(probe) != null) {
+                found++;
+            }//si lo encontró
+        }//busca cada llave
+        return found;
+    }//intHashMapGet
+
+    @Benchmark
+    public double priorityQueue() {
+        PriorityQueue<ComparableDouble> queue =
+                new PriorityQueue<ComparableDouble>(size);
+        for(ComparableDouble d : comparableDoubles) {
+            queue.add(d);
+        }//llena la cola
+        double sum = 0;
+        while(!queue.isEmpty()) {
+            sum += queue.poll().doubleValue();
+        }//vacía la cola
+        return sum;
+    }//priorityQueue
+
+    @Benchmark
+    public double doubleHeap() {
+        DoubleHeap heap = new DoubleHeap(size, false);
+        for(double d : doubles) {
+            heap.add(d);
+        }//llena el montículo
+        double sum = 0;
+        while(!heap.isEmpty()) {
+            sum += heap.poll();
+        }//vacía el montículo
+        return sum;
+    }//doubleHeap
+
+}//PrimitiveCollectionsBenchmark class
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara el seno y coseno de <tt>java.lang.Math</tt> contra los de
+ * {@link TrigTable}, solos y al rotar vectores.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigProviderBenchmark {
+
+    // atributos de clase
+
+    private static final int COUNT = 4096;
+
+    @Param({"math", "table"})
+    public String provider;
+
+    private TrigProvider trig;
+    private double[] angles;
+    private double[] out;
+    private NachintochVector[] vectors;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        trig = "table".equals(provider) ? TrigTable.DEFAULT : TrigProvider.MATH;
+        Random random = new Random(42);
+        angles = new double[COUNT];
+        out = new double[COUNT];
+        vectors = new NachintochVector[COUNT];
+        for(int i = 0; i < COUNT; i++) {
+            angles[i] = (random.nextDouble() *2 -1) *4 *Math.PI;
+            vectors[i] = new NachintochVector(random.nextDouble() *10,
+                    random.nextDouble() *10, 0);
+        }//llena los ángulos y vectores
+    }//setUp
+
+    @Benchmark
+    public double[] sinCos() {
+        TrigProvider trig = this.trig;
+        for(int i = 0; i < COUNT; i++) {
+            out[i] = trig.sin(angles[i]) +trig.cos(angles[i]);
+        }//seno y coseno de cada ángulo
+        return out;
+    }//sinCos
+
+    @Benchmark
+    public NachintochVector[] rotateVectors() {
+        TrigProvider trig = this.trig;
+        for(int i = 0; i < COUNT; i++) {
+            vectors[i].setAngle(angles[i], trig);
+        }//rota cada vector
+        return vectors;
+    }//rotateVectors
+
+}//TrigProviderBenchmark class
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara las operaciones por lotes de {@link VectorBatch} contra el mismo
+ * trabajo hecho vector por vector con {@link NachintochVector}.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBatchBenchmark {
+
+    // atributos de clase
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private NachintochVector[] vectors;
+    private NachintochVector[] others;
+    private double[] out;
+    private VectorBatch batch;
+    private VectorBatch otherBatch;
+
+    // métodos de implementación
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new NachintochVector[size];
+        others = new NachintochVector[size];
+        batch = new VectorBatch(size);
+        otherBatch = new VectorBatch(size);
+        for(int i = 0; i < size; i++) {
+            double x = random.nextDouble() *100 -50;
+            double y = random.nextDouble() *100 -50;
+            double ox = random.nextDouble() *2 -1;
+            double oy = random.nextDouble() *2 -1;
+            vectors[i] = new NachintochVector();
+            vectors[i].setMagnitudes(x, y);
+            others[i] = new NachintochVector();
+            others[i].setMagnitudes(ox, oy);
+            batch.set(i, x, y);
+            otherBatch.set(i, ox, oy);
+        }//llena los vectores
+        out = new double[size];
+    }//setUp
+
+    @Benchmark
+    public NachintochVector[] objectAddScale() {
+        for(NachintochVector v : vectors) {
+            v.scalarProd(0.999);
+        }//escala cada vector
+        for(int i = 0; i < size; i++) {
+            vectors[i].sum(others[i]);
+        }//suma cada par
+        return vectors;
+    }//objectAddScale
+
+    @Benchmark
+    public VectorBatch batchAddScale() {
+        batch.scale(0.999);
+        batch.add(otherBatch);
+        return batch;
+    }//batchAddScale
+
+    @Benchmark
+    public double[] objectDot() {
+        for(int i = 0; i < size; i++) {
+            out[i] = vectors[i].dotProd(others[i]);
+        }//producto punto de cada par
+        return out;
+    }//objectDot
+
+    @Benchmark
+    public double[] batchDot() {
+        batch.dot(otherBatch, out);
+        return out;
+    }//batchDot
+
+    @Benchmark
+    public double[] objectNorm() {
+        for(int i = 0; i < size; i++) {
+            out[i] = vectors[i].getNorm();
+        }//norma de cada vector
+        return out;
+    }//objectNorm
+
+    @Benchmark
+    public double[] batchNorm() {
+        batch.norm(out);
+        return out;
+    }//batchNorm
+
+    @Benchmark
+    public NachintochVector[] objectNormalize() {
+        for(NachintochVector v : vectors) {
+            VectorMath.normalize(v, v);
+        }//normaliza cada vector
+        return vectors;
+    }//objectNormalize
+
+    @Benchmark
+    public VectorBatch batchNormalize() {
+        batch.normalize();
+        return batch;
+    }//batchNormalize
+
+    @Benchmark
+    public NachintochVector[] objectRotate() {
+        for(NachintochVector v : vectors) {
+            v.addAngle(0.01);
+        }//rota cada vector
+        return vectors;
+    }//objectRotate
+
+    @Benchmark
+    public VectorBatch batchRotate() {
+        batch.rotate(0.01);
+        return batch;
+    }//batchRotate
+
+    @Benchmark
+    public NachintochVector[] objectClamp() {
+        for(NachintochVector v : vectors) {
+            double norm = v.getNorm();
+            if(norm > 10) {
+                v.scalarProd(10 /norm);
+            }//si es muy largo
+        }//limita cada vector
+        return vectors;
+    }//objectClamp
+
+    @Benchmark
+    public VectorBatch batchClamp() {
+        batch.clampMagnitude(10);
+        return batch;
+    }//batchClamp
+
+}//VectorBatchBenchmark class
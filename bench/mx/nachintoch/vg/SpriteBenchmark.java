@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide {@link Sprite#moveObject(long)} y {@link Sprite#detectCollision(Sprite)}
+ * con 1k, 10k y 100k sprites repartidos en un &aacute;rea cuadrada.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteBenchmark {
+
+    // atributos de clase
+
+    /**
+     * Cu&aacute;ntos sprites siguientes prueba cada sprite en
+     * {@link #detectCollisionWindow()}.
+     */
+    private static final int WINDOW = 16;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Sprite[] sprites;
+
+    // métodos de implementación
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        int side = (int)Math.sqrt(size) *16;
+        sprites = new Sprite[size];
+        for(int i = 0; i < size; i++) {
+            Sprite sprite = new Sprite(Color.WHITE, "s" +i, 8, 8,
+                    random.nextDouble() -0.5, random.nextDouble() -0.5, 0.1,
+                    0.1, 20, i);
+            sprite.POSITION.x = random.nextInt(side);
+            sprite.POSITION.y = random.nextInt(side);
+            sprites[i] = sprite;
+        }//crea los sprites
+    }//setUp
+
+    @Benchmark
+    public Sprite[] moveObject() {
+        for(Sprite sprite : sprites) {
+            sprite.moveObject(16);
+        }//mueve cada sprite
+        return sprites;
+    }//moveObject
+
+    @Benchmark
+    public int detectCollisionProbe() {
+        Sprite probe = sprites[0];
+        int hits = 0;
+        for(Sprite other : sprites) {
+            if(probe.detectCollision(other)) {
+                hits++;
+            }//si colisionan
+        }//prueba un sprite contra todos
+        return hits;
+    }//detectCollisionProbe
+
+    @Benchmark
+    public int detectCollisionWindow() {
+        int hits = 0;
+        for(int i = 0; i < size; i++) {
+            Sprite sprite = sprites[i];
+            for(int j = 1; j <= WINDOW; j++) {
+                if(sprite.detectCollision(sprites[(i +j) %size])) {
+                    hits++;
+                }//si colisionan
+            }//prueba contra los siguientes
+        }//prueba cada sprite
+        return hits;
+    }//detectCollisionWindow
+
+}//SpriteBenchmark class
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+import mx.nachintoch.datatypes.TrigProvider;
+import mx.nachintoch.datatypes.TrigTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide {@link Sprite#rotateObject(double)} sobre todos los sprites de un
+ * mundo, con el proveedor de <tt>java.lang.Math</tt> y con una
+ * {@link TrigTable} asignada al mundo.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteRotationBenchmark {
+
+    // atributos de clase
+
+    @Param({"math", "table"})
+    public String provider;
+
+    @Param({"10000"})
+    public int size;
+
+    private Sprite[] sprites;
+
+    // métodos de implementación
+
+    @Setup
+    public void setUp() {
+        SpriteWorld world = new SpriteWorld(size);
+        world.setTrigProvider("table".equals(provider) ? TrigTable.DEFAULT
+                : TrigProvider.MATH);
+        sprites = new Sprite[size];
+        for(int i = 0; i < size; i++) {
+            sprites[i] = new Sprite(Color.WHITE, "s" +i, 8, 8, 0.5, 0.5, 0.1,
+                    0.1, 20, i);
+            world.add(sprites[i]);
+        }//crea los sprites
+    }//setUp
+
+    @Benchmark
+    public Sprite[] rotateAll() {
+        for(Sprite sprite : sprites) {
+            sprite.rotateObject(0.01);
+        }//rota cada sprite
+        return sprites;
+    }//rotateAll
+
+}//SpriteRotationBenchmark class
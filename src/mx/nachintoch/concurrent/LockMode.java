@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+/**
+ * <p>Las formas en las que un {@link Monitor} puede proteger su cola de
+ * espera. Cada una gana en un tipo de contenci&oacute;n distinto:<ul>
+ * <li>{@link #FAIR} - Un <tt>ReentrantLock</tt> justo: los hilos obtienen el
+ * candado en el orden en que lo pidieron. Ning&uacute;n hilo se queda sin
+ * turno, pero bajo contenci&oacute;n cada entrega del candado despierta a
+ * otro hilo, y el rendimiento cae mucho.</li>
+ * <li>{@link #NON_FAIR} - Un <tt>ReentrantLock</tt> no justo: el hilo que
+ * llega cuando el candado est&aacute; libre lo toma aunque otros esperen. Es
+ * la mejor opci&oacute;n general.</li>
+ * <li>{@link #OPTIMISTIC} - Un <tt>StampedLock</tt>: quienes modifican la cola
+ * toman su candado de escritura, y las consultas (cu&aacute;ntas tareas
+ * esperan, si hay alguna que pasar a ejecuci&oacute;n) leen sin bloquear y
+ * s&oacute;lo reintentan si hubo una escritura a la mitad. Gana cuando hay
+ * muchas m&aacute;s consultas que modificaciones.</li>
+ * <li>{@link #STRIPED} - La cola de espera se reparte en varias colas, cada
+ * una con su propio <tt>ReentrantLock</tt> no justo, y cada tarea va a la
+ * que le toca seg&uacute;n su <tt>hashCode</tt>. Muchos productores pueden
+ * agregar tareas a la vez sin competir por un solo candado; a cambio, la
+ * prioridad s&oacute;lo se respeta de forma aproximada entre colas.</li>
+ * </ul></p>
+ * <p>En todos los modos, las condiciones del monitor (<tt>await</tt> y
+ * <tt>signal</tt> de los hilos) usan el candado <tt>LOCK</tt> del monitor,
+ * que s&oacute;lo es justo en el modo {@link #FAIR}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see Monitor
+ */
+public enum LockMode {
+
+    /**
+     * Un solo candado justo.
+     * @since LockMode 1.0, october 2026
+     */
+    FAIR,
+
+    /**
+     * Un solo candado no justo.
+     * @since LockMode 1.0, october 2026
+     */
+    NON_FAIR,
+
+    /**
+     * Un <tt>StampedLock</tt> con lecturas optimistas.
+     * @since LockMode 1.0, october 2026
+     */
+    OPTIMISTIC,
+
+    /**
+     * Varias colas de espera, cada una con su propio candado.
+     * @since LockMode 1.0, october 2026
+     */
+    STRIPED
+
+}//LockMode enum
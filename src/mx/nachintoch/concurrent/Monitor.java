@@ -1,9 +1,17 @@
 package mx.nachintoch.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 
 /*
  * Nachintoch utils library for Java and Android.
@@ -37,8 +45,23 @@ import java.util.concurrent.locks.Condition;
  * <b>pueda</b> ser interrumpido por otro. Si <b>no permitimos que el proceso
  * ganador sea interrumpido</b>, entonces hablamos de un monitor <b>no
  * apropiativo</b>.</p>
+ * <p>La cola de espera se puede proteger de varias formas, seg&uacute;n el
+ * {@link LockMode} con el que se construya el monitor: con LOCK (justo o no),
+ * con un <tt>StampedLock</tt> que permite lecturas optimistas, o
+ * reparti&eacute;ndola en varias colas con un candado cada una. Las subclases
+ * usan WAITING_QUEUES y WAITING_LOCKS para funcionar en cualquiera de ellos.
+ * </p>
+ * <p>Para productores que llegan en r&aacute;fagas, {@link #submitAll},
+ * {@link #signalN(int)} y {@link #drainReady(int)} mueven muchos procesos
+ * de una vez, tomando cada candado una sola vez en lugar de una por
+ * proceso.</p>
+ * <p><b>Incompatibilidad desde la versi&oacute;n 2.1:</b> RUNNING_QUEUE es
+ * una <tt>Queue</tt> cualquiera y no una <tt>ConcurrentLinkedQueue</tt>. Las
+ * subclases compiladas con versiones anteriores que usen ese atributo se
+ * deben volver a compilar; el constructor que recibe una
+ * <tt>ConcurrentLinkedQueue</tt> se conserva.</p>
  * @author <a href="mailto:contact@nachintoch.mx" >Manuel "Nachintoch" Castillo</a>
- * @version 2.0, november 2016
+ * @version 2.1, october 2026
  * @since Nachintoch utils 1.0, october 2015
  */
 public abstract class Monitor<E extends Runnable> implements Condition {
@@ -49,10 +72,12 @@ public abstract class Monitor<E extends Runnable> implements Condition {
 	 * Cola de ejecuci&oacute;n del monitor. Esta contiene procesos que han
 	 * salido de la cola de espera y simplemente esperan por tiempo de
 	 * procesador. Alg&uacute;n proceso maestro se deber&aacute; encargar de
-	 * ir vaciando esta cola y pasar los procesos a ejecuci&oacute;n.
+	 * ir vaciando esta cola y pasar los procesos a ejecuci&oacute;n. Debe
+	 * poder usarse desde varios hilos a la vez, como una
+	 * <tt>ConcurrentLinkedQueue</tt> o un {@link MpmcRingBuffer}.
 	 * @since Monitor 1.0, october 2015
 	 */
-	protected final ConcurrentLinkedQueue<E> RUNNING_QUEUE;
+	protected final Queue<E> RUNNING_QUEUE;
 	
 	/**
 	 * Cola de prioridades que contiene en el orden deseado a los procesos que
@@ -69,10 +94,52 @@ public abstract class Monitor<E extends Runnable> implements Condition {
 	 */
 	protected final ReentrantLock LOCK;
 	
+	/**
+	 * N&uacute;mero de colas de espera por omisi&oacute;n en el modo
+	 * {@link LockMode#STRIPED}: el doble de procesadores, para que dos hilos
+	 * rara vez compitan por la misma cola.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public static final int DEFAULT_STRIPES =
+			2 *Runtime.getRuntime().availableProcessors();
+	
+	/**
+	 * La forma en la que se protege la cola de espera.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected final LockMode LOCK_MODE;
+	
+	/**
+	 * Candado que protege la cola de espera en el modo
+	 * {@link LockMode#OPTIMISTIC}, y con el que se pueden hacer lecturas
+	 * optimistas de ella; <tt>null</tt> en los dem&aacute;s modos.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected final StampedLock STAMPED_LOCK;
+	
+	/**
+	 * Las colas de espera. En el modo {@link LockMode#STRIPED} hay varias y la
+	 * primera es WAITING_QUEUE; en los dem&aacute;s, s&oacute;lo est&aacute;
+	 * WAITING_QUEUE.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected final PriorityBlockingQueue<E>[] WAITING_QUEUES;
+	
+	/**
+	 * El candado que protege a cada cola de espera, en el mismo orden que
+	 * WAITING_QUEUES: LOCK en los modos {@link LockMode#FAIR} y
+	 * {@link LockMode#NON_FAIR}, el de escritura de STAMPED_LOCK en el modo
+	 * {@link LockMode#OPTIMISTIC} (que no es reentrante), y uno propio para
+	 * cada cola en el modo {@link LockMode#STRIPED}.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected final Lock[] WAITING_LOCKS;
+	
 	// métodos constructores
 	
 	/**
-	 * Inicializa las colas del monitor.
+	 * Inicializa las colas del monitor. Se conserva para las subclases
+	 * compiladas con versiones anteriores a la 2.1.
 	 * @param runing - La cola de "procesos" en ejecuci&oacute;n.
 	 * @param waiting - La cola de "procesos" en estado de espera.
 	 * @param fair - <tt>true</tt> indica que el candado del monitor debe
@@ -81,10 +148,289 @@ public abstract class Monitor<E extends Runnable> implements Condition {
 	 */
 	public Monitor(ConcurrentLinkedQueue<E> runing,
 			PriorityBlockingQueue<E> waiting, boolean fair) {
+		this((Queue<E>) runing, waiting, fair);
+	}//constructor con todo
+	
+	/**
+	 * Inicializa las colas del monitor con cualquier cola de ejecuci&oacute;n
+	 * que pueda usarse desde varios hilos, como un {@link MpmcRingBuffer}.
+	 * @param runing - La cola de "procesos" en ejecuci&oacute;n.
+	 * @param waiting - La cola de "procesos" en estado de espera.
+	 * @param fair - <tt>true</tt> indica que el candado del monitor debe
+	 * implementar un encolamiento justo.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public Monitor(Queue<E> runing,
+			PriorityBlockingQueue<E> waiting, boolean fair) {
+		this(runing, waiting, fair ? LockMode.FAIR : LockMode.NON_FAIR, 1);
+	}//constructor con cola cualquiera
+	
+	/**
+	 * Inicializa las colas del monitor con el modo de candado dado. En el
+	 * modo {@link LockMode#STRIPED} usa {@link #DEFAULT_STRIPES} colas de
+	 * espera.
+	 * @param runing - La cola de "procesos" en ejecuci&oacute;n.
+	 * @param waiting - La cola de "procesos" en estado de espera.
+	 * @param mode - C&oacute;mo se protege la cola de espera.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public Monitor(Queue<E> runing,
+			PriorityBlockingQueue<E> waiting, LockMode mode) {
+		this(runing, waiting, mode, DEFAULT_STRIPES);
+	}//constructor con modo
+	
+	/**
+	 * Inicializa las colas del monitor con el modo de candado dado.
+	 * @param runing - La cola de "procesos" en ejecuci&oacute;n.
+	 * @param waiting - La cola de "procesos" en estado de espera. En el modo
+	 * {@link LockMode#STRIPED} es la primera de las colas de espera; las
+	 * dem&aacute;s se crean con su mismo comparador.
+	 * @param mode - C&oacute;mo se protege la cola de espera.
+	 * @param stripes - El n&uacute;mero de colas de espera en el modo
+	 * {@link LockMode#STRIPED}; se ignora en los dem&aacute;s.
+	 * @throws IllegalArgumentException - Si el n&uacute;mero de colas no es
+	 * positivo.
+	 * @since Monitor 2.1, october 2026
+	 */
+	@SuppressWarnings("unchecked")
+	public Monitor(Queue<E> runing,
+			PriorityBlockingQueue<E> waiting, LockMode mode, int stripes) {
+		if(stripes < 1) {
+			throw new IllegalArgumentException("Stripes must be positive: "
+					+stripes);
+		}//si no hay colas
 		RUNNING_QUEUE = runing;
 		WAITING_QUEUE = waiting;
-		LOCK = new ReentrantLock(true);
-	}//constructor con todo
+		LOCK_MODE = mode;
+		LOCK = new ReentrantLock(mode == LockMode.FAIR);
+		STAMPED_LOCK = mode == LockMode.OPTIMISTIC ? new StampedLock() : null;
+		int n = mode == LockMode.STRIPED ? stripes : 1;
+		WAITING_QUEUES =
+				(PriorityBlockingQueue<E>[]) new PriorityBlockingQueue<?>[n];
+		WAITING_LOCKS = new Lock[n];
+		WAITING_QUEUES[0] = waiting;
+		for(int i = 1; i < n; i++) {
+			WAITING_QUEUES[i] = new PriorityBlockingQueue<E>(11,
+					waiting.comparator());
+		}//crea las demás colas
+		if(mode == LockMode.OPTIMISTIC) {
+			WAITING_LOCKS[0] = STAMPED_LOCK.asWriteLock();
+		} else if(mode == LockMode.STRIPED) {
+			for(int i = 0; i < n; i++) {
+				WAITING_LOCKS[i] = new ReentrantLock();
+			}//un candado por cola
+		} else {
+			WAITING_LOCKS[0] = LOCK;
+		}//según el modo
+	}//constructor con modo y colas
+	
+	// métodos de acceso
+	
+	/**
+	 * Indica a cu&aacute;l de las colas de espera va la tarea dada.
+	 * @param task - La tarea.
+	 * @return int - El &iacute;ndice de su cola en WAITING_QUEUES y
+	 * WAITING_LOCKS.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected int stripeOf(Object task) {
+		if(WAITING_QUEUES.length == 1) {
+			return 0;
+		}//si sólo hay una cola
+		int h = task.hashCode();
+		h ^= h >>> 16;
+		return (h & Integer.MAX_VALUE) %WAITING_QUEUES.length;
+	}//stripeOf
+	
+	/**
+	 * Indica si el primer proceso dado va antes que el segundo en la cola de
+	 * espera, seg&uacute;n su comparador o su orden natural.
+	 * @param a - El primer proceso.
+	 * @param b - El segundo proceso.
+	 * @return boolean - <tt>true</tt> si <tt>a</tt> tiene mayor prioridad.
+	 * @since Monitor 2.1, october 2026
+	 */
+	@SuppressWarnings("unchecked")
+	protected boolean precedes(E a, E b) {
+		Comparator<? super E> order = WAITING_QUEUE.comparator();
+		return order != null ? order.compare(a, b) < 0
+				: ((Comparable<? super E>) a).compareTo(b) < 0;
+	}//precedes
+	
+	/**
+	 * Saca hasta el n&uacute;mero dado de procesos de la cola de
+	 * ejecuci&oacute;n, en orden, y devuelve una lista con ellos.
+	 * @param max - El n&uacute;mero m&aacute;ximo de procesos a sacar.
+	 * @return List&lt;E&gt; - Los procesos que se sacaron.
+	 * @throws IllegalArgumentException - Si el m&aacute;ximo es negativo.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public List<E> drainReady(int max) {
+		List<E> ready = new ArrayList<E>(Math.max(0, Math.min(max, 64)));
+		drainReady(ready, max);
+		return ready;
+	}//drainReady
+	
+	/**
+	 * Saca hasta el n&uacute;mero dado de procesos de la cola de
+	 * ejecuci&oacute;n y los agrega, en orden, a la colecci&oacute;n dada.
+	 * Si la cola es un {@link MpmcRingBuffer} o una <tt>BlockingQueue</tt>,
+	 * usa su <tt>drainTo</tt>, que los reserva de una vez.
+	 * @param target - Donde se agregan los procesos.
+	 * @param max - El n&uacute;mero m&aacute;ximo de procesos a sacar.
+	 * @return int - Cu&aacute;ntos procesos se sacaron.
+	 * @throws IllegalArgumentException - Si el m&aacute;ximo es negativo.
+	 * @since Monitor 2.1, october 2026
+	 */
+	@SuppressWarnings("unchecked")
+	public int drainReady(Collection<? super E> target, int max) {
+		if(max < 0) {
+			throw new IllegalArgumentException("Negative max: " +max);
+		} else if(RUNNING_QUEUE instanceof MpmcRingBuffer) {
+			return ((MpmcRingBuffer<E>) RUNNING_QUEUE).drainTo(target, max);
+		} else if(RUNNING_QUEUE instanceof BlockingQueue) {
+			return ((BlockingQueue<E>) RUNNING_QUEUE).drainTo(target, max);
+		}//si la cola puede vaciarse por bloques
+		int drained = 0;
+		E task;
+		while(drained < max && (task = RUNNING_QUEUE.poll()) != null) {
+			target.add(task);
+			drained++;
+		}//saca cada proceso
+		return drained;
+	}//drainReady
+	
+	// métodos de modificación
+	
+	/**
+	 * Pone los procesos dados en la cola de ejecuci&oacute;n con
+	 * {@link #admitAll(Collection)}, en el orden de la colecci&oacute;n. Si
+	 * la cola de ejecuci&oacute;n est&aacute; acotada y se llena, no espera
+	 * ni lanza una excepci&oacute;n: los procesos que no cupieron, desde el
+	 * n&uacute;mero que devuelve en adelante, no se agregan. Las subclases
+	 * que limiten la cola pueden bloquear mientras esperan lugar.
+	 * @param tasks - Los procesos.
+	 * @return int - Cu&aacute;ntos procesos, del principio de la
+	 * colecci&oacute;n, se pusieron.
+	 * @throws InterruptedException - Si una subclase se interrumpe mientras
+	 * espera lugar.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public int submitAll(Collection<? extends E> tasks)
+			throws InterruptedException {
+		return admitAll(tasks);
+	}//submitAll
+	
+	/**
+	 * Pasa hasta el n&uacute;mero dado de procesos de la cola de espera a la
+	 * de ejecuci&oacute;n, en orden de prioridad, tomando el candado de cada
+	 * cola de espera una sola vez. Las subclases que tengan hilos esperando
+	 * en la condici&oacute;n del monitor deben despertar tambi&eacute;n hasta
+	 * ese n&uacute;mero de ellos, como si se llamara a <tt>signal</tt> esas
+	 * veces. Si la cola de ejecuci&oacute;n se llena, los procesos que no
+	 * cupieron regresan a su cola de espera.
+	 * @param n - El n&uacute;mero m&aacute;ximo de procesos a pasar.
+	 * @return int - Cu&aacute;ntos procesos se pasaron.
+	 * @throws IllegalArgumentException - Si el n&uacute;mero es negativo.
+	 * @since Monitor 2.1, october 2026
+	 */
+	public int signalN(int n) {
+		if(n < 0) {
+			throw new IllegalArgumentException("Negative count: " +n);
+		}//si no es un número válido
+		List<E> batch = new ArrayList<E>(Math.min(n, 64));
+		int admitted;
+		lockAllWaiting();
+		try {
+			pollWaiting(batch, n);
+			admitted = admitAll(batch);
+			for(int i = admitted; i < batch.size(); i++) {
+				E task = batch.get(i);
+				WAITING_QUEUES[stripeOf(task)].offer(task);
+			}//regresa los que no cupieron
+		} finally {
+			unlockAllWaiting();
+		}//siempre libera los candados
+		return admitted;
+	}//signalN
+	
+	/**
+	 * Pone los procesos dados en la cola de ejecuci&oacute;n, en orden, con
+	 * <tt>offer</tt>, y se detiene en el primero que no cabe.
+	 * {@link #signalN(int)} la llama con los candados de las colas de espera
+	 * tomados; las subclases la sobrescriben para avisar a quien vac&iacute;a
+	 * la cola de ejecuci&oacute;n una sola vez por bloque.
+	 * @param tasks - Los procesos.
+	 * @return int - Cu&aacute;ntos procesos, del principio de la
+	 * colecci&oacute;n, se pusieron.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected int admitAll(Collection<? extends E> tasks) {
+		int admitted = 0;
+		for(E task : tasks) {
+			if(!RUNNING_QUEUE.offer(task)) {
+				break;
+			}//si la cola se llenó
+			admitted++;
+		}//pone cada proceso
+		return admitted;
+	}//admitAll
+	
+	/**
+	 * Saca hasta el n&uacute;mero dado de procesos de las colas de espera,
+	 * en orden de prioridad, y los agrega a la colecci&oacute;n dada. Se
+	 * deben tener los candados de todas las colas de espera; as&iacute;, con
+	 * varias colas, la prioridad se respeta de forma exacta.
+	 * @param target - Donde se agregan los procesos.
+	 * @param max - El n&uacute;mero m&aacute;ximo de procesos a sacar.
+	 * @return int - Cu&aacute;ntos procesos se sacaron.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected int pollWaiting(Collection<? super E> target, int max) {
+		if(WAITING_QUEUES.length == 1) {
+			return WAITING_QUEUE.drainTo(target, max);
+		}//si sólo hay una cola
+		int polled = 0;
+		while(polled < max) {
+			PriorityBlockingQueue<E> best = null;
+			E bestTask = null;
+			for(PriorityBlockingQueue<E> queue : WAITING_QUEUES) {
+				E head = queue.peek();
+				if(head != null
+						&& (bestTask == null || precedes(head, bestTask))) {
+					best = queue;
+					bestTask = head;
+				}//si es el de mayor prioridad hasta ahora
+			}//revisa el primero de cada cola
+			if(best == null) {
+				break;
+			}//si todas están vacías
+			target.add(best.poll());
+			polled++;
+		}//saca un proceso por vuelta
+		return polled;
+	}//pollWaiting
+	
+	/**
+	 * Toma los candados de todas las colas de espera, en orden, para
+	 * modificarlas todas a la vez.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected void lockAllWaiting() {
+		for(Lock lock : WAITING_LOCKS) {
+			lock.lock();
+		}//toma cada candado
+	}//lockAllWaiting
+	
+	/**
+	 * Suelta los candados que tom&oacute; {@link #lockAllWaiting()}.
+	 * @since Monitor 2.1, october 2026
+	 */
+	protected void unlockAllWaiting() {
+		for(int i = WAITING_LOCKS.length -1; i >= 0; i--) {
+			WAITING_LOCKS[i].unlock();
+		}//suelta cada candado, en orden inverso
+	}//unlockAllWaiting
 	
 }//Monitor abstract class
 
@@ -0,0 +1,1351 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>Monitor listo para usarse como ejecutor de tareas. Un grupo fijo de
+ * hilos trabajadores vac&iacute;a la cola de ejecuci&oacute;n
+ * (<tt>RUNNING_QUEUE</tt>) y corre cada tarea que saca.</p>
+ * <p>Las tareas entran de dos formas:<ul>
+ * <li>{@link #submit(Runnable)} y {@link #offer(Runnable)} las ponen
+ * directamente en la cola de ejecuci&oacute;n, sin tomar el candado del
+ * monitor.</li>
+ * <li>{@link #defer(Runnable)} las pone en la cola de espera
+ * (<tt>WAITING_QUEUE</tt>), donde se quedan hasta que {@link #signal()} pase
+ * a ejecuci&oacute;n la de mayor prioridad o {@link #signalAll()} pase a
+ * todas. La prioridad la da el comparador del constructor, o el orden natural
+ * de las tareas si no se da uno.</li></ul></p>
+ * <p>La capacidad limita cu&aacute;ntas tareas pueden estar pendientes a la
+ * vez, sumando las de ambas colas. Cuando se llena, {@link #submit(Runnable)}
+ * y {@link #defer(Runnable)} bloquean al productor hasta que un trabajador
+ * saque una tarea, y {@link #offer(Runnable)} devuelve <tt>false</tt>: los
+ * productores no pueden adelantarse indefinidamente a los trabajadores.</p>
+ * <p>{@link #shutdown()} deja de aceptar tareas, pasa a ejecuci&oacute;n las
+ * que esperaban y deja que los trabajadores terminen las pendientes antes de
+ * salir; {@link #shutdownNow()} devuelve las pendientes sin correrlas e
+ * interrumpe a los trabajadores. En ambos casos, los productores que
+ * esperaban lugar despiertan y su tarea se rechaza de inmediato, como en
+ * <tt>ThreadPoolExecutor</tt>.</p>
+ * <p>Como <tt>Condition</tt>, los hilos que tengan el candado del monitor
+ * pueden esperar con {@link #await()}; {@link #signal()} y
+ * {@link #signalAll()} los despiertan a ellos tambi&eacute;n.</p>
+ * <p>La cola de espera se protege seg&uacute;n el {@link LockMode} dado al
+ * construirlo; por omisi&oacute;n, con un candado no justo. En el modo
+ * {@link LockMode#STRIPED}, {@link #signal()} pasa la tarea de mayor
+ * prioridad entre las primeras de cada cola, que puede no ser la de mayor
+ * prioridad si otro hilo agrega tareas al mismo tiempo.</p>
+ * <p>En lugar de un grupo fijo de trabajadores, el ejecutor puede crear un
+ * hilo para cada tarea que pasa a ejecuci&oacute;n
+ * ({@link #newThreadPerTaskExecutor(int, Comparator, ThreadFactory,
+ * LockMode)}). Con hilos virtuales ({@link #newVirtualThreadExecutor(int)})
+ * las tareas pueden bloquearse en E/S o en {@link #await()} por cientos de
+ * miles sin ocupar un hilo del sistema cada una: el ejecutor s&oacute;lo usa
+ * candados, sem&aacute;foros y variables at&oacute;micas, nunca
+ * <tt>synchronized</tt>, as&iacute; que esperar no fija el hilo virtual a su
+ * hilo portador.</p>
+ * <p>Con {@link #newRingBufferExecutor(int, int, Comparator, ThreadFactory,
+ * LockMode)}, la cola de ejecuci&oacute;n es un {@link MpmcRingBuffer}
+ * creado de una vez, y pasar una tarea a ejecuci&oacute;n no crea
+ * objetos.</p>
+ * <p>{@link #submitAll(Collection)} y {@link #signalN(int)} mueven
+ * r&aacute;fagas de tareas apartando sus lugares, tomando los candados y
+ * avisando a los trabajadores una sola vez por bloque.</p>
+ *
+ * @param <E> - El tipo de las tareas.
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class MonitorExecutor<E extends Runnable> extends Monitor<E> {
+
+    // atributos de clase
+
+    /**
+     * Estado en el que se aceptan tareas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private static final int RUNNING = 0;
+
+    /**
+     * Estado en el que ya no se aceptan tareas, pero se terminan las
+     * pendientes.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private static final int SHUTDOWN = 1;
+
+    /**
+     * Estado en el que se abandonan las tareas pendientes.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private static final int STOP = 2;
+
+    /**
+     * Los hilos trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Thread[] WORKERS;
+
+    /**
+     * Un permiso por cada lugar libre para una tarea pendiente.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Semaphore SLOTS;
+
+    /**
+     * Un permiso por cada tarea en la cola de ejecuci&oacute;n; los
+     * trabajadores esperan en &eacute;l cuando no hay tareas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Semaphore READY;
+
+    /**
+     * Condici&oacute;n del candado del monitor en la que esperan los hilos
+     * que llaman a {@link #await()}.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Condition CONDITION;
+
+    /**
+     * Indica si ya se crearon los trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final AtomicBoolean STARTED;
+
+    /**
+     * N&uacute;mero de tareas que tienen un hilo propio y no han terminado;
+     * <tt>null</tt> si hay un grupo fijo de trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final AtomicInteger ACTIVE;
+
+    /**
+     * Los hilos que corren una tarea propia, para interrumpirlos en
+     * {@link #shutdownNow()}; <tt>null</tt> si hay un grupo fijo de
+     * trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Set<Thread> LIVE;
+
+    /**
+     * Lo que corre cada hilo creado para una tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final Runnable RUN_ONE;
+
+    /**
+     * Llega a cero cuando todos los trabajadores terminan.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final CountDownLatch TERMINATION;
+
+    /**
+     * N&uacute;mero de tareas terminadas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final LongAdder COMPLETED;
+
+    /**
+     * La capacidad de tareas pendientes.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final int CAPACITY;
+
+    /**
+     * Crea los hilos trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private final ThreadFactory FACTORY;
+
+    /**
+     * El estado del ejecutor: {@link #RUNNING}, {@link #SHUTDOWN} o
+     * {@link #STOP}. S&oacute;lo cambia con los candados de todas las colas
+     * de espera.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private volatile int state;
+
+    /**
+     * N&uacute;mero de tareas en la cola de espera cuando hay una sola cola;
+     * lo protege su candado. En el modo {@link LockMode#OPTIMISTIC} se lee
+     * sin bloquear.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private int waitingCount;
+
+    /**
+     * N&uacute;mero de hilos esperando en la condici&oacute;n del monitor;
+     * s&oacute;lo cambia con el candado del monitor.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private volatile int conditionWaiters;
+
+    // métodos constructores
+
+    /**
+     * Construye un ejecutor cuyas tareas en espera se ordenan por su orden
+     * natural.
+     * @param workers - El n&uacute;mero de hilos trabajadores.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @throws IllegalArgumentException - Si alguno de los dos no es
+     * positivo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public MonitorExecutor(int workers, int capacity) {
+        this(workers, capacity, null, Executors.defaultThreadFactory());
+    }//constructor con trabajadores y capacidad
+
+    /**
+     * Construye un ejecutor.
+     * @param workers - El n&uacute;mero de hilos trabajadores.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @param priority - El orden de la cola de espera: la primera tarea es la
+     * que {@link #signal()} pasa a ejecuci&oacute;n. <tt>null</tt> para usar
+     * el orden natural de las tareas.
+     * @param factory - Crea los hilos trabajadores.
+     * @throws IllegalArgumentException - Si el n&uacute;mero de trabajadores
+     * o la capacidad no son positivos.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public MonitorExecutor(int workers, int capacity,
+            Comparator<? super E> priority, ThreadFactory factory) {
+        this(workers, capacity, priority, factory, LockMode.NON_FAIR);
+    }//constructor con trabajadores, capacidad, prioridad y fábrica
+
+    /**
+     * Construye un ejecutor cuya cola de espera se protege en el modo dado.
+     * @param workers - El n&uacute;mero de hilos trabajadores.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @param priority - El orden de la cola de espera: la primera tarea es la
+     * que {@link #signal()} pasa a ejecuci&oacute;n. <tt>null</tt> para usar
+     * el orden natural de las tareas.
+     * @param factory - Crea los hilos trabajadores.
+     * @param mode - C&oacute;mo se protege la cola de espera.
+     * @throws IllegalArgumentException - Si el n&uacute;mero de trabajadores
+     * o la capacidad no son positivos.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public MonitorExecutor(int workers, int capacity,
+            Comparator<? super E> priority, ThreadFactory factory,
+            LockMode mode) {
+        this(workers, capacity, priority, factory, mode, false, false);
+    }//constructor con modo
+
+    /**
+     * Construye un ejecutor con un grupo fijo de trabajadores o con un hilo
+     * por tarea.
+     * @param workers - El n&uacute;mero de hilos trabajadores; se ignora si
+     * hay un hilo por tarea.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @param priority - El orden de la cola de espera.
+     * @param factory - Crea los hilos.
+     * @param mode - C&oacute;mo se protege la cola de espera.
+     * @param perTask - <tt>true</tt> para crear un hilo por tarea.
+     * @param ring - <tt>true</tt> para que la cola de ejecuci&oacute;n sea un
+     * {@link MpmcRingBuffer} del tama&ntilde;o de la capacidad.
+     * @throws IllegalArgumentException - Si el n&uacute;mero de trabajadores
+     * o la capacidad no son positivos, o si la capacidad no cabe en un
+     * {@link MpmcRingBuffer}.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private MonitorExecutor(int workers, int capacity,
+            Comparator<? super E> priority, ThreadFactory factory,
+            LockMode mode, boolean perTask, boolean ring) {
+        super(ring ? new MpmcRingBuffer<E>(capacity)
+                : new ConcurrentLinkedQueue<E>(),
+                new PriorityBlockingQueue<E>(11, priority), mode);
+        if(perTask) {
+            workers = 0;
+        }//sin grupo fijo de trabajadores
+        if(!perTask && workers < 1) {
+            throw new IllegalArgumentException("Workers must be positive: "
+                    +workers);
+        } else if(capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: "
+                    +capacity);
+        } else if(factory == null) {
+            throw new IllegalArgumentException("No thread factory");
+        }//si los parámetros no son válidos
+        this.WORKERS = new Thread[workers];
+        this.ACTIVE = perTask ? new AtomicInteger() : null;
+        this.LIVE = perTask ? ConcurrentHashMap.<Thread>newKeySet() : null;
+        this.RUN_ONE = new Runnable() {
+            @Override
+            public void run() {
+                runOne();
+            }//run
+        };
+        this.SLOTS = new Semaphore(capacity);
+        this.READY = new Semaphore(0);
+        this.CONDITION = LOCK.newCondition();
+        this.STARTED = new AtomicBoolean();
+        this.TERMINATION = new CountDownLatch(perTask ? 1 : workers);
+        this.COMPLETED = new LongAdder();
+        this.CAPACITY = capacity;
+        this.FACTORY = factory;
+    }//constructor con todo
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntos hilos trabajadores tiene el ejecutor.
+     * @return int - El n&uacute;mero de trabajadores; 0 si crea un hilo por
+     * tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public int getWorkerCount() {
+        return WORKERS.length;
+    }//getWorkerCount
+
+    /**
+     * Indica si el ejecutor crea un hilo para cada tarea en lugar de tener un
+     * grupo fijo de trabajadores.
+     * @return boolean - <tt>true</tt> si crea un hilo por tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean isThreadPerTask() {
+        return ACTIVE != null;
+    }//isThreadPerTask
+
+    /**
+     * Indica cu&aacute;ntas tareas tienen un hilo propio y no han terminado.
+     * @return int - El n&uacute;mero de tareas corriendo o por empezar; 0 si
+     * hay un grupo fijo de trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public int getActiveCount() {
+        return ACTIVE != null ? ACTIVE.get() : 0;
+    }//getActiveCount
+
+    /**
+     * Indica cu&aacute;ntas tareas pueden estar pendientes a la vez.
+     * @return int - La capacidad.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public int getCapacity() {
+        return CAPACITY;
+    }//getCapacity
+
+    /**
+     * Indica cu&aacute;ntas tareas m&aacute;s se pueden agregar sin esperar.
+     * @return int - Los lugares libres.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public int getRemainingCapacity() {
+        int free = SLOTS.availablePermits();
+        if(state == RUNNING) {
+            return free;
+        }//si no se han abierto los lugares
+        return Math.max(free -(Integer.MAX_VALUE -CAPACITY), 0);
+    }//getRemainingCapacity
+
+    /**
+     * Indica cu&aacute;ntas tareas han terminado de correr, normalmente o
+     * con una excepci&oacute;n.
+     * @return long - El n&uacute;mero de tareas terminadas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public long getCompletedTaskCount() {
+        return COMPLETED.sum();
+    }//getCompletedTaskCount
+
+    /**
+     * Indica si ya se pidi&oacute; detener el ejecutor.
+     * @return boolean - <tt>true</tt> si ya no acepta tareas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean isShutdown() {
+        return state != RUNNING;
+    }//isShutdown
+
+    /**
+     * Indica si todos los trabajadores ya terminaron.
+     * @return boolean - <tt>true</tt> si el ejecutor termin&oacute;.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean isTerminated() {
+        return TERMINATION.getCount() == 0;
+    }//isTerminated
+
+    /**
+     * Indica cu&aacute;ntas tareas esperan a que las pasen a ejecuci&oacute;n.
+     * En el modo {@link LockMode#OPTIMISTIC} no bloquea mientras nadie
+     * modifique la cola de espera; en el modo {@link LockMode#STRIPED} suma
+     * las colas sin detenerlas, as&iacute; que es aproximado si otros hilos
+     * las modifican.
+     * @return int - El n&uacute;mero de tareas en espera.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public int getWaitingCount() {
+        if(WAITING_QUEUES.length > 1) {
+            int count = 0;
+            for(PriorityBlockingQueue<E> queue : WAITING_QUEUES) {
+                count += queue.size();
+            }//suma cada cola
+            return count;
+        } else if(STAMPED_LOCK != null) {
+            long stamp = STAMPED_LOCK.tryOptimisticRead();
+            int count = waitingCount;
+            if(STAMPED_LOCK.validate(stamp)) {
+                return count;
+            }//si nadie escribió mientras tanto
+            stamp = STAMPED_LOCK.readLock();
+            try {
+                return waitingCount;
+            } finally {
+                STAMPED_LOCK.unlockRead(stamp);
+            }//siempre suelta el candado de lectura
+        }//según el modo
+        LOCK.lock();
+        try {
+            return waitingCount;
+        } finally {
+            LOCK.unlock();
+        }//siempre libera el candado
+    }//getWaitingCount
+
+    // métodos de modificación
+
+    /**
+     * Pone la tarea dada en la cola de ejecuci&oacute;n, esperando a que haya
+     * lugar si el ejecutor est&aacute; lleno.
+     * @param task - La tarea.
+     * @throws InterruptedException - Si se interrumpe la espera.
+     * @throws RejectedExecutionException - Si el ejecutor ya se detuvo o
+     * se detiene mientras espera lugar.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public void submit(E task) throws InterruptedException {
+        checkAccepting(task);
+        SLOTS.acquire();
+        checkStillAccepting();
+        enqueue(task);
+    }//submit
+
+    /**
+     * Pone la tarea dada en la cola de ejecuci&oacute;n si hay lugar.
+     * @param task - La tarea.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;; <tt>false</tt> si
+     * el ejecutor est&aacute; lleno.
+     * @throws RejectedExecutionException - Si el ejecutor ya se detuvo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean offer(E task) {
+        checkAccepting(task);
+        if(!SLOTS.tryAcquire()) {
+            return false;
+        }//si está lleno
+        checkStillAccepting();
+        enqueue(task);
+        return true;
+    }//offer
+
+    /**
+     * Pone la tarea dada en la cola de ejecuci&oacute;n, esperando a lo
+     * m&aacute;s el tiempo dado a que haya lugar.
+     * @param task - La tarea.
+     * @param timeout - El tiempo m&aacute;ximo de espera.
+     * @param unit - La unidad del tiempo de espera.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;; <tt>false</tt> si
+     * no hubo lugar a tiempo.
+     * @throws InterruptedException - Si se interrumpe la espera.
+     * @throws RejectedExecutionException - Si el ejecutor ya se detuvo o
+     * se detiene mientras espera lugar.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean offer(E task, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkAccepting(task);
+        if(!SLOTS.tryAcquire(timeout, unit)) {
+            return false;
+        }//si no hubo lugar a tiempo
+        checkStillAccepting();
+        enqueue(task);
+        return true;
+    }//offer
+
+    /**
+     * Pone la tarea dada en la cola de espera, esperando a que haya lugar si
+     * el ejecutor est&aacute; lleno. La tarea no corre hasta que
+     * {@link #signal()} o {@link #signalAll()} la pasen a ejecuci&oacute;n.
+     * @param task - La tarea.
+     * @throws InterruptedException - Si se interrumpe la espera.
+     * @throws RejectedExecutionException - Si el ejecutor ya se detuvo o
+     * se detiene mientras espera lugar.
+     * @throws ClassCastException - Si no se dio un comparador y la tarea no
+     * es <tt>Comparable</tt>.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public void defer(E task) throws InterruptedException {
+        checkAccepting(task);
+        SLOTS.acquire();
+        int stripe = stripeOf(task);
+        Lock lock = WAITING_LOCKS[stripe];
+        boolean queued = false;
+        lock.lock();
+        try {
+            if(state != RUNNING) {
+                throw new RejectedExecutionException("Executor shut down");
+            }//si se detuvo mientras esperaba lugar
+            queued = WAITING_QUEUES[stripe].offer(task);
+            if(WAITING_QUEUES.length == 1) {
+                waitingCount++;
+            }//las colas repartidas no llevan la cuenta
+        } finally {
+            lock.unlock();
+            if(!queued) {
+                SLOTS.release();
+            }//si no se agregó, no ocupa lugar
+        }//siempre libera el candado
+    }//defer
+
+    /**
+     * Deja de aceptar tareas y pasa a ejecuci&oacute;n las que esperaban.
+     * Los trabajadores terminan las tareas pendientes y luego salen. No
+     * espera a que terminen; para eso est&aacute;
+     * {@link #awaitTermination(long, TimeUnit)}.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public void shutdown() {
+        lockAllWaiting();
+        try {
+            if(state != RUNNING) {
+                return;
+            }//si ya se había detenido
+            for(PriorityBlockingQueue<E> queue : WAITING_QUEUES) {
+                E task;
+                while((task = queue.poll()) != null) {
+                    admit(task);
+                }//pasa a ejecución las que esperaban
+            }//vacía cada cola de espera
+            waitingCount = 0;
+            // se pasan antes de cambiar el estado para que, con un hilo por
+            // tarea, ninguna termine al ejecutor mientras faltan por pasar
+            state = SHUTDOWN;
+        } finally {
+            unlockAllWaiting();
+        }//siempre libera los candados
+        openSlots();
+        wakeWaiters(Integer.MAX_VALUE);
+        stopWorkers();
+    }//shutdown
+
+    /**
+     * Deja de aceptar tareas, quita las pendientes de ambas colas e
+     * interrumpe a los trabajadores. Las tareas que ya estaban corriendo
+     * terminan por su cuenta.
+     * @return List&lt;E&gt; - Las tareas que no se corrieron.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public List<E> shutdownNow() {
+        List<E> pending = new ArrayList<E>();
+        boolean running;
+        boolean stopped;
+        lockAllWaiting();
+        try {
+            running = state == RUNNING;
+            stopped = state == STOP;
+            state = STOP;
+            for(PriorityBlockingQueue<E> queue : WAITING_QUEUES) {
+                queue.drainTo(pending);
+            }//vacía cada cola de espera
+            waitingCount = 0;
+            E task;
+            while((task = RUNNING_QUEUE.poll()) != null) {
+                pending.add(task);
+            }//saca las que estaban listas
+            SLOTS.release(pending.size());
+        } finally {
+            unlockAllWaiting();
+        }//siempre libera los candados
+        if(running) {
+            openSlots();
+        }//si shutdown no los abrió ya
+        wakeWaiters(Integer.MAX_VALUE);
+        if(stopped) {
+            return pending;
+        }//si ya se había detenido
+        if(!stopWorkers()) {
+            for(Thread worker : WORKERS) {
+                if(worker != null) {
+                    worker.interrupt();
+                }//si ya se creó
+            }//interrumpe a cada trabajador
+            if(LIVE != null) {
+                for(Thread thread : LIVE) {
+                    thread.interrupt();
+                }//interrumpe a cada tarea
+            }//si hay un hilo por tarea
+        }//si había trabajadores
+        return pending;
+    }//shutdownNow
+
+    /**
+     * Espera a que todos los trabajadores terminen, despu&eacute;s de
+     * {@link #shutdown()} o {@link #shutdownNow()}.
+     * @param timeout - El tiempo m&aacute;ximo de espera.
+     * @param unit - La unidad del tiempo de espera.
+     * @return boolean - <tt>true</tt> si terminaron; <tt>false</tt> si se
+     * acab&oacute; el tiempo.
+     * @throws InterruptedException - Si se interrumpe la espera.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return TERMINATION.await(timeout, unit);
+    }//awaitTermination
+
+    // métodos de implementación
+
+    /**
+     * Espera, soltando el candado del monitor, hasta que lo despierten con
+     * {@link #signal()} o {@link #signalAll()}. Se debe tener el candado.
+     * @throws InterruptedException - Si se interrumpe la espera.
+     * @throws IllegalMonitorStateException - Si no se tiene el candado.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public void await() throws InterruptedException {
+        enterCondition();
+        try {
+            CONDITION.await();
+        } finally {
+            conditionWaiters--;
+        }//ya no espera
+    }//await
+
+    @Override
+    public void awaitUninterruptibly() {
+        enterCondition();
+        try {
+            CONDITION.awaitUninterruptibly();
+        } finally {
+            conditionWaiters--;
+        }//ya no espera
+    }//awaitUninterruptibly
+
+    @Override
+    public long awaitNanos(long nanosTimeout) throws InterruptedException {
+        enterCondition();
+        try {
+            return CONDITION.awaitNanos(nanosTimeout);
+        } finally {
+            conditionWaiters--;
+        }//ya no espera
+    }//awaitNanos
+
+    @Override
+    public boolean await(long time, TimeUnit unit)
+            throws InterruptedException {
+        enterCondition();
+        try {
+            return CONDITION.await(time, unit);
+        } finally {
+            conditionWaiters--;
+        }//ya no espera
+    }//await
+
+    @Override
+    public boolean awaitUntil(Date deadline) throws InterruptedException {
+        enterCondition();
+        try {
+            return CONDITION.awaitUntil(deadline);
+        } finally {
+            conditionWaiters--;
+        }//ya no espera
+    }//awaitUntil
+
+    /**
+     * Pasa a ejecuci&oacute;n la tarea de mayor prioridad de la cola de
+     * espera, si hay alguna, y despierta a un hilo que espere en el monitor.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public void signal() {
+        promote(1);
+        wakeWaiters(1);
+    }//signal
+
+    /**
+     * Pasa a ejecuci&oacute;n todas las tareas de la cola de espera, en orden
+     * de prioridad, y despierta a todos los hilos que esperen en el monitor.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public void signalAll() {
+        promote(Integer.MAX_VALUE);
+        wakeWaiters(Integer.MAX_VALUE);
+    }//signalAll
+
+    /**
+     * Pasa a ejecuci&oacute;n hasta el n&uacute;mero dado de tareas de la
+     * cola de espera, en orden de prioridad, y despierta hasta ese
+     * n&uacute;mero de hilos que esperen en el monitor; es como llamar esas
+     * veces a {@link #signal()}, pero toma cada candado y avisa a los
+     * trabajadores una sola vez.
+     * @param n - El n&uacute;mero m&aacute;ximo de tareas a pasar.
+     * @return int - Cu&aacute;ntas tareas se pasaron.
+     * @throws IllegalArgumentException - Si el n&uacute;mero es negativo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public int signalN(int n) {
+        if(n < 0) {
+            throw new IllegalArgumentException("Negative count: " +n);
+        }//si no es un número válido
+        int promoted = promote(n);
+        wakeWaiters(n);
+        return promoted;
+    }//signalN
+
+    /**
+     * Pone todas las tareas dadas directamente en la cola de ejecuci&oacute;n.
+     * Aparta tantos lugares como haya libres de una vez, esperando
+     * s&oacute;lo cuando no hay ninguno, y avisa a los trabajadores una vez
+     * por cada bloque apartado.
+     * @param tasks - Las tareas.
+     * @return int - Cu&aacute;ntas tareas se entregaron; siempre todas.
+     * @throws InterruptedException - Si se interrumpe mientras espera lugar;
+     * las tareas de los bloques anteriores ya se entregaron.
+     * @throws NullPointerException - Si alguna tarea es <tt>null</tt>; no se
+     * entrega ninguna.
+     * @throws RejectedExecutionException - Si el ejecutor se detuvo; las
+     * tareas de los bloques anteriores pueden haberse ejecutado.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public int submitAll(Collection<? extends E> tasks)
+            throws InterruptedException {
+        for(E task : tasks) {
+            checkAccepting(task);
+        }//revisa todas antes de entregar alguna
+        Iterator<? extends E> pending = tasks.iterator();
+        int remaining = tasks.size();
+        List<E> block = new ArrayList<E>(Math.min(remaining, CAPACITY));
+        while(remaining > 0) {
+            SLOTS.acquire();
+            checkStillAccepting();
+            int slots = 1 +SLOTS.drainPermits();
+            if(slots > remaining) {
+                SLOTS.release(slots -remaining);
+                slots = remaining;
+            }//si apartó de más
+            block.clear();
+            for(int i = 0; i < slots; i++) {
+                block.add(pending.next());
+            }//arma el bloque
+            remaining -= slots;
+            enqueueAll(block);
+        }//entrega un bloque por vuelta
+        return tasks.size();
+    }//submitAll
+
+    /**
+     * Saca hasta el n&uacute;mero dado de tareas de la cola de
+     * ejecuci&oacute;n sin correrlas, las agrega a la colecci&oacute;n dada
+     * y libera sus lugares.
+     * @param target - Donde se agregan las tareas.
+     * @param max - El n&uacute;mero m&aacute;ximo de tareas a sacar.
+     * @return int - Cu&aacute;ntas tareas se sacaron.
+     * @throws IllegalArgumentException - Si el m&aacute;ximo es negativo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    public int drainReady(Collection<? super E> target, int max) {
+        int drained = super.drainReady(target, max);
+        SLOTS.release(drained);
+        return drained;
+    }//drainReady
+
+    /**
+     * Pone en la cola de ejecuci&oacute;n tareas que ya tienen su lugar y
+     * avisa a los trabajadores una sola vez. Como cada tarea ya tiene su
+     * lugar, siempre caben todas.
+     * @param tasks - Las tareas.
+     * @return int - Cu&aacute;ntas tareas se pusieron; siempre todas.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    @Override
+    protected int admitAll(Collection<? extends E> tasks) {
+        for(E task : tasks) {
+            offerReady(task);
+        }//pone cada tarea
+        ready(tasks.size());
+        return tasks.size();
+    }//admitAll
+
+    @Override
+    public String toString() {
+        String status = state == RUNNING ? "running"
+                : isTerminated() ? "terminated" : "shutting down";
+        return "MonitorExecutor[" +status +", workers = "
+                +(ACTIVE != null ? "per task" : String.valueOf(WORKERS.length))
+                +", pending = " +(CAPACITY -getRemainingCapacity())
+                +", completed = " +COMPLETED.sum() +"]";
+    }//toString
+
+    /**
+     * Se llama en el trabajador despu&eacute;s de correr cada tarea. Por
+     * omisi&oacute;n, si la tarea lanz&oacute; una excepci&oacute;n, la pasa
+     * al <tt>UncaughtExceptionHandler</tt> del trabajador; el trabajador
+     * sigue con la siguiente tarea.
+     * @param task - La tarea que corri&oacute;.
+     * @param failure - Lo que lanz&oacute; la tarea; <tt>null</tt> si
+     * termin&oacute; normalmente.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    protected void afterExecute(E task, Throwable failure) {
+        if(failure != null) {
+            Thread worker = Thread.currentThread();
+            worker.getUncaughtExceptionHandler().uncaughtException(worker,
+                    failure);
+        }//si la tarea falló
+    }//afterExecute
+
+    /**
+     * Pasa a ejecuci&oacute;n hasta el n&uacute;mero dado de tareas de la
+     * cola de espera, en orden de prioridad. Cada tarea se pasa con el
+     * candado de su cola, para que {@link #shutdown()} no avise a los
+     * trabajadores antes de que llegue.
+     * @param max - El n&uacute;mero m&aacute;ximo de tareas a pasar.
+     * @return int - Cu&aacute;ntas tareas se pasaron.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private int promote(int max) {
+        if(WAITING_QUEUES.length > 1) {
+            return promoteStriped(max);
+        } else if(STAMPED_LOCK != null) {
+            long stamp = STAMPED_LOCK.tryOptimisticRead();
+            int count = waitingCount;
+            if(count == 0 && STAMPED_LOCK.validate(stamp)) {
+                return 0;
+            }//si no hay nada que pasar, no toma el candado de escritura
+        }//según el modo
+        Lock lock = WAITING_LOCKS[0];
+        int promoted = 0;
+        lock.lock();
+        try {
+            E task;
+            while(promoted < max && (task = WAITING_QUEUE.poll()) != null) {
+                offerReady(task);
+                promoted++;
+            }//pasa cada tarea
+            ready(promoted);
+            waitingCount -= promoted;
+        } finally {
+            lock.unlock();
+        }//siempre libera el candado
+        return promoted;
+    }//promote
+
+    /**
+     * Pasa a ejecuci&oacute;n hasta el n&uacute;mero dado de tareas cuando la
+     * cola de espera est&aacute; repartida. Para una sola tarea toma
+     * s&oacute;lo el candado de la cola cuya primera tarea tiene mayor
+     * prioridad; para varias, toma los de todas una vez y las saca en orden
+     * exacto.
+     * @param max - El n&uacute;mero m&aacute;ximo de tareas a pasar.
+     * @return int - Cu&aacute;ntas tareas se pasaron.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private int promoteStriped(int max) {
+        if(max > 1) {
+            List<E> batch = new ArrayList<E>(Math.min(max, 64));
+            lockAllWaiting();
+            try {
+                pollWaiting(batch, max);
+                admitAll(batch);
+            } finally {
+                unlockAllWaiting();
+            }//siempre libera los candados
+            return batch.size();
+        }//si son varias
+        int promoted = 0;
+        while(promoted < max) {
+            int best = -1;
+            E bestTask = null;
+            for(int i = 0; i < WAITING_QUEUES.length; i++) {
+                E head = WAITING_QUEUES[i].peek();
+                if(head != null
+                        && (bestTask == null || precedes(head, bestTask))) {
+                    best = i;
+                    bestTask = head;
+                }//si es la de mayor prioridad hasta ahora
+            }//revisa la primera de cada cola
+            if(best < 0) {
+                break;
+            }//si todas están vacías
+            Lock lock = WAITING_LOCKS[best];
+            lock.lock();
+            try {
+                E task = WAITING_QUEUES[best].poll();
+                if(task != null) {
+                    admit(task);
+                    promoted++;
+                }//si nadie se la llevó antes
+            } finally {
+                lock.unlock();
+            }//siempre libera el candado
+        }//pasa una tarea por vuelta
+        return promoted;
+    }//promoteStriped
+
+    /**
+     * Despierta hasta el n&uacute;mero dado de hilos que esperan en la
+     * condici&oacute;n del monitor. S&oacute;lo toma el candado del monitor
+     * si hay alguno.
+     * @param count - Cu&aacute;ntos despertar; <tt>Integer.MAX_VALUE</tt>
+     * para despertarlos a todos.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void wakeWaiters(int count) {
+        if(count == 0 || conditionWaiters == 0) {
+            return;
+        }//si nadie espera
+        LOCK.lock();
+        try {
+            if(count >= conditionWaiters) {
+                CONDITION.signalAll();
+            } else {
+                for(int i = 0; i < count; i++) {
+                    CONDITION.signal();
+                }//despierta a cada uno
+            }//según a cuántos
+        } finally {
+            LOCK.unlock();
+        }//siempre libera el candado
+    }//wakeWaiters
+
+    /**
+     * Registra que el hilo actual va a esperar en la condici&oacute;n del
+     * monitor.
+     * @throws IllegalMonitorStateException - Si no tiene el candado del
+     * monitor.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void enterCondition() {
+        if(!LOCK.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException();
+        }//sólo se espera con el candado
+        conditionWaiters++;
+    }//enterCondition
+
+    /**
+     * Verifica que la tarea dada exista y que el ejecutor acepte tareas.
+     * @param task - La tarea.
+     * @throws RejectedExecutionException - Si el ejecutor ya se detuvo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void checkAccepting(E task) {
+        if(task == null) {
+            throw new NullPointerException("Null task");
+        } else if(state != RUNNING) {
+            throw new RejectedExecutionException("Executor shut down");
+        }//si no se puede aceptar
+    }//checkAccepting
+
+    /**
+     * Verifica, despu&eacute;s de apartar un lugar, que el ejecutor siga
+     * aceptando tareas; si no, devuelve el lugar y rechaza la tarea.
+     * @throws RejectedExecutionException - Si el ejecutor se detuvo mientras
+     * esperaba lugar.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void checkStillAccepting() {
+        if(state != RUNNING) {
+            SLOTS.release();
+            throw new RejectedExecutionException("Executor shut down");
+        }//si se detuvo mientras esperaba lugar
+    }//checkStillAccepting
+
+    /**
+     * Al detenerse el ejecutor, agrega a los lugares libres tantos como
+     * quepan sin desbordar el sem&aacute;foro, para que los productores
+     * bloqueados en &eacute;l, y los que lleguen despu&eacute;s, lo pasen de
+     * inmediato y vean que deben rechazar su tarea. Los lugares de las tareas
+     * pendientes se siguen devolviendo, pero nunca suman m&aacute;s que la
+     * capacidad, as&iacute; que el total no pasa de
+     * <tt>Integer.MAX_VALUE</tt>. Se llama una sola vez, despu&eacute;s de
+     * cambiar el estado.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void openSlots() {
+        SLOTS.release(Integer.MAX_VALUE -CAPACITY);
+    }//openSlots
+
+    /**
+     * Pone en la cola de ejecuci&oacute;n una tarea que ya tiene su lugar,
+     * sin el candado del monitor. Si el ejecutor se detuvo mientras tanto y
+     * ning&uacute;n trabajador la ha tomado, la quita y la rechaza.
+     * @param task - La tarea.
+     * @throws RejectedExecutionException - Si el ejecutor se detuvo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void enqueue(E task) {
+        if(ACTIVE != null) {
+            ACTIVE.incrementAndGet();
+            if(state != RUNNING) {
+                SLOTS.release();
+                finishTasks(1);
+                throw new RejectedExecutionException("Executor shut down");
+            }//si se detuvo antes de contarla
+            dispatch(task);
+            return;
+        }//si hay un hilo por tarea
+        admit(task);
+        if(state != RUNNING && RUNNING_QUEUE.remove(task)) {
+            SLOTS.release();
+            throw new RejectedExecutionException("Executor shut down");
+        }//si los trabajadores podrían ya no estar
+    }//enqueue
+
+    /**
+     * Pone en la cola de ejecuci&oacute;n varias tareas que ya tienen su
+     * lugar, sin el candado del monitor. Si el ejecutor se detuvo mientras
+     * tanto, quita las que ning&uacute;n trabajador ha tomado y las rechaza.
+     * @param block - Las tareas.
+     * @throws RejectedExecutionException - Si el ejecutor se detuvo.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void enqueueAll(List<E> block) {
+        int count = block.size();
+        if(ACTIVE != null) {
+            ACTIVE.addAndGet(count);
+            if(state != RUNNING) {
+                SLOTS.release(count);
+                finishTasks(count);
+                throw new RejectedExecutionException("Executor shut down");
+            }//si se detuvo antes de contarlas
+            for(E task : block) {
+                dispatch(task);
+            }//crea un hilo para cada una
+            return;
+        }//si hay un hilo por tarea
+        admitAll(block);
+        if(state != RUNNING) {
+            int removed = 0;
+            for(E task : block) {
+                if(RUNNING_QUEUE.remove(task)) {
+                    removed++;
+                }//si ningún trabajador la tomó
+            }//quita las que quedan
+            if(removed > 0) {
+                SLOTS.release(removed);
+                throw new RejectedExecutionException("Executor shut down");
+            }//si quitó alguna
+        }//si los trabajadores podrían ya no estar
+    }//enqueueAll
+
+    /**
+     * Pone en la cola de ejecuci&oacute;n una tarea que ya tiene su lugar y
+     * avisa a un trabajador. La primera tarea crea a los trabajadores.
+     * @param task - La tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void admit(E task) {
+        offerReady(task);
+        ready(1);
+    }//admit
+
+    /**
+     * Pone en la cola de ejecuci&oacute;n una tarea que ya tiene su lugar,
+     * sin avisar a los trabajadores; con un hilo por tarea, le crea el suyo.
+     * @param task - La tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void offerReady(E task) {
+        if(ACTIVE != null) {
+            ACTIVE.incrementAndGet();
+            dispatch(task);
+            return;
+        }//si hay un hilo por tarea
+        startWorkers();
+        RUNNING_QUEUE.offer(task);
+    }//offerReady
+
+    /**
+     * Avisa a los trabajadores que llegaron el n&uacute;mero dado de tareas.
+     * @param count - Cu&aacute;ntas tareas llegaron.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void ready(int count) {
+        if(ACTIVE == null && count > 0) {
+            READY.release(count);
+        }//con un hilo por tarea nadie espera el aviso
+    }//ready
+
+    /**
+     * Crea e inicia los trabajadores, si a&uacute;n no existen.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void startWorkers() {
+        if(STARTED.get() || !STARTED.compareAndSet(false, true)) {
+            return;
+        }//si ya existen
+        Runnable loop = new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }//run
+        };
+        for(int i = 0; i < WORKERS.length; i++) {
+            WORKERS[i] = FACTORY.newThread(loop);
+        }//crea cada trabajador
+        for(Thread worker : WORKERS) {
+            worker.start();
+        }//inicia cada trabajador
+    }//startWorkers
+
+    /**
+     * Avisa a los trabajadores que salgan cuando se vac&iacute;e la cola de
+     * ejecuci&oacute;n. Si nunca se crearon, da al ejecutor por terminado.
+     * @return boolean - <tt>true</tt> si no hab&iacute;a trabajadores.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private boolean stopWorkers() {
+        if(ACTIVE != null) {
+            if(ACTIVE.get() == 0) {
+                TERMINATION.countDown();
+            }//si no hay tareas que esperar
+            return false;
+        }//si hay un hilo por tarea
+        if(STARTED.compareAndSet(false, true)) {
+            for(int i = 0; i < WORKERS.length; i++) {
+                TERMINATION.countDown();
+            }//no hay nadie a quien esperar
+            return true;
+        }//si nunca se crearon
+        // un permiso sin tarea hace que un trabajador encuentre la cola vacía
+        READY.release(WORKERS.length);
+        return false;
+    }//stopWorkers
+
+    /**
+     * El ciclo de un trabajador: saca tareas de la cola de ejecuci&oacute;n y
+     * las corre hasta que el ejecutor se detiene y la cola queda
+     * vac&iacute;a.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void work() {
+        try {
+            while(true) {
+                try {
+                    READY.acquire();
+                } catch(InterruptedException e) {
+                    if(state == STOP) {
+                        return;
+                    }//si lo interrumpieron para detenerlo
+                    continue;
+                }//espera una tarea
+                E task = RUNNING_QUEUE.poll();
+                if(task == null) {
+                    if(state != RUNNING) {
+                        return;
+                    }//si ya no llegarán más tareas
+                    continue;
+                }//si el permiso no era de una tarea
+                SLOTS.release();
+                if(state != STOP) {
+                    Thread.interrupted();
+                }//la interrupción de una tarea no pasa a la siguiente
+                execute(task);
+            }//atiende tareas
+        } finally {
+            TERMINATION.countDown();
+        }//siempre avisa que terminó
+    }//work
+
+    /**
+     * Pone la tarea dada en la cola de ejecuci&oacute;n y crea un hilo para
+     * correrla. La tarea ya debe estar contada en ACTIVE.
+     * @param task - La tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void dispatch(E task) {
+        RUNNING_QUEUE.offer(task);
+        FACTORY.newThread(RUN_ONE).start();
+    }//dispatch
+
+    /**
+     * Lo que hace el hilo de una tarea: saca una tarea de la cola de
+     * ejecuci&oacute;n y la corre. Puede no ser la misma con la que se
+     * cre&oacute; el hilo, pero cada hilo corre a lo m&aacute;s una.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void runOne() {
+        Thread current = Thread.currentThread();
+        LIVE.add(current);
+        try {
+            E task = RUNNING_QUEUE.poll();
+            if(task != null) {
+                SLOTS.release();
+                execute(task);
+            }//si no la sacó shutdownNow
+        } finally {
+            LIVE.remove(current);
+            finishTasks(1);
+        }//siempre avisa que terminó
+    }//runOne
+
+    /**
+     * Descuenta tareas con hilo propio; si eran las &uacute;ltimas y el
+     * ejecutor se detuvo, avisa que termin&oacute;.
+     * @param count - Cu&aacute;ntas tareas terminaron.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void finishTasks(int count) {
+        if(ACTIVE.addAndGet(-count) == 0 && state != RUNNING) {
+            TERMINATION.countDown();
+        }//si ya no quedan tareas
+    }//finishTasks
+
+    /**
+     * Corre la tarea dada y se la pasa a {@link #afterExecute(Runnable,
+     * Throwable)}.
+     * @param task - La tarea.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    private void execute(E task) {
+        Throwable failure = null;
+        try {
+            task.run();
+        } catch(RuntimeException e) {
+            failure = e;
+        } catch(Error e) {
+            failure = e;
+        } finally {
+            COMPLETED.increment();
+        }//corre la tarea
+        afterExecute(task, failure);
+    }//execute
+
+    // métodos estáticos
+
+    /**
+     * Construye un ejecutor que crea un hilo con la f&aacute;brica dada para
+     * cada tarea que pasa a ejecuci&oacute;n, en lugar de tener un grupo fijo
+     * de trabajadores. La capacidad s&oacute;lo cuenta las tareas que no han
+     * empezado a correr.
+     * @param <E> - El tipo de las tareas.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @param priority - El orden de la cola de espera; <tt>null</tt> para
+     * usar el orden natural de las tareas.
+     * @param factory - Crea el hilo de cada tarea.
+     * @param mode - C&oacute;mo se protege la cola de espera.
+     * @return MonitorExecutor&lt;E&gt; - El ejecutor.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public static <E extends Runnable> MonitorExecutor<E>
+            newThreadPerTaskExecutor(int capacity,
+            Comparator<? super E> priority, ThreadFactory factory,
+            LockMode mode) {
+        return new MonitorExecutor<E>(0, capacity, priority, factory, mode,
+                true, false);
+    }//newThreadPerTaskExecutor
+
+    /**
+     * Construye un ejecutor con un grupo fijo de trabajadores cuya cola de
+     * ejecuci&oacute;n es un {@link MpmcRingBuffer} en lugar de una
+     * <tt>ConcurrentLinkedQueue</tt>: pasar una tarea a ejecuci&oacute;n no
+     * crea un nodo. El arreglo del buffer se crea de una vez con lugar para
+     * toda la capacidad, as&iacute; que nunca se llena.
+     * @param <E> - El tipo de las tareas.
+     * @param workers - El n&uacute;mero de hilos trabajadores.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes;
+     * a lo m&aacute;s {@link MpmcRingBuffer#MAX_CAPACITY}.
+     * @param priority - El orden de la cola de espera; <tt>null</tt> para
+     * usar el orden natural de las tareas.
+     * @param factory - Crea los hilos trabajadores.
+     * @param mode - C&oacute;mo se protege la cola de espera.
+     * @return MonitorExecutor&lt;E&gt; - El ejecutor.
+     * @throws IllegalArgumentException - Si el n&uacute;mero de trabajadores
+     * o la capacidad no son positivos, o si la capacidad excede
+     * {@link MpmcRingBuffer#MAX_CAPACITY}.
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public static <E extends Runnable> MonitorExecutor<E>
+            newRingBufferExecutor(int workers, int capacity,
+            Comparator<? super E> priority, ThreadFactory factory,
+            LockMode mode) {
+        return new MonitorExecutor<E>(workers, capacity, priority, factory,
+                mode, false, true);
+    }//newRingBufferExecutor
+
+    /**
+     * Construye un ejecutor que corre cada tarea en un hilo virtual nuevo,
+     * con sus tareas en espera en orden natural.
+     * @param <E> - El tipo de las tareas.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @return MonitorExecutor&lt;E&gt; - El ejecutor.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva.
+     * @throws UnsupportedOperationException - Si la plataforma no tiene hilos
+     * virtuales.
+     * @see VirtualThreads
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public static <E extends Runnable> MonitorExecutor<E>
+            newVirtualThreadExecutor(int capacity) {
+        return newVirtualThreadExecutor(capacity, null, LockMode.NON_FAIR);
+    }//newVirtualThreadExecutor
+
+    /**
+     * Construye un ejecutor que corre cada tarea en un hilo virtual nuevo.
+     * @param <E> - El tipo de las tareas.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de tareas pendientes.
+     * @param priority - El orden de la cola de espera; <tt>null</tt> para
+     * usar el orden natural de las tareas.
+     * @param mode - C&oacute;mo se protege la cola de espera.
+     * @return MonitorExecutor&lt;E&gt; - El ejecutor.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva.
+     * @throws UnsupportedOperationException - Si la plataforma no tiene hilos
+     * virtuales.
+     * @see VirtualThreads
+     * @since MonitorExecutor 1.0, october 2026
+     */
+    public static <E extends Runnable> MonitorExecutor<E>
+            newVirtualThreadExecutor(int capacity,
+            Comparator<? super E> priority, LockMode mode) {
+        return newThreadPerTaskExecutor(capacity, priority,
+                VirtualThreads.newFactory("MonitorExecutor-"), mode);
+    }//newVirtualThreadExecutor
+
+}//MonitorExecutor class
@@ -0,0 +1,613 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Cola acotada para varios productores y varios consumidores, sin
+ * candados, sobre un arreglo circular que se crea una sola vez. A diferencia
+ * de <tt>ConcurrentLinkedQueue</tt>, agregar un elemento no crea un nodo, y
+ * puede usarse como <tt>RUNNING_QUEUE</tt> de un {@link Monitor} cuando
+ * pasan millones de tareas por segundo.</p>
+ * <p>Cada lugar del arreglo tiene un n&uacute;mero de secuencia que dice si
+ * est&aacute; listo para que lo llene un productor o lo vac&iacute;e un
+ * consumidor; productores y consumidores s&oacute;lo compiten por el
+ * &iacute;ndice de su lado con un <tt>compareAndSet</tt>. Los dos
+ * &iacute;ndices est&aacute;n separados por l&iacute;neas de cach&eacute;
+ * completas, para que los productores no invaliden la l&iacute;nea de los
+ * consumidores y viceversa.</p>
+ * <p>{@link #offer(Object)} y {@link #poll()} nunca bloquean;
+ * {@link #put(Object)} y {@link #take()} esperan seg&uacute;n la
+ * {@link WaitStrategy} del constructor. {@link #drainTo(Collection, int)}
+ * reserva varios elementos con una sola operaci&oacute;n at&oacute;mica.</p>
+ * <p>{@link #iterator()} recorre la cola de forma d&eacute;bilmente
+ * consistente, como el de <tt>ConcurrentLinkedQueue</tt>: nunca lanza
+ * <tt>ConcurrentModificationException</tt> y devuelve los elementos que ya
+ * estaban escritos al pasar por su lugar. {@link #remove(Object)} no mueve a
+ * los dem&aacute;s elementos: vac&iacute;a el lugar con un
+ * <tt>compareAndSet</tt> y los consumidores se lo saltan al llegar a
+ * &eacute;l. Hasta entonces, el lugar vac&iacute;o se sigue contando en
+ * {@link #size()}.</p>
+ *
+ * @param <E> - El tipo de los elementos.
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class MpmcRingBuffer<E> extends AbstractQueue<E> {
+
+    // atributos de clase
+
+    /**
+     * Longs en una l&iacute;nea de cach&eacute; de 64 bytes; separa los
+     * &iacute;ndices en COUNTERS.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private static final int PAD = 8;
+
+    /**
+     * Posici&oacute;n en COUNTERS del siguiente lugar a llenar.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private static final int TAIL = PAD;
+
+    /**
+     * Posici&oacute;n en COUNTERS del siguiente lugar a vaciar.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private static final int HEAD = 2 *PAD;
+
+    /**
+     * Intentos sin pausa antes de ceder el procesador cuando otro hilo
+     * est&aacute; a la mitad de escribir o vaciar un lugar.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private static final int SPINS = 64;
+
+    /**
+     * El n&uacute;mero m&aacute;ximo de lugares.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Los elementos.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final AtomicReferenceArray<E> BUFFER;
+
+    /**
+     * La secuencia de cada lugar: si es igual a la posici&oacute;n que le
+     * toca, est&aacute; listo para llenarse; si es la posici&oacute;n
+     * m&aacute;s uno, para vaciarse.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final AtomicLongArray SEQUENCES;
+
+    /**
+     * Los &iacute;ndices TAIL y HEAD, rodeados de relleno para que cada uno
+     * tenga su propia l&iacute;nea de cach&eacute;.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final AtomicLongArray COUNTERS;
+
+    /**
+     * M&aacute;scara para pasar de posici&oacute;n a lugar: la capacidad
+     * menos uno.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final int MASK;
+
+    /**
+     * C&oacute;mo esperan {@link #put(Object)} y {@link #take()}.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final WaitStrategy STRATEGY;
+
+    // métodos constructores
+
+    /**
+     * Construye una cola que espera cediendo el procesador.
+     * @param capacity - El n&uacute;mero m&iacute;nimo de lugares; se
+     * redondea a la siguiente potencia de dos, y al menos a dos.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva o
+     * excede {@link #MAX_CAPACITY}.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public MpmcRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }//constructor con capacidad
+
+    /**
+     * Construye una cola.
+     * @param capacity - El n&uacute;mero m&iacute;nimo de lugares; se
+     * redondea a la siguiente potencia de dos, y al menos a dos.
+     * @param strategy - C&oacute;mo esperan {@link #put(Object)} y
+     * {@link #take()}.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva o
+     * excede {@link #MAX_CAPACITY}, o si no hay estrategia.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public MpmcRingBuffer(int capacity, WaitStrategy strategy) {
+        if(capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity out of range: "
+                    +capacity);
+        } else if(strategy == null) {
+            throw new IllegalArgumentException("No wait strategy");
+        }//si los parámetros no son válidos
+        // con un solo lugar, la secuencia de un lugar lleno sería igual a la
+        // siguiente posición de los productores
+        int size = capacity <= 2 ? 2
+                : Integer.highestOneBit(capacity -1) << 1;
+        BUFFER = new AtomicReferenceArray<E>(size);
+        SEQUENCES = new AtomicLongArray(size);
+        for(int i = 0; i < size; i++) {
+            SEQUENCES.lazySet(i, i);
+        }//cada lugar empieza listo para su primera posición
+        COUNTERS = new AtomicLongArray(3 *PAD);
+        MASK = size -1;
+        STRATEGY = strategy;
+    }//constructor con todo
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntos lugares tiene la cola.
+     * @return int - La capacidad, una potencia de dos.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public int capacity() {
+        return MASK +1;
+    }//capacity
+
+    /**
+     * Indica cu&aacute;ntos lugares est&aacute;n libres. Es aproximado si
+     * otros hilos usan la cola.
+     * @return int - Los lugares libres.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public int remainingCapacity() {
+        return capacity() -size();
+    }//remainingCapacity
+
+    /**
+     * Indica c&oacute;mo esperan {@link #put(Object)} y {@link #take()}.
+     * @return WaitStrategy - La estrategia de espera.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public WaitStrategy getWaitStrategy() {
+        return STRATEGY;
+    }//getWaitStrategy
+
+    /**
+     * Indica cu&aacute;ntos elementos hay. Es aproximado si otros hilos usan
+     * la cola; cuenta tambi&eacute;n los que un productor ya reserv&oacute;
+     * pero no termina de escribir.
+     * @return int - El n&uacute;mero de elementos.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public int size() {
+        while(true) {
+            long head = COUNTERS.get(HEAD);
+            long tail = COUNTERS.get(TAIL);
+            if(COUNTERS.get(HEAD) == head) {
+                return (int) Math.max(0, Math.min(tail -head, MASK +1));
+            }//si la cabeza no se movió mientras leía
+        }//lee los dos índices
+    }//size
+
+    @Override
+    public boolean isEmpty() {
+        return COUNTERS.get(HEAD) == COUNTERS.get(TAIL);
+    }//isEmpty
+
+    /**
+     * Devuelve el primer elemento sin sacarlo, o <tt>null</tt> si la cola
+     * est&aacute; vac&iacute;a. Otro consumidor puede sacarlo en cualquier
+     * momento.
+     * @return E - El primer elemento.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public E peek() {
+        for(int round = 0; ; round++) {
+            long pos = COUNTERS.get(HEAD);
+            int index = (int) pos & MASK;
+            if(SEQUENCES.get(index) == pos +1) {
+                E element = BUFFER.get(index);
+                if(COUNTERS.get(HEAD) != pos) {
+                    continue;
+                } else if(element != null) {
+                    return element;
+                } else if(COUNTERS.compareAndSet(HEAD, pos, pos +1)) {
+                    consume(index, pos);
+                }//si nadie lo sacó mientras lo leía; si lo quitaron, lo salta
+            } else if(pos == COUNTERS.get(TAIL)) {
+                return null;
+            } else {
+                backOff(round);
+            }//si ya está escrito
+        }//reintenta mientras cambie la cabeza
+    }//peek
+
+    /**
+     * Devuelve un iterador d&eacute;bilmente consistente, del primer al
+     * &uacute;ltimo elemento. Cada lugar se lee cuando el iterador llega a
+     * &eacute;l: se omiten los elementos que ya se sacaron y los que un
+     * productor no termina de escribir. Su <tt>remove()</tt> quita el
+     * &uacute;ltimo elemento devuelto, si sigue en la cola.
+     * @return Iterator&lt;E&gt; - El iterador.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }//iterator
+
+    // métodos de modificación
+
+    /**
+     * Agrega el elemento dado al final de la cola, si hay lugar. No bloquea.
+     * @param element - El elemento.
+     * @return boolean - <tt>false</tt> si la cola estaba llena.
+     * @throws NullPointerException - Si el elemento es <tt>null</tt>.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public boolean offer(E element) {
+        if(element == null) {
+            throw new NullPointerException("Null element");
+        }//si no hay elemento
+        long pos = COUNTERS.get(TAIL);
+        for(int round = 0; ; ) {
+            int index = (int) pos & MASK;
+            long delta = SEQUENCES.get(index) -pos;
+            if(delta == 0) {
+                if(COUNTERS.compareAndSet(TAIL, pos, pos +1)) {
+                    BUFFER.lazySet(index, element);
+                    SEQUENCES.lazySet(index, pos +1);
+                    return true;
+                }//si reservó el lugar
+            } else if(delta < 0) {
+                if(pos -COUNTERS.get(HEAD) > MASK) {
+                    return false;
+                }//si está llena; si no, un consumidor está vaciando el lugar
+                backOff(round++);
+            }//según el estado del lugar
+            pos = COUNTERS.get(TAIL);
+        }//busca un lugar
+    }//offer
+
+    /**
+     * Saca el primer elemento de la cola. No bloquea.
+     * @return E - El primer elemento, o <tt>null</tt> si la cola estaba
+     * vac&iacute;a.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public E poll() {
+        long pos = COUNTERS.get(HEAD);
+        for(int round = 0; ; ) {
+            int index = (int) pos & MASK;
+            long delta = SEQUENCES.get(index) -(pos +1);
+            if(delta == 0) {
+                if(COUNTERS.compareAndSet(HEAD, pos, pos +1)) {
+                    E element = consume(index, pos);
+                    if(element != null) {
+                        return element;
+                    }//si lo quitaron, sigue con el siguiente
+                }//si reservó el lugar
+            } else if(delta < 0) {
+                if(pos == COUNTERS.get(TAIL)) {
+                    return null;
+                }//si está vacía; si no, un productor está llenando el lugar
+                backOff(round++);
+            }//según el estado del lugar
+            pos = COUNTERS.get(HEAD);
+        }//busca un elemento
+    }//poll
+
+    /**
+     * Agrega el elemento dado al final de la cola, esperando seg&uacute;n la
+     * estrategia de espera a que haya lugar.
+     * @param element - El elemento.
+     * @throws InterruptedException - Si se interrumpe mientras espera.
+     * @throws NullPointerException - Si el elemento es <tt>null</tt>.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public void put(E element) throws InterruptedException {
+        for(int round = 0; !offer(element); round++) {
+            if(Thread.interrupted()) {
+                throw new InterruptedException();
+            }//si lo interrumpieron
+            STRATEGY.idle(round);
+        }//espera lugar
+    }//put
+
+    /**
+     * Saca el primer elemento de la cola, esperando seg&uacute;n la
+     * estrategia de espera a que haya uno.
+     * @return E - El primer elemento.
+     * @throws InterruptedException - Si se interrumpe mientras espera.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public E take() throws InterruptedException {
+        E element;
+        for(int round = 0; (element = poll()) == null; round++) {
+            if(Thread.interrupted()) {
+                throw new InterruptedException();
+            }//si lo interrumpieron
+            STRATEGY.idle(round);
+        }//espera un elemento
+        return element;
+    }//take
+
+    /**
+     * Saca todos los elementos disponibles y los agrega a la
+     * colecci&oacute;n dada.
+     * @param target - Donde se agregan los elementos.
+     * @return int - Cu&aacute;ntos elementos se sacaron.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public int drainTo(Collection<? super E> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }//drainTo
+
+    /**
+     * Saca hasta el n&uacute;mero dado de elementos y los agrega, en orden, a
+     * la colecci&oacute;n dada. Reserva de una vez todos los elementos
+     * consecutivos que ya est&aacute;n escritos, con una sola
+     * operaci&oacute;n at&oacute;mica, en lugar de una por elemento.
+     * @param target - Donde se agregan los elementos.
+     * @param max - El n&uacute;mero m&aacute;ximo de elementos a sacar.
+     * @return int - Cu&aacute;ntos elementos se sacaron.
+     * @throws IllegalArgumentException - Si la colecci&oacute;n es esta
+     * cola.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    public int drainTo(Collection<? super E> target, int max) {
+        if(target == this) {
+            throw new IllegalArgumentException("Can't drain to itself");
+        }//si se vaciaría en sí misma
+        int drained = 0;
+        int round = 0;
+        while(drained < max) {
+            long pos = COUNTERS.get(HEAD);
+            int limit = Math.min(max -drained, MASK +1);
+            int ready = 0;
+            while(ready < limit
+                    && SEQUENCES.get((int) (pos +ready) & MASK)
+                    == pos +ready +1) {
+                ready++;
+            }//cuenta los lugares listos para vaciarse
+            if(ready == 0) {
+                if(pos == COUNTERS.get(TAIL)) {
+                    break;
+                }//si está vacía
+                backOff(round++);
+                continue;
+            } else if(!COUNTERS.compareAndSet(HEAD, pos, pos +ready)) {
+                continue;
+            }//si otro consumidor se adelantó
+            for(int i = 0; i < ready; i++) {
+                E element = consume((int) (pos +i) & MASK, pos +i);
+                if(element != null) {
+                    target.add(element);
+                    drained++;
+                }//si no lo quitaron
+            }//saca cada elemento reservado
+        }//reserva un bloque por vuelta
+        return drained;
+    }//drainTo
+
+    /**
+     * Quita de la cola una aparici&oacute;n del elemento dado, si
+     * est&aacute;. El lugar queda vac&iacute;o hasta que un consumidor llegue
+     * a &eacute;l y se lo salte.
+     * @param o - El elemento a quitar.
+     * @return boolean - <tt>true</tt> si se quit&oacute;.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    @Override
+    public boolean remove(Object o) {
+        if(o == null) {
+            return false;
+        }//no hay elementos null
+        long tail = COUNTERS.get(TAIL);
+        for(long pos = COUNTERS.get(HEAD); pos < tail; pos++) {
+            int index = (int) pos & MASK;
+            E element = read(index, pos);
+            if(element != null && o.equals(element)
+                    && BUFFER.compareAndSet(index, element, null)) {
+                return true;
+            }//si lo quitó
+        }//recorre cada lugar ocupado
+        return false;
+    }//remove
+
+    @Override
+    public void clear() {
+        while(poll() != null) {
+        }//saca cada elemento
+    }//clear
+
+    // métodos de implementación
+
+    @Override
+    public String toString() {
+        return "MpmcRingBuffer[capacity = " +capacity() +", size = " +size()
+                +", strategy = " +STRATEGY +"]";
+    }//toString
+
+    /**
+     * Saca el elemento de un lugar ya reservado y lo deja listo para la
+     * posici&oacute;n que le toca una vuelta despu&eacute;s.
+     * @param index - El lugar.
+     * @param pos - La posici&oacute;n que se reserv&oacute;.
+     * @return E - El elemento.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private E consume(int index, long pos) {
+        // getAndSet, no get y lazySet, para no devolver también un elemento
+        // que remove vacía al mismo tiempo
+        E element = BUFFER.getAndSet(index, null);
+        SEQUENCES.lazySet(index, pos +MASK +1);
+        return element;
+    }//consume
+
+    /**
+     * Lee el elemento del lugar dado si est&aacute; escrito para la
+     * posici&oacute;n dada y no se ha sacado ni quitado.
+     * @param index - El lugar.
+     * @param pos - La posici&oacute;n.
+     * @return E - El elemento; <tt>null</tt> si el lugar no lo tiene.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private E read(int index, long pos) {
+        if(SEQUENCES.get(index) != pos +1) {
+            return null;
+        }//si no está escrito para esa posición
+        E element = BUFFER.get(index);
+        return SEQUENCES.get(index) == pos +1 ? element : null;
+    }//read
+
+    /**
+     * Espera a que otro hilo termine de escribir o vaciar un lugar que ya
+     * reserv&oacute;: gira unas cuantas veces y despu&eacute;s cede el
+     * procesador, por si ese hilo perdi&oacute; el suyo.
+     * @param round - Cu&aacute;ntas veces se ha esperado.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private static void backOff(int round) {
+        if(round >= SPINS) {
+            Thread.yield();
+        }//si ya giró lo suficiente
+    }//backOff
+
+    // clases anidadas
+
+    /**
+     * Iterador d&eacute;bilmente consistente: avanza por las posiciones
+     * desde la cabeza y lee cada lugar al llegar a &eacute;l.
+     * @since MpmcRingBuffer 1.0, october 2026
+     */
+    private final class Itr implements Iterator<E> {
+
+        /**
+         * La posici&oacute;n del siguiente lugar a revisar.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private long cursor;
+
+        /**
+         * El siguiente elemento a devolver; <tt>null</tt> si no hay.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private E next;
+
+        /**
+         * La posici&oacute;n del siguiente elemento.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private long nextPos;
+
+        /**
+         * El &uacute;ltimo elemento devuelto; <tt>null</tt> si no hay o ya se
+         * quit&oacute;.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private E last;
+
+        /**
+         * La posici&oacute;n del &uacute;ltimo elemento devuelto.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private long lastPos;
+
+        /**
+         * Construye el iterador y busca su primer elemento.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        Itr() {
+            cursor = COUNTERS.get(HEAD);
+            advance();
+        }//constructor
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }//hasNext
+
+        @Override
+        public E next() {
+            E element = next;
+            if(element == null) {
+                throw new NoSuchElementException();
+            }//si ya no hay elementos
+            last = element;
+            lastPos = nextPos;
+            advance();
+            return element;
+        }//next
+
+        @Override
+        public void remove() {
+            E element = last;
+            if(element == null) {
+                throw new IllegalStateException();
+            }//si no hay elemento que quitar
+            last = null;
+            int index = (int) lastPos & MASK;
+            if(SEQUENCES.get(index) == lastPos +1) {
+                BUFFER.compareAndSet(index, element, null);
+            }//si nadie lo ha sacado
+        }//remove
+
+        /**
+         * Busca el siguiente lugar escrito, desde el cursor hasta la cola de
+         * productores. Los consumidores pueden haber pasado al cursor; en ese
+         * caso salta a la cabeza.
+         * @since MpmcRingBuffer 1.0, october 2026
+         */
+        private void advance() {
+            next = null;
+            long pos = Math.max(cursor, COUNTERS.get(HEAD));
+            for(long tail = COUNTERS.get(TAIL); pos < tail; pos++) {
+                E element = read((int) pos & MASK, pos);
+                if(element != null) {
+                    next = element;
+                    nextPos = pos;
+                    pos++;
+                    break;
+                }//si lo encontró
+            }//revisa cada lugar
+            cursor = pos;
+        }//advance
+
+    }//Itr class
+
+}//MpmcRingBuffer class
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>Acceso a los hilos virtuales de Java 21 sin depender de &eacute;l para
+ * compilar: la biblioteca sigue funcionando en Java SE 8 y Android, y en esas
+ * plataformas {@link #isSupported()} devuelve <tt>false</tt>.</p>
+ * <p>Un hilo virtual que espera en un <tt>ReentrantLock</tt>, una
+ * <tt>Condition</tt>, un <tt>Semaphore</tt> o un <tt>CountDownLatch</tt>
+ * suelta el hilo del sistema que lo corre, as&iacute; que miles de tareas
+ * pueden esperar a la vez ocupando s&oacute;lo su pila. No pasa lo mismo si
+ * esperan dentro de un bloque <tt>synchronized</tt>, por eso
+ * {@link Monitor} y {@link MonitorExecutor} no los usan.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public final class VirtualThreads {
+
+    // atributos de clase
+
+    /**
+     * <tt>Thread.ofVirtual()</tt>, o <tt>null</tt> si la plataforma no tiene
+     * hilos virtuales o no deja usarlos, como Java 19 y 20 sin las
+     * caracter&iacute;sticas en vista previa.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    private static final Method OF_VIRTUAL;
+
+    /**
+     * <tt>Thread.Builder.name(String, long)</tt>.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    private static final Method NAME;
+
+    /**
+     * <tt>Thread.Builder.factory()</tt>.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    private static final Method FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            ofVirtual.invoke(null);
+        } catch(ClassNotFoundException e) {
+            ofVirtual = null;
+        } catch(NoSuchMethodException e) {
+            ofVirtual = null;
+        } catch(IllegalAccessException e) {
+            ofVirtual = null;
+        } catch(InvocationTargetException e) {
+            ofVirtual = null;
+        }//busca la API de hilos virtuales y revisa que se pueda usar
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }//inicializador estático
+
+    // métodos constructores
+
+    /**
+     * No se instancia.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    private VirtualThreads() {
+    }//constructor vacío
+
+    // métodos estáticos
+
+    /**
+     * Indica si la plataforma tiene hilos virtuales y deja usarlos; si es
+     * as&iacute;, {@link #newFactory(String)} no lanza
+     * <tt>UnsupportedOperationException</tt>.
+     * @return boolean - <tt>true</tt> en Java 21 o posterior.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }//isSupported
+
+    /**
+     * Crea una f&aacute;brica de hilos virtuales.
+     * @param prefix - El prefijo del nombre de los hilos; cada uno lo sigue
+     * de un n&uacute;mero consecutivo.
+     * @return ThreadFactory - La f&aacute;brica.
+     * @throws UnsupportedOperationException - Si la plataforma no tiene hilos
+     * virtuales.
+     * @since VirtualThreads 1.0, october 2026
+     */
+    public static ThreadFactory newFactory(String prefix) {
+        if(OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads require Java 21 or later");
+        }//si no hay hilos virtuales
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = NAME.invoke(builder, prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch(IllegalAccessException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not accessible", e);
+        } catch(InvocationTargetException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not available", e.getCause());
+        }//crea la fábrica
+    }//newFactory
+
+}//VirtualThreads class
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>Qu&eacute; hace un hilo mientras espera a que se libere un lugar o
+ * llegue un elemento en un {@link MpmcRingBuffer}:<ul>
+ * <li>{@link #BUSY_SPIN} - Vuelve a intentar de inmediato. Responde en
+ * nanosegundos, pero ocupa un procesador entero mientras espera; s&oacute;lo
+ * conviene si hay m&aacute;s procesadores que hilos esperando.</li>
+ * <li>{@link #YIELD} - Cede el procesador entre intentos. Responde casi tan
+ * r&aacute;pido y deja correr a otros hilos, pero sigue gastando
+ * procesador.</li>
+ * <li>{@link #PARK} - Gira y cede unas cuantas veces y despu&eacute;s duerme
+ * unos microsegundos entre intentos. Tarda m&aacute;s en responder, pero casi
+ * no gasta procesador cuando la espera es larga.</li></ul></p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see MpmcRingBuffer
+ */
+public enum WaitStrategy {
+
+    /**
+     * Reintenta sin pausa.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    BUSY_SPIN {
+
+        @Override
+        void idle(int round) {
+        }//idle
+
+    },
+
+    /**
+     * Cede el procesador entre intentos.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    YIELD {
+
+        @Override
+        void idle(int round) {
+            Thread.yield();
+        }//idle
+
+    },
+
+    /**
+     * Gira, cede y finalmente duerme entre intentos.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    PARK {
+
+        @Override
+        void idle(int round) {
+            if(round < SPINS) {
+                return;
+            } else if(round < SPINS +YIELDS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }//según cuánto lleva esperando
+        }//idle
+
+    };
+
+    // atributos de clase
+
+    /**
+     * Intentos sin pausa antes de ceder el procesador en {@link #PARK}.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    private static final int SPINS = 100;
+
+    /**
+     * Intentos cediendo el procesador antes de dormir en {@link #PARK}.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    private static final int YIELDS = 100;
+
+    /**
+     * Cu&aacute;nto duerme cada vez {@link #PARK}, en nanosegundos.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    private static final long PARK_NANOS = 50000;
+
+    // métodos de implementación
+
+    /**
+     * Espera antes del siguiente intento.
+     * @param round - Cu&aacute;ntos intentos van, empezando en 0.
+     * @since WaitStrategy 1.0, october 2026
+     */
+    abstract void idle(int round);
+
+}//WaitStrategy enum
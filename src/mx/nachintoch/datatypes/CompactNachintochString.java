@@ -0,0 +1,688 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>Cadena de valor comparable que guarda los bytes con los que se
+ * recibi&oacute; (Latin-1 o UTF-8) en lugar de decodificarlos a
+ * caracteres de 16 bits. <tt>equals</tt>, <tt>hashCode</tt>,
+ * <tt>compareTo</tt>, <tt>startsWith</tt>, <tt>indexOf</tt> y
+ * <tt>getBytes</tt> trabajan directamente sobre los bytes y dan los mismos
+ * resultados que con la <tt>String</tt> equivalente; as&iacute;, una cadena
+ * que s&oacute;lo se compara o se vuelve a enviar nunca se decodifica.</p>
+ * <p>La <tt>String</tt> se crea s&oacute;lo cuando se solicita con
+ * {@link #getString()} o cuando se usa un m&eacute;todo que no tiene
+ * versi&oacute;n propia para bytes; luego se conserva. Si los bytes UTF-8
+ * est&aacute;n mal formados se decodifican al construir la cadena (con el
+ * caracter de reemplazo, como lo hace <tt>String</tt>) y se guarda su
+ * codificaci&oacute;n UTF-8 v&aacute;lida. Cualquier otro conjunto de
+ * caracteres tambi&eacute;n se decodifica al construir la cadena.</p>
+ * <p>Los bytes se copian al construir la cadena. Al serializarse, se escribe
+ * como una {@link NachintochString}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class CompactNachintochString extends NachintochString {
+
+    // atributos de clase
+
+    /**
+     * Los bytes de la cadena: uno por caracter si {@link #LATIN1}; UTF-8
+     * v&aacute;lido si no.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    protected final byte[] BYTES;
+
+    /**
+     * Indica si cada byte es un caracter (Latin-1). Una cadena UTF-8 con
+     * s&oacute;lo caracteres ASCII se guarda tambi&eacute;n as&iacute;.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    protected final boolean LATIN1;
+
+    /**
+     * Indica si todos los bytes son ASCII.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private final boolean ASCII;
+
+    /**
+     * N&uacute;mero de caracteres (UTF-16) de la cadena.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private final int LENGTH;
+
+    /**
+     * El hash de la cadena; 0 si no se ha calculado.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private int hash;
+
+    // métodos constructores
+
+    /**
+     * Construye la cadena con los bytes dados.
+     * @param bytes - Los bytes de la cadena.
+     * @param charset - Su codificaci&oacute;n; s&oacute;lo ISO-8859-1, UTF-8
+     * y US-ASCII se guardan sin decodificar.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public CompactNachintochString(byte[] bytes, Charset charset) {
+        this(bytes, 0, bytes.length, charset);
+    }//constructor con arreglo de bytes
+
+    /**
+     * Construye la cadena con el subarreglo de bytes dado.
+     * @param bytes - El arreglo que contiene los bytes de la cadena.
+     * @param offset - El &iacute;ndice del primer byte.
+     * @param length - El n&uacute;mero de bytes.
+     * @param charset - Su codificaci&oacute;n; s&oacute;lo ISO-8859-1, UTF-8
+     * y US-ASCII se guardan sin decodificar.
+     * @throws IndexOutOfBoundsException - Si el subarreglo no cabe en el
+     * arreglo.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public CompactNachintochString(byte[] bytes, int offset, int length,
+            Charset charset) {
+        if(offset < 0 || length < 0 || offset > bytes.length -length) {
+            throw new IndexOutOfBoundsException("offset " +offset +", length "
+                    +length +", array length " +bytes.length);
+        }//si no cabe
+        byte[] copy = Arrays.copyOfRange(bytes, offset, offset +length);
+        int chars;
+        if(StandardCharsets.ISO_8859_1.equals(charset)) {
+            this.string = null;
+            this.BYTES = copy;
+            this.LATIN1 = true;
+            this.ASCII = isAscii(copy);
+            this.LENGTH = copy.length;
+            return;
+        } else if(StandardCharsets.UTF_8.equals(charset)) {
+            chars = utf16Length(copy);
+        } else if(StandardCharsets.US_ASCII.equals(charset)) {
+            chars = isAscii(copy) ? copy.length : -1;
+        } else {
+            chars = -1;
+        }//según la codificación
+        if(chars == -1) {
+            // se decodifica ahora para que los bytes sean UTF-8 válido
+            this.string = new String(copy, charset);
+            copy = string.getBytes(StandardCharsets.UTF_8);
+            chars = string.length();
+        } else {
+            this.string = null;
+        }//si no se pueden guardar los bytes como llegaron
+        this.BYTES = copy;
+        this.ASCII = chars == copy.length;
+        this.LATIN1 = ASCII;
+        this.LENGTH = chars;
+    }//constructor con subarreglo de bytes
+
+    // métodos de acceso
+
+    /**
+     * Devuelve la cadena representada. La primera vez decodifica los bytes;
+     * las siguientes devuelve la misma.
+     * @return String - La cadena representada.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    @Override
+    public String getString() {
+        String s = string;
+        if(s == null) {
+            // si dos hilos llegan aquí crean cadenas iguales; no importa
+            s = new String(BYTES, getCharset());
+            string = s;
+        }//si no se ha decodificado
+        return s;
+    }//getString
+
+    /**
+     * Indica si la <tt>String</tt> de la cadena ya fue creada.
+     * @return boolean - <tt>true</tt> si los bytes ya se decodificaron.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public boolean isMaterialized() {
+        return string != null;
+    }//isMaterialized
+
+    /**
+     * Indica la codificaci&oacute;n con la que se guardan los bytes.
+     * @return Charset - ISO-8859-1 o UTF-8.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public Charset getCharset() {
+        return LATIN1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8;
+    }//getCharset
+
+    /**
+     * Indica cu&aacute;ntos bytes ocupa la cadena.
+     * @return int - El n&uacute;mero de bytes.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public int getByteLength() {
+        return BYTES.length;
+    }//getByteLength
+
+    /**
+     * Devuelve los bytes de la cadena, en la codificaci&oacute;n de
+     * {@link #getCharset()}, sin copiarlos; por ejemplo, para escribirlos en
+     * un canal.
+     * @return ByteBuffer - Un buffer de s&oacute;lo lectura con los bytes.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(BYTES).asReadOnlyBuffer();
+    }//asByteBuffer
+
+    // métodos de implementación
+
+    @Override
+    public int length() {
+        return LENGTH;
+    }//length
+
+    @Override
+    public boolean isEmpty() {
+        return LENGTH == 0;
+    }//isEmpty
+
+    @Override
+    public char charAt(int index) {
+        if(!LATIN1) {
+            return getString().charAt(index);
+        }//si no hay un byte por caracter
+        if(index < 0 || index >= LENGTH) {
+            throw new StringIndexOutOfBoundsException(index);
+        }//si no hay tal caracter
+        return (char) (BYTES[index] & 0xFF);
+    }//charAt
+
+    @Override
+    public byte[] getBytes() {
+        return getBytes(Charset.defaultCharset());
+    }//getBytes
+
+    @Override
+    public byte[] getBytes(Charset charset) {
+        if(LATIN1 ? StandardCharsets.ISO_8859_1.equals(charset) || ASCII
+                && (StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset))
+                : StandardCharsets.UTF_8.equals(charset)) {
+            return BYTES.clone();
+        }//si los bytes ya están en esa codificación
+        return super.getBytes(charset);
+    }//getBytes
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h == 0 && BYTES.length > 0) {
+            if(LATIN1) {
+                for(byte b : BYTES) {
+                    h = 31 *h +(b & 0xFF);
+                }//mismo hash que String
+            } else {
+                for(int i = 0; i < BYTES.length;
+                        i += sequenceLength(BYTES[i])) {
+                    int cp = decode(BYTES, i);
+                    if(cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                        h = 31 *h +cp;
+                    } else {
+                        h = 31 *h +Character.highSurrogate(cp);
+                        h = 31 *h +Character.lowSurrogate(cp);
+                    }//un caracter o un par
+                }//mismo hash que String, sin decodificar la cadena
+            }//según la codificación
+            hash = h;
+        }//si no se ha calculado
+        return h;
+    }//hashCode
+
+    @Override
+    public boolean equals(Object anObject) {
+        if(this == anObject) {
+            return true;
+        } else if(anObject instanceof CompactNachintochString
+                && ((CompactNachintochString) anObject).LATIN1 == LATIN1) {
+            return Arrays.equals(BYTES,
+                    ((CompactNachintochString) anObject).BYTES);
+        } else if(anObject instanceof NachintochString
+                || anObject instanceof String) {
+            CharSequence other = (CharSequence) anObject;
+            return other.length() == LENGTH
+                    && compareChars(other, LENGTH) == 0;
+        }//compara sólo contra cadenas
+        return false;
+    }//equals
+
+    @Override
+    public int compareTo(Object anotherObject) {
+        if(anotherObject instanceof CompactNachintochString
+                && ((CompactNachintochString) anotherObject).LATIN1
+                == LATIN1) {
+            return compareBytes((CompactNachintochString) anotherObject);
+        } else if(!(anotherObject instanceof NachintochString
+                || anotherObject instanceof String)) {
+            return super.compareTo(anotherObject);
+        }//deja que la clase base rechace el objeto
+        CharSequence other = (CharSequence) anotherObject;
+        int result = compareChars(other, other.length());
+        return result != 0 ? result : LENGTH -other.length();
+    }//compareTo
+
+    @Override
+    public boolean startsWith(String prefix) {
+        return prefix.length() <= LENGTH
+                && compareChars(prefix, prefix.length()) == 0;
+    }//startsWith
+
+    @Override
+    public boolean startsWith(String prefix, int toffset) {
+        if(toffset == 0) {
+            return startsWith(prefix);
+        } else if(!LATIN1) {
+            return super.startsWith(prefix, toffset);
+        } else if(toffset < 0 || toffset > LENGTH -prefix.length()) {
+            return false;
+        }//si no empieza desde el inicio
+        for(int i = 0; i < prefix.length(); i++) {
+            if((BYTES[toffset +i] & 0xFF) != prefix.charAt(i)) {
+                return false;
+            }//si difieren
+        }//compara cada caracter
+        return true;
+    }//startsWith
+
+    @Override
+    public boolean startsWith(NachintochString prefix) {
+        if(prefix instanceof CompactNachintochString
+                && ((CompactNachintochString) prefix).LATIN1 == LATIN1) {
+            byte[] other = ((CompactNachintochString) prefix).BYTES;
+            return other.length <= BYTES.length
+                    && indexOf(BYTES, 0, other) == 0;
+        } else if(prefix.length() > LENGTH) {
+            return false;
+        }//si ambas son bytes con la misma codificación
+        return compareChars(prefix, prefix.length()) == 0;
+    }//startsWith
+
+    @Override
+    public boolean startsWith(NachintochString prefix, int toffset) {
+        return toffset == 0 ? startsWith(prefix)
+                : startsWith(prefix.getString(), toffset);
+    }//startsWith
+
+    @Override
+    public int indexOf(int ch) {
+        return indexOf(ch, 0);
+    }//indexOf
+
+    @Override
+    public int indexOf(int ch, int fromIndex) {
+        if(fromIndex >= LENGTH) {
+            return -1;
+        }//si no hay dónde buscar
+        fromIndex = Math.max(fromIndex, 0);
+        if(LATIN1) {
+            if(ch < 0 || ch > 0xFF) {
+                return -1;
+            }//si no cabe en un byte
+            byte b = (byte) ch;
+            for(int i = fromIndex; i < BYTES.length; i++) {
+                if(BYTES[i] == b) {
+                    return i;
+                }//si lo encontró
+            }//busca el byte
+            return -1;
+        } else if(!Character.isValidCodePoint(ch)) {
+            return -1;
+        } else if(ch >= Character.MIN_SURROGATE
+                && ch <= Character.MAX_SURROGATE) {
+            return super.indexOf(ch, fromIndex);
+        }//si puede ser la mitad de un par
+        byte[] needle = new String(Character.toChars(ch))
+                .getBytes(StandardCharsets.UTF_8);
+        int index = indexOf(BYTES, byteIndex(fromIndex), needle);
+        return index == -1 ? -1 : charIndex(index);
+    }//indexOf
+
+    @Override
+    public int indexOf(String str) {
+        if(LATIN1) {
+            byte[] needle = new byte[str.length()];
+            for(int i = 0; i < needle.length; i++) {
+                char c = str.charAt(i);
+                if(c > 0xFF) {
+                    return -1;
+                }//si no puede estar en la cadena
+                needle[i] = (byte) c;
+            }//codifica la subcadena como Latin-1
+            return indexOf(BYTES, 0, needle);
+        } else if(hasUnpairedSurrogate(str)) {
+            return super.indexOf(str);
+        }//si no se puede codificar sin pérdida
+        int index = indexOf(BYTES, 0, str.getBytes(StandardCharsets.UTF_8));
+        return index == -1 ? -1 : charIndex(index);
+    }//indexOf
+
+    @Override
+    public int indexOf(NachintochString nchStr) {
+        if(nchStr instanceof CompactNachintochString
+                && ((CompactNachintochString) nchStr).LATIN1 == LATIN1) {
+            int index = indexOf(BYTES, 0,
+                    ((CompactNachintochString) nchStr).BYTES);
+            return index == -1 || LATIN1 ? index : charIndex(index);
+        }//si ambas son bytes con la misma codificación
+        return indexOf(nchStr.getString());
+    }//indexOf
+
+    /**
+     * Compara los bytes de esta cadena con los de otra de la misma
+     * codificaci&oacute;n, con el resultado que dar&iacute;a
+     * <tt>String.compareTo</tt>.
+     * @param other - La otra cadena.
+     * @return int - La diferencia del primer caracter distinto, o de las
+     * longitudes si una cadena es prefijo de la otra.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private int compareBytes(CompactNachintochString other) {
+        byte[] a = BYTES;
+        byte[] b = other.BYTES;
+        int limit = Math.min(a.length, b.length);
+        int i = 0;
+        while(i < limit && a[i] == b[i]) {
+            i++;
+        }//busca el primer byte distinto
+        if(i == limit) {
+            return LENGTH -other.LENGTH;
+        } else if(LATIN1) {
+            return (a[i] & 0xFF) -(b[i] & 0xFF);
+        }//si cada byte es un caracter
+        while(i > 0 && (a[i] & 0xC0) == 0x80) {
+            i--;
+        }//regresa al inicio del caracter, que es igual en ambas
+        int cpA = decode(a, i);
+        int cpB = decode(b, i);
+        // en UTF-16 los pares ordenan antes que U+E000..U+FFFF
+        char hiA = cpA < Character.MIN_SUPPLEMENTARY_CODE_POINT ? (char) cpA
+                : Character.highSurrogate(cpA);
+        char hiB = cpB < Character.MIN_SUPPLEMENTARY_CODE_POINT ? (char) cpB
+                : Character.highSurrogate(cpB);
+        if(hiA != hiB) {
+            return hiA -hiB;
+        }//si difieren en el primer char
+        return Character.lowSurrogate(cpA) -Character.lowSurrogate(cpB);
+    }//compareBytes
+
+    /**
+     * Compara los primeros caracteres de esta cadena con los de la dada, sin
+     * decodificar esta cadena.
+     * @param cs - La otra cadena.
+     * @param count - El n&uacute;mero de caracteres a comparar; a lo
+     * m&aacute;s la longitud de <tt>cs</tt>.
+     * @return int - La diferencia del primer caracter distinto; 0 si los
+     * primeros <tt>count</tt> caracteres (o todos los de esta cadena, si
+     * tiene menos) son iguales.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private int compareChars(CharSequence cs, int count) {
+        int limit = Math.min(LENGTH, count);
+        if(LATIN1) {
+            for(int i = 0; i < limit; i++) {
+                char c = (char) (BYTES[i] & 0xFF);
+                char o = cs.charAt(i);
+                if(c != o) {
+                    return c -o;
+                }//si difieren
+            }//compara cada caracter
+            return 0;
+        }//si cada byte es un caracter
+        int j = 0;
+        for(int i = 0; j < limit; i += sequenceLength(BYTES[i])) {
+            int cp = decode(BYTES, i);
+            char c = cp < Character.MIN_SUPPLEMENTARY_CODE_POINT ? (char) cp
+                    : Character.highSurrogate(cp);
+            char o = cs.charAt(j++);
+            if(c != o) {
+                return c -o;
+            } else if(c == cp || j == limit) {
+                continue;
+            }//si no hay segunda mitad que comparar
+            c = Character.lowSurrogate(cp);
+            o = cs.charAt(j++);
+            if(c != o) {
+                return c -o;
+            }//si difieren
+        }//compara cada caracter decodificado
+        return 0;
+    }//compareChars
+
+    /**
+     * Convierte un &iacute;ndice de caracter en un &iacute;ndice de byte. Si
+     * el &iacute;ndice cae a la mitad de un par, devuelve el byte del
+     * siguiente caracter.
+     * @param charIndex - El &iacute;ndice de caracter.
+     * @return int - El &iacute;ndice del byte donde empieza ese caracter.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private int byteIndex(int charIndex) {
+        int i = 0;
+        for(int chars = 0; chars < charIndex; ) {
+            int length = sequenceLength(BYTES[i]);
+            chars += length == 4 ? 2 : 1;
+            i += length;
+        }//avanza caracter por caracter
+        return i;
+    }//byteIndex
+
+    /**
+     * Convierte un &iacute;ndice de byte, al inicio de un caracter, en un
+     * &iacute;ndice de caracter.
+     * @param byteIndex - El &iacute;ndice de byte.
+     * @return int - El &iacute;ndice de caracter.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private int charIndex(int byteIndex) {
+        int chars = 0;
+        for(int i = 0; i < byteIndex; ) {
+            int length = sequenceLength(BYTES[i]);
+            chars += length == 4 ? 2 : 1;
+            i += length;
+        }//avanza caracter por caracter
+        return chars;
+    }//charIndex
+
+    /**
+     * Al serializarse, la cadena se escribe como una {@link NachintochString}.
+     * @return Object - Una {@link NachintochString} equivalente.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private Object writeReplace() {
+        return new NachintochString(getString());
+    }//writeReplace
+
+    // métodos estáticos
+
+    /**
+     * Busca la primera aparici&oacute;n de un arreglo de bytes en otro.
+     * @param haystack - El arreglo donde buscar.
+     * @param from - El primer &iacute;ndice donde buscar.
+     * @param needle - El arreglo a buscar.
+     * @return int - El &iacute;ndice donde empieza; -1 si no aparece.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static int indexOf(byte[] haystack, int from, byte[] needle) {
+        if(needle.length == 0) {
+            return Math.min(from, haystack.length);
+        }//la cadena vacía está en todas partes
+        byte first = needle[0];
+        for(int i = from, last = haystack.length -needle.length; i <= last;
+                i++) {
+            if(haystack[i] != first) {
+                continue;
+            }//si no empieza aquí
+            int j = 1;
+            while(j < needle.length && haystack[i +j] == needle[j]) {
+                j++;
+            }//compara el resto
+            if(j == needle.length) {
+                return i;
+            }//si lo encontró
+        }//busca el primer byte
+        return -1;
+    }//indexOf
+
+    /**
+     * Indica si todos los bytes dados son ASCII.
+     * @param bytes - Los bytes.
+     * @return boolean - <tt>true</tt> si ninguno tiene el bit alto.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static boolean isAscii(byte[] bytes) {
+        for(byte b : bytes) {
+            if(b < 0) {
+                return false;
+            }//si tiene el bit alto
+        }//revisa cada byte
+        return true;
+    }//isAscii
+
+    /**
+     * Valida los bytes dados como UTF-8, con las mismas reglas que el
+     * decodificador de Java (sin formas largas ni sustitutos), y cuenta los
+     * caracteres UTF-16 que representan.
+     * @param bytes - Los bytes.
+     * @return int - El n&uacute;mero de caracteres; -1 si los bytes
+     * est&aacute;n mal formados.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static int utf16Length(byte[] bytes) {
+        int n = bytes.length;
+        int i = 0;
+        while(i < n && bytes[i] >= 0) {
+            i++;
+        }//el prefijo ASCII no necesita más revisión
+        int chars = i;
+        while(i < n) {
+            int b0 = bytes[i] & 0xFF;
+            int length;
+            int min = 0x80;
+            int max = 0xBF;
+            if(b0 < 0x80) {
+                length = 1;
+            } else if(b0 >= 0xC2 && b0 <= 0xDF) {
+                length = 2;
+            } else if(b0 >= 0xE0 && b0 <= 0xEF) {
+                length = 3;
+                if(b0 == 0xE0) {
+                    min = 0xA0;
+                } else if(b0 == 0xED) {
+                    max = 0x9F;
+                }//sin formas largas ni sustitutos
+            } else if(b0 >= 0xF0 && b0 <= 0xF4) {
+                length = 4;
+                if(b0 == 0xF0) {
+                    min = 0x90;
+                } else if(b0 == 0xF4) {
+                    max = 0x8F;
+                }//sin formas largas ni más allá de U+10FFFF
+            } else {
+                return -1;
+            }//según el primer byte
+            if(i > n -length) {
+                return -1;
+            }//si la secuencia está incompleta
+            for(int k = 1; k < length; k++) {
+                int b = bytes[i +k] & 0xFF;
+                if(b < min || b > max) {
+                    return -1;
+                }//si no es un byte de continuación válido
+                min = 0x80;
+                max = 0xBF;
+            }//revisa los bytes de continuación
+            chars += length == 4 ? 2 : 1;
+            i += length;
+        }//revisa cada secuencia
+        return chars;
+    }//utf16Length
+
+    /**
+     * Indica cu&aacute;ntos bytes ocupa la secuencia UTF-8 v&aacute;lida que
+     * empieza con el byte dado.
+     * @param lead - El primer byte de la secuencia.
+     * @return int - Entre 1 y 4.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static int sequenceLength(byte lead) {
+        int b0 = lead & 0xFF;
+        return b0 < 0x80 ? 1 : b0 < 0xE0 ? 2 : b0 < 0xF0 ? 3 : 4;
+    }//sequenceLength
+
+    /**
+     * Decodifica el punto de c&oacute;digo de la secuencia UTF-8
+     * v&aacute;lida que empieza en el &iacute;ndice dado.
+     * @param bytes - Los bytes.
+     * @param i - El inicio de la secuencia.
+     * @return int - El punto de c&oacute;digo.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static int decode(byte[] bytes, int i) {
+        int b0 = bytes[i] & 0xFF;
+        if(b0 < 0x80) {
+            return b0;
+        } else if(b0 < 0xE0) {
+            return (b0 & 0x1F) << 6 | bytes[i +1] & 0x3F;
+        } else if(b0 < 0xF0) {
+            return (b0 & 0x0F) << 12 | (bytes[i +1] & 0x3F) << 6
+                    | bytes[i +2] & 0x3F;
+        }//según el tamaño de la secuencia
+        return (b0 & 0x07) << 18 | (bytes[i +1] & 0x3F) << 12
+                | (bytes[i +2] & 0x3F) << 6 | bytes[i +3] & 0x3F;
+    }//decode
+
+    /**
+     * Indica si la cadena dada tiene un sustituto sin pareja, que no se puede
+     * codificar en UTF-8 sin p&eacute;rdida.
+     * @param s - La cadena.
+     * @return boolean - <tt>true</tt> si lo tiene.
+     * @since CompactNachintochString 1.0, october 2026
+     */
+    private static boolean hasUnpairedSurrogate(String s) {
+        for(int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if(Character.isHighSurrogate(c) && i +1 < n
+                    && Character.isLowSurrogate(s.charAt(i +1))) {
+                i++;
+            } else if(Character.isSurrogate(c)) {
+                return true;
+            }//si es un par completo o un sustituto solo
+        }//revisa cada caracter
+        return false;
+    }//hasUnpairedSurrogate
+
+}//CompactNachintochString class
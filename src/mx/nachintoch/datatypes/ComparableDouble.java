@@ -20,9 +20,15 @@ package mx.nachintoch.datatypes;
 /**
  * Real especial que implementa la interfaz <tt>ComparableValue</tt>. Es muy
  * similar a <tt>java.lang.Double</tt>.
+ * <p>{@link #valueOf(double)} devuelve instancias compartidas para los reales
+ * enteros peque&ntilde;os, que suelen ser los m&aacute;s repetidos (contadores,
+ * pesos, ceros). El intervalo es de -128 a 127 por omisi&oacute;n, y se puede
+ * cambiar con las propiedades del sistema
+ * <tt>mx.nachintoch.datatypes.ComparableDouble.cache.low</tt> y
+ * <tt>mx.nachintoch.datatypes.ComparableDouble.cache.high</tt>.</p>
  * @author <a href="mailto:contact@nachintoch.mx">Manuel Castillo,
  * nachintoch</a>
- * @version 1.0, abril 2013.
+ * @version 1.1, octubre 2026
  */
 public class ComparableDouble extends Number implements ComparableValue {
 
@@ -100,8 +106,8 @@ public class ComparableDouble extends Number implements ComparableValue {
     
     @Override
     public int hashCode() {
-        Double aux = new Double(value);
-        return aux.hashCode();
+        long bits = Double.doubleToLongBits(value);
+        return (int) (bits ^ bits >>> 32);
     }//hashCode
     
     @Override
@@ -118,6 +124,78 @@ public class ComparableDouble extends Number implements ComparableValue {
     public String toString() {
         return String.valueOf(value);
     }//toString
+    
+    // métodos estáticos
+    
+    /**
+     * Devuelve un <tt>ComparableDouble</tt> con el valor especificado. Si
+     * el valor es un entero en el intervalo de la cach&eacute;, devuelve
+     * siempre la misma instancia en lugar de crear una nueva. <tt>-0.0</tt>
+     * no se comparte con <tt>0.0</tt>.
+     * @param value - El valor del real.
+     * @return ComparableDouble - El real comparable.
+     * @since ComparableDouble 1.1, octubre 2026
+     */
+    public static ComparableDouble valueOf(double value) {
+        int integer = (int) value;
+        if(integer == value && integer >= Cache.LOW && integer <= Cache.HIGH
+                && (integer != 0 || Double.doubleToRawLongBits(value) == 0L))
+            return Cache.VALUES[integer -Cache.LOW];
+        return new ComparableDouble(value);
+    }//valueOf
+    
+    /**
+     * Devuelve un <tt>ComparableDouble</tt> con el valor representado por la
+     * cadena dada, como {@link #valueOf(double)}.
+     * @param s - La cadena; debe representar un real de 64 bits.
+     * @return ComparableDouble - El real comparable.
+     * @throws NumberFormatException - Si la cadena no es un real.
+     * @since ComparableDouble 1.1, octubre 2026
+     */
+    public static ComparableDouble valueOf(String s) {
+        return valueOf(Double.parseDouble(s));
+    }//valueOf
+    
+    // clases anidadas
+    
+    /**
+     * Las instancias compartidas. Se crean la primera vez que se usa
+     * {@link ComparableDouble#valueOf(double)}.
+     * @since ComparableDouble 1.1, octubre 2026
+     */
+    private static final class Cache {
+        
+        /**
+         * N&uacute;mero m&aacute;ximo de instancias compartidas.
+         */
+        private static final int MAX_SIZE = 1 << 24;
+        
+        /**
+         * El menor valor compartido.
+         */
+        private static final int LOW = Integer.getInteger(
+                "mx.nachintoch.datatypes.ComparableDouble.cache.low", -128);
+        
+        /**
+         * El mayor valor compartido; si es menor que {@link #LOW}, no se
+         * comparte ninguno.
+         */
+        private static final int HIGH = (int) Math.min((long) LOW +MAX_SIZE -1,
+                Integer.getInteger(
+                "mx.nachintoch.datatypes.ComparableDouble.cache.high", 127));
+        
+        /**
+         * Las instancias, desde la de {@link #LOW}.
+         */
+        private static final ComparableDouble[] VALUES =
+                new ComparableDouble[(int) Math.max(0, (long) HIGH -LOW +1)];
+        
+        static {
+            for(int i = 0; i < VALUES.length; i++)
+                VALUES[i] = new ComparableDouble(LOW +i);
+        }//crea las instancias
+        
+    }//Cache class
 
 }//ComparableValue
 
@@ -20,9 +20,14 @@ package mx.nachintoch.datatypes;
 /**
  * Entero especial que implementa la interfaz <tt>ComparableValue</tt>. Es muy
  * similar a <tt>java.lang.Integer</tt>.
+ * <p>Como <tt>Integer.valueOf</tt>, {@link #valueOf(int)} devuelve instancias
+ * compartidas para los valores peque&ntilde;os. El intervalo es de -128 a 127
+ * por omisi&oacute;n, y se puede cambiar con las propiedades del sistema
+ * <tt>mx.nachintoch.datatypes.ComparableInteger.cache.low</tt> y
+ * <tt>mx.nachintoch.datatypes.ComparableInteger.cache.high</tt>.</p>
  * @author <a href="mailto:contact@nachintoch.mx">Manuel Castillo,
  * nachintoch</a>
- * @version 1.0, abril 2013.
+ * @version 1.1, octubre 2026
  */
 public class ComparableInteger extends Number implements ComparableValue {
 
@@ -100,8 +105,7 @@ public class ComparableInteger extends Number implements ComparableValue {
     
     @Override
     public int hashCode() {
-        Integer aux = new Integer(value);
-        return aux.hashCode();
+        return value;
     }//hashCode
     
     @Override
@@ -118,6 +122,75 @@ public class ComparableInteger extends Number implements ComparableValue {
     public String toString() {
         return String.valueOf(value);
     }//toString
+    
+    // métodos estáticos
+    
+    /**
+     * Devuelve un <tt>ComparableInteger</tt> con el valor especificado. Si
+     * el valor est&aacute; en el intervalo de la cach&eacute;, devuelve
+     * siempre la misma instancia en lugar de crear una nueva.
+     * @param value - El valor del entero.
+     * @return ComparableInteger - El entero comparable.
+     * @since ComparableInteger 1.1, octubre 2026
+     */
+    public static ComparableInteger valueOf(int value) {
+        if(value >= Cache.LOW && value <= Cache.HIGH)
+            return Cache.VALUES[value -Cache.LOW];
+        return new ComparableInteger(value);
+    }//valueOf
+    
+    /**
+     * Devuelve un <tt>ComparableInteger</tt> con el valor representado por
+     * la cadena dada, como {@link #valueOf(int)}.
+     * @param s - La cadena; debe representar un entero de 32 bits.
+     * @return ComparableInteger - El entero comparable.
+     * @throws NumberFormatException - Si la cadena no es un entero.
+     * @since ComparableInteger 1.1, octubre 2026
+     */
+    public static ComparableInteger valueOf(String s) {
+        return valueOf(Integer.parseInt(s));
+    }//valueOf
+    
+    // clases anidadas
+    
+    /**
+     * Las instancias compartidas. Se crean la primera vez que se usa
+     * {@link ComparableInteger#valueOf(int)}.
+     * @since ComparableInteger 1.1, octubre 2026
+     */
+    private static final class Cache {
+        
+        /**
+         * N&uacute;mero m&aacute;ximo de instancias compartidas.
+         */
+        private static final int MAX_SIZE = 1 << 24;
+        
+        /**
+         * El menor valor compartido.
+         */
+        private static final int LOW = Integer.getInteger(
+                "mx.nachintoch.datatypes.ComparableInteger.cache.low", -128);
+        
+        /**
+         * El mayor valor compartido; si es menor que {@link #LOW}, no se
+         * comparte ninguno.
+         */
+        private static final int HIGH = (int) Math.min((long) LOW +MAX_SIZE -1,
+                Integer.getInteger(
+                "mx.nachintoch.datatypes.ComparableInteger.cache.high", 127));
+        
+        /**
+         * Las instancias, desde la de {@link #LOW}.
+         */
+        private static final ComparableInteger[] VALUES =
+                new ComparableInteger[(int) Math.max(0, (long) HIGH -LOW +1)];
+        
+        static {
+            for(int i = 0; i < VALUES.length; i++)
+                VALUES[i] = new ComparableInteger(LOW +i);
+        }//crea las instancias
+        
+    }//Cache class
 
 }//ComparableValue
 
@@ -0,0 +1,483 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Ordenamiento estable de arreglos de {@link ComparableValue} por su valor,
+ * sin pasar por <tt>compareTo(Object)</tt>. Primero extrae la llave de cada
+ * elemento una sola vez y la guarda como primitivo; luego ordena las llaves
+ * con un radix sort LSD que las acompa&ntilde;a de la posici&oacute;n
+ * original de su elemento, y al final acomoda los objetos en ese orden.</p>
+ * <p>La llave de un {@link ComparableDouble} o un {@link NachintochNumber} es
+ * su <tt>doubleValue()</tt>; la de cualquier otro, su
+ * {@link ComparableValue#getValue() valor}. Si el arreglo tiene alg&uacute;n
+ * elemento de llave real, todas las llaves se comparan como reales, en el
+ * orden de <tt>Double.compare</tt>. El radix sort s&oacute;lo hace las pasadas
+ * que necesita la diferencia entre la menor y la mayor llave: a lo m&aacute;s
+ * cuatro para llaves enteras.</p>
+ * <p>{@link #parallelSort(ComparableValue[])} reparte el arreglo en bloques
+ * que extrae y ordena cada uno en un hilo de un <tt>ForkJoinPool</tt>, y
+ * luego los mezcla de dos en dos; las mezclas de un mismo nivel tambi&eacute;n
+ * corren en paralelo.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public final class ComparableSort {
+
+    // atributos de clase
+
+    /**
+     * Por debajo de este tama&ntilde;o se ordena por inserci&oacute;n en
+     * lugar de por radix.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static final int INSERTION_THRESHOLD = 48;
+
+    /**
+     * Tama&ntilde;o m&aacute;ximo de los bloques que se ordenan en un solo
+     * hilo; arreglos de este tama&ntilde;o o menos no se reparten.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * Bits de cada d&iacute;gito del radix sort.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static final int RADIX_BITS = 8;
+
+    // métodos constructores
+
+    /**
+     * No hay instancias de esta clase.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private ComparableSort() {
+    }//constructor por omisión
+
+    // métodos estáticos
+
+    /**
+     * Ordena el arreglo dado por el valor de sus elementos, en un solo hilo.
+     * @param a - El arreglo a ordenar.
+     * @since ComparableSort 1.0, october 2026
+     */
+    public static void sort(ComparableValue[] a) {
+        sort(a, 0, a.length);
+    }//sort
+
+    /**
+     * Ordena el intervalo dado del arreglo por el valor de sus elementos, en
+     * un solo hilo.
+     * @param a - El arreglo a ordenar.
+     * @param from - El inicio del intervalo, incluido.
+     * @param to - El final del intervalo, excluido.
+     * @throws IllegalArgumentException - Si <tt>from &gt; to</tt>.
+     * @throws ArrayIndexOutOfBoundsException - Si el intervalo se sale del
+     * arreglo.
+     * @since ComparableSort 1.0, october 2026
+     */
+    public static void sort(ComparableValue[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int n = to -from;
+        if(n < 2) {
+            return;
+        }//si ya está ordenado
+        long[] keys = new long[n];
+        int[] indices = new int[n];
+        boolean real = hasRealKeys(a, from, to);
+        extract(a, from, real, keys, indices, 0, n);
+        radixSort(keys, indices, new long[n], new int[n], 0, n);
+        permute(a, from, indices);
+    }//sort
+
+    /**
+     * Ordena el arreglo dado por el valor de sus elementos, repartiendo el
+     * trabajo en el <tt>ForkJoinPool</tt> com&uacute;n.
+     * @param a - El arreglo a ordenar.
+     * @since ComparableSort 1.0, october 2026
+     */
+    public static void parallelSort(ComparableValue[] a) {
+        parallelSort(a, 0, a.length, ForkJoinPool.commonPool());
+    }//parallelSort
+
+    /**
+     * Ordena el intervalo dado del arreglo por el valor de sus elementos,
+     * repartiendo el trabajo en el <tt>ForkJoinPool</tt> dado. Los intervalos
+     * chicos se ordenan en el hilo que llama.
+     * @param a - El arreglo a ordenar.
+     * @param from - El inicio del intervalo, incluido.
+     * @param to - El final del intervalo, excluido.
+     * @param pool - Donde se ordenan los bloques.
+     * @throws IllegalArgumentException - Si <tt>from &gt; to</tt>.
+     * @throws ArrayIndexOutOfBoundsException - Si el intervalo se sale del
+     * arreglo.
+     * @since ComparableSort 1.0, october 2026
+     */
+    public static void parallelSort(ComparableValue[] a, int from, int to,
+            ForkJoinPool pool) {
+        checkRange(a.length, from, to);
+        int n = to -from;
+        if(n <= PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            sort(a, from, to);
+            return;
+        }//si no vale la pena repartirlo
+        long[] keys = new long[n];
+        int[] indices = new int[n];
+        boolean real = hasRealKeys(a, from, to);
+        pool.invoke(new SortTask(a, from, real, keys, indices, new long[n],
+                new int[n], 0, n));
+        permute(a, from, indices);
+    }//parallelSort
+
+    /**
+     * Verifica que el intervalo dado quepa en un arreglo del tama&ntilde;o
+     * dado.
+     * @param length - El tama&ntilde;o del arreglo.
+     * @param from - El inicio del intervalo, incluido.
+     * @param to - El final del intervalo, excluido.
+     * @throws IllegalArgumentException - Si <tt>from &gt; to</tt>.
+     * @throws ArrayIndexOutOfBoundsException - Si el intervalo se sale del
+     * arreglo.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void checkRange(int length, int from, int to) {
+        if(from > to) {
+            throw new IllegalArgumentException("from(" +from +") > to(" +to
+                    +")");
+        } else if(from < 0) {
+            throw new ArrayIndexOutOfBoundsException(from);
+        } else if(to > length) {
+            throw new ArrayIndexOutOfBoundsException(to);
+        }//según el error
+    }//checkRange
+
+    /**
+     * Indica si alg&uacute;n elemento del intervalo tiene llave real.
+     * @param a - El arreglo.
+     * @param from - El inicio del intervalo, incluido.
+     * @param to - El final del intervalo, excluido.
+     * @return boolean - <tt>true</tt> si hay alg&uacute;n
+     * {@link ComparableDouble} o {@link NachintochNumber}.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static boolean hasRealKeys(ComparableValue[] a, int from,
+            int to) {
+        for(int i = from; i < to; i++) {
+            if(a[i] instanceof ComparableDouble
+                    || a[i] instanceof NachintochNumber) {
+                return true;
+            }//si su llave es real
+        }//revisa cada elemento
+        return false;
+    }//hasRealKeys
+
+    /**
+     * Extrae las llaves de un bloque del intervalo a ordenar. Las llaves se
+     * guardan de modo que su orden como <tt>long</tt> con signo sea el de los
+     * elementos.
+     * @param a - El arreglo a ordenar.
+     * @param offset - El inicio del intervalo a ordenar en el arreglo.
+     * @param real - Si las llaves se comparan como reales.
+     * @param keys - Donde se guardan las llaves.
+     * @param indices - Donde se guarda la posici&oacute;n de cada elemento,
+     * relativa a <tt>offset</tt>.
+     * @param from - El inicio del bloque, relativo a <tt>offset</tt>.
+     * @param to - El final del bloque, relativo a <tt>offset</tt>.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void extract(ComparableValue[] a, int offset, boolean real,
+            long[] keys, int[] indices, int from, int to) {
+        for(int i = from; i < to; i++) {
+            ComparableValue value = a[offset +i];
+            if(!real) {
+                keys[i] = value.getValue();
+            } else {
+                double d = value instanceof ComparableDouble
+                        || value instanceof NachintochNumber
+                        ? ((Number) value).doubleValue() : value.getValue();
+                long bits = Double.doubleToLongBits(d);
+                // los negativos se invierten para que ordenen al revés
+                keys[i] = bits ^ (bits >> 63 & Long.MAX_VALUE);
+            }//según el tipo de llave
+            indices[i] = i;
+        }//extrae cada llave
+    }//extract
+
+    /**
+     * Ordena de forma estable un bloque de llaves junto con sus posiciones.
+     * @param keys - Las llaves.
+     * @param indices - Las posiciones de los elementos de cada llave.
+     * @param keyBuffer - Espacio auxiliar para las llaves, del mismo
+     * tama&ntilde;o.
+     * @param indexBuffer - Espacio auxiliar para las posiciones, del mismo
+     * tama&ntilde;o.
+     * @param from - El inicio del bloque, incluido.
+     * @param to - El final del bloque, excluido.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void radixSort(long[] keys, int[] indices,
+            long[] keyBuffer, int[] indexBuffer, int from, int to) {
+        int n = to -from;
+        if(n < INSERTION_THRESHOLD) {
+            insertionSort(keys, indices, from, to);
+            return;
+        }//si es muy chico para el radix
+        long min = keys[from];
+        long max = min;
+        for(int i = from +1; i < to; i++) {
+            long k = keys[i];
+            if(k < min) {
+                min = k;
+            } else if(k > max) {
+                max = k;
+            }//actualiza los extremos
+        }//busca la menor y la mayor llave
+        // se ordena k -min sin signo; la resta nunca se pasa de 64 bits
+        long span = max -min;
+        int bits = 64 -Long.numberOfLeadingZeros(span);
+        int mask = (1 << RADIX_BITS) -1;
+        int[] count = new int[(1 << RADIX_BITS) +1];
+        long[] srcKeys = keys;
+        int[] srcIndices = indices;
+        long[] dstKeys = keyBuffer;
+        int[] dstIndices = indexBuffer;
+        for(int shift = 0; shift < bits; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for(int i = from; i < to; i++) {
+                count[(int) ((srcKeys[i] -min) >>> shift) & mask]++;
+            }//cuenta cada dígito
+            boolean trivial = false;
+            for(int d = 0, sum = from; d <= mask; d++) {
+                int c = count[d];
+                trivial |= c == n;
+                count[d] = sum;
+                sum += c;
+            }//calcula dónde empieza cada dígito
+            if(trivial) {
+                continue;
+            }//si todas tienen el mismo dígito
+            for(int i = from; i < to; i++) {
+                int p = count[(int) ((srcKeys[i] -min) >>> shift) & mask]++;
+                dstKeys[p] = srcKeys[i];
+                dstIndices[p] = srcIndices[i];
+            }//reparte cada llave según su dígito
+            long[] swapKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = swapKeys;
+            int[] swapIndices = srcIndices;
+            srcIndices = dstIndices;
+            dstIndices = swapIndices;
+        }//una pasada por dígito, del menos al más significativo
+        if(srcKeys != keys) {
+            System.arraycopy(srcKeys, from, keys, from, n);
+            System.arraycopy(srcIndices, from, indices, from, n);
+        }//si el resultado quedó en el espacio auxiliar
+    }//radixSort
+
+    /**
+     * Ordena por inserci&oacute;n un bloque de llaves junto con sus
+     * posiciones.
+     * @param keys - Las llaves.
+     * @param indices - Las posiciones de los elementos de cada llave.
+     * @param from - El inicio del bloque, incluido.
+     * @param to - El final del bloque, excluido.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void insertionSort(long[] keys, int[] indices, int from,
+            int to) {
+        for(int i = from +1; i < to; i++) {
+            long k = keys[i];
+            int index = indices[i];
+            int j = i -1;
+            while(j >= from && keys[j] > k) {
+                keys[j +1] = keys[j];
+                indices[j +1] = indices[j];
+                j--;
+            }//recorre las mayores
+            keys[j +1] = k;
+            indices[j +1] = index;
+        }//inserta cada llave
+    }//insertionSort
+
+    /**
+     * Mezcla de forma estable dos bloques contiguos ya ordenados.
+     * @param keys - Las llaves.
+     * @param indices - Las posiciones de los elementos de cada llave.
+     * @param keyBuffer - Espacio auxiliar para las llaves.
+     * @param indexBuffer - Espacio auxiliar para las posiciones.
+     * @param from - El inicio del primer bloque.
+     * @param mid - El final del primer bloque y el inicio del segundo.
+     * @param to - El final del segundo bloque.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void merge(long[] keys, int[] indices, long[] keyBuffer,
+            int[] indexBuffer, int from, int mid, int to) {
+        if(keys[mid -1] <= keys[mid]) {
+            return;
+        }//si ya están en orden
+        int i = from;
+        int j = mid;
+        for(int p = from; p < to; p++) {
+            if(j == to || i < mid && keys[i] <= keys[j]) {
+                keyBuffer[p] = keys[i];
+                indexBuffer[p] = indices[i++];
+            } else {
+                keyBuffer[p] = keys[j];
+                indexBuffer[p] = indices[j++];
+            }//toma la menor; la del primer bloque si son iguales
+        }//mezcla ambos bloques
+        System.arraycopy(keyBuffer, from, keys, from, to -from);
+        System.arraycopy(indexBuffer, from, indices, from, to -from);
+    }//merge
+
+    /**
+     * Acomoda los elementos del intervalo en el orden dado.
+     * @param a - El arreglo.
+     * @param offset - El inicio del intervalo.
+     * @param indices - La posici&oacute;n original, relativa a
+     * <tt>offset</tt>, del elemento que va en cada lugar.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static void permute(ComparableValue[] a, int offset,
+            int[] indices) {
+        Object[] sorted = new Object[indices.length];
+        for(int i = 0; i < indices.length; i++) {
+            sorted[i] = a[offset +indices[i]];
+        }//toma cada elemento de su lugar original
+        System.arraycopy(sorted, 0, a, offset, sorted.length);
+    }//permute
+
+    // clases anidadas
+
+    /**
+     * Ordena un bloque de llaves: si es chico, extrae y ordena sus llaves;
+     * si no, ordena sus dos mitades en paralelo y las mezcla.
+     * @since ComparableSort 1.0, october 2026
+     */
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * El arreglo a ordenar.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final ComparableValue[] A;
+
+        /**
+         * El inicio del intervalo a ordenar en el arreglo.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final int OFFSET;
+
+        /**
+         * Si las llaves se comparan como reales.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final boolean REAL;
+
+        /**
+         * Las llaves.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final long[] KEYS;
+
+        /**
+         * Las posiciones de los elementos de cada llave, relativas a
+         * <tt>offset</tt>.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final int[] INDICES;
+
+        /**
+         * Espacio auxiliar para las llaves, del mismo tama&ntilde;o.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final long[] KEY_BUFFER;
+
+        /**
+         * Espacio auxiliar para las posiciones, del mismo tama&ntilde;o.
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final int[] INDEX_BUFFER;
+
+        /**
+         * El inicio del bloque, relativo a <tt>offset</tt> (inclusivo).
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final int FROM;
+
+        /**
+         * El final del bloque, relativo a <tt>offset</tt> (exclusivo).
+         * @since ComparableSort 1.0, october 2026
+         */
+        private final int TO;
+
+        /**
+         * Construye la tarea de un bloque.
+         * @param a - El arreglo a ordenar.
+         * @param offset - El inicio del intervalo a ordenar en el arreglo.
+         * @param real - Si las llaves se comparan como reales.
+         * @param keys - Las llaves.
+         * @param indices - Las posiciones de los elementos de cada llave.
+         * @param keyBuffer - Espacio auxiliar para las llaves.
+         * @param indexBuffer - Espacio auxiliar para las posiciones.
+         * @param from - El inicio del bloque (inclusivo).
+         * @param to - El final del bloque (exclusivo).
+         * @since ComparableSort 1.0, october 2026
+         */
+        SortTask(ComparableValue[] a, int offset, boolean real, long[] keys,
+                int[] indices, long[] keyBuffer, int[] indexBuffer, int from,
+                int to) {
+            this.A = a;
+            this.OFFSET = offset;
+            this.REAL = real;
+            this.KEYS = keys;
+            this.INDICES = indices;
+            this.KEY_BUFFER = keyBuffer;
+            this.INDEX_BUFFER = indexBuffer;
+            this.FROM = from;
+            this.TO = to;
+        }//constructor con intervalo
+
+        @Override
+        protected void compute() {
+            if(TO -FROM <= PARALLEL_THRESHOLD) {
+                extract(A, OFFSET, REAL, KEYS, INDICES, FROM, TO);
+                radixSort(KEYS, INDICES, KEY_BUFFER, INDEX_BUFFER, FROM, TO);
+                return;
+            }//si cabe en un bloque
+            int mid = (FROM +TO) >>> 1;
+            invokeAll(new SortTask(A, OFFSET, REAL, KEYS, INDICES, KEY_BUFFER,
+                    INDEX_BUFFER, FROM, mid), new SortTask(A, OFFSET, REAL,
+                    KEYS, INDICES, KEY_BUFFER, INDEX_BUFFER, mid, TO));
+            merge(KEYS, INDICES, KEY_BUFFER, INDEX_BUFFER, FROM, mid, TO);
+        }//compute
+
+    }//SortTask class
+
+}//ComparableSort class
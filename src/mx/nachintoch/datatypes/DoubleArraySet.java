@@ -0,0 +1,410 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Conjunto ordenado de reales guardados como <tt>double</tt> primitivos en
+ * un solo arreglo. Ocupa 8 bytes por elemento, contra los m&aacute;s de 40 de
+ * un <tt>TreeSet</tt> de {@link ComparableDouble}, y sus b&uacute;squedas
+ * comparan reales directamente en lugar de llamar a
+ * <tt>compareTo(Object)</tt>.</p>
+ * <p>El orden y la igualdad son los de <tt>Double.compare</tt>: <tt>-0.0</tt>
+ * va antes que <tt>0.0</tt> y <tt>NaN</tt> es igual a s&iacute; mismo y va al
+ * final.</p>
+ * <p>Las b&uacute;squedas son binarias, en tiempo logar&iacute;tmico; agregar
+ * o quitar un elemento recorre los que le siguen, as&iacute; que para cargar
+ * muchos elementos de una vez conviene {@link #addAll(double[])}.</p>
+ * <p>Los m&eacute;todos que reciben un {@link ComparableValue} usan su
+ * <tt>doubleValue()</tt> si es un <tt>Number</tt> y su
+ * {@link ComparableValue#getValue() valor} si no; los que devuelven uno lo
+ * obtienen de {@link ComparableDouble#valueOf(double)}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see IntArraySet
+ */
+public class DoubleArraySet {
+
+    // atributos de clase
+
+    /**
+     * Capacidad inicial cuando no se especifica otra.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Los elementos, en orden ascendente en sus primeras {@link #size}
+     * posiciones.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    private double[] elements;
+
+    /**
+     * El n&uacute;mero de elementos.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    private int size;
+
+    // métodos constructores
+
+    /**
+     * Construye un conjunto vac&iacute;o.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public DoubleArraySet() {
+        this(DEFAULT_CAPACITY);
+    }//constructor por omisión
+
+    /**
+     * Construye un conjunto vac&iacute;o con espacio para el n&uacute;mero
+     * de elementos dado.
+     * @param capacity - La capacidad inicial.
+     * @throws IllegalArgumentException - Si la capacidad es negativa.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public DoubleArraySet(int capacity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: "
+                    +capacity);
+        }//si la capacidad no es válida
+        this.elements = new double[capacity];
+    }//constructor con capacidad
+
+    /**
+     * Construye un conjunto con los valores dados, sin repetidos.
+     * @param values - Los valores; no tienen que estar ordenados.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public DoubleArraySet(double[] values) {
+        this(values.length);
+        addAll(values);
+    }//constructor con valores
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntos elementos hay en el conjunto.
+     * @return int - El n&uacute;mero de elementos.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Indica si el conjunto est&aacute; vac&iacute;o.
+     * @return boolean - <tt>true</tt> si no hay elementos.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }//isEmpty
+
+    /**
+     * Devuelve el elemento en la posici&oacute;n dada del orden ascendente.
+     * @param index - La posici&oacute;n.
+     * @return double - El elemento.
+     * @throws IndexOutOfBoundsException - Si no hay tal posici&oacute;n.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }//get
+
+    /**
+     * Devuelve el elemento en la posici&oacute;n dada del orden ascendente,
+     * envuelto en un {@link ComparableDouble}.
+     * @param index - La posici&oacute;n.
+     * @return ComparableDouble - El elemento.
+     * @throws IndexOutOfBoundsException - Si no hay tal posici&oacute;n.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public ComparableDouble getComparable(int index) {
+        return ComparableDouble.valueOf(get(index));
+    }//getComparable
+
+    /**
+     * Devuelve el menor elemento.
+     * @return double - El primer elemento.
+     * @throws NoSuchElementException - Si el conjunto est&aacute;
+     * vac&iacute;o.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public double first() {
+        checkNotEmpty();
+        return elements[0];
+    }//first
+
+    /**
+     * Devuelve el mayor elemento.
+     * @return double - El &uacute;ltimo elemento.
+     * @throws NoSuchElementException - Si el conjunto est&aacute;
+     * vac&iacute;o.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public double last() {
+        checkNotEmpty();
+        return elements[size -1];
+    }//last
+
+    /**
+     * Indica si el valor dado est&aacute; en el conjunto.
+     * @param value - El valor a buscar.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }//contains
+
+    /**
+     * Indica si el valor del objeto dado est&aacute; en el conjunto.
+     * @param value - El objeto cuyo valor se busca.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean contains(ComparableValue value) {
+        return contains(doubleOf(value));
+    }//contains
+
+    /**
+     * Busca el valor dado, como <tt>Arrays.binarySearch</tt>.
+     * @param value - El valor a buscar.
+     * @return int - La posici&oacute;n del valor si est&aacute;; si no,
+     * <tt>-(p +1)</tt>, donde <tt>p</tt> es la posici&oacute;n donde
+     * ir&iacute;a.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public int indexOf(double value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }//indexOf
+
+    /**
+     * Devuelve una copia de los elementos en orden ascendente.
+     * @return double[] - Los elementos.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }//toArray
+
+    // métodos de modificación
+
+    /**
+     * Agrega el valor dado si no est&aacute; ya en el conjunto.
+     * @param value - El valor a agregar.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean add(double value) {
+        int index = indexOf(value);
+        if(index >= 0) {
+            return false;
+        }//si ya estaba
+        index = -index -1;
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements,
+                    Math.max(DEFAULT_CAPACITY, size +(size >> 1)));
+        }//si no hay espacio
+        System.arraycopy(elements, index, elements, index +1, size -index);
+        elements[index] = value;
+        size++;
+        return true;
+    }//add
+
+    /**
+     * Agrega el valor del objeto dado si no est&aacute; ya en el conjunto.
+     * @param value - El objeto cuyo valor se agrega.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean add(ComparableValue value) {
+        return add(doubleOf(value));
+    }//add
+
+    /**
+     * Agrega todos los valores dados que no est&eacute;n ya en el conjunto.
+     * Los ordena y los mezcla con los elementos actuales de una sola vez,
+     * en lugar de insertarlos uno por uno.
+     * @param values - Los valores; no tienen que estar ordenados.
+     * @return int - Cu&aacute;ntos valores se agregaron.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public int addAll(double[] values) {
+        if(values.length == 0) {
+            return 0;
+        }//si no hay nada que agregar
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double[] merged = new double[size +sorted.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while(i < size || j < sorted.length) {
+            double next;
+            if(j == sorted.length || i < size
+                    && Double.compare(elements[i], sorted[j]) <= 0) {
+                next = elements[i++];
+            } else {
+                next = sorted[j++];
+            }//toma el menor de ambos
+            if(n == 0 || Double.compare(merged[n -1], next) != 0) {
+                merged[n++] = next;
+            }//si no es repetido
+        }//mezcla ambos arreglos
+        int added = n -size;
+        elements = merged;
+        size = n;
+        return added;
+    }//addAll
+
+    /**
+     * Quita el valor dado del conjunto.
+     * @param value - El valor a quitar.
+     * @return boolean - <tt>true</tt> si estaba.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean remove(double value) {
+        int index = indexOf(value);
+        if(index < 0) {
+            return false;
+        }//si no estaba
+        System.arraycopy(elements, index +1, elements, index,
+                size -index -1);
+        size--;
+        return true;
+    }//remove
+
+    /**
+     * Quita el valor del objeto dado del conjunto.
+     * @param value - El objeto cuyo valor se quita.
+     * @return boolean - <tt>true</tt> si estaba.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public boolean remove(ComparableValue value) {
+        return remove(doubleOf(value));
+    }//remove
+
+    /**
+     * Quita todos los elementos, conservando la capacidad.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public void clear() {
+        size = 0;
+    }//clear
+
+    /**
+     * Reduce la capacidad al n&uacute;mero de elementos.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    public void trimToSize() {
+        if(size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }//si sobra espacio
+    }//trimToSize
+
+    // métodos de implementación
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        } else if(!(obj instanceof DoubleArraySet)) {
+            return false;
+        }//si no es un conjunto de reales
+        DoubleArraySet other = (DoubleArraySet) obj;
+        if(other.size != size) {
+            return false;
+        }//si tienen distinto tamaño
+        for(int i = 0; i < size; i++) {
+            if(Double.compare(elements[i], other.elements[i]) != 0) {
+                return false;
+            }//si difieren
+        }//compara cada elemento
+        return true;
+    }//equals
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for(int i = 0; i < size; i++) {
+            long bits = Double.doubleToLongBits(elements[i]);
+            hash = 31 *hash +(int) (bits ^ bits >>> 32);
+        }//combina cada elemento
+        return hash;
+    }//hashCode
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < size; i++) {
+            if(i > 0) {
+                builder.append(", ");
+            }//separa los elementos
+            builder.append(elements[i]);
+        }//escribe cada elemento
+        return builder.append(']').toString();
+    }//toString
+
+    /**
+     * Verifica que el &iacute;ndice dado corresponda a un elemento.
+     * @param index - El &iacute;ndice a verificar.
+     * @throws IndexOutOfBoundsException - Si no hay tal elemento.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " +index +", Size: "
+                    +size);
+        }//si no hay tal elemento
+    }//checkIndex
+
+    /**
+     * Verifica que el conjunto tenga elementos.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    private void checkNotEmpty() {
+        if(size == 0) {
+            throw new NoSuchElementException("Empty set");
+        }//si está vacío
+    }//checkNotEmpty
+
+    // métodos estáticos
+
+    /**
+     * Obtiene el real que representa al objeto dado: su
+     * <tt>doubleValue()</tt> si es un <tt>Number</tt>, o su valor si no.
+     * @param value - El objeto.
+     * @return double - Su valor real.
+     * @since DoubleArraySet 1.0, october 2026
+     */
+    static double doubleOf(ComparableValue value) {
+        return value instanceof Number ? ((Number) value).doubleValue()
+                : value.getValue();
+    }//doubleOf
+
+}//DoubleArraySet class
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Mont&iacute;culo binario de reales guardados como <tt>double</tt>
+ * primitivos en un solo arreglo. Sustituye a un <tt>PriorityQueue</tt> de
+ * {@link ComparableDouble}: no crea un objeto por elemento y sus comparaciones
+ * no pasan por <tt>compareTo(Object)</tt>.</p>
+ * <p>Por omisi&oacute;n la cabeza es el menor elemento; tambi&eacute;n puede
+ * construirse para que sea el mayor. El orden es el de
+ * <tt>Double.compare</tt>. Agregar y sacar elementos toma tiempo
+ * logar&iacute;tmico, y {@link #addAll(double[])} arma el mont&iacute;culo
+ * en tiempo lineal.</p>
+ * <p>{@link #add(ComparableValue)} usa el <tt>doubleValue()</tt> del objeto
+ * si es un <tt>Number</tt> y su {@link ComparableValue#getValue() valor} si
+ * no; {@link #peekComparable()} y {@link #pollComparable()} obtienen el suyo
+ * de {@link ComparableDouble#valueOf(double)}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class DoubleHeap {
+
+    // atributos de clase
+
+    /**
+     * Capacidad inicial cuando no se especifica otra.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Indica si la cabeza es el mayor elemento en lugar del menor.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private final boolean MAX_HEAP;
+
+    /**
+     * Los elementos en orden de mont&iacute;culo: cada uno precede a los de
+     * las posiciones <tt>2i +1</tt> y <tt>2i +2</tt>.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private double[] elements;
+
+    /**
+     * El n&uacute;mero de elementos.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private int size;
+
+    // métodos constructores
+
+    /**
+     * Construye un mont&iacute;culo vac&iacute;o cuya cabeza es el menor
+     * elemento.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public DoubleHeap() {
+        this(DEFAULT_CAPACITY, false);
+    }//constructor por omisión
+
+    /**
+     * Construye un mont&iacute;culo vac&iacute;o.
+     * @param capacity - La capacidad inicial.
+     * @param maxHeap - <tt>true</tt> si la cabeza debe ser el mayor elemento;
+     * <tt>false</tt> si debe ser el menor.
+     * @throws IllegalArgumentException - Si la capacidad es negativa.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public DoubleHeap(int capacity, boolean maxHeap) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: "
+                    +capacity);
+        }//si la capacidad no es válida
+        this.MAX_HEAP = maxHeap;
+        this.elements = new double[capacity];
+    }//constructor con capacidad
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntos elementos hay en el mont&iacute;culo.
+     * @return int - El n&uacute;mero de elementos.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Indica si el mont&iacute;culo est&aacute; vac&iacute;o.
+     * @return boolean - <tt>true</tt> si no hay elementos.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }//isEmpty
+
+    /**
+     * Indica si la cabeza es el mayor elemento.
+     * @return boolean - <tt>true</tt> si la cabeza es el mayor elemento;
+     * <tt>false</tt> si es el menor.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public boolean isMaxHeap() {
+        return MAX_HEAP;
+    }//isMaxHeap
+
+    /**
+     * Devuelve la cabeza sin sacarla.
+     * @return double - El menor elemento, o el mayor si es un mont&iacute;culo
+     * de m&aacute;ximos.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public double peek() {
+        checkNotEmpty();
+        return elements[0];
+    }//peek
+
+    /**
+     * Devuelve la cabeza sin sacarla, envuelta en un {@link ComparableDouble}.
+     * @return ComparableDouble - La cabeza.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public ComparableDouble peekComparable() {
+        return ComparableDouble.valueOf(peek());
+    }//peekComparable
+
+    /**
+     * Devuelve una copia de los elementos, en orden de mont&iacute;culo.
+     * @return double[] - Los elementos.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }//toArray
+
+    // métodos de modificación
+
+    /**
+     * Agrega el valor dado.
+     * @param value - El valor a agregar.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public void add(double value) {
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements,
+                    Math.max(DEFAULT_CAPACITY, size +(size >> 1)));
+        }//si no hay espacio
+        siftUp(size++, value);
+    }//add
+
+    /**
+     * Agrega el valor del objeto dado.
+     * @param value - El objeto cuyo valor se agrega.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public void add(ComparableValue value) {
+        add(DoubleArraySet.doubleOf(value));
+    }//add
+
+    /**
+     * Agrega todos los valores dados y rearma el mont&iacute;culo de una sola
+     * vez, en tiempo lineal.
+     * @param values - Los valores a agregar.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public void addAll(double[] values) {
+        if(size +values.length > elements.length) {
+            elements = Arrays.copyOf(elements, size +values.length);
+        }//si no hay espacio
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        for(int i = (size >>> 1) -1; i >= 0; i--) {
+            siftDown(i, elements[i]);
+        }//hunde cada nodo interno, de abajo hacia arriba
+    }//addAll
+
+    /**
+     * Saca la cabeza.
+     * @return double - El menor elemento, o el mayor si es un mont&iacute;culo
+     * de m&aacute;ximos.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public double poll() {
+        checkNotEmpty();
+        double head = elements[0];
+        double last = elements[--size];
+        if(size > 0) {
+            siftDown(0, last);
+        }//si quedan elementos
+        return head;
+    }//poll
+
+    /**
+     * Saca la cabeza y la devuelve envuelta en un {@link ComparableDouble}.
+     * @return ComparableDouble - La cabeza.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public ComparableDouble pollComparable() {
+        return ComparableDouble.valueOf(poll());
+    }//pollComparable
+
+    /**
+     * Quita todos los elementos, conservando la capacidad.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    public void clear() {
+        size = 0;
+    }//clear
+
+    // métodos de implementación
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }//toString
+
+    /**
+     * Indica si el primer valor debe ir antes que el segundo.
+     * @param a - El primer valor.
+     * @param b - El segundo valor.
+     * @return boolean - <tt>true</tt> si <tt>a</tt> va antes que <tt>b</tt>.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private boolean precedes(double a, double b) {
+        int comparison = Double.compare(a, b);
+        return MAX_HEAP ? comparison > 0 : comparison < 0;
+    }//precedes
+
+    /**
+     * Sube el valor dado desde la posici&oacute;n dada hasta donde le
+     * corresponde.
+     * @param i - La posici&oacute;n inicial.
+     * @param value - El valor.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private void siftUp(int i, double value) {
+        while(i > 0) {
+            int parent = (i -1) >>> 1;
+            double p = elements[parent];
+            if(!precedes(value, p)) {
+                break;
+            }//si ya está en su lugar
+            elements[i] = p;
+            i = parent;
+        }//sube mientras preceda a su padre
+        elements[i] = value;
+    }//siftUp
+
+    /**
+     * Hunde el valor dado desde la posici&oacute;n dada hasta donde le
+     * corresponde.
+     * @param i - La posici&oacute;n inicial.
+     * @param value - El valor.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private void siftDown(int i, double value) {
+        int half = size >>> 1;
+        while(i < half) {
+            int child = 2 *i +1;
+            double c = elements[child];
+            if(child +1 < size && precedes(elements[child +1], c)) {
+                c = elements[++child];
+            }//toma el hijo que va primero
+            if(!precedes(c, value)) {
+                break;
+            }//si ya está en su lugar
+            elements[i] = c;
+            i = child;
+        }//baja mientras algún hijo le preceda
+        elements[i] = value;
+    }//siftDown
+
+    /**
+     * Verifica que el mont&iacute;culo tenga elementos.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since DoubleHeap 1.0, october 2026
+     */
+    private void checkNotEmpty() {
+        if(size == 0) {
+            throw new NoSuchElementException("Empty heap");
+        }//si está vacío
+    }//checkNotEmpty
+
+}//DoubleHeap class
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Conjunto ordenado de enteros guardados como <tt>int</tt> primitivos en un
+ * solo arreglo. Ocupa 4 bytes por elemento, contra los m&aacute;s de 40 de un
+ * <tt>TreeSet</tt> de {@link ComparableInteger}, y sus b&uacute;squedas
+ * comparan enteros directamente en lugar de llamar a
+ * <tt>compareTo(Object)</tt>.</p>
+ * <p>Las b&uacute;squedas son binarias, en tiempo logar&iacute;tmico; agregar
+ * o quitar un elemento recorre los que le siguen, as&iacute; que para cargar
+ * muchos elementos de una vez conviene {@link #addAll(int[])}.</p>
+ * <p>Los m&eacute;todos que reciben un {@link ComparableValue} usan su
+ * {@link ComparableValue#getValue() valor}, y los que devuelven uno lo
+ * obtienen de {@link ComparableInteger#valueOf(int)}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see DoubleArraySet
+ */
+public class IntArraySet {
+
+    // atributos de clase
+
+    /**
+     * Capacidad inicial cuando no se especifica otra.
+     * @since IntArraySet 1.0, october 2026
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Los elementos, en orden ascendente en sus primeras {@link #size}
+     * posiciones.
+     * @since IntArraySet 1.0, october 2026
+     */
+    private int[] elements;
+
+    /**
+     * El n&uacute;mero de elementos.
+     * @since IntArraySet 1.0, october 2026
+     */
+    private int size;
+
+    // métodos constructores
+
+    /**
+     * Construye un conjunto vac&iacute;o.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public IntArraySet() {
+        this(DEFAULT_CAPACITY);
+    }//constructor por omisión
+
+    /**
+     * Construye un conjunto vac&iacute;o con espacio para el n&uacute;mero
+     * de elementos dado.
+     * @param capacity - La capacidad inicial.
+     * @throws IllegalArgumentException - Si la capacidad es negativa.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public IntArraySet(int capacity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: "
+                    +capacity);
+        }//si la capacidad no es válida
+        this.elements = new int[capacity];
+    }//constructor con capacidad
+
+    /**
+     * Construye un conjunto con los valores dados, sin repetidos.
+     * @param values - Los valores; no tienen que estar ordenados.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public IntArraySet(int[] values) {
+        this(values.length);
+        addAll(values);
+    }//constructor con valores
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntos elementos hay en el conjunto.
+     * @return int - El n&uacute;mero de elementos.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Indica si el conjunto est&aacute; vac&iacute;o.
+     * @return boolean - <tt>true</tt> si no hay elementos.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }//isEmpty
+
+    /**
+     * Devuelve el elemento en la posici&oacute;n dada del orden ascendente.
+     * @param index - La posici&oacute;n.
+     * @return int - El elemento.
+     * @throws IndexOutOfBoundsException - Si no hay tal posici&oacute;n.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }//get
+
+    /**
+     * Devuelve el elemento en la posici&oacute;n dada del orden ascendente,
+     * envuelto en un {@link ComparableInteger}.
+     * @param index - La posici&oacute;n.
+     * @return ComparableInteger - El elemento.
+     * @throws IndexOutOfBoundsException - Si no hay tal posici&oacute;n.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public ComparableInteger getComparable(int index) {
+        return ComparableInteger.valueOf(get(index));
+    }//getComparable
+
+    /**
+     * Devuelve el menor elemento.
+     * @return int - El primer elemento.
+     * @throws NoSuchElementException - Si el conjunto est&aacute;
+     * vac&iacute;o.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int first() {
+        checkNotEmpty();
+        return elements[0];
+    }//first
+
+    /**
+     * Devuelve el mayor elemento.
+     * @return int - El &uacute;ltimo elemento.
+     * @throws NoSuchElementException - Si el conjunto est&aacute;
+     * vac&iacute;o.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int last() {
+        checkNotEmpty();
+        return elements[size -1];
+    }//last
+
+    /**
+     * Indica si el valor dado est&aacute; en el conjunto.
+     * @param value - El valor a buscar.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }//contains
+
+    /**
+     * Indica si el valor del objeto dado est&aacute; en el conjunto.
+     * @param value - El objeto cuyo valor se busca.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean contains(ComparableValue value) {
+        return contains(value.getValue());
+    }//contains
+
+    /**
+     * Busca el valor dado, como <tt>Arrays.binarySearch</tt>.
+     * @param value - El valor a buscar.
+     * @return int - La posici&oacute;n del valor si est&aacute;; si no,
+     * <tt>-(p +1)</tt>, donde <tt>p</tt> es la posici&oacute;n donde
+     * ir&iacute;a.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int indexOf(int value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }//indexOf
+
+    /**
+     * Devuelve una copia de los elementos en orden ascendente.
+     * @return int[] - Los elementos.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }//toArray
+
+    // métodos de modificación
+
+    /**
+     * Agrega el valor dado si no est&aacute; ya en el conjunto.
+     * @param value - El valor a agregar.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean add(int value) {
+        int index = indexOf(value);
+        if(index >= 0) {
+            return false;
+        }//si ya estaba
+        index = -index -1;
+        if(size == elements.length) {
+            elements = Arrays.copyOf(elements,
+                    Math.max(DEFAULT_CAPACITY, size +(size >> 1)));
+        }//si no hay espacio
+        System.arraycopy(elements, index, elements, index +1, size -index);
+        elements[index] = value;
+        size++;
+        return true;
+    }//add
+
+    /**
+     * Agrega el valor del objeto dado si no est&aacute; ya en el conjunto.
+     * @param value - El objeto cuyo valor se agrega.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean add(ComparableValue value) {
+        return add(value.getValue());
+    }//add
+
+    /**
+     * Agrega todos los valores dados que no est&eacute;n ya en el conjunto.
+     * Los ordena y los mezcla con los elementos actuales de una sola vez,
+     * en lugar de insertarlos uno por uno.
+     * @param values - Los valores; no tienen que estar ordenados.
+     * @return int - Cu&aacute;ntos valores se agregaron.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public int addAll(int[] values) {
+        if(values.length == 0) {
+            return 0;
+        }//si no hay nada que agregar
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int[] merged = new int[size +sorted.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while(i < size || j < sorted.length) {
+            int next;
+            if(j == sorted.length
+                    || i < size && elements[i] <= sorted[j]) {
+                next = elements[i++];
+            } else {
+                next = sorted[j++];
+            }//toma el menor de ambos
+            if(n == 0 || merged[n -1] != next) {
+                merged[n++] = next;
+            }//si no es repetido
+        }//mezcla ambos arreglos
+        int added = n -size;
+        elements = merged;
+        size = n;
+        return added;
+    }//addAll
+
+    /**
+     * Quita el valor dado del conjunto.
+     * @param value - El valor a quitar.
+     * @return boolean - <tt>true</tt> si estaba.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean remove(int value) {
+        int index = indexOf(value);
+        if(index < 0) {
+            return false;
+        }//si no estaba
+        System.arraycopy(elements, index +1, elements, index,
+                size -index -1);
+        size--;
+        return true;
+    }//remove
+
+    /**
+     * Quita el valor del objeto dado del conjunto.
+     * @param value - El objeto cuyo valor se quita.
+     * @return boolean - <tt>true</tt> si estaba.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public boolean remove(ComparableValue value) {
+        return remove(value.getValue());
+    }//remove
+
+    /**
+     * Quita todos los elementos, conservando la capacidad.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public void clear() {
+        size = 0;
+    }//clear
+
+    /**
+     * Reduce la capacidad al n&uacute;mero de elementos.
+     * @since IntArraySet 1.0, october 2026
+     */
+    public void trimToSize() {
+        if(size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }//si sobra espacio
+    }//trimToSize
+
+    // métodos de implementación
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        } else if(!(obj instanceof IntArraySet)) {
+            return false;
+        }//si no es un conjunto de enteros
+        IntArraySet other = (IntArraySet) obj;
+        if(other.size != size) {
+            return false;
+        }//si tienen distinto tamaño
+        for(int i = 0; i < size; i++) {
+            if(elements[i] != other.elements[i]) {
+                return false;
+            }//si difieren
+        }//compara cada elemento
+        return true;
+    }//equals
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for(int i = 0; i < size; i++) {
+            hash = 31 *hash +elements[i];
+        }//combina cada elemento
+        return hash;
+    }//hashCode
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < size; i++) {
+            if(i > 0) {
+                builder.append(", ");
+            }//separa los elementos
+            builder.append(elements[i]);
+        }//escribe cada elemento
+        return builder.append(']').toString();
+    }//toString
+
+    /**
+     * Verifica que el &iacute;ndice dado corresponda a un elemento.
+     * @param index - El &iacute;ndice a verificar.
+     * @throws IndexOutOfBoundsException - Si no hay tal elemento.
+     * @since IntArraySet 1.0, october 2026
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " +index +", Size: "
+                    +size);
+        }//si no hay tal elemento
+    }//checkIndex
+
+    /**
+     * Verifica que el conjunto tenga elementos.
+     * @throws NoSuchElementException - Si est&aacute; vac&iacute;o.
+     * @since IntArraySet 1.0, october 2026
+     */
+    private void checkNotEmpty() {
+        if(size == 0) {
+            throw new NoSuchElementException("Empty set");
+        }//si está vacío
+    }//checkNotEmpty
+
+}//IntArraySet class
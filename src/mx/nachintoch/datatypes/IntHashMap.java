@@ -0,0 +1,438 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+
+/**
+ * <p>Mapa con llaves enteras guardadas como <tt>int</tt> primitivos, en una
+ * tabla de direccionamiento abierto con sondeo lineal. Las llaves y los
+ * valores viven en dos arreglos paralelos, sin objetos por entrada como los
+ * de <tt>HashMap</tt> ni llaves {@link ComparableInteger} envueltas; buscar
+ * una llave compara enteros en posiciones contiguas de memoria.</p>
+ * <p>Al quitar una entrada, las que le siguen en su grupo se recorren hacia
+ * atr&aacute;s, as&iacute; que la tabla nunca acumula marcas de borrado. La
+ * llave <tt>0</tt> se guarda aparte, pues marca las posiciones libres.</p>
+ * <p>Los m&eacute;todos que reciben un {@link ComparableValue} como llave
+ * usan su {@link ComparableValue#getValue() valor}. Se permiten valores
+ * <tt>null</tt>, pero entonces {@link #get(int)} no distingue entre una
+ * llave ausente y una asociada a <tt>null</tt>; para eso est&aacute;
+ * {@link #containsKey(int)}.</p>
+ *
+ * @param <V> - El tipo de los valores.
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class IntHashMap<V> {
+
+    // atributos de clase
+
+    /**
+     * Capacidad inicial de la tabla cuando no se especifica otra.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Capacidad m&aacute;xima de la tabla.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Las llaves; <tt>0</tt> marca una posici&oacute;n libre.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private int[] keys;
+
+    /**
+     * Los valores, en la misma posici&oacute;n que su llave.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private Object[] values;
+
+    /**
+     * La capacidad de la tabla menos uno, para calcular posiciones.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private int mask;
+
+    /**
+     * N&uacute;mero de entradas a partir del cual se duplica la tabla.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private int threshold;
+
+    /**
+     * El n&uacute;mero de entradas, incluyendo la de la llave <tt>0</tt>.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private int size;
+
+    /**
+     * Indica si hay una entrada con la llave <tt>0</tt>.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private boolean hasZeroKey;
+
+    /**
+     * El valor de la llave <tt>0</tt>.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private Object zeroValue;
+
+    // métodos constructores
+
+    /**
+     * Construye un mapa vac&iacute;o.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }//constructor por omisión
+
+    /**
+     * Construye un mapa vac&iacute;o con espacio para el n&uacute;mero de
+     * entradas dado sin tener que crecer.
+     * @param expected - El n&uacute;mero de entradas esperado.
+     * @throws IllegalArgumentException - Si el n&uacute;mero es negativo.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public IntHashMap(int expected) {
+        if(expected < 0) {
+            throw new IllegalArgumentException("Negative capacity: "
+                    +expected);
+        }//si la capacidad no es válida
+        int capacity = DEFAULT_CAPACITY;
+        while(capacity < MAX_CAPACITY
+                && capacity -(capacity >>> 2) <= expected) {
+            capacity <<= 1;
+        }//busca una potencia de dos con espacio suficiente
+        allocate(capacity);
+    }//constructor con capacidad
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntas entradas hay en el mapa.
+     * @return int - El n&uacute;mero de entradas.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Indica si el mapa est&aacute; vac&iacute;o.
+     * @return boolean - <tt>true</tt> si no hay entradas.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }//isEmpty
+
+    /**
+     * Devuelve el valor asociado a la llave dada.
+     * @param key - La llave.
+     * @return V - El valor, o <tt>null</tt> si la llave no est&aacute;.
+     * @since IntHashMap 1.0, october 2026
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if(key == 0) {
+            return (V) zeroValue;
+        }//si es la llave guardada aparte
+        int i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }//get
+
+    /**
+     * Devuelve el valor asociado al valor del objeto dado.
+     * @param key - El objeto cuyo valor es la llave.
+     * @return V - El valor, o <tt>null</tt> si la llave no est&aacute;.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public V get(ComparableValue key) {
+        return get(key.getValue());
+    }//get
+
+    /**
+     * Indica si la llave dada est&aacute; en el mapa.
+     * @param key - La llave.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }//containsKey
+
+    /**
+     * Indica si el valor del objeto dado es una llave del mapa.
+     * @param key - El objeto cuyo valor es la llave.
+     * @return boolean - <tt>true</tt> si est&aacute;.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public boolean containsKey(ComparableValue key) {
+        return containsKey(key.getValue());
+    }//containsKey
+
+    /**
+     * Devuelve las llaves del mapa, sin un orden particular.
+     * @return int[] - Las llaves.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        if(hasZeroKey) {
+            n++;
+        }//el arreglo ya empieza con ceros
+        for(int k : keys) {
+            if(k != 0) {
+                result[n++] = k;
+            }//si la posición está ocupada
+        }//recorre la tabla
+        return result;
+    }//keys
+
+    // métodos de modificación
+
+    /**
+     * Asocia el valor dado a la llave dada.
+     * @param key - La llave.
+     * @param value - El valor.
+     * @return V - El valor que ten&iacute;a la llave, o <tt>null</tt> si no
+     * estaba.
+     * @throws IllegalStateException - Si la tabla ya tiene su capacidad
+     * m&aacute;xima y est&aacute; llena.
+     * @since IntHashMap 1.0, october 2026
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if(key == 0) {
+            Object old = zeroValue;
+            if(!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }//si es nueva
+            zeroValue = value;
+            return (V) old;
+        }//si es la llave guardada aparte
+        int i = mix(key) & mask;
+        int k;
+        while((k = keys[i]) != 0) {
+            if(k == key) {
+                Object old = values[i];
+                values[i] = value;
+                return (V) old;
+            }//si ya estaba
+            i = i +1 & mask;
+        }//sondea las posiciones del grupo
+        if(size -(hasZeroKey ? 1 : 0) == mask) {
+            throw new IllegalStateException("Map is full");
+        }//siempre debe quedar una posición libre
+        keys[i] = key;
+        values[i] = value;
+        if(++size >= threshold && keys.length < MAX_CAPACITY) {
+            resize(keys.length << 1);
+        }//si la tabla está muy llena
+        return null;
+    }//put
+
+    /**
+     * Asocia el valor dado al valor del objeto dado.
+     * @param key - El objeto cuyo valor es la llave.
+     * @param value - El valor.
+     * @return V - El valor que ten&iacute;a la llave, o <tt>null</tt> si no
+     * estaba.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public V put(ComparableValue key, V value) {
+        return put(key.getValue(), value);
+    }//put
+
+    /**
+     * Quita la llave dada del mapa.
+     * @param key - La llave.
+     * @return V - El valor que ten&iacute;a la llave, o <tt>null</tt> si no
+     * estaba.
+     * @since IntHashMap 1.0, october 2026
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if(key == 0) {
+            Object old = zeroValue;
+            if(hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }//si estaba
+            return (V) old;
+        }//si es la llave guardada aparte
+        int i = find(key);
+        if(i < 0) {
+            return null;
+        }//si no estaba
+        Object old = values[i];
+        shiftBack(i);
+        size--;
+        return (V) old;
+    }//remove
+
+    /**
+     * Quita el valor del objeto dado de las llaves del mapa.
+     * @param key - El objeto cuyo valor es la llave.
+     * @return V - El valor que ten&iacute;a la llave, o <tt>null</tt> si no
+     * estaba.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public V remove(ComparableValue key) {
+        return remove(key.getValue());
+    }//remove
+
+    /**
+     * Quita todas las entradas, conservando la capacidad.
+     * @since IntHashMap 1.0, october 2026
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }//clear
+
+    // métodos de implementación
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        if(hasZeroKey) {
+            builder.append("0=").append(zeroValue);
+        }//escribe la llave guardada aparte
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] != 0) {
+                if(builder.length() > 1) {
+                    builder.append(", ");
+                }//separa las entradas
+                builder.append(keys[i]).append('=').append(values[i]);
+            }//si la posición está ocupada
+        }//escribe cada entrada
+        return builder.append('}').toString();
+    }//toString
+
+    /**
+     * Busca la posici&oacute;n de una llave distinta de <tt>0</tt>.
+     * @param key - La llave.
+     * @return int - Su posici&oacute;n en la tabla, o <tt>-1</tt> si no
+     * est&aacute;.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private int find(int key) {
+        int i = mix(key) & mask;
+        int k;
+        while((k = keys[i]) != 0) {
+            if(k == key) {
+                return i;
+            }//si la encontró
+            i = i +1 & mask;
+        }//sondea las posiciones del grupo
+        return -1;
+    }//find
+
+    /**
+     * Libera la posici&oacute;n dada recorriendo hacia atr&aacute;s las
+     * entradas siguientes del grupo que ya no se encontrar&iacute;an con el
+     * hueco en medio.
+     * @param free - La posici&oacute;n a liberar.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private void shiftBack(int free) {
+        int i = free;
+        while(true) {
+            i = i +1 & mask;
+            int k = keys[i];
+            if(k == 0) {
+                break;
+            }//si se terminó el grupo
+            int home = mix(k) & mask;
+            // se mueve si su posición natural no está entre el hueco y ella
+            boolean movable = free <= i ? home <= free || home > i
+                    : home <= free && home > i;
+            if(movable) {
+                keys[free] = k;
+                values[free] = values[i];
+                free = i;
+            }//si puede ocupar el hueco
+        }//recorre el grupo
+        keys[free] = 0;
+        values[free] = null;
+    }//shiftBack
+
+    /**
+     * Crea una tabla vac&iacute;a de la capacidad dada.
+     * @param capacity - La capacidad; una potencia de dos.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity -1;
+        threshold = capacity -(capacity >>> 2);
+    }//allocate
+
+    /**
+     * Pasa las entradas a una tabla de la capacidad dada.
+     * @param capacity - La nueva capacidad; una potencia de dos.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for(int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if(k != 0) {
+                int i = mix(k) & mask;
+                while(keys[i] != 0) {
+                    i = i +1 & mask;
+                }//busca una posición libre
+                keys[i] = k;
+                values[i] = oldValues[j];
+            }//si la posición está ocupada
+        }//reubica cada entrada
+    }//resize
+
+    // métodos estáticos
+
+    /**
+     * Dispersa los bits de la llave, para que llaves consecutivas no caigan
+     * en posiciones consecutivas.
+     * @param key - La llave.
+     * @return int - La llave dispersada.
+     * @since IntHashMap 1.0, october 2026
+     */
+    private static int mix(int key) {
+        int h = key *0x9E3779B9;
+        return h ^ h >>> 16;
+    }//mix
+
+}//IntHashMap class
@@ -0,0 +1,1166 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Cadena de valor comparable de s&oacute;lo lectura sobre los bytes de un
+ * <tt>ByteBuffer</tt>, normalmente un archivo mapeado a memoria con
+ * {@link #map(File, Charset)}. Los bytes se quedan fuera del heap y se
+ * decodifican conforme se leen, as&iacute; que se pueden recorrer archivos
+ * de gigabytes.</p>
+ * <p><tt>indexOf</tt> y <tt>split</tt> buscan directamente en los bytes
+ * (el texto buscado se codifica una vez), y <tt>substring</tt>,
+ * <tt>subSequence</tt> y las piezas de <tt>split</tt> son ventanas sobre el
+ * mismo buffer que s&oacute;lo se decodifican cuando se leen. Cualquier
+ * <tt>CharSequence</tt>, como un <tt>Matcher</tt>, puede leer la cadena con
+ * {@link #charAt(int)}.</p>
+ * <p>S&oacute;lo se aceptan ISO-8859-1, US-ASCII y UTF-8. Con UTF-8, la
+ * primera operaci&oacute;n que necesita &iacute;ndices de caracter recorre
+ * el buffer una vez y guarda un punto de control cada {@link #STRIDE}
+ * caracteres; la lectura secuencial con <tt>charAt</tt> cuesta O(1). Los
+ * bytes UTF-8 mal formados se leen como en <tt>new String(bytes, UTF_8)</tt>
+ * y en {@link CompactNachintochString}: el prefijo m&aacute;s largo de una
+ * secuencia que no se completa es un solo U+FFFD, y cada byte que no puede
+ * empezar una secuencia es otro.</p>
+ * <p>{@link #getString()} s&iacute; copia toda la cadena al heap; los
+ * m&eacute;todos sin versi&oacute;n propia para buffers la usan. Al
+ * serializarse, la cadena se escribe como una {@link NachintochString}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class MappedNachintochString extends NachintochString {
+
+    // atributos de clase
+
+    /**
+     * N&uacute;mero de caracteres entre puntos de control del &iacute;ndice
+     * UTF-8.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public static final int STRIDE = 4096;
+
+    /**
+     * Tama&ntilde;o de los bloques en que se decodifica la cadena para
+     * calcular su hash o compararla.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Codificaci&oacute;n ISO-8859-1: un caracter por byte.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static final int LATIN1 = 0;
+
+    /**
+     * Codificaci&oacute;n US-ASCII: un caracter por byte; los bytes con el
+     * bit alto son U+FFFD.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static final int ASCII = 1;
+
+    /**
+     * Codificaci&oacute;n UTF-8.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static final int UTF8 = 2;
+
+    /**
+     * Los bytes de la cadena, de s&oacute;lo lectura, de la posici&oacute;n
+     * 0 a su l&iacute;mite.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    protected final ByteBuffer BUFFER;
+
+    /**
+     * La codificaci&oacute;n de los bytes.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    protected final Charset CHARSET;
+
+    /**
+     * {@link #LATIN1}, {@link #ASCII} o {@link #UTF8}.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private final int ENCODING;
+
+    /**
+     * El &iacute;ndice de caracteres UTF-8; <tt>null</tt> mientras no se
+     * necesite.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private volatile Index index;
+
+    /**
+     * La &uacute;ltima posici&oacute;n le&iacute;da con UTF-8: el
+     * &iacute;ndice de caracter en los 32 bits altos y el de byte en los
+     * bajos.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private volatile long cursor;
+
+    /**
+     * El hash de la cadena; 0 si no se ha calculado.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int hash;
+
+    // métodos constructores
+
+    /**
+     * Construye la cadena con los bytes restantes del buffer dado, sin
+     * copiarlos. Cambiar despu&eacute;s el contenido del buffer cambia la
+     * cadena.
+     * @param buffer - Los bytes, de su posici&oacute;n a su l&iacute;mite.
+     * @param charset - Su codificaci&oacute;n.
+     * @throws IllegalArgumentException - Si la codificaci&oacute;n no es
+     * ISO-8859-1, US-ASCII o UTF-8.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public MappedNachintochString(ByteBuffer buffer, Charset charset) {
+        this(buffer.asReadOnlyBuffer().slice(), charset, encodingOf(charset));
+    }//constructor con buffer
+
+    /**
+     * Construye la cadena con el buffer dado, ya preparado.
+     * @param buffer - Los bytes, de s&oacute;lo lectura, de 0 a su
+     * l&iacute;mite.
+     * @param charset - Su codificaci&oacute;n.
+     * @param encoding - La constante de su codificaci&oacute;n.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private MappedNachintochString(ByteBuffer buffer, Charset charset,
+            int encoding) {
+        this.string = null;
+        this.BUFFER = buffer;
+        this.CHARSET = charset;
+        this.ENCODING = encoding;
+    }//constructor con buffer preparado
+
+    // métodos de acceso
+
+    /**
+     * Devuelve la cadena representada. La primera vez decodifica todo el
+     * buffer en el heap; las siguientes devuelve la misma.
+     * @return String - La cadena representada.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    @Override
+    public String getString() {
+        String s = string;
+        if(s == null) {
+            // si dos hilos llegan aquí crean cadenas iguales; no importa
+            s = new String(toCharArray());
+            string = s;
+        }//si no se ha decodificado
+        return s;
+    }//getString
+
+    /**
+     * Indica la codificaci&oacute;n de los bytes.
+     * @return Charset - La codificaci&oacute;n.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public Charset getCharset() {
+        return CHARSET;
+    }//getCharset
+
+    /**
+     * Indica cu&aacute;ntos bytes ocupa la cadena.
+     * @return int - El n&uacute;mero de bytes.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public int getByteLength() {
+        return BUFFER.limit();
+    }//getByteLength
+
+    /**
+     * Devuelve los bytes de la cadena sin copiarlos.
+     * @return ByteBuffer - Un buffer de s&oacute;lo lectura con los bytes.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public ByteBuffer asByteBuffer() {
+        return BUFFER.duplicate();
+    }//asByteBuffer
+
+    // métodos de implementación
+
+    @Override
+    public int length() {
+        return ENCODING == UTF8 ? index().LENGTH : BUFFER.limit();
+    }//length
+
+    @Override
+    public boolean isEmpty() {
+        return BUFFER.limit() == 0;
+    }//isEmpty
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= length()) {
+            throw new StringIndexOutOfBoundsException(index);
+        } else if(ENCODING == LATIN1) {
+            return (char) (BUFFER.get(index) & 0xFF);
+        } else if(ENCODING == ASCII || index().ASCII) {
+            byte b = BUFFER.get(index);
+            return b < 0 ? '\uFFFD' : (char) b;
+        }//si cada byte es un caracter
+        long position = locate(index);
+        int b = (int) position;
+        int length = sequenceLength(b);
+        if(length < 0) {
+            return '\uFFFD';
+        }//si la secuencia está mal formada
+        int cp = codePoint(b, length);
+        if(cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return (char) cp;
+        }//si es un solo char
+        return (int) (position >>> 32) == index ? Character.highSurrogate(cp)
+                : Character.lowSurrogate(cp);
+    }//charAt
+
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        checkRange(srcBegin, srcEnd);
+        if(dstBegin < 0 || dstBegin > dst.length -(srcEnd -srcBegin)) {
+            throw new ArrayIndexOutOfBoundsException(dstBegin);
+        } else if(srcBegin == srcEnd) {
+            return;
+        } else if(ENCODING != UTF8 || index().ASCII) {
+            boolean latin1 = ENCODING == LATIN1;
+            for(int i = srcBegin; i < srcEnd; i++) {
+                byte b = BUFFER.get(i);
+                dst[dstBegin++] = latin1 ? (char) (b & 0xFF)
+                        : b < 0 ? '\uFFFD' : (char) b;
+            }//copia cada byte
+            return;
+        }//si cada byte es un caracter
+        long position = locate(srcBegin);
+        int c = (int) (position >>> 32);
+        int b = (int) position;
+        while(c < srcEnd) {
+            int length = sequenceLength(b);
+            if(length < 0) {
+                dst[dstBegin++] = '\uFFFD';
+                b -= length;
+                c++;
+                continue;
+            }//si la secuencia está mal formada
+            int cp = codePoint(b, length);
+            b += length;
+            if(cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                dst[dstBegin++] = (char) cp;
+                c++;
+                continue;
+            }//si es un solo char
+            if(c >= srcBegin) {
+                dst[dstBegin++] = Character.highSurrogate(cp);
+            }//si el intervalo no empieza a la mitad del par
+            if(c +1 < srcEnd) {
+                dst[dstBegin++] = Character.lowSurrogate(cp);
+            }//si el intervalo no termina a la mitad del par
+            c += 2;
+        }//decodifica cada secuencia
+        cursor = (long) c << 32 | b;
+    }//getChars
+
+    @Override
+    public char[] toCharArray() {
+        int length = length();
+        char[] chars = new char[length];
+        getChars(0, length, chars, 0);
+        return chars;
+    }//toCharArray
+
+    @Override
+    public byte[] getBytes(Charset charset) {
+        if(CHARSET.equals(charset)
+                && (ENCODING == LATIN1 || ENCODING == UTF8 && index().VALID)) {
+            byte[] bytes = new byte[BUFFER.limit()];
+            BUFFER.duplicate().get(bytes);
+            return bytes;
+        }//si los bytes ya están en esa codificación
+        return super.getBytes(charset);
+    }//getBytes
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        int length = length();
+        if(h == 0 && length > 0) {
+            char[] chunk = new char[Math.min(CHUNK, length)];
+            for(int i = 0; i < length; i += chunk.length) {
+                int end = Math.min(i +chunk.length, length);
+                getChars(i, end, chunk, 0);
+                for(int j = 0, n = end -i; j < n; j++) {
+                    h = 31 *h +chunk[j];
+                }//mismo hash que String
+            }//decodifica por bloques
+            hash = h;
+        }//si no se ha calculado
+        return h;
+    }//hashCode
+
+    @Override
+    public boolean equals(Object anObject) {
+        if(this == anObject) {
+            return true;
+        } else if(anObject instanceof NachintochString
+                || anObject instanceof String) {
+            CharSequence other = (CharSequence) anObject;
+            return other.length() == length() && compareChars(other) == 0;
+        }//compara sólo contra cadenas
+        return false;
+    }//equals
+
+    @Override
+    public int compareTo(Object anotherObject) {
+        if(!(anotherObject instanceof NachintochString
+                || anotherObject instanceof String)) {
+            return super.compareTo(anotherObject);
+        }//deja que la clase base rechace el objeto
+        CharSequence other = (CharSequence) anotherObject;
+        int result = compareChars(other);
+        return result != 0 ? result : length() -other.length();
+    }//compareTo
+
+    @Override
+    public boolean contains(CharSequence s) {
+        return indexOf(s.toString()) != -1;
+    }//contains
+
+    @Override
+    public int indexOf(int ch) {
+        return indexOf(ch, 0);
+    }//indexOf
+
+    @Override
+    public int indexOf(int ch, int fromIndex) {
+        int length = length();
+        fromIndex = Math.max(fromIndex, 0);
+        if(fromIndex >= length) {
+            return -1;
+        } else if(ch >= Character.MIN_SURROGATE
+                && ch <= Character.MAX_SURROGATE || ch == '\uFFFD'
+                && ENCODING != LATIN1) {
+            for(int i = fromIndex; i < length; i++) {
+                if(charAt(i) == ch) {
+                    return i;
+                }//si lo encontró
+            }//busca caracter por caracter
+            return -1;
+        } else if(!Character.isValidCodePoint(ch)) {
+            return -1;
+        }//si no se puede buscar en los bytes
+        byte[] needle = encode(new String(Character.toChars(ch)));
+        if(needle == null) {
+            return -1;
+        }//si no se puede codificar
+        int found = indexOf(needle, byteIndex(fromIndex, true));
+        return found == -1 ? -1 : charIndex(found);
+    }//indexOf
+
+    @Override
+    public int indexOf(String str) {
+        return indexOf(str, 0);
+    }//indexOf
+
+    @Override
+    public int indexOf(String str, int fromIndex) {
+        int length = length();
+        fromIndex = Math.max(fromIndex, 0);
+        if(str.isEmpty() || fromIndex >= length) {
+            return str.isEmpty() ? Math.min(fromIndex, length) : -1;
+        } else if(str.indexOf('\uFFFD') != -1 && ENCODING != LATIN1
+                || hasUnpairedSurrogate(str)) {
+            for(int i = fromIndex, last = length -str.length(); i <= last;
+                    i++) {
+                if(regionMatches(i, str)) {
+                    return i;
+                }//si lo encontró
+            }//busca caracter por caracter
+            return -1;
+        }//si puede coincidir con bytes mal formados
+        byte[] needle = encode(str);
+        if(needle == null) {
+            return -1;
+        }//si no se puede codificar
+        int found = indexOf(needle, byteIndex(fromIndex, true));
+        return found == -1 ? -1 : charIndex(found);
+    }//indexOf
+
+    @Override
+    public int indexOf(NachintochString nchStr) {
+        return indexOf(nchStr.getString(), 0);
+    }//indexOf
+
+    @Override
+    public int indexOf(NachintochString nchStr, int fromIndex) {
+        return indexOf(nchStr.getString(), fromIndex);
+    }//indexOf
+
+    @Override
+    public NachintochString subSequence(int beginIndex, int endIndex) {
+        return substring(beginIndex, endIndex);
+    }//subSequence
+
+    @Override
+    public NachintochString substring(int beginIndex) {
+        return substring(beginIndex, length());
+    }//substring
+
+    /**
+     * Devuelve la subcadena entre los &iacute;ndices dados como una ventana
+     * sobre el mismo buffer, que s&oacute;lo se decodifica cuando se lee. Si
+     * un extremo parte un par de sustitutos UTF-16, la subcadena se copia al
+     * heap.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @return NachintochString - La subcadena.
+     * @see java.lang.String#substring(int, int)
+     */
+    @Override
+    public NachintochString substring(int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex);
+        int begin = byteIndex(beginIndex, false);
+        int end = byteIndex(endIndex, false);
+        if(begin == -1 || end == -1) {
+            char[] chars = new char[endIndex -beginIndex];
+            getChars(beginIndex, endIndex, chars, 0);
+            return new NachintochString(new String(chars));
+        }//si parte un par
+        return window(begin, end);
+    }//substring
+
+    @Override
+    public NachintochString[] split(String regex) {
+        return split(regex, 0);
+    }//split
+
+    @Override
+    public NachintochString[] split(NachintochString regex) {
+        return split(regex.getString(), 0);
+    }//split
+
+    @Override
+    public NachintochString[] split(NachintochString regex, int limit) {
+        return split(regex.getString(), limit);
+    }//split
+
+    @Override
+    public NachintochString[] split(Pattern pattern) {
+        return split(pattern, 0);
+    }//split
+
+    /**
+     * Divide la cadena con las mismas reglas que
+     * <tt>String.split(regex, limit)</tt>, pero cada pieza es una ventana del
+     * mismo buffer. Si el delimitador es un solo caracter literal se busca
+     * directamente en los bytes, y las piezas se cortan por &iacute;ndice de
+     * byte sin calcular &iacute;ndices de caracter; si no, la expresi&oacute;n
+     * regular se toma compilada de {@link PatternCache#getDefault()}.
+     * @param regex - La expresi&oacute;n regular que sirve como punto de
+     * ruptura.
+     * @param limit - El n&uacute;mero m&aacute;ximo de subcadenas a crear.
+     * @return NachintochString[] - Las piezas.
+     * @see java.lang.String#split(java.lang.String, int)
+     */
+    @Override
+    public NachintochString[] split(String regex, int limit) {
+        int ch = NachintochStringView.literalChar(regex);
+        if(ch < 0 || ch == '\uFFFD' && ENCODING != LATIN1) {
+            return split(PatternCache.getDefault().compile(regex), limit);
+        }//si hace falta la expresión regular
+        ArrayList<NachintochString> pieces = new ArrayList<NachintochString>();
+        byte[] needle = encode(String.valueOf((char) ch));
+        if(needle == null) {
+            return toArray(pieces, this, limit);
+        }//si el delimitador no puede aparecer
+        boolean limited = limit > 0;
+        int end = BUFFER.limit();
+        int begin = 0;
+        int next;
+        while((next = indexOf(needle, begin)) != -1) {
+            if(!limited || pieces.size() < limit -1) {
+                pieces.add(window(begin, next));
+                begin = next +needle.length;
+            } else {
+                pieces.add(window(begin, end));
+                begin = end;
+                break;
+            }//si aún se puede dividir
+        }//busca cada delimitador en los bytes
+        return toArray(pieces, window(begin, end), limit);
+    }//split
+
+    /**
+     * Divide la cadena con las mismas reglas que
+     * <tt>Pattern.split(this, limit)</tt>, pero cada pieza es una ventana del
+     * mismo buffer. La expresi&oacute;n lee la cadena con
+     * {@link #charAt(int)}; el &iacute;ndice de byte de cada coincidencia se
+     * obtiene avanzando desde la anterior, as&iacute; que toda la
+     * divisi&oacute;n recorre los bytes una sola vez.
+     * @param pattern - La expresi&oacute;n regular que sirve como punto de
+     * ruptura.
+     * @param limit - El n&uacute;mero m&aacute;ximo de subcadenas a crear.
+     * @return NachintochString[] - Las piezas.
+     * @see java.util.regex.Pattern#split(CharSequence, int)
+     */
+    @Override
+    public NachintochString[] split(Pattern pattern, int limit) {
+        ArrayList<NachintochString> pieces = new ArrayList<NachintochString>();
+        boolean limited = limit > 0;
+        int length = length();
+        long end = (long) length << 32 | BUFFER.limit();
+        int index = 0;
+        long position = 0;
+        Matcher m = pattern.matcher(this);
+        while(m.find()) {
+            if(!limited || pieces.size() < limit -1) {
+                if(index == 0 && m.start() == 0 && m.end() == 0) {
+                    continue;
+                }//no hay pieza vacía inicial por coincidencias vacías
+                long start = advance(position, m.start());
+                pieces.add(piece(position, index, start, m.start()));
+                position = advance(start, m.end());
+                index = m.end();
+            } else if(pieces.size() == limit -1) {
+                pieces.add(piece(position, index, end, length));
+                position = end;
+                index = length;
+            }//si aún se puede dividir
+        }//busca cada coincidencia
+        return toArray(pieces, piece(position, index, end, length), limit);
+    }//split
+
+    /**
+     * Termina una divisi&oacute;n con las reglas de <tt>String.split</tt>:
+     * agrega la &uacute;ltima pieza y, si el l&iacute;mite es 0, quita las
+     * piezas vac&iacute;as del final.
+     * @param pieces - Las piezas encontradas.
+     * @param rest - Lo que resta de la cadena despu&eacute;s de la
+     * &uacute;ltima pieza.
+     * @param limit - El l&iacute;mite de la divisi&oacute;n.
+     * @return NachintochString[] - Las piezas.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private NachintochString[] toArray(ArrayList<NachintochString> pieces,
+            NachintochString rest, int limit) {
+        if(pieces.isEmpty()) {
+            return new NachintochString[] {this};
+        }//si no hubo delimitadores
+        if(limit <= 0 || pieces.size() < limit) {
+            pieces.add(rest);
+        }//agrega lo que resta
+        int size = pieces.size();
+        if(limit == 0) {
+            while(size > 0 && pieces.get(size -1).isEmpty()) {
+                size--;
+            }//quita las piezas vacías finales
+        }//si así lo indica el límite
+        return pieces.subList(0, size).toArray(new NachintochString[size]);
+    }//toArray
+
+    /**
+     * Crea la pieza entre los &iacute;ndices de caracter dados, con las
+     * posiciones que les corresponden seg&uacute;n
+     * {@link #advance(long, int)}. Si un extremo parte un par de sustitutos
+     * UTF-16, la pieza se copia al heap como en {@link #substring(int, int)}.
+     * @param begin - La posici&oacute;n de la secuencia que contiene el
+     * primer caracter.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param end - La posici&oacute;n de la secuencia que contiene el
+     * &uacute;ltimo caracter.
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @return NachintochString - La pieza.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private NachintochString piece(long begin, int beginIndex, long end,
+            int endIndex) {
+        if((int) (begin >>> 32) == beginIndex
+                && (int) (end >>> 32) == endIndex) {
+            return window((int) begin, (int) end);
+        }//si ambos extremos empiezan una secuencia
+        char[] chars = new char[endIndex -beginIndex];
+        getChars(beginIndex, endIndex, chars, 0);
+        return new NachintochString(new String(chars));
+    }//piece
+
+    /**
+     * Crea una ventana del mismo buffer entre los bytes dados.
+     * @param begin - El primer byte (inclusivo).
+     * @param end - El &uacute;ltimo byte (exclusivo).
+     * @return MappedNachintochString - La ventana.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private MappedNachintochString window(int begin, int end) {
+        if(begin == 0 && end == BUFFER.limit()) {
+            return this;
+        }//si es toda la cadena
+        ByteBuffer slice = BUFFER.duplicate();
+        slice.position(begin);
+        slice.limit(end);
+        return new MappedNachintochString(slice.slice(), CHARSET, ENCODING);
+    }//window
+
+    /**
+     * Compara los caracteres de esta cadena con los de la dada,
+     * decodific&aacute;ndola por bloques.
+     * @param cs - La otra cadena.
+     * @return int - La diferencia del primer caracter distinto; 0 si una es
+     * prefijo de la otra.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int compareChars(CharSequence cs) {
+        int limit = Math.min(length(), cs.length());
+        char[] chunk = new char[Math.min(CHUNK, limit)];
+        for(int i = 0; i < limit; i += chunk.length) {
+            int end = Math.min(i +chunk.length, limit);
+            getChars(i, end, chunk, 0);
+            for(int j = 0, n = end -i; j < n; j++) {
+                char o = cs.charAt(i +j);
+                if(chunk[j] != o) {
+                    return chunk[j] -o;
+                }//si difieren
+            }//compara el bloque
+        }//decodifica por bloques
+        return 0;
+    }//compareChars
+
+    /**
+     * Indica si la cadena dada aparece en el &iacute;ndice indicado,
+     * comparando caracter por caracter.
+     * @param offset - El &iacute;ndice.
+     * @param str - La cadena.
+     * @return boolean - <tt>true</tt> si aparece ah&iacute;.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private boolean regionMatches(int offset, String str) {
+        for(int i = 0, n = str.length(); i < n; i++) {
+            if(charAt(offset +i) != str.charAt(i)) {
+                return false;
+            }//si difieren
+        }//compara cada caracter
+        return true;
+    }//regionMatches
+
+    /**
+     * Codifica la cadena dada como la buscar&iacute;an los bytes de esta.
+     * @param str - La cadena, sin sustitutos sin pareja.
+     * @return byte[] - Sus bytes; <tt>null</tt> si tiene caracteres que no
+     * pueden aparecer en esta cadena.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private byte[] encode(String str) {
+        if(ENCODING == UTF8) {
+            return str.getBytes(StandardCharsets.UTF_8);
+        }//si se codifica con UTF-8
+        int max = ENCODING == LATIN1 ? 0xFF : 0x7F;
+        byte[] bytes = new byte[str.length()];
+        for(int i = 0; i < bytes.length; i++) {
+            char c = str.charAt(i);
+            if(c > max) {
+                return null;
+            }//si no cabe en un byte
+            bytes[i] = (byte) c;
+        }//un byte por caracter
+        return bytes;
+    }//encode
+
+    /**
+     * Busca la primera aparici&oacute;n de los bytes dados en el buffer.
+     * @param needle - Los bytes a buscar; al menos uno.
+     * @param from - El primer byte donde buscar.
+     * @return int - El &iacute;ndice de byte donde aparecen; -1 si no
+     * aparecen.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int indexOf(byte[] needle, int from) {
+        byte first = needle[0];
+        for(int i = from, last = BUFFER.limit() -needle.length; i <= last;
+                i++) {
+            if(BUFFER.get(i) != first) {
+                continue;
+            }//si no empieza aquí
+            int j = 1;
+            while(j < needle.length && BUFFER.get(i +j) == needle[j]) {
+                j++;
+            }//compara el resto
+            if(j == needle.length) {
+                return i;
+            }//si lo encontró
+        }//busca el primer byte
+        return -1;
+    }//indexOf
+
+    /**
+     * Verifica que el intervalo dado est&eacute; dentro de la cadena.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @throws StringIndexOutOfBoundsException - Si el intervalo no es
+     * v&aacute;lido.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private void checkRange(int beginIndex, int endIndex) {
+        int length = length();
+        if(beginIndex < 0 || endIndex > length || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " +beginIndex
+                    +", end " +endIndex +", length " +length);
+        }//si el intervalo no es válido
+    }//checkRange
+
+    /**
+     * Devuelve el &iacute;ndice UTF-8, recorriendo el buffer la primera vez.
+     * @return Index - El &iacute;ndice.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private Index index() {
+        Index result = index;
+        if(result == null) {
+            result = new Index(this);
+            index = result;
+        }//si no se ha construido
+        return result;
+    }//index
+
+    /**
+     * Encuentra, con UTF-8, la secuencia que contiene el caracter dado,
+     * avanzando desde el punto de control o la &uacute;ltima posici&oacute;n
+     * le&iacute;da m&aacute;s cercana.
+     * @param charIndex - El &iacute;ndice del caracter; menor a la longitud.
+     * @return long - El &iacute;ndice de caracter donde empieza la secuencia
+     * en los 32 bits altos y el de su primer byte en los bajos.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private long locate(int charIndex) {
+        Index idx = index();
+        int k = Math.min(charIndex /STRIDE, idx.COUNT -1);
+        while(idx.CHARS[k] > charIndex) {
+            k--;
+        }//el punto de control puede haber caído después de un par
+        int c = idx.CHARS[k];
+        int b = idx.BYTES[k];
+        long last = cursor;
+        int lastChar = (int) (last >>> 32);
+        if(lastChar <= charIndex && lastChar > c) {
+            c = lastChar;
+            b = (int) last;
+        }//si la última posición leída está más cerca
+        while(true) {
+            int length = sequenceLength(b);
+            int units = length == 4 ? 2 : 1;
+            if(charIndex < c +units) {
+                break;
+            }//si la secuencia contiene el caracter
+            c += units;
+            b += length < 0 ? -length : length;
+        }//avanza secuencia por secuencia
+        long position = (long) c << 32 | b;
+        cursor = position;
+        return position;
+    }//locate
+
+    /**
+     * Avanza, secuencia por secuencia, desde la posici&oacute;n dada hasta la
+     * secuencia que contiene el caracter dado. A diferencia de
+     * {@link #locate(int)}, no parte de un punto de control, as&iacute; que
+     * quien recorre la cadena hacia adelante, como {@link #split(Pattern, int)},
+     * lee cada byte una sola vez.
+     * @param position - Una posici&oacute;n al inicio de una secuencia, con
+     * el &iacute;ndice de caracter en los 32 bits altos y el de byte en los
+     * bajos; su caracter no debe estar despu&eacute;s del buscado.
+     * @param charIndex - El &iacute;ndice del caracter; a lo m&aacute;s la
+     * longitud.
+     * @return long - La posici&oacute;n de la secuencia que contiene el
+     * caracter, o la del final si es la longitud.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private long advance(long position, int charIndex) {
+        if(ENCODING != UTF8 || index().ASCII) {
+            return (long) charIndex << 32 | charIndex;
+        }//si cada byte es un caracter
+        int c = (int) (position >>> 32);
+        int b = (int) position;
+        int limit = BUFFER.limit();
+        while(b < limit) {
+            int length = sequenceLength(b);
+            int units = length == 4 ? 2 : 1;
+            if(charIndex < c +units) {
+                break;
+            }//si la secuencia contiene el caracter
+            c += units;
+            b += length < 0 ? -length : length;
+        }//avanza secuencia por secuencia
+        return (long) c << 32 | b;
+    }//advance
+
+    /**
+     * Convierte un &iacute;ndice de caracter en un &iacute;ndice de byte.
+     * @param charIndex - El &iacute;ndice de caracter; a lo m&aacute;s la
+     * longitud.
+     * @param next - Si el &iacute;ndice cae a la mitad de un par,
+     * <tt>true</tt> para devolver el byte del siguiente caracter.
+     * @return int - El &iacute;ndice de byte; -1 si cae a la mitad de un par
+     * y no se pidi&oacute; el siguiente.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int byteIndex(int charIndex, boolean next) {
+        if(ENCODING != UTF8 || index().ASCII) {
+            return charIndex;
+        } else if(charIndex >= index().LENGTH) {
+            return BUFFER.limit();
+        }//si no hay que buscarlo
+        long position = locate(charIndex);
+        int b = (int) position;
+        if((int) (position >>> 32) == charIndex) {
+            return b;
+        }//si empieza una secuencia
+        return next ? b +4 : -1;
+    }//byteIndex
+
+    /**
+     * Convierte el &iacute;ndice de byte dado, al inicio de una secuencia,
+     * en un &iacute;ndice de caracter, avanzando desde el punto de control o
+     * la &uacute;ltima posici&oacute;n le&iacute;da m&aacute;s cercana.
+     * @param byteIndex - El &iacute;ndice de byte.
+     * @return int - El &iacute;ndice de caracter.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int charIndex(int byteIndex) {
+        if(ENCODING != UTF8 || index().ASCII) {
+            return byteIndex;
+        }//si cada byte es un caracter
+        Index idx = index();
+        int low = 0;
+        int high = idx.COUNT -1;
+        while(low < high) {
+            int middle = (low +high +1) >>> 1;
+            if(idx.BYTES[middle] <= byteIndex) {
+                low = middle;
+            } else {
+                high = middle -1;
+            }//según el lado donde está
+        }//busca el último punto de control antes del byte
+        int c = idx.CHARS[low];
+        int b = idx.BYTES[low];
+        long last = cursor;
+        int lastByte = (int) last;
+        if(lastByte <= byteIndex && lastByte > b) {
+            c = (int) (last >>> 32);
+            b = lastByte;
+        }//si la última posición leída está más cerca
+        while(b < byteIndex) {
+            int length = sequenceLength(b);
+            c += length == 4 ? 2 : 1;
+            b += length < 0 ? -length : length;
+        }//avanza secuencia por secuencia
+        cursor = (long) c << 32 | b;
+        return c;
+    }//charIndex
+
+    /**
+     * Indica cu&aacute;ntos bytes ocupa la secuencia UTF-8 que empieza en el
+     * byte dado, con las mismas reglas que el decodificador de Java (sin
+     * formas largas ni sustitutos). Si est&aacute; mal formada, indica
+     * cu&aacute;ntos bytes forman su subparte maximal: el primer byte y los
+     * de continuaci&oacute;n v&aacute;lidos que lo siguen, que se leen como un
+     * solo U+FFFD. Igual que Java, un sustituto codificado completo
+     * (<tt>ED A0..BF xx</tt>) cuenta como una sola subparte de tres bytes.
+     * @param b - El &iacute;ndice del primer byte.
+     * @return int - Entre 1 y 4 si la secuencia es v&aacute;lida; entre -1 y
+     * -3, con el tama&ntilde;o de la subparte negado, si est&aacute; mal
+     * formada.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int sequenceLength(int b) {
+        int b0 = BUFFER.get(b) & 0xFF;
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if(b0 < 0x80) {
+            return 1;
+        } else if(b0 >= 0xC2 && b0 <= 0xDF) {
+            length = 2;
+        } else if(b0 >= 0xE0 && b0 <= 0xEF) {
+            length = 3;
+            if(b0 == 0xE0) {
+                min = 0xA0;
+            }//sin formas largas
+        } else if(b0 >= 0xF0 && b0 <= 0xF4) {
+            length = 4;
+            if(b0 == 0xF0) {
+                min = 0x90;
+            } else if(b0 == 0xF4) {
+                max = 0x8F;
+            }//sin formas largas ni más allá de U+10FFFF
+        } else {
+            return -1;
+        }//según el primer byte
+        int limit = BUFFER.limit();
+        for(int k = 1; k < length; k++) {
+            if(b +k >= limit) {
+                return -k;
+            }//si la secuencia está incompleta
+            int next = BUFFER.get(b +k) & 0xFF;
+            if(next < min || next > max) {
+                return -k;
+            }//si no es un byte de continuación válido
+            min = 0x80;
+            max = 0xBF;
+        }//revisa los bytes de continuación
+        if(b0 == 0xED && (BUFFER.get(b +1) & 0xFF) >= 0xA0) {
+            return -3;
+        }//como en Java, un sustituto codificado es un solo U+FFFD
+        return length;
+    }//sequenceLength
+
+    /**
+     * Decodifica el punto de c&oacute;digo de la secuencia UTF-8
+     * v&aacute;lida que empieza en el byte dado.
+     * @param b - El &iacute;ndice del primer byte.
+     * @param length - El tama&ntilde;o de la secuencia.
+     * @return int - El punto de c&oacute;digo.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private int codePoint(int b, int length) {
+        int b0 = BUFFER.get(b) & 0xFF;
+        switch(length) {
+            case 1:
+                return b0;
+            case 2:
+                return (b0 & 0x1F) << 6 | BUFFER.get(b +1) & 0x3F;
+            case 3:
+                return (b0 & 0x0F) << 12 | (BUFFER.get(b +1) & 0x3F) << 6
+                        | BUFFER.get(b +2) & 0x3F;
+            default:
+                return (b0 & 0x07) << 18 | (BUFFER.get(b +1) & 0x3F) << 12
+                        | (BUFFER.get(b +2) & 0x3F) << 6
+                        | BUFFER.get(b +3) & 0x3F;
+        }//según el tamaño de la secuencia
+    }//codePoint
+
+    /**
+     * Al serializarse, la cadena se escribe como una {@link NachintochString}.
+     * @return Object - Una {@link NachintochString} equivalente.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private Object writeReplace() {
+        return new NachintochString(getString());
+    }//writeReplace
+
+    // métodos estáticos
+
+    /**
+     * Mapea todo el archivo dado a memoria, de s&oacute;lo lectura.
+     * @param file - El archivo; a lo m&aacute;s de
+     * <tt>Integer.MAX_VALUE</tt> bytes.
+     * @param charset - Su codificaci&oacute;n: ISO-8859-1, US-ASCII o UTF-8.
+     * @return MappedNachintochString - La cadena sobre el archivo.
+     * @throws IOException - Si no se puede leer o mapear el archivo.
+     * @throws IllegalArgumentException - Si el archivo es muy grande o no se
+     * acepta la codificaci&oacute;n.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public static MappedNachintochString map(File file, Charset charset)
+            throws IOException {
+        return map(file, 0, -1, charset);
+    }//map
+
+    /**
+     * Mapea una regi&oacute;n del archivo dado a memoria, de s&oacute;lo
+     * lectura. Un archivo de m&aacute;s de 2 GB se puede recorrer por
+     * regiones; con UTF-8, conviene que cada una empiece despu&eacute;s de un
+     * fin de l&iacute;nea.
+     * @param file - El archivo.
+     * @param position - El primer byte de la regi&oacute;n.
+     * @param size - El n&uacute;mero de bytes, a lo m&aacute;s
+     * <tt>Integer.MAX_VALUE</tt>; -1 para ir hasta el final del archivo.
+     * @param charset - Su codificaci&oacute;n: ISO-8859-1, US-ASCII o UTF-8.
+     * @return MappedNachintochString - La cadena sobre la regi&oacute;n.
+     * @throws IOException - Si no se puede leer o mapear el archivo.
+     * @throws IllegalArgumentException - Si la regi&oacute;n es muy grande o
+     * no se acepta la codificaci&oacute;n.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    public static MappedNachintochString map(File file, long position,
+            long size, Charset charset) throws IOException {
+        int encoding = encodingOf(charset);
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            if(size == -1) {
+                size = Math.max(channel.size() -position, 0);
+            }//si se pide hasta el final
+            if(size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Can't map " +size
+                        +" bytes at once; map the file by regions.");
+            }//si no cabe en un buffer
+            // el mapeo sigue siendo válido después de cerrar el archivo
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position, size);
+            return new MappedNachintochString(buffer.asReadOnlyBuffer(),
+                    charset, encoding);
+        } finally {
+            raf.close();
+        }//cierra el archivo
+    }//map
+
+    /**
+     * Devuelve la constante de la codificaci&oacute;n dada.
+     * @param charset - La codificaci&oacute;n.
+     * @return int - {@link #LATIN1}, {@link #ASCII} o {@link #UTF8}.
+     * @throws IllegalArgumentException - Si no es ISO-8859-1, US-ASCII o
+     * UTF-8.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static int encodingOf(Charset charset) {
+        if(StandardCharsets.ISO_8859_1.equals(charset)) {
+            return LATIN1;
+        } else if(StandardCharsets.US_ASCII.equals(charset)) {
+            return ASCII;
+        } else if(StandardCharsets.UTF_8.equals(charset)) {
+            return UTF8;
+        }//según la codificación
+        throw new IllegalArgumentException("Only ISO-8859-1, US-ASCII and "
+                +"UTF-8 buffers can be read without decoding; got "
+                +charset);
+    }//encodingOf
+
+    /**
+     * Indica si la cadena dada tiene un sustituto sin pareja.
+     * @param s - La cadena.
+     * @return boolean - <tt>true</tt> si lo tiene.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static boolean hasUnpairedSurrogate(String s) {
+        for(int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if(Character.isHighSurrogate(c) && i +1 < n
+                    && Character.isLowSurrogate(s.charAt(i +1))) {
+                i++;
+            } else if(Character.isSurrogate(c)) {
+                return true;
+            }//si es un par completo o un sustituto solo
+        }//revisa cada caracter
+        return false;
+    }//hasUnpairedSurrogate
+
+    // clases anidadas
+
+    /**
+     * &Iacute;ndice de caracteres de un buffer UTF-8: guarda, cada
+     * {@link #STRIDE} caracteres, d&oacute;nde empieza la siguiente
+     * secuencia.
+     * @since MappedNachintochString 1.0, october 2026
+     */
+    private static final class Index {
+
+        /**
+         * N&uacute;mero de caracteres UTF-16 del buffer.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final int LENGTH;
+
+        /**
+         * Indica si todos los bytes son ASCII.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final boolean ASCII;
+
+        /**
+         * Indica si no hay bytes mal formados.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final boolean VALID;
+
+        /**
+         * N&uacute;mero de puntos de control.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final int COUNT;
+
+        /**
+         * &Iacute;ndice de caracter de cada punto de control.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final int[] CHARS;
+
+        /**
+         * &Iacute;ndice de byte de cada punto de control.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        final int[] BYTES;
+
+        /**
+         * Recorre el buffer de la cadena dada y construye su &iacute;ndice.
+         * @param s - La cadena.
+         * @since MappedNachintochString 1.0, october 2026
+         */
+        Index(MappedNachintochString s) {
+            int n = s.BUFFER.limit();
+            int[] chars = new int[n /STRIDE +2];
+            int[] bytes = new int[chars.length];
+            int count = 0;
+            int c = 0;
+            int b = 0;
+            boolean valid = true;
+            while(b < n) {
+                if(c >= count *STRIDE) {
+                    chars[count] = c;
+                    bytes[count] = b;
+                    count++;
+                }//si toca un punto de control
+                int length = s.sequenceLength(b);
+                if(length < 0) {
+                    valid = false;
+                    c++;
+                    b -= length;
+                } else {
+                    c += length == 4 ? 2 : 1;
+                    b += length;
+                }//una subparte mal formada es un solo U+FFFD
+            }//recorre cada secuencia
+            if(count == 0) {
+                count = 1;
+            }//el inicio siempre es un punto de control
+            this.LENGTH = c;
+            this.ASCII = c == n && valid;
+            this.VALID = valid;
+            this.COUNT = count;
+            this.CHARS = chars;
+            this.BYTES = bytes;
+        }//constructor
+
+    }//Index class
+
+}//MappedNachintochString class
@@ -0,0 +1,656 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Busca todas las apariciones de un conjunto de palabras en un texto con
+ * una sola pasada, con el algoritmo de Aho-Corasick: el costo es
+ * O(longitud del texto +apariciones) sin importar cu&aacute;ntas palabras
+ * haya, en lugar de recorrer el texto una vez por palabra con
+ * <tt>indexOf</tt>.</p>
+ * <p>El aut&oacute;mata se construye una vez y no cambia, por lo que un
+ * mismo buscador puede usarse desde varios hilos. Las apariciones se
+ * entregan sin crear objetos por cada una, ya sea a un
+ * {@link MatchListener} con {@link #match(CharSequence, MatchListener)} o
+ * con un {@link Cursor} reutilizable, a la manera de
+ * <tt>java.util.regex.Matcher</tt>. El texto puede ser cualquier
+ * <tt>CharSequence</tt>, como una {@link NachintochString}.</p>
+ * <p>Sin distinguir may&uacute;sculas, dos caracteres coinciden con las
+ * mismas reglas que <tt>String.equalsIgnoreCase</tt>.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class MultiPatternMatcher {
+
+    // atributos de clase
+
+    /**
+     * N&uacute;mero m&aacute;ximo de entradas de la tabla de transiciones
+     * completa; con m&aacute;s estados o caracteres distintos, las
+     * transiciones se buscan en el trie.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private static final int MAX_TABLE = 1 << 20;
+
+    /**
+     * Las palabras buscadas, en el orden en que se dieron.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final String[] KEYWORDS;
+
+    /**
+     * Indica si se ignoran las diferencias entre may&uacute;sculas y
+     * min&uacute;sculas.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final boolean IGNORE_CASE;
+
+    /**
+     * Para cada estado, d&oacute;nde empiezan sus transiciones en
+     * {@link #EDGE_CHARS}; el estado <tt>s</tt> tiene las transiciones de
+     * <tt>EDGE_START[s]</tt> a <tt>EDGE_START[s +1]</tt>.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] EDGE_START;
+
+    /**
+     * El caracter de cada transici&oacute;n, ordenados por estado y luego
+     * por caracter.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final char[] EDGE_CHARS;
+
+    /**
+     * El estado destino de cada transici&oacute;n.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] EDGE_TARGETS;
+
+    /**
+     * El estado de falla de cada estado: el del sufijo propio m&aacute;s
+     * largo que tambi&eacute;n es prefijo de alguna palabra.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] FAIL;
+
+    /**
+     * La primera palabra que termina en cada estado; -1 si ninguna.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] TERMINAL;
+
+    /**
+     * Para cada estado, el siguiente estado en su cadena de falla donde
+     * termina una palabra; -1 si no hay.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] OUTPUT_LINK;
+
+    /**
+     * Para cada palabra, la siguiente palabra id&eacute;ntica; -1 si no hay.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] DUPLICATE;
+
+    /**
+     * Los caracteres distintos de las palabras, ordenados; el caracter
+     * <tt>ALPHABET[i]</tt> es de la clase <tt>i +1</tt> y cualquier otro, de
+     * la clase 0.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final char[] ALPHABET;
+
+    /**
+     * La clase de cada caracter menor a 256.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] LATIN1_CLASS;
+
+    /**
+     * N&uacute;mero de clases de caracteres.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int WIDTH;
+
+    /**
+     * La tabla de transiciones completa: el estado siguiente a <tt>s</tt>
+     * con un caracter de la clase <tt>x</tt> es
+     * <tt>DELTA[s *WIDTH +x]</tt>. As&iacute; cada caracter del texto cuesta
+     * una lectura, sin seguir fallas. <tt>null</tt> si ser&iacute;a mayor a
+     * {@link #MAX_TABLE}.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private final int[] DELTA;
+
+    // métodos constructores
+
+    /**
+     * Construye un buscador que distingue may&uacute;sculas de
+     * min&uacute;sculas.
+     * @param keywords - Las palabras a buscar.
+     * @throws IllegalArgumentException - Si alguna palabra est&aacute;
+     * vac&iacute;a.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public MultiPatternMatcher(CharSequence... keywords) {
+        this(Arrays.asList(keywords), false);
+    }//constructor con palabras
+
+    /**
+     * Construye un buscador.
+     * @param ignoreCase - <tt>true</tt> para ignorar las diferencias entre
+     * may&uacute;sculas y min&uacute;sculas, como
+     * <tt>equalsIgnoreCase</tt>.
+     * @param keywords - Las palabras a buscar.
+     * @throws IllegalArgumentException - Si alguna palabra est&aacute;
+     * vac&iacute;a.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public MultiPatternMatcher(boolean ignoreCase, CharSequence... keywords) {
+        this(Arrays.asList(keywords), ignoreCase);
+    }//constructor con palabras y modo
+
+    /**
+     * Construye un buscador.
+     * @param keywords - Las palabras a buscar; su &iacute;ndice en la
+     * colecci&oacute;n identifica cada aparici&oacute;n.
+     * @param ignoreCase - <tt>true</tt> para ignorar las diferencias entre
+     * may&uacute;sculas y min&uacute;sculas, como
+     * <tt>equalsIgnoreCase</tt>.
+     * @throws IllegalArgumentException - Si alguna palabra est&aacute;
+     * vac&iacute;a.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public MultiPatternMatcher(Collection<? extends CharSequence> keywords,
+            boolean ignoreCase) {
+        this.IGNORE_CASE = ignoreCase;
+        this.KEYWORDS = new String[keywords.size()];
+        this.DUPLICATE = new int[KEYWORDS.length];
+        Arrays.fill(DUPLICATE, -1);
+        // trie temporal: las transiciones de cada estado, ordenadas
+        ArrayList<TreeMap<Character, Integer>> trie =
+                new ArrayList<TreeMap<Character, Integer>>();
+        ArrayList<Integer> terminal = new ArrayList<Integer>();
+        trie.add(new TreeMap<Character, Integer>());
+        terminal.add(-1);
+        int k = 0;
+        for(CharSequence keyword : keywords) {
+            if(keyword.length() == 0) {
+                throw new IllegalArgumentException("Keyword " +k
+                        +" is empty; empty keywords can't be matched.");
+            }//si está vacía
+            KEYWORDS[k] = keyword.toString();
+            int state = 0;
+            for(int i = 0; i < keyword.length(); i++) {
+                Character c = fold(keyword.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if(next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<Character, Integer>());
+                    terminal.add(-1);
+                }//si no existe el estado
+                state = next;
+            }//recorre o agrega cada caracter
+            int first = terminal.get(state);
+            if(first == -1) {
+                terminal.set(state, k);
+            } else {
+                while(DUPLICATE[first] != -1) {
+                    first = DUPLICATE[first];
+                }//busca la última palabra igual
+                DUPLICATE[first] = k;
+            }//si ya había una palabra igual
+            k++;
+        }//agrega cada palabra
+        int states = trie.size();
+        this.EDGE_START = new int[states +1];
+        this.EDGE_CHARS = new char[states -1];
+        this.EDGE_TARGETS = new int[states -1];
+        this.TERMINAL = new int[states];
+        int edge = 0;
+        for(int s = 0; s < states; s++) {
+            EDGE_START[s] = edge;
+            for(Map.Entry<Character, Integer> e : trie.get(s).entrySet()) {
+                EDGE_CHARS[edge] = e.getKey();
+                EDGE_TARGETS[edge] = e.getValue();
+                edge++;
+            }//copia las transiciones ordenadas
+            TERMINAL[s] = terminal.get(s);
+        }//compacta el trie en arreglos
+        EDGE_START[states] = edge;
+        char[] alphabet = EDGE_CHARS.clone();
+        Arrays.sort(alphabet);
+        int distinct = 0;
+        for(int i = 0; i < alphabet.length; i++) {
+            if(i == 0 || alphabet[i] != alphabet[i -1]) {
+                alphabet[distinct++] = alphabet[i];
+            }//si es un caracter nuevo
+        }//quita los repetidos
+        this.ALPHABET = Arrays.copyOf(alphabet, distinct);
+        this.WIDTH = distinct +1;
+        this.LATIN1_CLASS = new int[256];
+        for(int i = 0; i < distinct && ALPHABET[i] < 256; i++) {
+            LATIN1_CLASS[ALPHABET[i]] = i +1;
+        }//clasifica los caracteres menores a 256
+        this.DELTA = (long) states *WIDTH <= MAX_TABLE
+                ? new int[states *WIDTH] : null;
+        this.FAIL = new int[states];
+        this.OUTPUT_LINK = new int[states];
+        OUTPUT_LINK[0] = -1;
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        while(head < tail) {
+            int s = queue[head++];
+            for(int e = EDGE_START[s]; e < EDGE_START[s +1]; e++) {
+                int child = EDGE_TARGETS[e];
+                int fail = 0;
+                if(s != 0) {
+                    fail = next(FAIL[s], EDGE_CHARS[e]);
+                }//los hijos de la raíz fallan a la raíz
+                FAIL[child] = fail;
+                OUTPUT_LINK[child] = TERMINAL[fail] != -1 ? fail
+                        : OUTPUT_LINK[fail];
+                queue[tail++] = child;
+            }//calcula la falla de cada hijo
+            if(DELTA != null) {
+                fillTable(s);
+            }//si cabe la tabla completa
+        }//recorre el trie por niveles
+    }//constructor con colección
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntas palabras se buscan.
+     * @return int - El n&uacute;mero de palabras.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public int getKeywordCount() {
+        return KEYWORDS.length;
+    }//getKeywordCount
+
+    /**
+     * Devuelve la palabra con el &iacute;ndice dado.
+     * @param keyword - El &iacute;ndice de la palabra.
+     * @return String - La palabra, como se dio.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public String getKeyword(int keyword) {
+        return KEYWORDS[keyword];
+    }//getKeyword
+
+    /**
+     * Indica si se ignoran las diferencias entre may&uacute;sculas y
+     * min&uacute;sculas.
+     * @return boolean - <tt>true</tt> si se ignoran.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public boolean isIgnoreCase() {
+        return IGNORE_CASE;
+    }//isIgnoreCase
+
+    // métodos de implementación
+
+    /**
+     * Crea un cursor para recorrer las apariciones en el texto dado. Cada
+     * hilo debe usar su propio cursor.
+     * @param text - El texto.
+     * @return Cursor - El cursor, antes de la primera aparici&oacute;n.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public Cursor cursor(CharSequence text) {
+        return new Cursor(text);
+    }//cursor
+
+    /**
+     * Entrega al escucha cada aparici&oacute;n de las palabras en el texto,
+     * en orden de su final; las que terminan en el mismo lugar, de la
+     * m&aacute;s larga a la m&aacute;s corta.
+     * @param text - El texto.
+     * @param listener - Quien recibe las apariciones.
+     * @return int - El n&uacute;mero de apariciones entregadas.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public int match(CharSequence text, MatchListener listener) {
+        int count = 0;
+        int state = 0;
+        for(int i = 0, n = text.length(); i < n; i++) {
+            state = next(state, fold(text.charAt(i)));
+            for(int s = TERMINAL[state] != -1 ? state : OUTPUT_LINK[state];
+                    s != -1; s = OUTPUT_LINK[s]) {
+                for(int k = TERMINAL[s]; k != -1; k = DUPLICATE[k]) {
+                    count++;
+                    if(!listener.onMatch(k, i +1 -KEYWORDS[k].length(),
+                            i +1)) {
+                        return count;
+                    }//si el escucha ya no quiere más
+                }//cada palabra que termina aquí
+            }//cada estado con salida en la cadena de falla
+        }//recorre el texto una vez
+        return count;
+    }//match
+
+    /**
+     * Indica si alguna de las palabras aparece en el texto. Se detiene en la
+     * primera aparici&oacute;n.
+     * @param text - El texto.
+     * @return boolean - <tt>true</tt> si aparece alguna.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for(int i = 0, n = text.length(); i < n; i++) {
+            state = next(state, fold(text.charAt(i)));
+            if(TERMINAL[state] != -1 || OUTPUT_LINK[state] != -1) {
+                return true;
+            }//si termina alguna palabra
+        }//recorre el texto
+        return false;
+    }//containsAny
+
+    /**
+     * Cuenta las apariciones de las palabras en el texto.
+     * @param text - El texto.
+     * @return int - El n&uacute;mero de apariciones, con traslapes.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public int count(CharSequence text) {
+        Cursor cursor = new Cursor(text);
+        int count = 0;
+        while(cursor.find()) {
+            count++;
+        }//cuenta cada aparición
+        return count;
+    }//count
+
+    /**
+     * Calcula el estado siguiente del aut&oacute;mata.
+     * @param state - El estado actual.
+     * @param c - El caracter le&iacute;do, ya normalizado.
+     * @return int - El estado siguiente.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private int next(int state, char c) {
+        if(DELTA != null) {
+            return DELTA[state *WIDTH +classOf(c)];
+        }//si hay tabla completa
+        return edgeOrFail(state, c);
+    }//next
+
+    /**
+     * Calcula el estado siguiente del aut&oacute;mata con las transiciones
+     * del trie, siguiendo las fallas.
+     * @param state - El estado actual.
+     * @param c - El caracter le&iacute;do, ya normalizado.
+     * @return int - El estado siguiente.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private int edgeOrFail(int state, char c) {
+        while(true) {
+            int low = EDGE_START[state];
+            int high = EDGE_START[state +1] -1;
+            while(low <= high) {
+                int middle = (low +high) >>> 1;
+                char m = EDGE_CHARS[middle];
+                if(m < c) {
+                    low = middle +1;
+                } else if(m > c) {
+                    high = middle -1;
+                } else {
+                    return EDGE_TARGETS[middle];
+                }//según el caracter
+            }//busca la transición
+            if(state == 0) {
+                return 0;
+            }//la raíz se queda en la raíz
+            state = FAIL[state];
+        }//sigue las fallas hasta encontrar una transición
+    }//edgeOrFail
+
+    /**
+     * Llena la fila del estado dado en la tabla completa. Las filas de los
+     * estados de falla, que son menos profundos, ya deben estar llenas.
+     * @param state - El estado.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private void fillTable(int state) {
+        int row = state *WIDTH;
+        int fail = FAIL[state] *WIDTH;
+        for(int x = 1; x < WIDTH; x++) {
+            DELTA[row +x] = state == 0 ? 0 : DELTA[fail +x];
+        }//sin transición propia, se comporta como su falla
+        for(int e = EDGE_START[state]; e < EDGE_START[state +1]; e++) {
+            DELTA[row +classOf(EDGE_CHARS[e])] = EDGE_TARGETS[e];
+        }//las transiciones propias
+    }//fillTable
+
+    /**
+     * Indica la clase del caracter dado.
+     * @param c - El caracter, ya normalizado.
+     * @return int - Su clase; 0 si no aparece en ninguna palabra.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private int classOf(char c) {
+        if(c < 256) {
+            return LATIN1_CLASS[c];
+        }//si está en la tabla directa
+        int i = Arrays.binarySearch(ALPHABET, c);
+        return i < 0 ? 0 : i +1;
+    }//classOf
+
+    /**
+     * Normaliza un caracter seg&uacute;n el modo del buscador. Sin distinguir
+     * may&uacute;sculas, dos caracteres tienen la misma forma normal si y
+     * s&oacute;lo si <tt>equalsIgnoreCase</tt> los considera iguales.
+     * @param c - El caracter.
+     * @return char - Su forma normal.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    private char fold(char c) {
+        return IGNORE_CASE ? Character.toLowerCase(Character.toUpperCase(c))
+                : c;
+    }//fold
+
+    // clases anidadas
+
+    /**
+     * Recibe las apariciones encontradas por
+     * {@link MultiPatternMatcher#match(CharSequence, MatchListener)}.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public interface MatchListener {
+
+        /**
+         * Recibe una aparici&oacute;n.
+         * @param keyword - El &iacute;ndice de la palabra.
+         * @param start - Donde empieza en el texto (inclusivo).
+         * @param end - Donde termina en el texto (exclusivo).
+         * @return boolean - <tt>true</tt> para seguir buscando;
+         * <tt>false</tt> para detenerse.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        boolean onMatch(int keyword, int start, int end);
+
+    }//MatchListener interface
+
+    /**
+     * Recorre una por una las apariciones de las palabras en un texto, en el
+     * mismo orden que {@link MultiPatternMatcher#match(CharSequence,
+     * MatchListener)}. No crea objetos por aparici&oacute;n y se puede
+     * reutilizar con otro texto con {@link #reset(CharSequence)}. No es
+     * seguro para hilos.
+     * @since MultiPatternMatcher 1.0, october 2026
+     */
+    public final class Cursor {
+
+        /**
+         * El texto.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private CharSequence text;
+
+        /**
+         * La longitud del texto.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int length;
+
+        /**
+         * El &iacute;ndice del siguiente caracter a leer.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int position;
+
+        /**
+         * El estado del aut&oacute;mata.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int state;
+
+        /**
+         * El estado con salida que se est&aacute; reportando; -1 si no hay.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int outputState;
+
+        /**
+         * La siguiente palabra a reportar en {@link #outputState}; -1 si no
+         * hay.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int pending;
+
+        /**
+         * La palabra de la aparici&oacute;n actual; -1 antes de la primera.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private int keyword;
+
+        /**
+         * Construye el cursor.
+         * @param text - El texto.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private Cursor(CharSequence text) {
+            reset(text);
+        }//constructor
+
+        /**
+         * Vuelve al inicio con el texto dado.
+         * @param text - El texto.
+         * @return Cursor - Este cursor.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        public Cursor reset(CharSequence text) {
+            this.text = text;
+            this.length = text.length();
+            this.position = 0;
+            this.state = 0;
+            this.outputState = -1;
+            this.pending = -1;
+            this.keyword = -1;
+            return this;
+        }//reset
+
+        /**
+         * Avanza a la siguiente aparici&oacute;n.
+         * @return boolean - <tt>true</tt> si la hay.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        public boolean find() {
+            while(pending == -1) {
+                if(outputState != -1) {
+                    outputState = OUTPUT_LINK[outputState];
+                } else if(position < length) {
+                    state = next(state, fold(text.charAt(position++)));
+                    outputState = TERMINAL[state] != -1 ? state
+                            : OUTPUT_LINK[state];
+                } else {
+                    keyword = -1;
+                    return false;
+                }//según lo que falte por reportar
+                if(outputState != -1) {
+                    pending = TERMINAL[outputState];
+                }//si hay palabras que reportar
+            }//busca la siguiente palabra a reportar
+            keyword = pending;
+            pending = DUPLICATE[pending];
+            return true;
+        }//find
+
+        /**
+         * Indica la palabra de la aparici&oacute;n actual.
+         * @return int - El &iacute;ndice de la palabra.
+         * @throws IllegalStateException - Si no hay aparici&oacute;n actual.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        public int keyword() {
+            checkMatch();
+            return keyword;
+        }//keyword
+
+        /**
+         * Indica d&oacute;nde empieza la aparici&oacute;n actual.
+         * @return int - El &iacute;ndice inicial (inclusivo).
+         * @throws IllegalStateException - Si no hay aparici&oacute;n actual.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        public int start() {
+            checkMatch();
+            return position -KEYWORDS[keyword].length();
+        }//start
+
+        /**
+         * Indica d&oacute;nde termina la aparici&oacute;n actual.
+         * @return int - El &iacute;ndice final (exclusivo).
+         * @throws IllegalStateException - Si no hay aparici&oacute;n actual.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        public int end() {
+            checkMatch();
+            return position;
+        }//end
+
+        /**
+         * Verifica que haya una aparici&oacute;n actual.
+         * @throws IllegalStateException - Si no la hay.
+         * @since MultiPatternMatcher 1.0, october 2026
+         */
+        private void checkMatch() {
+            if(keyword == -1) {
+                throw new IllegalStateException("No current match; call "
+                        +"find() first.");
+            }//si no hay aparición
+        }//checkMatch
+
+    }//Cursor class
+
+}//MultiPatternMatcher class
@@ -0,0 +1,750 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.ArrayDeque;
+
+/**
+ * <p>Cadena de valor comparable modificable, representada como una cuerda: un
+ * &aacute;rbol AVL cuyas hojas son trozos de a lo m&aacute;s
+ * {@link #MAX_LEAF} caracteres. Insertar, borrar, concatenar y tomar
+ * subcadenas cuesta O(log n) en lugar de copiar toda la cadena, por lo que
+ * sirve para documentos grandes que reciben muchas ediciones
+ * peque&ntilde;as.</p>
+ * <p>Los nodos del &aacute;rbol nunca cambian: una edici&oacute;n crea
+ * O(log n) nodos nuevos y comparte el resto. Por eso <tt>substring</tt> y
+ * <tt>concat</tt> devuelven cuerdas nuevas sin copiar caracteres, y cada nodo
+ * guarda su hash, de modo que {@link #hashCode()} s&oacute;lo recalcula los
+ * nodos que cambiaron.</p>
+ * <p>La <tt>String</tt> equivalente se crea s&oacute;lo cuando se solicita con
+ * {@link #getString()} o cuando se usa un m&eacute;todo que no tiene
+ * versi&oacute;n propia para cuerdas, y se conserva hasta la siguiente
+ * edici&oacute;n; el atributo <tt>string</tt> es s&oacute;lo esa copia.
+ * Como <tt>StringBuilder</tt>, esta clase no es segura para hilos. Al
+ * serializarse, se escribe como una {@link NachintochString}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class NachintochRope extends NachintochString {
+
+    // atributos de clase
+
+    /**
+     * N&uacute;mero m&aacute;ximo de caracteres en una hoja. Al unir dos
+     * partes que juntas no pasan de este tama&ntilde;o se copian en una sola
+     * hoja, para que muchas ediciones peque&ntilde;as no fragmenten el
+     * &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public static final int MAX_LEAF = 512;
+
+    /**
+     * La hoja vac&iacute;a.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static final Leaf EMPTY = new Leaf(new char[0], 0, 0);
+
+    /**
+     * La ra&iacute;z del &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private Node root;
+
+    // métodos constructores
+
+    /**
+     * Construye la cuerda vac&iacute;a.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope() {
+        this.string = "";
+        this.root = EMPTY;
+    }//constructor por omisión
+
+    /**
+     * Construye una cuerda con los caracteres dados. Si es otra cuerda,
+     * comparte su &aacute;rbol sin copiarlo.
+     * @param text - Los caracteres de la cuerda.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope(CharSequence text) {
+        this.string = null;
+        this.root = toNode(text);
+    }//constructor con caracteres
+
+    /**
+     * Construye una cuerda con el &aacute;rbol dado.
+     * @param root - La ra&iacute;z del &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private NachintochRope(Node root) {
+        this.string = null;
+        this.root = root;
+    }//constructor con árbol
+
+    // métodos de acceso
+
+    /**
+     * Devuelve la cadena representada. La primera vez despu&eacute;s de una
+     * edici&oacute;n copia las hojas en una <tt>String</tt>; mientras no haya
+     * otra edici&oacute;n devuelve la misma.
+     * @return String - La cadena representada.
+     * @since NachintochRope 1.0, october 2026
+     */
+    @Override
+    public String getString() {
+        String s = string;
+        if(s == null) {
+            char[] chars = new char[root.LENGTH];
+            root.getChars(0, root.LENGTH, chars, 0);
+            s = new String(chars);
+            string = s;
+        }//si no se ha aplanado
+        return s;
+    }//getString
+
+    /**
+     * Indica la altura del &aacute;rbol; una hoja tiene altura 0.
+     * @return int - La altura, O(log n).
+     * @since NachintochRope 1.0, october 2026
+     */
+    public int getHeight() {
+        return root.HEIGHT;
+    }//getHeight
+
+    // métodos de modificación
+
+    /**
+     * Agrega los caracteres dados al final de la cuerda.
+     * @param text - Los caracteres a agregar.
+     * @return NachintochRope - Esta cuerda.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope append(CharSequence text) {
+        return setRoot(join(root, toNode(text)));
+    }//append
+
+    /**
+     * Inserta los caracteres dados en la posici&oacute;n indicada.
+     * @param index - Donde quedar&aacute; el primer caracter insertado.
+     * @param text - Los caracteres a insertar.
+     * @return NachintochRope - Esta cuerda.
+     * @throws StringIndexOutOfBoundsException - Si el &iacute;ndice no
+     * est&aacute; en la cuerda.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope insert(int index, CharSequence text) {
+        checkRange(index, index);
+        return setRoot(join(join(prefix(root, index), toNode(text)),
+                suffix(root, index)));
+    }//insert
+
+    /**
+     * Borra los caracteres entre los &iacute;ndices dados.
+     * @param start - El primer &iacute;ndice a borrar (inclusivo).
+     * @param end - El &uacute;ltimo &iacute;ndice a borrar (exclusivo).
+     * @return NachintochRope - Esta cuerda.
+     * @throws StringIndexOutOfBoundsException - Si el intervalo no es
+     * v&aacute;lido.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope delete(int start, int end) {
+        checkRange(start, end);
+        return setRoot(join(prefix(root, start), suffix(root, end)));
+    }//delete
+
+    /**
+     * Reemplaza los caracteres entre los &iacute;ndices dados por los
+     * dados.
+     * @param start - El primer &iacute;ndice a reemplazar (inclusivo).
+     * @param end - El &uacute;ltimo &iacute;ndice a reemplazar (exclusivo).
+     * @param text - Los caracteres nuevos.
+     * @return NachintochRope - Esta cuerda.
+     * @throws StringIndexOutOfBoundsException - Si el intervalo no es
+     * v&aacute;lido.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope replace(int start, int end, CharSequence text) {
+        checkRange(start, end);
+        return setRoot(join(join(prefix(root, start), toNode(text)),
+                suffix(root, end)));
+    }//replace
+
+    /**
+     * Reconstruye el &aacute;rbol con hojas llenas y deja la cadena plana en
+     * la cuerda. Conviene despu&eacute;s de muchas ediciones, si siguen
+     * muchas lecturas.
+     * @return NachintochRope - Esta cuerda.
+     * @since NachintochRope 1.0, october 2026
+     */
+    public NachintochRope flatten() {
+        String s = getString();
+        root = toNode(s);
+        string = s;
+        return this;
+    }//flatten
+
+    /**
+     * Cambia la ra&iacute;z del &aacute;rbol y descarta la cadena plana.
+     * @param root - La nueva ra&iacute;z.
+     * @return NachintochRope - Esta cuerda.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private NachintochRope setRoot(Node root) {
+        this.root = root;
+        this.string = null;
+        return this;
+    }//setRoot
+
+    // métodos de implementación
+
+    @Override
+    public int length() {
+        return root.LENGTH;
+    }//length
+
+    @Override
+    public boolean isEmpty() {
+        return root.LENGTH == 0;
+    }//isEmpty
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= root.LENGTH) {
+            throw new StringIndexOutOfBoundsException(index);
+        }//si no hay tal caracter
+        Node node = root;
+        while(node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if(index < branch.LEFT.LENGTH) {
+                node = branch.LEFT;
+            } else {
+                index -= branch.LEFT.LENGTH;
+                node = branch.RIGHT;
+            }//según el lado donde está
+        }//baja hasta la hoja
+        Leaf leaf = (Leaf) node;
+        return leaf.VALUE[leaf.OFFSET +index];
+    }//charAt
+
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        checkRange(srcBegin, srcEnd);
+        if(dstBegin < 0 || dstBegin > dst.length -(srcEnd -srcBegin)) {
+            throw new ArrayIndexOutOfBoundsException(dstBegin);
+        }//si no cabe en el destino
+        root.getChars(srcBegin, srcEnd, dst, dstBegin);
+    }//getChars
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[root.LENGTH];
+        root.getChars(0, root.LENGTH, chars, 0);
+        return chars;
+    }//toCharArray
+
+    @Override
+    public int hashCode() {
+        return root.hash();
+    }//hashCode
+
+    @Override
+    public boolean equals(Object anObject) {
+        if(this == anObject) {
+            return true;
+        } else if(anObject instanceof NachintochString
+                || anObject instanceof String) {
+            CharSequence other = (CharSequence) anObject;
+            if(other.length() != root.LENGTH) {
+                return false;
+            } else if((other instanceof NachintochRope
+                    || other instanceof String)
+                    && other.hashCode() != hashCode()) {
+                return false;
+            }//si el hash, ya calculado, los distingue
+            return compareChars(other) == 0;
+        }//compara sólo contra cadenas
+        return false;
+    }//equals
+
+    @Override
+    public int compareTo(Object anotherObject) {
+        if(!(anotherObject instanceof NachintochString
+                || anotherObject instanceof String)) {
+            return super.compareTo(anotherObject);
+        }//deja que la clase base rechace el objeto
+        CharSequence other = (CharSequence) anotherObject;
+        int result = compareChars(other);
+        return result != 0 ? result : root.LENGTH -other.length();
+    }//compareTo
+
+    /**
+     * Concatena la cadena dada al final de esta, en una cuerda nueva que
+     * comparte el &aacute;rbol de esta; esta cuerda no cambia.
+     * @param nchStr - La cadena a concatenar.
+     * @return NachintochRope - La cuerda resultante.
+     * @see #append(CharSequence)
+     */
+    @Override
+    public NachintochRope concat(NachintochString nchStr) {
+        return new NachintochRope(join(root, toNode(nchStr)));
+    }//concat
+
+    /**
+     * Concatena la cadena dada al final de esta, en una cuerda nueva que
+     * comparte el &aacute;rbol de esta; esta cuerda no cambia.
+     * @param str - La cadena a concatenar.
+     * @return NachintochRope - La cuerda resultante.
+     * @see #append(CharSequence)
+     */
+    @Override
+    public NachintochRope concat(String str) {
+        return new NachintochRope(join(root, toNode(str)));
+    }//concat
+
+    @Override
+    public NachintochRope subSequence(int beginIndex, int endIndex) {
+        return substring(beginIndex, endIndex);
+    }//subSequence
+
+    @Override
+    public NachintochRope substring(int beginIndex) {
+        return substring(beginIndex, root.LENGTH);
+    }//substring
+
+    /**
+     * Devuelve la subcadena entre los &iacute;ndices dados, como una cuerda
+     * nueva que comparte los nodos de esta, en O(log n).
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @return NachintochRope - La subcadena.
+     * @see java.lang.String#substring(int, int)
+     */
+    @Override
+    public NachintochRope substring(int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex);
+        return new NachintochRope(suffix(prefix(root, endIndex), beginIndex));
+    }//substring
+
+    /**
+     * Compara los caracteres de esta cuerda con los de la dada, recorriendo
+     * las hojas sin aplanar la cuerda.
+     * @param cs - La otra cadena.
+     * @return int - La diferencia del primer caracter distinto; 0 si una es
+     * prefijo de la otra.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private int compareChars(CharSequence cs) {
+        int limit = Math.min(root.LENGTH, cs.length());
+        int j = 0;
+        ArrayDeque<Node> pending = new ArrayDeque<Node>();
+        pending.push(root);
+        while(j < limit) {
+            Node node = pending.pop();
+            if(node instanceof Branch) {
+                pending.push(((Branch) node).RIGHT);
+                pending.push(((Branch) node).LEFT);
+                continue;
+            }//si no es una hoja
+            Leaf leaf = (Leaf) node;
+            for(int i = leaf.OFFSET, end = i +Math.min(leaf.LENGTH,
+                    limit -j); i < end; i++) {
+                char c = leaf.VALUE[i];
+                char o = cs.charAt(j++);
+                if(c != o) {
+                    return c -o;
+                }//si difieren
+            }//compara los caracteres de la hoja
+        }//recorre las hojas en orden
+        return 0;
+    }//compareChars
+
+    /**
+     * Verifica que el intervalo dado est&eacute; dentro de la cuerda.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @throws StringIndexOutOfBoundsException - Si el intervalo no es
+     * v&aacute;lido.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private void checkRange(int beginIndex, int endIndex) {
+        if(beginIndex < 0 || endIndex > root.LENGTH || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " +beginIndex
+                    +", end " +endIndex +", length " +root.LENGTH);
+        }//si el intervalo no es válido
+    }//checkRange
+
+    /**
+     * Al serializarse, la cuerda se escribe como una {@link NachintochString}.
+     * @return Object - Una {@link NachintochString} equivalente.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private Object writeReplace() {
+        return new NachintochString(getString());
+    }//writeReplace
+
+    // métodos estáticos
+
+    /**
+     * Convierte los caracteres dados en un &aacute;rbol balanceado. Si son
+     * una cuerda, devuelve su ra&iacute;z.
+     * @param text - Los caracteres.
+     * @return Node - La ra&iacute;z del &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node toNode(CharSequence text) {
+        if(text instanceof NachintochRope) {
+            return ((NachintochRope) text).root;
+        }//si ya es un árbol
+        int length = text.length();
+        if(length == 0) {
+            return EMPTY;
+        }//si no hay caracteres
+        String s = text.toString();
+        Leaf[] leaves = new Leaf[(length +MAX_LEAF -1) /MAX_LEAF];
+        for(int i = 0; i < leaves.length; i++) {
+            int begin = i *MAX_LEAF;
+            int end = Math.min(begin +MAX_LEAF, length);
+            char[] chars = new char[end -begin];
+            s.getChars(begin, end, chars, 0);
+            leaves[i] = new Leaf(chars, 0, chars.length);
+        }//corta los caracteres en hojas
+        return build(leaves, 0, leaves.length);
+    }//toNode
+
+    /**
+     * Arma un &aacute;rbol balanceado con las hojas dadas, en orden.
+     * @param leaves - Las hojas.
+     * @param from - La primera hoja (inclusiva).
+     * @param to - La &uacute;ltima hoja (exclusiva).
+     * @return Node - La ra&iacute;z del &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node build(Leaf[] leaves, int from, int to) {
+        if(to -from == 1) {
+            return leaves[from];
+        }//si es una sola hoja
+        int middle = (from +to) >>> 1;
+        return new Branch(build(leaves, from, middle),
+                build(leaves, middle, to));
+    }//build
+
+    /**
+     * Une dos &aacute;rboles, en orden, rebalanceando s&oacute;lo el camino
+     * donde se juntan: O(|altura(a) -altura(b)|).
+     * @param a - El &aacute;rbol izquierdo.
+     * @param b - El &aacute;rbol derecho.
+     * @return Node - La ra&iacute;z de la uni&oacute;n.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node join(Node a, Node b) {
+        if(a.LENGTH == 0) {
+            return b;
+        } else if(b.LENGTH == 0) {
+            return a;
+        } else if(a.LENGTH +b.LENGTH <= MAX_LEAF) {
+            char[] chars = new char[a.LENGTH +b.LENGTH];
+            a.getChars(0, a.LENGTH, chars, 0);
+            b.getChars(0, b.LENGTH, chars, a.LENGTH);
+            return new Leaf(chars, 0, chars.length);
+        } else if(a.HEIGHT > b.HEIGHT +1) {
+            Branch branch = (Branch) a;
+            return balance(branch.LEFT, join(branch.RIGHT, b));
+        } else if(b.HEIGHT > a.HEIGHT +1) {
+            Branch branch = (Branch) b;
+            return balance(join(a, branch.LEFT), branch.RIGHT);
+        }//según la diferencia de alturas
+        return new Branch(a, b);
+    }//join
+
+    /**
+     * Crea un nodo con los hijos dados; si sus alturas difieren en dos, lo
+     * rota como en un &aacute;rbol AVL.
+     * @param left - El hijo izquierdo.
+     * @param right - El hijo derecho.
+     * @return Node - El nodo balanceado.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node balance(Node left, Node right) {
+        if(left.HEIGHT > right.HEIGHT +1) {
+            Branch l = (Branch) left;
+            if(l.LEFT.HEIGHT >= l.RIGHT.HEIGHT) {
+                return new Branch(l.LEFT, new Branch(l.RIGHT, right));
+            }//rotación simple
+            Branch lr = (Branch) l.RIGHT;
+            return new Branch(new Branch(l.LEFT, lr.LEFT),
+                    new Branch(lr.RIGHT, right));
+        } else if(right.HEIGHT > left.HEIGHT +1) {
+            Branch r = (Branch) right;
+            if(r.RIGHT.HEIGHT >= r.LEFT.HEIGHT) {
+                return new Branch(new Branch(left, r.LEFT), r.RIGHT);
+            }//rotación simple
+            Branch rl = (Branch) r.LEFT;
+            return new Branch(new Branch(left, rl.LEFT),
+                    new Branch(rl.RIGHT, r.RIGHT));
+        }//según el lado más alto
+        return new Branch(left, right);
+    }//balance
+
+    /**
+     * Devuelve el &aacute;rbol con los primeros caracteres del dado.
+     * @param node - El &aacute;rbol.
+     * @param end - El n&uacute;mero de caracteres a tomar.
+     * @return Node - La ra&iacute;z del prefijo.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node prefix(Node node, int end) {
+        if(end == 0) {
+            return EMPTY;
+        } else if(end == node.LENGTH) {
+            return node;
+        } else if(node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return new Leaf(leaf.VALUE, leaf.OFFSET, end);
+        }//si no hay que bajar
+        Branch branch = (Branch) node;
+        int left = branch.LEFT.LENGTH;
+        if(end <= left) {
+            return prefix(branch.LEFT, end);
+        }//si el corte está a la izquierda
+        return join(branch.LEFT, prefix(branch.RIGHT, end -left));
+    }//prefix
+
+    /**
+     * Devuelve el &aacute;rbol con los caracteres del dado a partir del
+     * &iacute;ndice indicado.
+     * @param node - El &aacute;rbol.
+     * @param begin - El primer &iacute;ndice a tomar.
+     * @return Node - La ra&iacute;z del sufijo.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static Node suffix(Node node, int begin) {
+        if(begin == 0) {
+            return node;
+        } else if(begin == node.LENGTH) {
+            return EMPTY;
+        } else if(node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return new Leaf(leaf.VALUE, leaf.OFFSET +begin,
+                    leaf.LENGTH -begin);
+        }//si no hay que bajar
+        Branch branch = (Branch) node;
+        int left = branch.LEFT.LENGTH;
+        if(begin >= left) {
+            return suffix(branch.RIGHT, begin -left);
+        }//si el corte está a la derecha
+        return join(suffix(branch.LEFT, begin), branch.RIGHT);
+    }//suffix
+
+    /**
+     * Calcula 31 elevado a la potencia dada, con el desbordamiento de
+     * <tt>int</tt> de <tt>String.hashCode</tt>.
+     * @param exponent - La potencia.
+     * @return int - 31<sup>exponent</sup>, m&oacute;dulo 2<sup>32</sup>.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static int pow31(int exponent) {
+        int result = 1;
+        int base = 31;
+        while(exponent > 0) {
+            if((exponent & 1) != 0) {
+                result *= base;
+            }//si el bit está encendido
+            base *= base;
+            exponent >>>= 1;
+        }//exponenciación binaria
+        return result;
+    }//pow31
+
+    // clases anidadas
+
+    /**
+     * Nodo inmutable del &aacute;rbol.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private abstract static class Node {
+
+        /**
+         * N&uacute;mero de caracteres bajo el nodo.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final int LENGTH;
+
+        /**
+         * Altura del nodo; las hojas tienen altura 0.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final int HEIGHT;
+
+        /**
+         * El hash de los caracteres bajo el nodo; 0 si no se ha calculado.
+         * @since NachintochRope 1.0, october 2026
+         */
+        private int hash;
+
+        /**
+         * Construye el nodo.
+         * @param length - N&uacute;mero de caracteres bajo el nodo.
+         * @param height - Altura del nodo.
+         * @since NachintochRope 1.0, october 2026
+         */
+        Node(int length, int height) {
+            this.LENGTH = length;
+            this.HEIGHT = height;
+        }//constructor
+
+        /**
+         * Devuelve el hash de los caracteres bajo el nodo, igual al de la
+         * <tt>String</tt> equivalente. Se calcula una sola vez.
+         * @return int - El hash.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final int hash() {
+            int h = hash;
+            if(h == 0 && LENGTH > 0) {
+                h = computeHash();
+                hash = h;
+            }//si no se ha calculado
+            return h;
+        }//hash
+
+        /**
+         * Calcula el hash de los caracteres bajo el nodo.
+         * @return int - El hash.
+         * @since NachintochRope 1.0, october 2026
+         */
+        abstract int computeHash();
+
+        /**
+         * Copia los caracteres indicados del nodo en el arreglo dado.
+         * @param begin - El primer &iacute;ndice (inclusivo).
+         * @param end - El &uacute;ltimo &iacute;ndice (exclusivo).
+         * @param dst - El arreglo destino.
+         * @param dstBegin - Donde escribir el primer caracter.
+         * @since NachintochRope 1.0, october 2026
+         */
+        abstract void getChars(int begin, int end, char[] dst, int dstBegin);
+
+    }//Node class
+
+    /**
+     * Hoja con un subarreglo de caracteres que nadie modifica.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static final class Leaf extends Node {
+
+        /**
+         * El arreglo con los caracteres; puede ser compartido con otras
+         * hojas.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final char[] VALUE;
+
+        /**
+         * &Iacute;ndice del primer caracter de la hoja en el arreglo.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final int OFFSET;
+
+        /**
+         * Construye la hoja.
+         * @param value - El arreglo con los caracteres.
+         * @param offset - &Iacute;ndice del primer caracter.
+         * @param length - N&uacute;mero de caracteres.
+         * @since NachintochRope 1.0, october 2026
+         */
+        Leaf(char[] value, int offset, int length) {
+            super(length, 0);
+            this.VALUE = value;
+            this.OFFSET = offset;
+        }//constructor
+
+        @Override
+        int computeHash() {
+            int h = 0;
+            for(int i = OFFSET, end = OFFSET +LENGTH; i < end; i++) {
+                h = 31 *h +VALUE[i];
+            }//mismo hash que String
+            return h;
+        }//computeHash
+
+        @Override
+        void getChars(int begin, int end, char[] dst, int dstBegin) {
+            System.arraycopy(VALUE, OFFSET +begin, dst, dstBegin,
+                    end -begin);
+        }//getChars
+
+    }//Leaf class
+
+    /**
+     * Nodo interno: la concatenaci&oacute;n de sus dos hijos.
+     * @since NachintochRope 1.0, october 2026
+     */
+    private static final class Branch extends Node {
+
+        /**
+         * El hijo izquierdo.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final Node LEFT;
+
+        /**
+         * El hijo derecho.
+         * @since NachintochRope 1.0, october 2026
+         */
+        final Node RIGHT;
+
+        /**
+         * Construye el nodo.
+         * @param left - El hijo izquierdo.
+         * @param right - El hijo derecho.
+         * @since NachintochRope 1.0, october 2026
+         */
+        Branch(Node left, Node right) {
+            super(left.LENGTH +right.LENGTH,
+                    Math.max(left.HEIGHT, right.HEIGHT) +1);
+            this.LEFT = left;
+            this.RIGHT = right;
+        }//constructor
+
+        @Override
+        int computeHash() {
+            // hash(a +b) = hash(a) *31^|b| +hash(b)
+            return LEFT.hash() *pow31(RIGHT.LENGTH) +RIGHT.hash();
+        }//computeHash
+
+        @Override
+        void getChars(int begin, int end, char[] dst, int dstBegin) {
+            int left = LEFT.LENGTH;
+            if(begin < left) {
+                LEFT.getChars(begin, Math.min(end, left), dst, dstBegin);
+            }//si hay caracteres a la izquierda
+            if(end > left) {
+                int from = Math.max(begin, left);
+                RIGHT.getChars(from -left, end -left, dst,
+                        dstBegin +from -begin);
+            }//si hay caracteres a la derecha
+        }//getChars
+
+    }//Branch class
+
+}//NachintochRope class
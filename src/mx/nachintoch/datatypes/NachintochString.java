@@ -4,6 +4,7 @@ import java.nio.charset.Charset;
 import java.io.Serializable;
 import java.util.Locale;
 import java.io.UnsupportedEncodingException;
+import java.util.regex.Pattern;
 
 /*
  * This file is part of Nachintoch utils library for Java and Android.
@@ -27,9 +28,22 @@ import java.io.UnsupportedEncodingException;
  * Cadena de valor comparable. Reimplementa todos los m&eacute;todos de la
  * clase String (java.lang.String); con la habilidad de adem&aacute;s retornar
  * su valor como objeto comprable.
+ * <p>Las subclases pueden guardar sus caracteres de otra forma (por ejemplo,
+ * {@link NachintochStringView}) y crear la <tt>String</tt> s&oacute;lo cuando
+ * se solicita; por ello, los m&eacute;todos de esta clase siempre obtienen la
+ * cadena con {@link #getString()} y no con el atributo <tt>string</tt>.</p>
+ * <p><b>Incompatibilidad desde la versi&oacute;n 1.1:</b> el atributo
+ * p&uacute;blico <tt>string</tt> puede ser <tt>null</tt> en una
+ * {@link NachintochStringView} que a&uacute;n no ha creado su
+ * <tt>String</tt>. Quien lo lea directamente debe usar {@link #getString()},
+ * que la crea la primera vez y la guarda en el atributo.</p>
+ * <p>Las expresiones regulares se compilan una sola vez y se guardan en la
+ * cach&eacute; de {@link PatternCache#getDefault()}. Si ya se tiene la
+ * expresi&oacute;n compilada, se pueden usar las versiones que reciben un
+ * <tt>Pattern</tt>.</p>
  * @author <a href="mailto:contact@nachintoch.mx" >Manuel Castillo,
  * "Nachintoch"</a>
- * @version 1.0, diciembre 2013
+ * @version 1.1, octubre 2026
  * @see java.lang.String
  */
 public class NachintochString implements ComparableValue, Serializable,
@@ -39,9 +53,17 @@ public class NachintochString implements ComparableValue, Serializable,
 	
 	/**
 	 * Cadena original envuelta en &eacute;sta cadena de valor comparable.
+	 * Desde la versi&oacute;n 1.1 es <tt>null</tt> en las vistas que no se
+	 * han materializado; para leerla, usar {@link #getString()}.
 	 */
 	public String string;
 	
+	/**
+	 * El valor de {@link #getValue()} y la cadena de la que se obtuvo;
+	 * <tt>null</tt> si no se ha calculado.
+	 */
+	private transient ParsedValue parsedValue;
+	
 	// métodos constructores
 	
 	/**
@@ -49,7 +71,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#String()
 	 */
 	public NachintochString() {
-		string = new String();
+		string = "";
 	}//constructor por omisión
 	
 	/**
@@ -168,21 +190,27 @@ public class NachintochString implements ComparableValue, Serializable,
 	}//constructor con origen de código UNICODE
 	
 	/**
-	 * Construye una cadena de valor comparable a partir de la dada.
-	 * @param original - La cadena a copiar
+	 * Construye una cadena de valor comparable a partir de la dada. Como
+	 * <tt>String</tt> es inmutable, la cadena se comparte en lugar de
+	 * copiarse.
+	 * @param original - La cadena a envolver.
 	 * @see java.lang.String#String(java.lang.String)
 	 */
 	public NachintochString(String original) {
-		string = new String(original);
+		if(original == null) {
+			throw new NullPointerException();
+		}//como lo haría new String(null)
+		string = original;
 	}//constructor de copia
 	
 	/**
-	 * Construye una cadena de valor comparable a partir de la dada.
-	 * @param original - La cadena a copiar
+	 * Construye una cadena de valor comparable a partir de la dada. Ambas
+	 * comparten la misma <tt>String</tt>, que es inmutable.
+	 * @param original - La cadena a envolver.
 	 * @see java.lang.String#String(java.lang.String)
 	 */
 	public NachintochString(NachintochString original) {
-		string = new String(original.getString());
+		string = original.getString();
 	}//constructor de copia
 	
 	/**
@@ -208,13 +236,29 @@ public class NachintochString implements ComparableValue, Serializable,
 	// métodos de acceso
 	
 	/**
-	 * Devuelve la cadena envuelta.
+	 * Devuelve la cadena envuelta. A diferencia del atributo
+	 * <tt>string</tt>, nunca es <tt>null</tt>: las subclases que crean la
+	 * cadena s&oacute;lo cuando se pide la crean aqu&iacute;.
 	 * @return String - La cadena representada.
 	 */
 	public String getString() {
 		return string;
 	}//getStirng
 	
+	/**
+	 * Devuelve una vista de &eacute;sta cadena: una cadena respaldada por un
+	 * arreglo de caracteres compartido, cuyas operaciones
+	 * <tt>substring</tt>, <tt>subSequence</tt>, <tt>trim</tt> y
+	 * <tt>split</tt> no copian caracteres. Crear la vista copia los
+	 * caracteres una sola vez.
+	 * @return NachintochStringView - La vista de &eacute;sta cadena.
+	 * @see NachintochStringView
+	 */
+	public NachintochStringView view() {
+		char[] value = getString().toCharArray();
+		return new NachintochStringView(value, 0, value.length);
+	}//view
+	
 	// métodos de implementación
 	
 	/**
@@ -223,20 +267,26 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * trate de interpretar su valor (como entero). Si no es posible parsear
 	 * la cadena en un entero; entonces se devuelve el hash de la cadena
 	 * envuelta.
+	 * <p>La cadena se interpreta con las mismas reglas que
+	 * <tt>Double.valueOf</tt>, pero sin lanzar excepciones cuando no es un
+	 * n&uacute;mero, y el resultado se guarda hasta que cambie la
+	 * cadena.</p>
 	 * @return int - El valor.
 	 */
 	@Override
 	public int getValue() {
-		try {
-			return Double.valueOf(string).intValue();
-		} catch(Exception e) {
-			return string.hashCode();
-		}//trata de interpretar la cadena como entero
+		String s = getString();
+		ParsedValue parsed = parsedValue;
+		if(parsed == null || parsed.SOURCE != s) {
+			parsed = new ParsedValue(s, parseValue(s));
+			parsedValue = parsed;
+		}//si no se ha interpretado esta cadena
+		return parsed.VALUE;
 	}//getValue
 	
 	@Override
 	public char charAt(int index) {
-		return string.charAt(index);
+		return getString().charAt(index);
 	}//charAt
 	
 	/**
@@ -246,7 +296,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * posici&oacute;n dada.
 	 */
 	public int codePointAt(int index) {
-		return string.codePointAt(index);
+		return getString().codePointAt(index);
 	}//codePointAt
 	
 	/**
@@ -258,7 +308,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * posici&oacute;n dada.
 	 */
 	public int codePointBefore(int index) {
-		return string.codePointBefore(index);
+		return getString().codePointBefore(index);
 	}//codePontBefore
 	
 	/**
@@ -269,16 +319,16 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @return int - El n&uacute;mero de puntos de UNICODE del intervalo.
 	 */
 	public int codePointCount(int beginIndex, int endIndex) {
-		return string.codePointCount(beginIndex, endIndex);
+		return getString().codePointCount(beginIndex, endIndex);
 	}//codePointCount
 	
 	@Override
 	public int compareTo(Object anotherObject) {
 		if(anotherObject instanceof NachintochString) {
-			return string.compareTo(((NachintochString) anotherObject)
+			return getString().compareTo(((NachintochString) anotherObject)
 				.getString());
 		} else if(anotherObject instanceof String) {
-			return string.compareTo((String) anotherObject);
+			return getString().compareTo((String) anotherObject);
 		} else {
 			throw new IllegalArgumentException("A NachintochString object is "
 				+ "only comparable with another NachintochString or a "
@@ -297,7 +347,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#compareToIgnoreCase(java.lang.String)
 	 */
 	public int compareToIgnoreCase(NachintochString nchStr) {
-		return string.compareToIgnoreCase(nchStr.getString());
+		return getString().compareToIgnoreCase(nchStr.getString());
 	}//compareToIgnoreCase
 	
 	/**
@@ -311,7 +361,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#compareToIgnoreCase(java.lang.String)
 	 */
 	public int compareToIgnoreCase(String str) {
-		return string.compareToIgnoreCase(str);
+		return getString().compareToIgnoreCase(str);
 	}//compareToIgnoreCase
 	
 	/**
@@ -321,7 +371,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#concat(java.lang.String)
 	 */
 	public NachintochString concat(NachintochString nchStr) {
-		return new NachintochString(string.concat(nchStr.getString()));
+		return new NachintochString(getString().concat(nchStr.getString()));
 	}//concat
 	
 	/**
@@ -331,7 +381,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#concat(java.lang.String)
 	 */
 	public NachintochString concat(String str) {
-		return new NachintochString(string.concat(str));
+		return new NachintochString(getString().concat(str));
 	}//concat
 	
 	/**
@@ -345,9 +395,9 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean contains(CharSequence s) {
 		if(s instanceof NachintochString) {
-			return string.contains(((NachintochString) s).getString());
+			return getString().contains(((NachintochString) s).getString());
 		} else {
-			return string.contains(s);
+			return getString().contains(s);
 		}//dependiendo si se trata de una NachintochString
 	}//contains
 	
@@ -360,9 +410,10 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean contentEquals(CharSequence cs) {
 		if(cs instanceof NachintochString) {
-			return string.contentEquals(((NachintochString) cs).getString());
+			return getString().contentEquals(
+				((NachintochString) cs).getString());
 		} else {
-			return string.contentEquals(cs);
+			return getString().contentEquals(cs);
 		}//dependeindo si se trata de una NachintochString
 	}//contentEquals
 	
@@ -374,7 +425,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#contentEquals(java.lang.StringBuffer)
 	 */
 	public boolean contentEquals(StringBuffer sb) {
-		return string.contentEquals(sb);
+		return getString().contentEquals(sb);
 	}//contentEquals
 	
 	/**
@@ -386,7 +437,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#endsWith(java.lang.String)
 	 */
 	public boolean endsWith(NachintochString suffix) {
-		return string.endsWith(suffix.getString());
+		return getString().endsWith(suffix.getString());
 	}//endsWith
 	
 	/**
@@ -398,15 +449,16 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#endsWith(java.lang.String)
 	 */
 	public boolean endsWith(String suffix) {
-		return string.endsWith(suffix);
+		return getString().endsWith(suffix);
 	}//endsWith
 	
 	@Override
 	public boolean equals(Object anObject) {
 		if(anObject instanceof NachintochString) {
-			return string.equals(((NachintochString) anObject).getString());
+			return getString().equals(
+				((NachintochString) anObject).getString());
 		} else {
-			return string.equals(anObject);
+			return getString().equals(anObject);
 		}//compara dependiendo se trate de una cadena de Nachintoch u otro
 	}//equals
 	
@@ -421,7 +473,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#equalsIgnoreCase(java.lang.String)
 	 */
 	public boolean equalsIgnoreCase(NachintochString anotherString) {
-		return string.equalsIgnoreCase(anotherString.getString());
+		return getString().equalsIgnoreCase(anotherString.getString());
 	}//equalsIgnoreCase
 	
 	/**
@@ -435,7 +487,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#equalsIgnoreCase(java.lang.String)
 	 */
 	public boolean equalsIgnoreCase(String anotherString) {
-		return string.equalsIgnoreCase(anotherString);
+		return getString().equalsIgnoreCase(anotherString);
 	}//equalsIgnoreCase
 	
 	/**
@@ -444,7 +496,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#getBytes()
 	 */
 	public byte[] getBytes() {
-		return string.getBytes();
+		return getString().getBytes();
 	}//getBytes
 	
 	/**
@@ -457,7 +509,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#getBytes(java.lang.String)
 	 */
 	public byte[] getBytes(Charset charset) {
-		return string.getBytes(charset);
+		return getString().getBytes(charset);
 	}//getBytes
 	
 	/**
@@ -472,12 +524,12 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#getChars(int, int, char[], int)
 	 */
 	public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
-		string.getChars(srcBegin, srcEnd, dst, dstBegin);
+		getString().getChars(srcBegin, srcEnd, dst, dstBegin);
 	}//getChars
 	
 	@Override
 	public int hashCode() {
-		return string.hashCode();
+		return getString().hashCode();
 	}//hashCode
 	
 	/**
@@ -490,7 +542,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#indexOf(int)
 	 */
 	public int indexOf(int ch) {
-		return string.indexOf(ch);
+		return getString().indexOf(ch);
 	}//indexOf
 	
 	/**
@@ -506,7 +558,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#indexOf(int, int)
 	 */
 	public int indexOf(int ch, int fromIndex) {
-		return string.indexOf(ch, fromIndex);
+		return getString().indexOf(ch, fromIndex);
 	}//indexOf
 	
 	/**
@@ -519,7 +571,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#lastIndexOf(int)
 	 */
 	public int lastIndexOf(int ch) {
-		return string.lastIndexOf(ch);
+		return getString().lastIndexOf(ch);
 	}//indexOf
 	
 	/**
@@ -535,7 +587,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#lastIndexOf(int, int)
 	 */
 	public int lastIndexOf(int ch, int fromIndex) {
-		return string.lastIndexOf(ch, fromIndex);
+		return getString().lastIndexOf(ch, fromIndex);
 	}//indexOf
 	
 	/**
@@ -547,7 +599,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#indexOf(String)
 	 */
 	public int indexOf(String str) {
-		return string.indexOf(str);
+		return getString().indexOf(str);
 	}//indexOf
 	
 	/**
@@ -560,7 +612,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * &eacute;sta a partir del dado. Si no la encuentra; devuelve -1.
 	 */
 	public int indexOf(String str, int fromIndex) {
-		return string.indexOf(str, fromIndex);
+		return getString().indexOf(str, fromIndex);
 	}//indexOf
 	
 	/**
@@ -572,7 +624,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#indexOf(String)
 	 */
 	public int indexOf(NachintochString nchStr) {
-		return string.indexOf(nchStr.getString());
+		return getString().indexOf(nchStr.getString());
 	}//indexOf
 	
 	/**
@@ -585,7 +637,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * &eacute;sta a partir del dado. Si no la encuentra; devuelve -1.
 	 */
 	public int indexOf(NachintochString nchStr, int fromIndex) {
-		return string.indexOf(nchStr.getString(), fromIndex);
+		return getString().indexOf(nchStr.getString(), fromIndex);
 	}//indexOf
 	
 	/**
@@ -597,7 +649,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#lastIndexOf(String)
 	 */
 	public int lastIndexOf(String str) {
-		return string.lastIndexOf(str);
+		return getString().lastIndexOf(str);
 	}//indexOf
 	
 	/**
@@ -609,16 +661,20 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#lastIndexOf(String)
 	 */
 	public int lastIndexOf(NachintochString nchStr) {
-		return string.lastIndexOf(nchStr.getString());
+		return getString().lastIndexOf(nchStr.getString());
 	}//indexOf
 	
 	/**
-	 * Devuelve una representaci&oacute;n can&oacute;nica de la cadena.
+	 * Devuelve una representaci&oacute;n can&oacute;nica de la cadena: todas
+	 * las cadenas iguales devuelven la misma instancia, tomada de
+	 * {@link NachintochStringPool#getDefault()}. Su <tt>String</tt> es la de
+	 * <tt>String.intern()</tt>.
 	 * @return NachintochString - La representaci&oacute;n can&oacute;nica.
 	 * @see java.lang.String#intern()
+	 * @see NachintochStringPool
 	 */
 	public NachintochString intern() {
-		return new NachintochString(string.intern());
+		return NachintochStringPool.getDefault().intern(this);
 	}//intern
 	
 	/**
@@ -628,12 +684,12 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#isEmpty()
 	 */
 	public boolean isEmpty() {
-		return string.isEmpty();
+		return getString().isEmpty();
 	}//isEmpty
 	
 	@Override
 	public int length() {
-		return string.length();
+		return getString().length();
 	}//length
 	
 	/**
@@ -646,7 +702,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#matches(java.lang.String)
 	 */
 	public boolean matches(String regex) {
-		return string.matches(regex);
+		return matches(PatternCache.getDefault().compile(regex));
 	}//matches
 	
 	/**
@@ -659,7 +715,20 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#matches(java.lang.String)
 	 */
 	public boolean matches(NachintochString regex) {
-		return string.matches(regex.getString());
+		return matches(regex.getString());
+	}//matches
+	
+	/**
+	 * Indica si &eacute;sta cadena equivale o no a la expresi&oacute;n
+	 * regular compilada dada.
+	 * @param pattern - La expresi&oacute;n regular a comprobar equivale a
+	 * &eacute;sta cadena.
+	 * @return boolean - <tt>true</tt> si &eacute;sta cadena equivale a la
+	 * expresi&oacute;n regular dada, <tt>false</tt> en otro caso.
+	 * @see java.util.regex.Matcher#matches()
+	 */
+	public boolean matches(Pattern pattern) {
+		return pattern.matcher(getString()).matches();
 	}//matches
 	
 	/**
@@ -672,7 +741,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#offsetByCodePoints(int, int)
 	 */
 	public int offsetByCodePoints(int index, int codePointOffset) {
-		return string.offsetByCodePoints(index, codePointOffset);
+		return getString().offsetByCodePoints(index, codePointOffset);
 	}//offsetByCodePoints
 	
 	/**
@@ -695,7 +764,8 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean regionMatches(boolean ignoreCase, int toffset,
 		String other, int offset, int len) {
-		return string.regionMatches(ignoreCase, toffset, other, offset, len);
+		return getString().regionMatches(ignoreCase, toffset, other, offset,
+			len);
 	}//regionMatches
 	
 	/**
@@ -714,7 +784,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean regionMatches(int toffset, String other, int offset,
 		int len) {
-		return string.regionMatches(toffset, other, offset, len);
+		return getString().regionMatches(toffset, other, offset, len);
 	}//regionMatches
 	
 	/**
@@ -737,7 +807,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean regionMatches(boolean ignoreCase, int toffset,
 		NachintochString other, int offset, int len) {
-		return string.regionMatches(ignoreCase, toffset, other.getString(),
+		return getString().regionMatches(ignoreCase, toffset, other.getString(),
 			offset, len);
 	}//regionMatches
 	
@@ -757,7 +827,8 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public boolean regionMatches(int toffset, NachintochString other,
 		int offset, int len) {
-		return string.regionMatches(toffset, other.getString(), offset, len);
+		return getString().regionMatches(toffset, other.getString(), offset,
+			len);
 	}//regionMatches
 	
 	/**
@@ -772,7 +843,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#replace(char, char)
 	 */
 	public NachintochString replace(char oldChar, char newChar) {
-		return new NachintochString(string.replace(oldChar, newChar));
+		return new NachintochString(getString().replace(oldChar, newChar));
 	}//replace
 	
 	/**
@@ -789,19 +860,19 @@ public class NachintochString implements ComparableValue, Serializable,
 		CharSequence replacement) {
 		if(target instanceof NachintochString) {
 			if(replacement instanceof NachintochString) {
-				return new NachintochString(string.replace(
+				return new NachintochString(getString().replace(
 					((NachintochString) target).getString(),
 					((NachintochString) replacement).getString()));
 			} else {
-				return new NachintochString(string.replace(
+				return new NachintochString(getString().replace(
 					((NachintochString) target).getString(), replacement));
 			}//si remplacement es una NachintochString
 		} else {
 			if(replacement instanceof NachintochString) {
-				return new NachintochString(string.replace(target,
+				return new NachintochString(getString().replace(target,
 					((NachintochString) replacement).getString()));
 			} else {
-				return new NachintochString(string.replace(target,
+				return new NachintochString(getString().replace(target,
 					replacement));
 			}//si remplacement es una NachintochString
 		}//si target es una NachintochString
@@ -820,7 +891,8 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#replaceAll(String, String)
 	 */
 	public NachintochString replaceAll(String regex, String replacement) {
-		return new NachintochString(string.replaceAll(regex, replacement));
+		return replaceAll(PatternCache.getDefault().compile(regex),
+			replacement);
 	}//replaceAll
 	
 	/**
@@ -836,7 +908,8 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#replaceFirst(String, String)
 	 */
 	public NachintochString replaceFirst(String regex, String replacement) {
-		return new NachintochString(string.replaceFirst(regex, replacement));
+		return replaceFirst(PatternCache.getDefault().compile(regex),
+			replacement);
 	}//replaceFirst
 	
 	/**
@@ -853,8 +926,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public NachintochString replaceAll(NachintochString regex,
 		NachintochString replacement) {
-		return new NachintochString(string.replaceAll(regex.getString(),
-			replacement.getString()));
+		return replaceAll(regex.getString(), replacement.getString());
 	}//replaceAll
 	
 	/**
@@ -871,8 +943,40 @@ public class NachintochString implements ComparableValue, Serializable,
 	 */
 	public NachintochString replaceFirst(NachintochString regex,
 		NachintochString replacement) {
-		return new NachintochString(string.replaceFirst(regex.getString(),
-			replacement.getString()));
+		return replaceFirst(regex.getString(), replacement.getString());
+	}//replaceFirst
+	
+	/**
+	 * Devuelve una cadena que parte de &eacute;sta; reemplazando todas las
+	 * apariciones de la expresi&oacute;n regular compilada dada.
+	 * @param pattern - La expresi&oacute;n regular que se espera aparezca en
+	 * &eacute;sta cadena.
+	 * @param replacement - La cadena con la que se va a reemplazar la
+	 * expresi&oacute;n regular dada.
+	 * @return NachintochString - La cadena con las apariciones de <tt>pattern
+	 * </tt> reemplazadas por <tt>replacement</tt>.
+	 * @see java.util.regex.Matcher#replaceAll(String)
+	 */
+	public NachintochString replaceAll(Pattern pattern, String replacement) {
+		return new NachintochString(pattern.matcher(getString())
+			.replaceAll(replacement));
+	}//replaceAll
+	
+	/**
+	 * Devuelve una cadena; que parte de &eacute;sta, reemplazando la primer
+	 * aparici&oacute;n de la expresi&oacute;n regular compilada dada.
+	 * @param pattern - La expresi&oacute;n regular que se espera aparezca en
+	 * &eacute;sta cadena.
+	 * @param replacement - La cadena con la que se va a reemplazar la primer
+	 * aparcici&oacute;n de la expresi&oacute;n regular dada.
+	 * @return NachintochString - La cadena con la primer aparici&oacute;n de
+	 * <tt>pattern</tt> reemplazada por <tt>replacement</tt>.
+	 * @see java.util.regex.Matcher#replaceFirst(String)
+	 */
+	public NachintochString replaceFirst(Pattern pattern,
+		String replacement) {
+		return new NachintochString(pattern.matcher(getString())
+			.replaceFirst(replacement));
 	}//replaceFirst
 	
 	/**
@@ -885,12 +989,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#split(java.lang.String)
 	 */
 	public NachintochString[] split(String regex) {
-		String[] preresult = string.split(regex);
-		NachintochString[] result = new NachintochString[preresult.length];
-		for(int i = 0; i < preresult.length; i++) {
-			result[i] = new NachintochString(preresult[i]);
-		}//puebla el reultado
-		return result;
+		return split(regex, 0);
 	}//split
 	
 	/**
@@ -904,7 +1003,14 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#split(java.lang.String, int)
 	 */
 	public NachintochString[] split(String regex, int limit) {
-		String[] preresult = string.split(regex, limit);
+		String[] preresult;
+		if(NachintochStringView.literalChar(regex) >= 0) {
+			// String.split no compila expresiones de un solo caracter
+			preresult = getString().split(regex, limit);
+		} else {
+			preresult = PatternCache.getDefault().compile(regex)
+				.split(getString(), limit);
+		}//si hace falta la expresión regular
 		NachintochString[] result = new NachintochString[preresult.length];
 		for(int i = 0; i < preresult.length; i++) {
 			result[i] = new NachintochString(preresult[i]);
@@ -922,12 +1028,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#split(java.lang.String)
 	 */
 	public NachintochString[] split(NachintochString regex) {
-		String[] preresult = string.split(regex.getString());
-		NachintochString[] result = new NachintochString[preresult.length];
-		for(int i = 0; i < preresult.length; i++) {
-			result[i] = new NachintochString(preresult[i]);
-		}//puebla el reultado
-		return result;
+		return split(regex.getString(), 0);
 	}//split
 	
 	/**
@@ -941,7 +1042,34 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#split(java.lang.String, int)
 	 */
 	public NachintochString[] split(NachintochString regex, int limit) {
-		String[] preresult = string.split(regex.getString(), limit);
+		return split(regex.getString(), limit);
+	}//split
+	
+	/**
+	 * Divide la cadena en varias resultantes que agrupa en un arreglo. Los
+	 * puntos de ruptura, son las apariciones de la expresi&oacute;n regular
+	 * compilada dada.
+	 * @param pattern - La expresi&oacute;n regular que sirve como punto de
+	 * ruptura.
+	 * @return NachintochString[] - El arreglo de las cadenas resultantes.
+	 * @see java.util.regex.Pattern#split(CharSequence)
+	 */
+	public NachintochString[] split(Pattern pattern) {
+		return split(pattern, 0);
+	}//split
+	
+	/**
+	 * Divide la cadena en varias resultantes que agrupa en un arreglo; limita
+	 * las diviciones por el segundo par&aacute;metro. Los puntos de ruptura
+	 * son las apariciones de la expresi&oacute;n regular compilada dada.
+	 * @param pattern - La expresi&oacute;n regular que sirve como punto de
+	 * ruptura.
+	 * @param limit - El n&uacute;mero m&aacute;ximo de subcadenas a crear.
+	 * @return NachintochString[] - El arreglo de cadenas resultantes.
+	 * @see java.util.regex.Pattern#split(CharSequence, int)
+	 */
+	public NachintochString[] split(Pattern pattern, int limit) {
+		String[] preresult = pattern.split(getString(), limit);
 		NachintochString[] result = new NachintochString[preresult.length];
 		for(int i = 0; i < preresult.length; i++) {
 			result[i] = new NachintochString(preresult[i]);
@@ -949,6 +1077,43 @@ public class NachintochString implements ComparableValue, Serializable,
 		return result;
 	}//split
 	
+	/**
+	 * Devuelve un divisor que entrega, conforme se solicitan, las mismas
+	 * piezas que <tt>split(regex, -1)</tt>; cada una es una vista sin copia de
+	 * caracteres. Si la expresi&oacute;n es un caracter o una cadena sin
+	 * metacaracteres, no se usan expresiones regulares.
+	 * @param regex - La expresi&oacute;n regular que sirve como punto de
+	 * ruptura.
+	 * @return NachintochStringTokenizer - El divisor de &eacute;sta cadena.
+	 * @see NachintochStringTokenizer
+	 */
+	public NachintochStringTokenizer tokenize(String regex) {
+		return new NachintochStringTokenizer(this, regex);
+	}//tokenize
+	
+	/**
+	 * Devuelve un divisor que entrega, conforme se solicitan, las piezas de
+	 * &eacute;sta cadena separadas por el caracter dado.
+	 * @param delimiter - El caracter que sirve como punto de ruptura.
+	 * @return NachintochStringTokenizer - El divisor de &eacute;sta cadena.
+	 * @see NachintochStringTokenizer
+	 */
+	public NachintochStringTokenizer tokenize(char delimiter) {
+		return new NachintochStringTokenizer(this, delimiter);
+	}//tokenize
+	
+	/**
+	 * Devuelve un divisor que entrega, conforme se solicitan, las piezas de
+	 * &eacute;sta cadena separadas por la cadena dada; sin interpretarla como
+	 * expresi&oacute;n regular.
+	 * @param delimiter - La cadena que sirve como punto de ruptura.
+	 * @return NachintochStringTokenizer - El divisor de &eacute;sta cadena.
+	 * @see NachintochStringTokenizer
+	 */
+	public NachintochStringTokenizer tokenizeLiteral(String delimiter) {
+		return new NachintochStringTokenizer(this, delimiter, true);
+	}//tokenizeLiteral
+	
 	/**
 	 * Indica si la cadena tiene el prefijo dado.
 	 * @param prefix - El prefijo que se desea saber tiene &eacute;sta cadena.
@@ -957,7 +1122,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#startsWith(java.lang.String)
 	 */
 	public boolean startsWith(String prefix) {
-		return string.startsWith(prefix);
+		return getString().startsWith(prefix);
 	}//startsWith
 	
 	/**
@@ -972,7 +1137,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#startsWith(java.lang.String, int)
 	 */
 	public boolean startsWith(String prefix, int toffset) {
-		return string.startsWith(prefix, toffset);
+		return getString().startsWith(prefix, toffset);
 	}//startsWith
 	
 	/**
@@ -983,7 +1148,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#startsWith(java.lang.String)
 	 */
 	public boolean startsWith(NachintochString prefix) {
-		return string.startsWith(prefix.getString());
+		return getString().startsWith(prefix.getString());
 	}//startsWith
 	
 	/**
@@ -998,12 +1163,12 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#startsWith(java.lang.String, int)
 	 */
 	public boolean startsWith(NachintochString prefix, int toffset) {
-		return string.startsWith(prefix.getString(), toffset);
+		return getString().startsWith(prefix.getString(), toffset);
 	}//startsWith
 	
 	@Override
 	public CharSequence subSequence(int beginIndex, int endIndex) {
-		return string.subSequence(beginIndex, endIndex);
+		return getString().subSequence(beginIndex, endIndex);
 	}//subSequece
 	
 	/**
@@ -1014,7 +1179,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#substring(int)
 	 */
 	public NachintochString substring(int beginIndex) {
-		return new NachintochString(string.substring(beginIndex));
+		return new NachintochString(getString().substring(beginIndex));
 	}//substring
 	
 	/**
@@ -1028,7 +1193,8 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#substring(int, int)
 	 */
 	public NachintochString substring(int beginIndex, int endIndex) {
-		return new NachintochString(string.substring(beginIndex, endIndex));
+		return new NachintochString(getString().substring(beginIndex,
+			endIndex));
 	}//substring
 	
 	/**
@@ -1037,7 +1203,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#toCharArray()
 	 */
 	public char[] toCharArray() {
-		return string.toCharArray();
+		return getString().toCharArray();
 	}//toCharArray
 	
 	/**
@@ -1048,7 +1214,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#toLowerCase()
 	 */
 	public NachintochString toLowerCase() {
-		return new NachintochString(string.toLowerCase());
+		return new NachintochString(getString().toLowerCase());
 	}//toLowerCase
 	
 	/**
@@ -1061,12 +1227,12 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#toLowerCase(java.util.Locale)
 	 */
 	public NachintochString toLowerCase(Locale locale) {
-		return new NachintochString(string.toLowerCase(locale));
+		return new NachintochString(getString().toLowerCase(locale));
 	}//toLowerCase
 	
 	@Override
 	public String toString() {
-		return string;
+		return getString();
 	}//toString
 	
 	/**
@@ -1077,7 +1243,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#toUpperCase()
 	 */
 	public NachintochString toUpperCase() {
-		return new NachintochString(string.toUpperCase());
+		return new NachintochString(getString().toUpperCase());
 	}//toUpperCase
 	
 	/**
@@ -1090,7 +1256,7 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#toUpperCase(java.util.Locale)
 	 */
 	public NachintochString toUpperCase(Locale locale) {
-		return new NachintochString(string.toUpperCase(locale));
+		return new NachintochString(getString().toUpperCase(locale));
 	}//toUpperCase
 	
 	/**
@@ -1101,8 +1267,173 @@ public class NachintochString implements ComparableValue, Serializable,
 	 * @see java.lang.String#trim()
 	 */
 	public NachintochString trim() {
-		return new NachintochString(string.trim());
+		return new NachintochString(getString().trim());
 	}//trim
 	
+	// métodos estáticos
+	
+	/**
+	 * Interpreta la cadena dada como <tt>Double.valueOf(s).intValue()</tt>;
+	 * si no es un n&uacute;mero, devuelve su hash. Los enteros y decimales
+	 * simples de hasta 15 d&iacute;gitos se convierten aqu&iacute; mismo; el
+	 * resto s&oacute;lo se pasa a <tt>Double.parseDouble</tt> despu&eacute;s
+	 * de verificar su sintaxis, para nunca crear una excepci&oacute;n.
+	 * @param s - La cadena.
+	 * @return int - El valor de la cadena.
+	 */
+	static int parseValue(String s) {
+		int begin = 0;
+		int end = s.length();
+		while(begin < end && s.charAt(begin) <= ' ') {
+			begin++;
+		}//quita los espacios iniciales, como trim
+		while(end > begin && s.charAt(end -1) <= ' ') {
+			end--;
+		}//quita los espacios finales, como trim
+		if(begin == end) {
+			return s.hashCode();
+		}//si no hay nada que interpretar
+		int i = begin;
+		char c = s.charAt(i);
+		boolean negative = c == '-';
+		if(c == '+' || c == '-') {
+			i++;
+		}//si tiene signo
+		long integer = 0;
+		int digits = 0;
+		boolean any = false;
+		boolean fraction = false;
+		for(; i < end && digits <= 15; i++) {
+			c = s.charAt(i);
+			if(c >= '0' && c <= '9') {
+				any = true;
+				if(fraction) {
+					digits++;
+				} else if(digits > 0 || c != '0') {
+					digits++;
+					integer = integer *10 +(c -'0');
+				}//los ceros iniciales no cuentan
+			} else if(c == '.' && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}//según el caracter
+		}//lee un número decimal simple
+		if(i == end && any && digits <= 15) {
+			// con 15 dígitos el double no puede redondear al siguiente entero
+			integer = negative ? -integer : integer;
+			return integer > Integer.MAX_VALUE ? Integer.MAX_VALUE
+				: integer < Integer.MIN_VALUE ? Integer.MIN_VALUE
+				: (int) integer;
+		} else if(isDouble(s, begin, end)) {
+			return (int) Double.parseDouble(s);
+		}//si es un número en otro formato
+		return s.hashCode();
+	}//parseValue
+	
+	/**
+	 * Indica si el intervalo dado de la cadena tiene la sintaxis que acepta
+	 * <tt>Double.valueOf</tt>: decimal con exponente y sufijo opcionales,
+	 * hexadecimal con exponente binario, <tt>NaN</tt> o <tt>Infinity</tt>.
+	 * @param s - La cadena.
+	 * @param i - El inicio del intervalo, sin espacios.
+	 * @param end - El final del intervalo, sin espacios.
+	 * @return boolean - <tt>true</tt> si es un n&uacute;mero.
+	 * @see java.lang.Double#valueOf(java.lang.String)
+	 */
+	private static boolean isDouble(String s, int i, int end) {
+		char c = s.charAt(i);
+		if((c == '+' || c == '-') && ++i == end) {
+			return false;
+		} else if(s.startsWith("NaN", i)) {
+			return i +3 == end;
+		} else if(s.startsWith("Infinity", i)) {
+			return i +8 == end;
+		}//si es un valor especial
+		boolean hex = end -i > 2 && s.charAt(i) == '0'
+			&& (s.charAt(i +1) | 0x20) == 'x';
+		if(hex) {
+			i += 2;
+		}//si es hexadecimal
+		int start = i;
+		i = skipDigits(s, i, end, hex);
+		int digits = i -start;
+		if(i < end && s.charAt(i) == '.') {
+			start = ++i;
+			i = skipDigits(s, i, end, hex);
+			digits += i -start;
+		}//si tiene parte fraccionaria
+		if(digits == 0) {
+			return false;
+		} else if(i < end && (s.charAt(i) | 0x20) == (hex ? 'p' : 'e')) {
+			i++;
+			if(i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+				i++;
+			}//si el exponente tiene signo
+			start = i;
+			i = skipDigits(s, i, end, false);
+			if(i == start) {
+				return false;
+			}//el exponente necesita dígitos
+		} else if(hex) {
+			return false;
+		}//el hexadecimal necesita exponente binario
+		if(i < end && "fFdD".indexOf(s.charAt(i)) != -1) {
+			i++;
+		}//si tiene sufijo de tipo
+		return i == end;
+	}//isDouble
+	
+	/**
+	 * Avanza sobre los d&iacute;gitos a partir del &iacute;ndice dado.
+	 * @param s - La cadena.
+	 * @param i - El primer &iacute;ndice.
+	 * @param end - El final del intervalo.
+	 * @param hex - Si se aceptan d&iacute;gitos hexadecimales.
+	 * @return int - El &iacute;ndice del primer caracter que no es
+	 * d&iacute;gito.
+	 */
+	private static int skipDigits(String s, int i, int end, boolean hex) {
+		while(i < end) {
+			char c = s.charAt(i);
+			if(!(c >= '0' && c <= '9' || hex && (c | 0x20) >= 'a'
+				&& (c | 0x20) <= 'f')) {
+				break;
+			}//si no es dígito
+			i++;
+		}//avanza sobre cada dígito
+		return i;
+	}//skipDigits
+	
+	// clases anidadas
+	
+	/**
+	 * El valor de una cadena junto con la cadena de la que se obtuvo, para
+	 * saber si sigue vigente.
+	 */
+	private static final class ParsedValue {
+		
+		/**
+		 * La cadena interpretada.
+		 */
+		private final String SOURCE;
+		
+		/**
+		 * Su valor.
+		 */
+		private final int VALUE;
+		
+		/**
+		 * Construye el par.
+		 * @param source - La cadena interpretada.
+		 * @param value - Su valor.
+		 */
+		private ParsedValue(String source, int value) {
+			this.SOURCE = source;
+			this.VALUE = value;
+		}//constructor
+		
+	}//ParsedValue class
+	
 }//NachintochString
 
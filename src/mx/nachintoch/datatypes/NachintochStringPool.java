@@ -0,0 +1,279 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Conjunto de cadenas de valor comparable can&oacute;nicas: para cada
+ * contenido guarda una sola instancia de {@link NachintochString}, que
+ * {@link #intern(NachintochString)} devuelve en lugar de la dada. As&iacute;,
+ * miles de cadenas iguales (identificadores, nombres de campos...) pueden
+ * compartir un solo objeto.</p>
+ * <p>Las instancias can&oacute;nicas se guardan con referencias
+ * d&eacute;biles: cuando nadie m&aacute;s las usa, el recolector de basura
+ * las libera y su entrada se quita en la siguiente operaci&oacute;n del
+ * conjunto. El mapa interno es un <tt>ConcurrentHashMap</tt>, por lo que
+ * varios hilos pueden usar el conjunto sin bloquearse al consultar.</p>
+ * <p>Las instancias can&oacute;nicas son creadas por el conjunto y su
+ * <tt>String</tt> es la de <tt>String.intern()</tt>. No deben modificarse
+ * (su atributo <tt>string</tt> es p&uacute;blico), pues se comparten.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see NachintochString#intern()
+ */
+public class NachintochStringPool {
+
+    // atributos de clase
+
+    /**
+     * El conjunto que usa {@link NachintochString#intern()}.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private static final NachintochStringPool DEFAULT =
+            new NachintochStringPool();
+
+    /**
+     * Las instancias can&oacute;nicas, por su contenido.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private final ConcurrentHashMap<String, CanonicalReference> ENTRIES;
+
+    /**
+     * Donde el recolector de basura deja las referencias de las instancias
+     * liberadas.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private final ReferenceQueue<NachintochString> QUEUE;
+
+    /**
+     * N&uacute;mero de solicitudes que encontraron una instancia
+     * can&oacute;nica.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private final LongAdder HITS;
+
+    /**
+     * N&uacute;mero de solicitudes que tuvieron que crear una instancia
+     * can&oacute;nica.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private final LongAdder MISSES;
+
+    // métodos constructores
+
+    /**
+     * Construye un conjunto vac&iacute;o.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public NachintochStringPool() {
+        this.ENTRIES = new ConcurrentHashMap<String, CanonicalReference>();
+        this.QUEUE = new ReferenceQueue<NachintochString>();
+        this.HITS = new LongAdder();
+        this.MISSES = new LongAdder();
+    }//constructor por omisión
+
+    // métodos de acceso
+
+    /**
+     * Indica cu&aacute;ntas instancias can&oacute;nicas hay en el conjunto.
+     * Antes de contarlas quita las que ya se liberaron.
+     * @return int - El n&uacute;mero de instancias.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public int size() {
+        expunge();
+        return ENTRIES.size();
+    }//size
+
+    /**
+     * Indica cu&aacute;ntas solicitudes encontraron una instancia
+     * can&oacute;nica.
+     * @return long - El n&uacute;mero de aciertos.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public long getHitCount() {
+        return HITS.sum();
+    }//getHitCount
+
+    /**
+     * Indica cu&aacute;ntas solicitudes tuvieron que crear una instancia
+     * can&oacute;nica.
+     * @return long - El n&uacute;mero de fallos.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public long getMissCount() {
+        return MISSES.sum();
+    }//getMissCount
+
+    /**
+     * Indica la proporci&oacute;n de solicitudes que encontraron una
+     * instancia can&oacute;nica.
+     * @return double - Los aciertos entre las solicitudes; 0 si no ha habido
+     * solicitudes.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public double getHitRate() {
+        long hits = HITS.sum();
+        long total = hits +MISSES.sum();
+        return total == 0 ? 0 : (double)hits /total;
+    }//getHitRate
+
+    // métodos de implementación
+
+    /**
+     * Devuelve la instancia can&oacute;nica con el contenido de la cadena
+     * dada; si no hay, la crea.
+     * @param s - La cadena.
+     * @return NachintochString - La instancia can&oacute;nica; igual a
+     * <tt>s</tt> pero compartida.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public NachintochString intern(NachintochString s) {
+        return intern(s.getString());
+    }//intern
+
+    /**
+     * Devuelve la instancia can&oacute;nica con el contenido dado; si no hay,
+     * la crea.
+     * @param s - El contenido.
+     * @return NachintochString - La instancia can&oacute;nica.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public NachintochString intern(String s) {
+        expunge();
+        CanonicalReference ref = ENTRIES.get(s);
+        NachintochString canonical;
+        if(ref != null && (canonical = ref.get()) != null) {
+            HITS.increment();
+            return canonical;
+        }//si ya existe
+        MISSES.increment();
+        String key = s.intern();
+        canonical = new NachintochString(key);
+        CanonicalReference created = new CanonicalReference(key, canonical,
+                QUEUE);
+        while(true) {
+            if(ref == null) {
+                ref = ENTRIES.putIfAbsent(key, created);
+                if(ref == null) {
+                    return canonical;
+                }//si nadie la creó antes
+            } else if(ENTRIES.replace(key, ref, created)) {
+                return canonical;
+            } else {
+                ref = ENTRIES.get(key);
+            }//si había una ya liberada
+            NachintochString other;
+            if(ref != null && (other = ref.get()) != null) {
+                return other;
+            }//si otro hilo la creó primero
+        }//hasta dejar una instancia
+    }//intern
+
+    /**
+     * Indica si hay una instancia can&oacute;nica viva con el contenido dado.
+     * @param s - El contenido.
+     * @return boolean - <tt>true</tt> si la hay.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public boolean contains(String s) {
+        CanonicalReference ref = ENTRIES.get(s);
+        return ref != null && ref.get() != null;
+    }//contains
+
+    /**
+     * Vac&iacute;a el conjunto. Las instancias ya entregadas siguen siendo
+     * v&aacute;lidas, pero dejan de ser can&oacute;nicas. Los contadores no
+     * cambian.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public void clear() {
+        ENTRIES.clear();
+        expunge();
+    }//clear
+
+    /**
+     * Quita las entradas cuyas instancias ya liber&oacute; el recolector.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private void expunge() {
+        Reference<? extends NachintochString> ref;
+        while((ref = QUEUE.poll()) != null) {
+            CanonicalReference canonical = (CanonicalReference) ref;
+            ENTRIES.remove(canonical.KEY, canonical);
+        }//quita cada entrada liberada
+    }//expunge
+
+    @Override
+    public String toString() {
+        return "NachintochStringPool[size=" +size() +", hits="
+                +getHitCount() +", misses=" +getMissCount() +"]";
+    }//toString
+
+    // métodos estáticos
+
+    /**
+     * Devuelve el conjunto que usa {@link NachintochString#intern()}.
+     * @return NachintochStringPool - El conjunto por omisi&oacute;n.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    public static NachintochStringPool getDefault() {
+        return DEFAULT;
+    }//getDefault
+
+    // clases anidadas
+
+    /**
+     * Referencia d&eacute;bil a una instancia can&oacute;nica que recuerda su
+     * llave, para poder quitar su entrada cuando se libera.
+     * @since NachintochStringPool 1.0, october 2026
+     */
+    private static final class CanonicalReference
+            extends WeakReference<NachintochString> {
+
+        /**
+         * La llave de la entrada.
+         * @since NachintochStringPool 1.0, october 2026
+         */
+        private final String KEY;
+
+        /**
+         * Construye la referencia.
+         * @param key - La llave de la entrada.
+         * @param canonical - La instancia can&oacute;nica.
+         * @param queue - Donde dejarla al liberarse la instancia.
+         * @since NachintochStringPool 1.0, october 2026
+         */
+        private CanonicalReference(String key, NachintochString canonical,
+                ReferenceQueue<NachintochString> queue) {
+            super(canonical, queue);
+            this.KEY = key;
+        }//constructor
+
+    }//CanonicalReference class
+
+}//NachintochStringPool class
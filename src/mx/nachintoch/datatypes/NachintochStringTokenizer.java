@@ -0,0 +1,408 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Divide una cadena en piezas conforme se solicitan, en lugar de crear de
+ * una vez el arreglo de <tt>split</tt>. Cada pieza es una
+ * {@link NachintochStringView} del mismo arreglo de caracteres, as&iacute;
+ * que no se copian caracteres.</p>
+ * <p>Las piezas son las mismas que las de <tt>String.split(regex, -1)</tt>:
+ * se conservan las piezas vac&iacute;as, incluso las del final.</p>
+ * <p>Si el delimitador es un solo caracter o una cadena literal no se usan
+ * expresiones regulares. Con esos delimitadores el divisor puede, adem&aacute;s,
+ * partirse para procesar una cadena grande en paralelo
+ * ({@link #parallelStream()}); con una expresi&oacute;n regular s&oacute;lo
+ * se recorre en orden.</p>
+ * <p>Como todo iterador, un divisor se recorre una sola vez y no debe
+ * compartirse entre hilos.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see NachintochString#tokenize(String)
+ */
+public class NachintochStringTokenizer implements Iterator<NachintochStringView>,
+        Spliterator<NachintochStringView> {
+
+    // atributos de clase
+
+    /**
+     * Menor n&uacute;mero de caracteres restantes con el que el divisor
+     * acepta partirse para procesarse en paralelo.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public static final int MIN_SPLIT_LENGTH = 1 << 13;
+
+    /**
+     * La cadena a dividir.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final NachintochStringView SOURCE;
+
+    /**
+     * El caracter delimitador; -1 si el delimitador no es un solo caracter.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final int DELIMITER_CHAR;
+
+    /**
+     * La cadena delimitadora literal; <tt>null</tt> si el delimitador es un
+     * caracter o una expresi&oacute;n regular.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final char[] LITERAL;
+
+    /**
+     * Indica si ning&uacute;n prefijo propio de {@link #LITERAL} es
+     * tambi&eacute;n sufijo; s&oacute;lo as&iacute; sus apariciones no se
+     * enciman y puede buscarse desde cualquier punto.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final boolean BORDERLESS;
+
+    /**
+     * Busca la expresi&oacute;n regular; <tt>null</tt> si el delimitador es
+     * literal.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final Matcher MATCHER;
+
+    /**
+     * &Iacute;ndice, relativo a la cadena, donde empieza la siguiente pieza.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private int pos;
+
+    /**
+     * &Iacute;ndice, relativo a la cadena, donde termina la parte que recorre
+     * este divisor.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private final int END;
+
+    /**
+     * Indica si ya se entreg&oacute; la &uacute;ltima pieza.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private boolean done;
+
+    // métodos constructores
+
+    /**
+     * Construye un divisor de la cadena dada por el caracter dado.
+     * @param text - La cadena a dividir.
+     * @param delimiter - El caracter que separa las piezas.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public NachintochStringTokenizer(NachintochString text, char delimiter) {
+        this(text.view(), delimiter, null, null);
+    }//constructor con caracter
+
+    /**
+     * Construye un divisor de la cadena dada por la expresi&oacute;n regular
+     * dada. Si la expresi&oacute;n es un caracter o una cadena sin
+     * metacaracteres, se busca como literal.
+     * @param text - La cadena a dividir.
+     * @param regex - La expresi&oacute;n regular que separa las piezas.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public NachintochStringTokenizer(NachintochString text, String regex) {
+        this(text, regex, isLiteral(regex));
+    }//constructor con expresión regular
+
+    /**
+     * Construye un divisor de la cadena dada.
+     * @param text - La cadena a dividir.
+     * @param delimiter - El delimitador.
+     * @param literal - <tt>true</tt> si el delimitador es una cadena literal,
+     * <tt>false</tt> si es una expresi&oacute;n regular.
+     * @throws IllegalArgumentException - Si el delimitador literal es
+     * vac&iacute;o.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public NachintochStringTokenizer(NachintochString text, String delimiter,
+            boolean literal) {
+        this(text.view(), literal ? singleChar(delimiter)
+                : NachintochStringView.literalChar(delimiter),
+                literal ? delimiter : null, literal ? null : delimiter);
+    }//constructor con delimitador
+
+    /**
+     * Construye un divisor con el delimitador ya clasificado.
+     * @param source - La vista a dividir.
+     * @param ch - El caracter delimitador, o -1.
+     * @param literal - La cadena delimitadora, o <tt>null</tt>.
+     * @param regex - La expresi&oacute;n regular, o <tt>null</tt>.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private NachintochStringTokenizer(NachintochStringView source, int ch,
+            String literal, String regex) {
+        this.SOURCE = source;
+        this.pos = 0;
+        this.END = source.length();
+        if(ch >= 0) {
+            this.DELIMITER_CHAR = ch;
+            this.LITERAL = null;
+            this.BORDERLESS = true;
+            this.MATCHER = null;
+        } else if(literal != null) {
+            if(literal.isEmpty()) {
+                throw new IllegalArgumentException("Literal delimiter can't "
+                        + "be empty");
+            }//si no hay delimitador
+            this.DELIMITER_CHAR = -1;
+            this.LITERAL = literal.toCharArray();
+            this.BORDERLESS = isBorderless(LITERAL);
+            this.MATCHER = null;
+        } else {
+            this.DELIMITER_CHAR = -1;
+            this.LITERAL = null;
+            this.BORDERLESS = false;
+            this.MATCHER = PatternCache.getDefault().compile(regex)
+                    .matcher(source);
+        }//según el delimitador
+    }//constructor privado
+
+    /**
+     * Construye el divisor de la primera parte del restante de otro.
+     * @param other - El divisor que se parte.
+     * @param end - Donde termina la parte de este divisor.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private NachintochStringTokenizer(NachintochStringTokenizer other,
+            int end) {
+        this.SOURCE = other.SOURCE;
+        this.DELIMITER_CHAR = other.DELIMITER_CHAR;
+        this.LITERAL = other.LITERAL;
+        this.BORDERLESS = other.BORDERLESS;
+        this.MATCHER = null;
+        this.pos = other.pos;
+        this.END = end;
+    }//constructor de partición
+
+    // métodos de implementación
+
+    @Override
+    public boolean hasNext() {
+        return !done;
+    }//hasNext
+
+    @Override
+    public NachintochStringView next() {
+        if(done) {
+            throw new NoSuchElementException();
+        }//si ya no hay piezas
+        int start = pos;
+        if(MATCHER != null) {
+            while(MATCHER.find()) {
+                if(start == 0 && MATCHER.start() == 0 && MATCHER.end() == 0) {
+                    continue;
+                }//no hay pieza vacía inicial por coincidencias vacías
+                pos = MATCHER.end();
+                return SOURCE.slice(start, MATCHER.start());
+            }//busca la siguiente coincidencia
+        } else {
+            int d = find(start);
+            if(d >= 0) {
+                pos = d +(LITERAL == null ? 1 : LITERAL.length);
+                return SOURCE.slice(start, d);
+            }//si hay otro delimitador
+        }//según el delimitador
+        done = true;
+        return SOURCE.slice(start, END);
+    }//next
+
+    @Override
+    public boolean tryAdvance(Consumer<? super NachintochStringView> action) {
+        if(done) {
+            return false;
+        }//si ya no hay piezas
+        action.accept(next());
+        return true;
+    }//tryAdvance
+
+    @Override
+    public void forEachRemaining(
+            Consumer<? super NachintochStringView> action) {
+        while(!done) {
+            action.accept(next());
+        }//entrega cada pieza
+    }//forEachRemaining
+
+    /**
+     * Parte el restante de este divisor en dos, buscando un delimitador a
+     * partir de la mitad. S&oacute;lo se parte si el delimitador es literal,
+     * sus apariciones no pueden encimarse y quedan al menos
+     * {@link #MIN_SPLIT_LENGTH} caracteres.
+     * @return NachintochStringTokenizer - El divisor de la primera parte;
+     * <tt>null</tt> si no se puede partir.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    @Override
+    public NachintochStringTokenizer trySplit() {
+        if(done || MATCHER != null || !BORDERLESS
+                || END -pos < MIN_SPLIT_LENGTH) {
+            return null;
+        }//si no se puede o no vale la pena
+        int d = find(pos +(END -pos) /2);
+        if(d < 0) {
+            return null;
+        }//si no hay delimitador en la segunda mitad
+        NachintochStringTokenizer prefix = new NachintochStringTokenizer(this,
+                d);
+        pos = d +(LITERAL == null ? 1 : LITERAL.length);
+        return prefix;
+    }//trySplit
+
+    /**
+     * Estima el n&uacute;mero de piezas restantes por lo alto: nunca hay
+     * m&aacute;s piezas que caracteres restantes m&aacute;s uno.
+     * @return long - La estimaci&oacute;n.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    @Override
+    public long estimateSize() {
+        return done ? 0 : END -pos +1;
+    }//estimateSize
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }//characteristics
+
+    /**
+     * Crea un flujo secuencial con las piezas restantes.
+     * @return Stream - El flujo de piezas.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public Stream<NachintochStringView> stream() {
+        return StreamSupport.stream(this, false);
+    }//stream
+
+    /**
+     * Crea un flujo paralelo con las piezas restantes. S&oacute;lo se
+     * procesa realmente en paralelo si el delimitador es literal; ver
+     * {@link #trySplit()}.
+     * @return Stream - El flujo de piezas.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    public Stream<NachintochStringView> parallelStream() {
+        return StreamSupport.stream(this, true);
+    }//parallelStream
+
+    /**
+     * Busca el siguiente delimitador literal que quepa completo en la parte
+     * de este divisor.
+     * @param from - Desde d&oacute;nde buscar.
+     * @return int - El &iacute;ndice del delimitador; -1 si no hay.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private int find(int from) {
+        char[] value = SOURCE.VALUE;
+        int offset = SOURCE.OFFSET;
+        if(LITERAL == null) {
+            char ch = (char)DELIMITER_CHAR;
+            for(int i = offset +from, end = offset +END; i < end; i++) {
+                if(value[i] == ch) {
+                    return i -offset;
+                }//si lo encontró
+            }//busca el caracter
+            return -1;
+        }//si es un solo caracter
+        char first = LITERAL[0];
+        int length = LITERAL.length;
+        for(int i = offset +from, last = offset +END -length; i <= last;
+                i++) {
+            if(value[i] != first) {
+                continue;
+            }//si no empieza aquí
+            int j = 1;
+            while(j < length && value[i +j] == LITERAL[j]) {
+                j++;
+            }//compara el resto
+            if(j == length) {
+                return i -offset;
+            }//si lo encontró
+        }//busca la cadena
+        return -1;
+    }//find
+
+    // métodos estáticos
+
+    /**
+     * Indica si la expresi&oacute;n regular dada no tiene metacaracteres; es
+     * decir, si equivale a buscarla literalmente.
+     * @param regex - La expresi&oacute;n regular.
+     * @return boolean - <tt>true</tt> si puede buscarse como literal.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    static boolean isLiteral(String regex) {
+        if(regex.isEmpty()) {
+            return false;
+        }//la cadena vacía coincide en todas partes
+        for(int i = 0; i < regex.length(); i++) {
+            if(".$|()[]{}^?*+\\".indexOf(regex.charAt(i)) != -1) {
+                return false;
+            }//si tiene un metacaracter
+        }//revisa cada caracter
+        return true;
+    }//isLiteral
+
+    /**
+     * Devuelve el caracter de un delimitador literal de un solo caracter.
+     * @param delimiter - El delimitador.
+     * @return int - El caracter; -1 si el delimitador no mide uno.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private static int singleChar(String delimiter) {
+        return delimiter.length() == 1 ? delimiter.charAt(0) : -1;
+    }//singleChar
+
+    /**
+     * Indica si ning&uacute;n prefijo propio del delimitador es
+     * tambi&eacute;n sufijo de &eacute;l.
+     * @param delimiter - El delimitador.
+     * @return boolean - <tt>true</tt> si sus apariciones no pueden encimarse.
+     * @since NachintochStringTokenizer 1.0, october 2026
+     */
+    private static boolean isBorderless(char[] delimiter) {
+        int length = delimiter.length;
+        for(int k = 1; k < length; k++) {
+            boolean border = true;
+            for(int i = 0; i < k && border; i++) {
+                border = delimiter[i] == delimiter[length -k +i];
+            }//compara el prefijo con el sufijo
+            if(border) {
+                return false;
+            }//si se pueden encimar
+        }//prueba cada tamaño
+        return true;
+    }//isBorderless
+
+}//NachintochStringTokenizer class
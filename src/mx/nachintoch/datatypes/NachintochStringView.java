@@ -0,0 +1,475 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Cadena de valor comparable respaldada por un subarreglo de un arreglo de
+ * caracteres compartido. <tt>substring</tt>, <tt>subSequence</tt>,
+ * <tt>trim</tt> y <tt>split</tt> devuelven otras vistas del mismo arreglo,
+ * sin copiar caracteres, por lo que cuestan O(1) por pieza.</p>
+ * <p>La <tt>String</tt> equivalente se crea s&oacute;lo cuando se solicita con
+ * {@link #getString()} o {@link #toString()}, o cuando se usa un m&eacute;todo
+ * que no tiene versi&oacute;n propia para vistas; luego se conserva. Por ello
+ * el atributo <tt>string</tt> es <tt>null</tt> mientras no se necesite, y
+ * quien lo lea directamente debe cambiar a {@link #getString()}.</p>
+ * <p>El arreglo no se copia: quien crea la vista no debe modificarlo
+ * despu&eacute;s. Una vista peque&ntilde;a mantiene vivo todo el arreglo; si
+ * se va a guardar mucho tiempo, conviene usar
+ * <tt>new NachintochString(vista.getString())</tt>. Al serializarse, una
+ * vista se escribe como una {@link NachintochString} con s&oacute;lo sus
+ * caracteres.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see NachintochString#view()
+ */
+public class NachintochStringView extends NachintochString {
+
+    // atributos de clase
+
+    /**
+     * Arreglo compartido con los caracteres.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    protected final char[] VALUE;
+
+    /**
+     * &Iacute;ndice en el arreglo del primer caracter de la vista.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    protected final int OFFSET;
+
+    /**
+     * N&uacute;mero de caracteres de la vista.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    protected final int COUNT;
+
+    /**
+     * El hash de la cadena; 0 si no se ha calculado.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    private int hash;
+
+    // métodos constructores
+
+    /**
+     * Construye una vista sobre todo el arreglo dado, sin copiarlo.
+     * @param value - Los caracteres de la cadena.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    public NachintochStringView(char[] value) {
+        this(value, 0, value.length);
+    }//constructor con arreglo
+
+    /**
+     * Construye una vista sobre el subarreglo dado, sin copiarlo.
+     * @param value - El arreglo que contiene los caracteres.
+     * @param offset - El &iacute;ndice del primer caracter de la vista.
+     * @param count - El n&uacute;mero de caracteres de la vista.
+     * @throws IndexOutOfBoundsException - Si el subarreglo no cabe en el
+     * arreglo.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    public NachintochStringView(char[] value, int offset, int count) {
+        if(offset < 0 || count < 0 || offset > value.length -count) {
+            throw new IndexOutOfBoundsException("offset " +offset +", count "
+                    +count +", length " +value.length);
+        }//si no cabe
+        this.string = null;
+        this.VALUE = value;
+        this.OFFSET = offset;
+        this.COUNT = count;
+    }//constructor con subarreglo
+
+    // métodos de acceso
+
+    /**
+     * Devuelve la cadena representada. La primera vez crea la
+     * <tt>String</tt> con los caracteres de la vista; las siguientes devuelve
+     * la misma.
+     * @return String - La cadena representada.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    @Override
+    public String getString() {
+        String s = string;
+        if(s == null) {
+            // si dos hilos llegan aquí crean cadenas iguales; no importa
+            s = new String(VALUE, OFFSET, COUNT);
+            string = s;
+        }//si no se ha materializado
+        return s;
+    }//getString
+
+    /**
+     * Indica si la <tt>String</tt> de la vista ya fue creada.
+     * @return boolean - <tt>true</tt> si la vista ya se materializ&oacute;.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    public boolean isMaterialized() {
+        return string != null;
+    }//isMaterialized
+
+    // métodos de implementación
+
+    @Override
+    public NachintochStringView view() {
+        return this;
+    }//view
+
+    @Override
+    public int length() {
+        return COUNT;
+    }//length
+
+    @Override
+    public boolean isEmpty() {
+        return COUNT == 0;
+    }//isEmpty
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= COUNT) {
+            throw new StringIndexOutOfBoundsException(index);
+        }//si no hay tal caracter
+        return VALUE[OFFSET +index];
+    }//charAt
+
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        checkRange(srcBegin, srcEnd);
+        System.arraycopy(VALUE, OFFSET +srcBegin, dst, dstBegin,
+                srcEnd -srcBegin);
+    }//getChars
+
+    @Override
+    public char[] toCharArray() {
+        char[] result = new char[COUNT];
+        System.arraycopy(VALUE, OFFSET, result, 0, COUNT);
+        return result;
+    }//toCharArray
+
+    @Override
+    public int indexOf(int ch) {
+        return indexOf(ch, 0);
+    }//indexOf
+
+    @Override
+    public int indexOf(int ch, int fromIndex) {
+        if(ch >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return super.indexOf(ch, fromIndex);
+        }//si no es un solo char
+        for(int i = Math.max(fromIndex, 0); i < COUNT; i++) {
+            if(VALUE[OFFSET +i] == ch) {
+                return i;
+            }//si lo encontró
+        }//busca el caracter
+        return -1;
+    }//indexOf
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h == 0 && COUNT > 0) {
+            for(int i = OFFSET, end = OFFSET +COUNT; i < end; i++) {
+                h = 31 *h +VALUE[i];
+            }//mismo hash que String
+            hash = h;
+        }//si no se ha calculado
+        return h;
+    }//hashCode
+
+    @Override
+    public boolean equals(Object anObject) {
+        if(this == anObject) {
+            return true;
+        } else if(anObject instanceof NachintochString
+                || anObject instanceof String) {
+            return contentEquals((CharSequence) anObject);
+        }//compara sólo contra cadenas
+        return false;
+    }//equals
+
+    @Override
+    public boolean contentEquals(CharSequence cs) {
+        if(cs.length() != COUNT) {
+            return false;
+        }//si no miden lo mismo
+        if(cs instanceof NachintochStringView) {
+            NachintochStringView other = (NachintochStringView) cs;
+            for(int i = 0; i < COUNT; i++) {
+                if(VALUE[OFFSET +i] != other.VALUE[other.OFFSET +i]) {
+                    return false;
+                }//si difieren
+            }//compara los arreglos
+            return true;
+        }//si ambas son vistas
+        for(int i = 0; i < COUNT; i++) {
+            if(VALUE[OFFSET +i] != cs.charAt(i)) {
+                return false;
+            }//si difieren
+        }//compara caracter por caracter
+        return true;
+    }//contentEquals
+
+    @Override
+    public int compareTo(Object anotherObject) {
+        if(!(anotherObject instanceof NachintochString
+                || anotherObject instanceof String)) {
+            return super.compareTo(anotherObject);
+        }//deja que la clase base rechace el objeto
+        CharSequence other = (CharSequence) anotherObject;
+        int otherLength = other.length();
+        int limit = Math.min(COUNT, otherLength);
+        for(int i = 0; i < limit; i++) {
+            char c = VALUE[OFFSET +i];
+            char o = other.charAt(i);
+            if(c != o) {
+                return c -o;
+            }//si difieren
+        }//compara como String.compareTo
+        return COUNT -otherLength;
+    }//compareTo
+
+    @Override
+    public NachintochStringView subSequence(int beginIndex, int endIndex) {
+        return substring(beginIndex, endIndex);
+    }//subSequence
+
+    @Override
+    public NachintochStringView substring(int beginIndex) {
+        return substring(beginIndex, COUNT);
+    }//substring
+
+    @Override
+    public NachintochStringView substring(int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex);
+        if(beginIndex == 0 && endIndex == COUNT) {
+            return this;
+        }//si es toda la vista
+        return slice(beginIndex, endIndex);
+    }//substring
+
+    @Override
+    public NachintochStringView trim() {
+        int begin = 0;
+        int end = COUNT;
+        while(begin < end && VALUE[OFFSET +begin] <= ' ') {
+            begin++;
+        }//salta los espacios al inicio
+        while(begin < end && VALUE[OFFSET +end -1] <= ' ') {
+            end--;
+        }//salta los espacios al final
+        return substring(begin, end);
+    }//trim
+
+    @Override
+    public NachintochStringView[] split(String regex) {
+        return split(regex, 0);
+    }//split
+
+    @Override
+    public NachintochStringView[] split(NachintochString regex) {
+        return split(regex.getString(), 0);
+    }//split
+
+    @Override
+    public NachintochStringView[] split(NachintochString regex, int limit) {
+        return split(regex.getString(), limit);
+    }//split
+
+    @Override
+    public NachintochStringView[] split(Pattern pattern) {
+        return split(pattern, 0);
+    }//split
+
+    /**
+     * Divide la cadena con las mismas reglas que
+     * <tt>String.split(regex, limit)</tt>, pero cada pieza es una vista del
+     * mismo arreglo. Si el delimitador es un solo caracter literal no se usa
+     * una expresi&oacute;n regular; si no, se toma compilada de
+     * {@link PatternCache#getDefault()}.
+     * @param regex - La expresi&oacute;n regular que sirve como punto de
+     * ruptura.
+     * @param limit - El n&uacute;mero m&aacute;ximo de subcadenas a crear.
+     * @return NachintochStringView[] - Las piezas, como vistas.
+     * @see java.lang.String#split(java.lang.String, int)
+     */
+    @Override
+    public NachintochStringView[] split(String regex, int limit) {
+        int ch = literalChar(regex);
+        if(ch < 0) {
+            return split(PatternCache.getDefault().compile(regex), limit);
+        }//si hace falta la expresión regular
+        ArrayList<NachintochStringView> pieces =
+                new ArrayList<NachintochStringView>();
+        boolean limited = limit > 0;
+        int index = 0;
+        int next;
+        while((next = indexOf(ch, index)) != -1) {
+            if(!limited || pieces.size() < limit -1) {
+                pieces.add(slice(index, next));
+                index = next +1;
+            } else {
+                pieces.add(slice(index, COUNT));
+                index = COUNT;
+                break;
+            }//si aún se puede dividir
+        }//busca cada delimitador
+        return toArray(pieces, index, limit);
+    }//split
+
+    /**
+     * Divide la cadena con las mismas reglas que
+     * <tt>Pattern.split(this, limit)</tt>, pero cada pieza es una vista del
+     * mismo arreglo.
+     * @param pattern - La expresi&oacute;n regular que sirve como punto de
+     * ruptura.
+     * @param limit - El n&uacute;mero m&aacute;ximo de subcadenas a crear.
+     * @return NachintochStringView[] - Las piezas, como vistas.
+     * @see java.util.regex.Pattern#split(CharSequence, int)
+     */
+    @Override
+    public NachintochStringView[] split(Pattern pattern, int limit) {
+        ArrayList<NachintochStringView> pieces =
+                new ArrayList<NachintochStringView>();
+        boolean limited = limit > 0;
+        int index = 0;
+        Matcher m = pattern.matcher(this);
+        while(m.find()) {
+            if(!limited || pieces.size() < limit -1) {
+                if(index == 0 && m.start() == 0 && m.end() == 0) {
+                    continue;
+                }//no hay pieza vacía inicial por coincidencias vacías
+                pieces.add(slice(index, m.start()));
+                index = m.end();
+            } else if(pieces.size() == limit -1) {
+                pieces.add(slice(index, COUNT));
+                index = m.end();
+            }//si aún se puede dividir
+        }//busca cada coincidencia
+        return toArray(pieces, index, limit);
+    }//split
+
+    /**
+     * Termina una divisi&oacute;n con las reglas de <tt>String.split</tt>:
+     * agrega la &uacute;ltima pieza y, si el l&iacute;mite es 0, quita las
+     * piezas vac&iacute;as del final.
+     * @param pieces - Las piezas encontradas.
+     * @param index - Donde empieza lo que resta de la cadena.
+     * @param limit - El l&iacute;mite de la divisi&oacute;n.
+     * @return NachintochStringView[] - Las piezas, como vistas.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    private NachintochStringView[] toArray(
+            ArrayList<NachintochStringView> pieces, int index, int limit) {
+        boolean limited = limit > 0;
+        if(index == 0) {
+            return new NachintochStringView[] {this};
+        }//si no hubo delimitadores
+        if(!limited || pieces.size() < limit) {
+            pieces.add(slice(index, COUNT));
+        }//agrega lo que resta
+        int size = pieces.size();
+        if(limit == 0) {
+            while(size > 0 && pieces.get(size -1).COUNT == 0) {
+                size--;
+            }//quita las piezas vacías finales
+        }//si así lo indica el límite
+        return pieces.subList(0, size).toArray(new NachintochStringView[size]);
+    }//toArray
+
+    /**
+     * Crea una vista del mismo arreglo entre los &iacute;ndices dados,
+     * relativos a esta vista. No verifica los &iacute;ndices.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @return NachintochStringView - La nueva vista.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    NachintochStringView slice(int beginIndex, int endIndex) {
+        return new NachintochStringView(VALUE, OFFSET +beginIndex,
+                endIndex -beginIndex);
+    }//slice
+
+    /**
+     * Verifica que el intervalo dado est&eacute; dentro de la vista.
+     * @param beginIndex - El primer &iacute;ndice (inclusivo).
+     * @param endIndex - El &uacute;ltimo &iacute;ndice (exclusivo).
+     * @throws StringIndexOutOfBoundsException - Si el intervalo no es
+     * v&aacute;lido.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    private void checkRange(int beginIndex, int endIndex) {
+        if(beginIndex < 0 || endIndex > COUNT || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " +beginIndex
+                    +", end " +endIndex +", length " +COUNT);
+        }//si el intervalo no es válido
+    }//checkRange
+
+    /**
+     * Al serializarse, la vista se escribe como una cadena con s&oacute;lo
+     * sus caracteres y no con todo el arreglo compartido.
+     * @return Object - Una {@link NachintochString} equivalente.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    private Object writeReplace() {
+        return new NachintochString(getString());
+    }//writeReplace
+
+    // métodos estáticos
+
+    /**
+     * Indica si la expresi&oacute;n regular dada equivale a un solo caracter
+     * literal, con las mismas reglas con las que <tt>String.split</tt> evita
+     * usar expresiones regulares.
+     * @param regex - La expresi&oacute;n regular.
+     * @return int - El caracter literal; -1 si la expresi&oacute;n no es un
+     * solo caracter literal.
+     * @since NachintochStringView 1.0, october 2026
+     */
+    static int literalChar(String regex) {
+        char ch;
+        if(regex.length() == 1) {
+            ch = regex.charAt(0);
+            if(".$|()[{^?*+\\".indexOf(ch) != -1) {
+                return -1;
+            }//si es un metacaracter
+        } else if(regex.length() == 2 && regex.charAt(0) == '\\') {
+            ch = regex.charAt(1);
+            if(Character.isLetterOrDigit(ch) || ch > 127) {
+                return -1;
+            }//si es una clase o secuencia de escape
+        } else {
+            return -1;
+        }//según el tamaño
+        if(Character.isSurrogate(ch)) {
+            return -1;
+        }//si es la mitad de un par
+        return ch;
+    }//literalChar
+
+}//NachintochStringView class
@@ -21,16 +21,34 @@ package mx.nachintoch.datatypes;
 /**
  * Modela un vector en el plano real. Un vector tiene: magnitud en X, magnitud
  * en Y, direcci&oacute;n, magnitud (norma).
+ * <p>El seno y coseno de las rotaciones se calculan con el
+ * {@link TrigProvider} configurado con {@link #setTrigProvider(TrigProvider)};
+ * por omisi&oacute;n, <tt>java.lang.Math</tt>.</p>
+ * <p><b>Incompatibilidad desde la versi&oacute;n 1.1:</b>
+ * {@link #sum(NachintochVector, NachintochVector)} devuelve la suma de las
+ * magnitudes en X y en Y. Hasta la versi&oacute;n 1.0 las volv&iacute;a a
+ * pasar por el constructor que rota, y devolv&iacute;a
+ * <tt>(x cos a, y sin a)</tt> con <tt>a</tt> la direcci&oacute;n de la suma,
+ * que no es la suma de los vectores. Quien dependiera de ese resultado debe
+ * calcularlo con {@link #rotateX(double, double)} y
+ * {@link #rotateY(double, double)}.</p>
  * 
  * @author <a href="mailto:contact@nachintoch.mx" >Manuel
  * "nachintoch" Castillo</a>
- * @version 1.0, september 2016
+ * @version 1.2, october 2026
  * @since Nachintoch Library for Java SE &amp; Android 2016
  */
 public class NachintochVector {
     
     // atributos de clase
     
+    /**
+     * Proveedor de seno y coseno que usan todos los vectores que no reciben
+     * uno propio.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    private static volatile TrigProvider trigProvider = TrigProvider.MATH;
+    
     /**
      * Magnitud del vector en X.
      * @since Nachintoch Vector 1.0, september 2016
@@ -49,6 +67,15 @@ public class NachintochVector {
      */
     protected double a;
     
+    /**
+     * Indica que el &aacute;ngulo <tt>a</tt> ya no corresponde a las
+     * magnitudes del vector y debe calcularse de nuevo cuando se solicite.
+     * Las operaciones de {@link VectorMath} no calculan el &aacute;ngulo de
+     * sus resultados; s&oacute;lo lo marcan as&iacute;.
+     * @since Nachintoch Vector 1.1, october 2026
+     */
+    protected boolean angleStale;
+    
     // métodos constructores
     
     /**
@@ -59,8 +86,14 @@ public class NachintochVector {
      * @since Nachintoch Vector 1.0, september 2016
      */
     public NachintochVector(double x, double y, double a) {
-        this.x = NachintochVector.rotateX(x, a);
-        this.y = NachintochVector.rotateY(y, a);
+        if(a == 0) {
+            // cos(0) = 1 y sin(0) = 0 exactamente; no vale la pena calcularlos
+            this.x = x;
+            this.y = y *0.0;
+        } else {
+            this.x = NachintochVector.rotateX(x, a);
+            this.y = NachintochVector.rotateY(y, a);
+        }//si no hay que rotar
         this.a = a;
     }//constructor con todo wero
     
@@ -94,11 +127,17 @@ public class NachintochVector {
     }//getY
     
     /**
-     * Devuelve la direcci&oacute;n del vector.
+     * Devuelve la direcci&oacute;n del vector. Si el vector es resultado de
+     * una operaci&oacute;n de {@link VectorMath}, la direcci&oacute;n se
+     * calcula hasta este momento.
      * @return double - La direcci&oacute;n del vector.
      * @since Nachintoch Vector 1.0, september 2016
      */
     public double getAngle() {
+        if(angleStale) {
+            this.a = NachintochVector.getAngle(x, y);
+            this.angleStale = false;
+        }//si hay que calcularla
         return a;
     }//getAngle
     
@@ -110,10 +149,36 @@ public class NachintochVector {
      * @since Nachintoch Vector 1.0, september 2016
      */
     public void setAngle(double a) {
+        this.setAngle(a, trigProvider);
+    }//setAngle
+    
+    /**
+     * Cambia el valor del &aacute;ngulo de direcci&oacute;n del vector,
+     * calculando el seno y coseno con el proveedor dado.
+     * @param a - El nuevo valor del &aacute;ngulo de rotaci&oacute;n.
+     * @param trig - El proveedor de seno y coseno.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    public void setAngle(double a, TrigProvider trig) {
+        this.setAngle(a, trig.cos(a), trig.sin(a));
+    }//setAngle
+    
+    /**
+     * Cambia el valor del &aacute;ngulo de direcci&oacute;n del vector, con el
+     * seno y coseno del &aacute;ngulo ya calculados. Sirve para rotar varios
+     * vectores al mismo &aacute;ngulo calculando el seno y coseno una sola
+     * vez.
+     * @param a - El nuevo valor del &aacute;ngulo de rotaci&oacute;n.
+     * @param cos - El coseno de <tt>a</tt>.
+     * @param sin - El seno de <tt>a</tt>.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    public void setAngle(double a, double cos, double sin) {
         double norm = this.getNorm();
-        this.x = NachintochVector.rotateX(norm, a);
-        this.y = NachintochVector.rotateY(norm, a);
+        this.x = norm *cos;
+        this.y = norm *sin;
         this.a = a;
+        this.angleStale = false;
     }//setAngle
     
     /**
@@ -153,7 +218,18 @@ public class NachintochVector {
      * @since Nachintoch Vector 1.0, september 2016
      */
     public void addAngle(double a) {
-        this.setAngle(this.a +a);
+        this.addAngle(a, trigProvider);
+    }//addAngle
+    
+    /**
+     * Suma los radianes dados al &aacute;ngulo de direcci&oacute;n del vector,
+     * calculando el seno y coseno con el proveedor dado.
+     * @param a - Los radianes a sumar a la direcci&oacute;n.
+     * @param trig - El proveedor de seno y coseno.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    public void addAngle(double a, TrigProvider trig) {
+        this.setAngle(this.getAngle() +a, trig);
     }//addAngle
     
     /**
@@ -217,15 +293,19 @@ public class NachintochVector {
     
     /**
      * Suma los dos vectores dados y crea uno nuevo como resultado de la suma.
+     * La direcci&oacute;n del resultado se calcula s&oacute;lo si se
+     * solicita. Para no crear un vector nuevo, use
+     * {@link VectorMath#add(NachintochVector, NachintochVector, NachintochVector)}.
+     * Desde la versi&oacute;n 1.1 devuelve la suma de las magnitudes; antes
+     * las rotaba por su propia direcci&oacute;n (ver la descripci&oacute;n
+     * de la clase).
      * @param a - Uno de los vectores a sumar.
      * @param b - El otro vector a sumar.
      * @return NachintochVector - El vector que representa la suma de a y b.
      * @since Nachintoch Vector 1.0, september 2016
      */
     public static NachintochVector sum(NachintochVector a, NachintochVector b) {
-        double x = a.x +b.x;
-        double y = a.y +b.y;
-        return new NachintochVector(x, y, NachintochVector.getAngle(x, y));
+        return VectorMath.add(a, b, new NachintochVector());
     }//sum
     
     /**
@@ -258,7 +338,7 @@ public class NachintochVector {
      * @since Sprite 2.0, september 2016
      */
     public static double rotateX(double x, double a) {
-        return x *Math.cos(a);
+        return x *trigProvider.cos(a);
     }//rotateX
     
     /**
@@ -269,7 +349,7 @@ public class NachintochVector {
      * @since NachintochVector 1.0, september 2016
      */
     public static double rotateY(double y, double a) {
-        return y *Math.sin(a);
+        return y *trigProvider.sin(a);
     }//rotateY
     
     /**
@@ -283,4 +363,30 @@ public class NachintochVector {
         return Math.atan(y /x);
     }//getAngle
     
+    /**
+     * Devuelve el proveedor de seno y coseno que usan los vectores.
+     * @return TrigProvider - El proveedor global.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    public static TrigProvider getTrigProvider() {
+        return trigProvider;
+    }//getTrigProvider
+    
+    /**
+     * Cambia el proveedor de seno y coseno que usan todos los vectores y
+     * sprites que no tienen uno propio. Por ejemplo,
+     * <tt>setTrigProvider(TrigTable.DEFAULT)</tt> cambia la precisi&oacute;n
+     * de las rotaciones por velocidad.
+     * @param trig - El nuevo proveedor global.
+     * @throws IllegalArgumentException - Si el proveedor es <tt>null</tt>.
+     * @since Nachintoch Vector 1.2, october 2026
+     */
+    public static void setTrigProvider(TrigProvider trig) {
+        if(trig == null) {
+            throw new IllegalArgumentException("Trig provider can't be null; "
+                    + "use TrigProvider.MATH");
+        }//si no hay proveedor
+        NachintochVector.trigProvider = trig;
+    }//setTrigProvider
+    
 }//NachintochVector
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Cach&eacute; de expresiones regulares compiladas, con capacidad limitada
+ * y segura para varios hilos. Cuando se llena, descarta la expresi&oacute;n
+ * usada hace m&aacute;s tiempo (LRU).</p>
+ * <p>Las operaciones con expresiones regulares de {@link NachintochString}
+ * usan la cach&eacute; por omisi&oacute;n ({@link #getDefault()}), cuya
+ * capacidad se puede cambiar con la propiedad del sistema
+ * <tt>mx.nachintoch.datatypes.PatternCache.capacity</tt>; si no es un
+ * entero positivo, se usa {@link #DEFAULT_CAPACITY}. Los contadores de
+ * aciertos, fallos y descartes sirven para elegir esa capacidad: si los
+ * descartes crecen junto con los fallos, la cach&eacute; es muy
+ * peque&ntilde;a.</p>
+ * <p>El orden LRU es aproximado: cada entrada guarda el momento de su
+ * &uacute;ltimo uso, con resoluci&oacute;n de un milisegundo, y al pasarse de
+ * la capacidad se busca la m&aacute;s antigua. La b&uacute;squeda recorre la cach&eacute;, lo
+ * cual es barato para las decenas o cientos de expresiones para las que
+ * est&aacute; pensada.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class PatternCache {
+
+    // atributos de clase
+
+    /**
+     * Capacidad de la cach&eacute; por omisi&oacute;n, si no se indica otra
+     * con la propiedad del sistema.
+     * @since PatternCache 1.0, october 2026
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * La cach&eacute; que usan las cadenas de valor comparable.
+     * @since PatternCache 1.0, october 2026
+     */
+    private static final PatternCache DEFAULT = new PatternCache(
+            getPropertyCapacity());
+
+    /**
+     * Cada cu&aacute;ntos nanosegundos, como m&aacute;ximo, se actualiza el
+     * &uacute;ltimo uso de una entrada. As&iacute; los hilos que usan mucho
+     * la misma expresi&oacute;n no escriben en ella en cada acierto.
+     * @since PatternCache 1.0, october 2026
+     */
+    private static final long TOUCH_NANOS = 1000000;
+
+    /**
+     * Las expresiones compiladas, por su texto.
+     * @since PatternCache 1.0, october 2026
+     */
+    private final ConcurrentHashMap<String, Entry> ENTRIES;
+
+    /**
+     * N&uacute;mero de expresiones que se encontraron en la cach&eacute;.
+     * @since PatternCache 1.0, october 2026
+     */
+    private final LongAdder HITS;
+
+    /**
+     * N&uacute;mero de expresiones que hubo que compilar.
+     * @since PatternCache 1.0, october 2026
+     */
+    private final LongAdder MISSES;
+
+    /**
+     * N&uacute;mero de expresiones descartadas por falta de lugar.
+     * @since PatternCache 1.0, october 2026
+     */
+    private final LongAdder EVICTIONS;
+
+    /**
+     * N&uacute;mero m&aacute;ximo de expresiones en la cach&eacute;.
+     * @since PatternCache 1.0, october 2026
+     */
+    private final int CAPACITY;
+
+    // métodos constructores
+
+    /**
+     * Construye una cach&eacute; vac&iacute;a.
+     * @param capacity - El n&uacute;mero m&aacute;ximo de expresiones a
+     * guardar.
+     * @throws IllegalArgumentException - Si la capacidad no es positiva.
+     * @since PatternCache 1.0, october 2026
+     */
+    public PatternCache(int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: "
+                    +capacity);
+        }//si no cabe nada
+        this.CAPACITY = capacity;
+        this.ENTRIES = new ConcurrentHashMap<String, Entry>();
+        this.HITS = new LongAdder();
+        this.MISSES = new LongAdder();
+        this.EVICTIONS = new LongAdder();
+    }//constructor con capacidad
+
+    // métodos de acceso
+
+    /**
+     * Indica la capacidad de la cach&eacute;.
+     * @return int - El n&uacute;mero m&aacute;ximo de expresiones.
+     * @since PatternCache 1.0, october 2026
+     */
+    public int getCapacity() {
+        return CAPACITY;
+    }//getCapacity
+
+    /**
+     * Indica cu&aacute;ntas expresiones hay en la cach&eacute;.
+     * @return int - El n&uacute;mero de expresiones guardadas.
+     * @since PatternCache 1.0, october 2026
+     */
+    public int size() {
+        return ENTRIES.size();
+    }//size
+
+    /**
+     * Indica cu&aacute;ntas veces se encontr&oacute; la expresi&oacute;n
+     * solicitada.
+     * @return long - El n&uacute;mero de aciertos.
+     * @since PatternCache 1.0, october 2026
+     */
+    public long getHitCount() {
+        return HITS.sum();
+    }//getHitCount
+
+    /**
+     * Indica cu&aacute;ntas veces hubo que compilar la expresi&oacute;n
+     * solicitada.
+     * @return long - El n&uacute;mero de fallos.
+     * @since PatternCache 1.0, october 2026
+     */
+    public long getMissCount() {
+        return MISSES.sum();
+    }//getMissCount
+
+    /**
+     * Indica cu&aacute;ntas expresiones se han descartado por falta de lugar.
+     * @return long - El n&uacute;mero de descartes.
+     * @since PatternCache 1.0, october 2026
+     */
+    public long getEvictionCount() {
+        return EVICTIONS.sum();
+    }//getEvictionCount
+
+    /**
+     * Indica la proporci&oacute;n de solicitudes que se encontraron en la
+     * cach&eacute;.
+     * @return double - Los aciertos entre las solicitudes; 0 si no ha habido
+     * solicitudes.
+     * @since PatternCache 1.0, october 2026
+     */
+    public double getHitRate() {
+        long hits = HITS.sum();
+        long total = hits +MISSES.sum();
+        return total == 0 ? 0 : (double)hits /total;
+    }//getHitRate
+
+    // métodos de implementación
+
+    /**
+     * Devuelve la expresi&oacute;n regular compilada. Si no est&aacute; en la
+     * cach&eacute;, la compila y la guarda.
+     * @param regex - La expresi&oacute;n regular.
+     * @return Pattern - La expresi&oacute;n compilada.
+     * @throws java.util.regex.PatternSyntaxException - Si la expresi&oacute;n
+     * no es v&aacute;lida; las expresiones inv&aacute;lidas no se guardan.
+     * @since PatternCache 1.0, october 2026
+     */
+    public Pattern compile(String regex) {
+        Entry entry = ENTRIES.get(regex);
+        if(entry != null) {
+            HITS.increment();
+            long now = System.nanoTime();
+            if(now -entry.lastUse > TOUCH_NANOS) {
+                entry.lastUse = now;
+            }//si hace rato que no se marca
+            return entry.PATTERN;
+        }//si ya estaba
+        MISSES.increment();
+        Entry created = new Entry(Pattern.compile(regex), System.nanoTime());
+        entry = ENTRIES.putIfAbsent(regex, created);
+        if(entry != null) {
+            return entry.PATTERN;
+        }//si otro hilo la guardó primero
+        if(ENTRIES.size() > CAPACITY) {
+            evict();
+        }//si se pasó de la capacidad
+        return created.PATTERN;
+    }//compile
+
+    /**
+     * Vac&iacute;a la cach&eacute;. Los contadores no cambian.
+     * @since PatternCache 1.0, october 2026
+     */
+    public void clear() {
+        ENTRIES.clear();
+    }//clear
+
+    /**
+     * Descarta las expresiones usadas hace m&aacute;s tiempo hasta volver a
+     * la capacidad.
+     * @since PatternCache 1.0, october 2026
+     */
+    private void evict() {
+        while(ENTRIES.size() > CAPACITY) {
+            String oldestKey = null;
+            Entry oldest = null;
+            for(Map.Entry<String, Entry> e : ENTRIES.entrySet()) {
+                Entry candidate = e.getValue();
+                if(oldest == null || candidate.lastUse -oldest.lastUse < 0) {
+                    oldestKey = e.getKey();
+                    oldest = candidate;
+                }//si es más antigua
+            }//busca la más antigua
+            if(oldest == null) {
+                return;
+            }//si otro hilo la vació
+            if(ENTRIES.remove(oldestKey, oldest)) {
+                EVICTIONS.increment();
+            }//si nadie la quitó antes
+        }//mientras sobren
+    }//evict
+
+    @Override
+    public String toString() {
+        return "PatternCache[size=" +size() +", capacity=" +CAPACITY
+                +", hits=" +getHitCount() +", misses=" +getMissCount()
+                +", evictions=" +getEvictionCount() +"]";
+    }//toString
+
+    // métodos estáticos
+
+    /**
+     * Devuelve la cach&eacute; que usan las cadenas de valor comparable.
+     * @return PatternCache - La cach&eacute; por omisi&oacute;n.
+     * @since PatternCache 1.0, october 2026
+     */
+    public static PatternCache getDefault() {
+        return DEFAULT;
+    }//getDefault
+
+    /**
+     * Lee la capacidad de la cach&eacute; por omisi&oacute;n de la propiedad
+     * del sistema. Un valor ausente, que no es entero o que no es positivo no
+     * debe impedir que se cargue la clase, as&iacute; que en esos casos se
+     * usa {@link #DEFAULT_CAPACITY}.
+     * @return int - La capacidad a usar.
+     * @since PatternCache 1.0, october 2026
+     */
+    private static int getPropertyCapacity() {
+        int capacity = Integer.getInteger(
+                "mx.nachintoch.datatypes.PatternCache.capacity",
+                DEFAULT_CAPACITY);
+        return capacity < 1 ? DEFAULT_CAPACITY : capacity;
+    }//getPropertyCapacity
+
+    // clases anidadas
+
+    /**
+     * Una expresi&oacute;n compilada y el momento de su &uacute;ltimo uso.
+     * @since PatternCache 1.0, october 2026
+     */
+    private static final class Entry {
+
+        /**
+         * La expresi&oacute;n compilada.
+         * @since PatternCache 1.0, october 2026
+         */
+        private final Pattern PATTERN;
+
+        /**
+         * Valor de <tt>System.nanoTime()</tt> en el &uacute;ltimo uso de la
+         * expresi&oacute;n.
+         * @since PatternCache 1.0, october 2026
+         */
+        private volatile long lastUse;
+
+        /**
+         * Construye una entrada.
+         * @param pattern - La expresi&oacute;n compilada.
+         * @param lastUse - El momento de su creaci&oacute;n.
+         * @since PatternCache 1.0, october 2026
+         */
+        private Entry(Pattern pattern, long lastUse) {
+            this.PATTERN = pattern;
+            this.lastUse = lastUse;
+        }//constructor
+
+    }//Entry class
+
+}//PatternCache class
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+/**
+ * <p>Calcula el seno y coseno de los &aacute;ngulos con los que se rotan
+ * vectores y sprites. Permite cambiar <tt>java.lang.Math</tt> por una
+ * aproximaci&oacute;n m&aacute;s r&aacute;pida, como {@link TrigTable}, en
+ * los programas que rotan muchos objetos por cuadro.</p>
+ * <p>Cada implementaci&oacute;n garantiza un error absoluto m&aacute;ximo,
+ * dado por {@link #getMaxError()}, para cualquier &aacute;ngulo finito.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ * @see NachintochVector#setTrigProvider(TrigProvider)
+ */
+public interface TrigProvider {
+
+    /**
+     * Proveedor que usa <tt>Math.sin</tt> y <tt>Math.cos</tt>. Es el que se
+     * usa si no se configura otro.
+     * @since TrigProvider 1.0, october 2026
+     */
+    TrigProvider MATH = new TrigProvider() {
+
+        @Override
+        public double sin(double a) {
+            return Math.sin(a);
+        }//sin
+
+        @Override
+        public double cos(double a) {
+            return Math.cos(a);
+        }//cos
+
+        @Override
+        public double getMaxError() {
+            // Math garantiza un error de 1 ulp; para |sin| <= 1 es 2^-52
+            return 0x1.0p-52;
+        }//getMaxError
+
+        @Override
+        public String toString() {
+            return "TrigProvider.MATH";
+        }//toString
+
+    };//MATH
+
+    /**
+     * Calcula el seno del &aacute;ngulo dado.
+     * @param a - El &aacute;ngulo, en radianes.
+     * @return double - El seno de <tt>a</tt>, con un error absoluto no mayor a
+     * {@link #getMaxError()}.
+     * @since TrigProvider 1.0, october 2026
+     */
+    double sin(double a);
+
+    /**
+     * Calcula el coseno del &aacute;ngulo dado.
+     * @param a - El &aacute;ngulo, en radianes.
+     * @return double - El coseno de <tt>a</tt>, con un error absoluto no mayor
+     * a {@link #getMaxError()}.
+     * @since TrigProvider 1.0, october 2026
+     */
+    double cos(double a);
+
+    /**
+     * Indica el error absoluto m&aacute;ximo de {@link #sin(double)} y
+     * {@link #cos(double)} con respecto al valor exacto.
+     * @return double - La cota del error absoluto.
+     * @since TrigProvider 1.0, october 2026
+     */
+    double getMaxError();
+
+}//TrigProvider interface
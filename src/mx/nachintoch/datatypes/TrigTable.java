@@ -0,0 +1,250 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+/**
+ * <p>Aproxima el seno y coseno con una tabla de valores del seno en una vuelta
+ * completa, interpolando linealmente entre las dos entradas m&aacute;s
+ * cercanas. Consultar la tabla cuesta una multiplicaci&oacute;n, dos lecturas
+ * y una interpolaci&oacute;n, sin importar el &aacute;ngulo.</p>
+ * <p><b>Precisi&oacute;n:</b> con una resoluci&oacute;n de <tt>n</tt>
+ * entradas, el paso de la tabla es <tt>h = 2&pi;/n</tt> y la
+ * interpolaci&oacute;n lineal de una funci&oacute;n con segunda derivada
+ * acotada por 1 tiene un error absoluto m&aacute;ximo de <tt>h&sup2;/8</tt>.
+ * A esto se suma el redondeo de la reducci&oacute;n del &aacute;ngulo, que
+ * est&aacute; acotado por <tt>2^-40</tt> mientras
+ * <tt>|a| &lt;= {@link #MAX_TABLE_ANGLE}</tt>. Los &aacute;ngulos fuera de ese
+ * rango, infinitos o NaN se calculan con <tt>java.lang.Math</tt>, as&iacute;
+ * que la cota de {@link #getMaxError()} vale para cualquier &aacute;ngulo
+ * finito. Con la resoluci&oacute;n por omisi&oacute;n (4096) el error es menor
+ * a <tt>3 &times; 10^-7</tt>; es decir, menos de una mil&eacute;sima de pixel
+ * en un vector de mil pixeles.</p>
+ * <p>La tabla no cambia una vez construida, as&iacute; que puede compartirse
+ * entre hilos.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class TrigTable implements TrigProvider {
+
+    // atributos de clase
+
+    /**
+     * Resoluci&oacute;n por omisi&oacute;n: 4096 entradas (32 KB).
+     * @since TrigTable 1.0, october 2026
+     */
+    public static final int DEFAULT_RESOLUTION = 4096;
+
+    /**
+     * Menor resoluci&oacute;n permitida.
+     * @since TrigTable 1.0, october 2026
+     */
+    public static final int MIN_RESOLUTION = 4;
+
+    /**
+     * Mayor resoluci&oacute;n permitida: 2^20 entradas (8 MB).
+     * @since TrigTable 1.0, october 2026
+     */
+    public static final int MAX_RESOLUTION = 1 << 20;
+
+    /**
+     * Mayor &aacute;ngulo absoluto, en radianes, que se calcula con la tabla.
+     * Los dem&aacute;s se calculan con <tt>java.lang.Math</tt> para no perder
+     * precisi&oacute;n al reducirlos.
+     * @since TrigTable 1.0, october 2026
+     */
+    public static final double MAX_TABLE_ANGLE = 1024;
+
+    /**
+     * Cota del error de redondeo al reducir el &aacute;ngulo y consultar la
+     * tabla, para &aacute;ngulos dentro de {@link #MAX_TABLE_ANGLE}.
+     * @since TrigTable 1.0, october 2026
+     */
+    private static final double ROUNDING_ERROR = 0x1.0p-40;
+
+    /**
+     * Tabla por omisi&oacute;n, con {@link #DEFAULT_RESOLUTION} entradas.
+     * @since TrigTable 1.0, october 2026
+     */
+    public static final TrigTable DEFAULT = new TrigTable(DEFAULT_RESOLUTION);
+
+    /**
+     * Valores del seno en <tt>n +1</tt> puntos equidistantes de una vuelta;
+     * la entrada extra evita revisar el l&iacute;mite al interpolar.
+     * @since TrigTable 1.0, october 2026
+     */
+    private final double[] TABLE;
+
+    /**
+     * M&aacute;scara para reducir un &iacute;ndice a la tabla:
+     * <tt>n -1</tt>.
+     * @since TrigTable 1.0, october 2026
+     */
+    private final int MASK;
+
+    /**
+     * Desplazamiento de un cuarto de vuelta, para obtener el coseno de la
+     * tabla del seno.
+     * @since TrigTable 1.0, october 2026
+     */
+    private final int QUARTER;
+
+    /**
+     * Entradas de la tabla por radi&aacute;n: <tt>n/2&pi;</tt>.
+     * @since TrigTable 1.0, october 2026
+     */
+    private final double SCALE;
+
+    /**
+     * Error absoluto m&aacute;ximo de esta tabla.
+     * @since TrigTable 1.0, october 2026
+     */
+    private final double MAX_ERROR;
+
+    // métodos constructores
+
+    /**
+     * Construye una tabla con la resoluci&oacute;n dada.
+     * @param resolution - El n&uacute;mero de entradas por vuelta; debe ser
+     * una potencia de dos entre {@link #MIN_RESOLUTION} y
+     * {@link #MAX_RESOLUTION}.
+     * @throws IllegalArgumentException - Si la resoluci&oacute;n no es
+     * v&aacute;lida.
+     * @since TrigTable 1.0, october 2026
+     */
+    public TrigTable(int resolution) {
+        if(resolution < MIN_RESOLUTION || resolution > MAX_RESOLUTION
+                || Integer.bitCount(resolution) != 1) {
+            throw new IllegalArgumentException("Resolution must be a power of "
+                    + "two between " +MIN_RESOLUTION +" and " +MAX_RESOLUTION
+                    +": " +resolution);
+        }//si la resolución no sirve
+        this.TABLE = new double[resolution +1];
+        for(int i = 0; i <= resolution; i++) {
+            TABLE[i] = Math.sin(2 *Math.PI *i /resolution);
+        }//llena la tabla
+        this.MASK = resolution -1;
+        this.QUARTER = resolution /4;
+        this.SCALE = resolution /(2 *Math.PI);
+        this.MAX_ERROR = errorFor(resolution);
+    }//constructor con resolución
+
+    /**
+     * Construye una tabla con la resoluci&oacute;n por omisi&oacute;n. Si no
+     * se necesita una tabla propia, es mejor usar {@link #DEFAULT}.
+     * @since TrigTable 1.0, october 2026
+     */
+    public TrigTable() {
+        this(DEFAULT_RESOLUTION);
+    }//constructor por omisión
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero de entradas de la tabla.
+     * @return int - La resoluci&oacute;n de la tabla.
+     * @since TrigTable 1.0, october 2026
+     */
+    public int getResolution() {
+        return MASK +1;
+    }//getResolution
+
+    @Override
+    public double getMaxError() {
+        return MAX_ERROR;
+    }//getMaxError
+
+    // métodos de implementación
+
+    @Override
+    public double sin(double a) {
+        if(!(Math.abs(a) <= MAX_TABLE_ANGLE)) {
+            return Math.sin(a);
+        }//si la tabla no es precisa para este ángulo
+        return lookup(a *SCALE, 0);
+    }//sin
+
+    @Override
+    public double cos(double a) {
+        if(!(Math.abs(a) <= MAX_TABLE_ANGLE)) {
+            return Math.cos(a);
+        }//si la tabla no es precisa para este ángulo
+        return lookup(a *SCALE, QUARTER);
+    }//cos
+
+    /**
+     * Interpola el valor de la tabla en la posici&oacute;n dada.
+     * @param t - La posici&oacute;n en la tabla; puede salir de ella.
+     * @param offset - Entradas a recorrer antes de reducir la
+     * posici&oacute;n.
+     * @return double - El valor interpolado.
+     * @since TrigTable 1.0, october 2026
+     */
+    private double lookup(double t, int offset) {
+        long floor = (long)t;
+        if(t < floor) {
+            floor--;
+        }//si es negativo, (long) redondea hacia el cero
+        double frac = t -floor;
+        int i = (int)(floor +offset) & MASK;
+        double s = TABLE[i];
+        return s +frac *(TABLE[i +1] -s);
+    }//lookup
+
+    @Override
+    public String toString() {
+        return "TrigTable[" +getResolution() +", error <= " +MAX_ERROR +"]";
+    }//toString
+
+    // métodos estáticos
+
+    /**
+     * Construye la tabla m&aacute;s peque&ntilde;a cuyo error absoluto no
+     * pasa del dado.
+     * @param maxError - El error absoluto m&aacute;ximo tolerado.
+     * @return TrigTable - La tabla con la menor resoluci&oacute;n suficiente.
+     * @throws IllegalArgumentException - Si ninguna resoluci&oacute;n
+     * permitida alcanza esa precisi&oacute;n.
+     * @since TrigTable 1.0, october 2026
+     */
+    public static TrigTable forMaxError(double maxError) {
+        for(int n = MIN_RESOLUTION; n <= MAX_RESOLUTION; n <<= 1) {
+            if(errorFor(n) <= maxError) {
+                return new TrigTable(n);
+            }//si esta resolución basta
+        }//busca la menor resolución
+        throw new IllegalArgumentException("No table resolution reaches an "
+                + "error of " +maxError +"; the best is "
+                +errorFor(MAX_RESOLUTION));
+    }//forMaxError
+
+    /**
+     * Calcula la cota del error absoluto para la resoluci&oacute;n dada.
+     * @param resolution - El n&uacute;mero de entradas de la tabla.
+     * @return double - <tt>h&sup2;/8 +2^-40</tt>, con <tt>h = 2&pi;/n</tt>.
+     * @since TrigTable 1.0, october 2026
+     */
+    private static double errorFor(int resolution) {
+        double h = 2 *Math.PI /resolution;
+        return h *h /8 +ROUNDING_ERROR;
+    }//errorFor
+
+}//TrigTable class
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+import java.util.Arrays;
+
+/**
+ * <p>Lote de N vectores en el plano, guardados como dos arreglos primitivos:
+ * uno con las magnitudes en X y otro con las magnitudes en Y.</p>
+ * <p>Las operaciones recorren los arreglos con ciclos contados simples, sin
+ * llamadas ni objetos de por medio, para que el compilador JIT pueda
+ * vectorizarlos (SIMD). Aplicar una operaci&oacute;n al lote equivale a
+ * aplicarla a cada vector con {@link NachintochVector}, pero sin saltar entre
+ * objetos.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class VectorBatch {
+
+    // atributos de clase
+
+    /**
+     * Magnitudes en X de los vectores del lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    protected double[] x;
+
+    /**
+     * Magnitudes en Y de los vectores del lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    protected double[] y;
+
+    /**
+     * N&uacute;mero de vectores en el lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    protected int size;
+
+    // métodos constructores
+
+    /**
+     * Construye un lote de vectores en cero.
+     * @param size - El n&uacute;mero de vectores del lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public VectorBatch(int size) {
+        if(size < 0) {
+            throw new IllegalArgumentException("Negative size: " +size);
+        }//si el tamaño no tiene sentido
+        this.x = new double[size];
+        this.y = new double[size];
+        this.size = size;
+    }//constructor con tamaño
+
+    /**
+     * Construye un lote que usa los arreglos dados, sin copiarlos.
+     * @param x - Las magnitudes en X.
+     * @param y - Las magnitudes en Y.
+     * @throws IllegalArgumentException - Si los arreglos no tienen el mismo
+     * tama&ntilde;o.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public VectorBatch(double[] x, double[] y) {
+        if(x.length != y.length) {
+            throw new IllegalArgumentException("X and Y arrays must have the "
+                    + "same length.");
+        }//si no corresponden
+        this.x = x;
+        this.y = y;
+        this.size = x.length;
+    }//constructor con arreglos
+
+    /**
+     * Construye un lote con copias de las magnitudes de los vectores dados.
+     * @param vectors - Los vectores a copiar.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public VectorBatch(NachintochVector[] vectors) {
+        this(vectors.length);
+        for(int i = 0; i < size; i++) {
+            x[i] = vectors[i].x;
+            y[i] = vectors[i].y;
+        }//copia cada vector
+    }//constructor con vectores
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero de vectores del lote.
+     * @return int - El n&uacute;mero de vectores.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Devuelve la magnitud en X del vector dado.
+     * @param i - El &iacute;ndice del vector.
+     * @return double - La magnitud en X.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public double getX(int i) {
+        checkIndex(i);
+        return x[i];
+    }//getX
+
+    /**
+     * Devuelve la magnitud en Y del vector dado.
+     * @param i - El &iacute;ndice del vector.
+     * @return double - La magnitud en Y.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public double getY(int i) {
+        checkIndex(i);
+        return y[i];
+    }//getY
+
+    /**
+     * Copia el vector dado del lote al vector destino.
+     * @param i - El &iacute;ndice del vector.
+     * @param dst - El vector destino.
+     * @return NachintochVector - El vector destino.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public NachintochVector get(int i, NachintochVector dst) {
+        checkIndex(i);
+        return VectorMath.set(x[i], y[i], dst);
+    }//get
+
+    /**
+     * Devuelve el arreglo de magnitudes en X, sin copiarlo. S&oacute;lo los
+     * primeros {@link #size()} elementos son del lote.
+     * @return double[] - Las magnitudes en X.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public double[] getXs() {
+        return x;
+    }//getXs
+
+    /**
+     * Devuelve el arreglo de magnitudes en Y, sin copiarlo. S&oacute;lo los
+     * primeros {@link #size()} elementos son del lote.
+     * @return double[] - Las magnitudes en Y.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public double[] getYs() {
+        return y;
+    }//getYs
+
+    // métodos de modificación
+
+    /**
+     * Cambia las magnitudes del vector dado.
+     * @param i - El &iacute;ndice del vector.
+     * @param x - La nueva magnitud en X.
+     * @param y - La nueva magnitud en Y.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void set(int i, double x, double y) {
+        checkIndex(i);
+        this.x[i] = x;
+        this.y[i] = y;
+    }//set
+
+    /**
+     * Copia las magnitudes del vector dado en el lote.
+     * @param i - El &iacute;ndice del vector en el lote.
+     * @param v - El vector a copiar.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void set(int i, NachintochVector v) {
+        set(i, v.x, v.y);
+    }//set
+
+    /**
+     * Agrega un vector al final del lote.
+     * @param x - La magnitud en X.
+     * @param y - La magnitud en Y.
+     * @return int - El &iacute;ndice del vector agregado.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public int append(double x, double y) {
+        if(size == this.x.length) {
+            int capacity = Math.max(8, size *2);
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+        }//si no hay lugar
+        this.x[size] = x;
+        this.y[size] = y;
+        return size++;
+    }//append
+
+    // métodos de implementación
+
+    /**
+     * Suma a cada vector del lote el vector correspondiente del otro lote.
+     * @param o - El otro lote; debe tener el mismo tama&ntilde;o.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void add(VectorBatch o) {
+        checkSize(o);
+        double[] x = this.x, y = this.y, ox = o.x, oy = o.y;
+        for(int i = 0, n = size; i < n; i++) {
+            x[i] += ox[i];
+            y[i] += oy[i];
+        }//suma cada vector
+    }//add
+
+    /**
+     * Suma a cada vector del lote el vector dado.
+     * @param dx - El valor a sumar a las magnitudes en X.
+     * @param dy - El valor a sumar a las magnitudes en Y.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void add(double dx, double dy) {
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            x[i] += dx;
+            y[i] += dy;
+        }//suma cada vector
+    }//add
+
+    /**
+     * Suma a cada vector del lote el vector correspondiente del otro lote,
+     * multiplicado por un escalar (<tt>this += s *o</tt>). Sirve, por ejemplo,
+     * para integrar posiciones a partir de velocidades.
+     * @param o - El otro lote; debe tener el mismo tama&ntilde;o.
+     * @param s - El escalar.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void addScaled(VectorBatch o, double s) {
+        checkSize(o);
+        double[] x = this.x, y = this.y, ox = o.x, oy = o.y;
+        for(int i = 0, n = size; i < n; i++) {
+            x[i] += ox[i] *s;
+            y[i] += oy[i] *s;
+        }//suma cada vector escalado
+    }//addScaled
+
+    /**
+     * Multiplica cada vector del lote por un escalar.
+     * @param s - El escalar.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void scale(double s) {
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            x[i] *= s;
+            y[i] *= s;
+        }//escala cada vector
+    }//scale
+
+    /**
+     * Calcula el producto punto de cada vector del lote con el vector
+     * correspondiente del otro lote.
+     * @param o - El otro lote; debe tener el mismo tama&ntilde;o.
+     * @param out - Donde se escriben los productos; debe tener lugar para
+     * todo el lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void dot(VectorBatch o, double[] out) {
+        checkSize(o);
+        checkOut(out);
+        double[] x = this.x, y = this.y, ox = o.x, oy = o.y;
+        for(int i = 0, n = size; i < n; i++) {
+            out[i] = x[i] *ox[i] +y[i] *oy[i];
+        }//producto punto de cada par
+    }//dot
+
+    /**
+     * Calcula la norma de cada vector del lote.
+     * @param out - Donde se escriben las normas; debe tener lugar para todo
+     * el lote.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void norm(double[] out) {
+        checkOut(out);
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            out[i] = Math.sqrt(x[i] *x[i] +y[i] *y[i]);
+        }//norma de cada vector
+    }//norm
+
+    /**
+     * Convierte cada vector del lote en el vector unitario con su
+     * direcci&oacute;n. Los vectores cero se quedan en cero.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void normalize() {
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            double norm = Math.sqrt(x[i] *x[i] +y[i] *y[i]);
+            double inv = norm == 0 ? 0 : 1 /norm;
+            x[i] *= inv;
+            y[i] *= inv;
+        }//normaliza cada vector
+    }//normalize
+
+    /**
+     * Rota cada vector del lote el &aacute;ngulo dado. El seno y coseno se
+     * calculan una sola vez para todo el lote.
+     * @param angle - El &aacute;ngulo de rotaci&oacute;n, en radianes.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void rotate(double angle) {
+        double c = Math.cos(angle);
+        double s = Math.sin(angle);
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            double vx = x[i];
+            double vy = y[i];
+            x[i] = vx *c -vy *s;
+            y[i] = vx *s +vy *c;
+        }//rota cada vector
+    }//rotate
+
+    /**
+     * Limita la norma de cada vector del lote: los vectores con norma mayor
+     * a la dada se escalan para tener exactamente esa norma; el resto no
+     * cambia.
+     * @param max - La norma m&aacute;xima.
+     * @throws IllegalArgumentException - Si la norma dada es negativa o NaN.
+     * @since VectorBatch 1.0, october 2026
+     */
+    public void clampMagnitude(double max) {
+        if(!(max >= 0)) {
+            throw new IllegalArgumentException("Negative max magnitude: " +max);
+        }//si la norma no es valida
+        double max2 = max *max;
+        double[] x = this.x, y = this.y;
+        for(int i = 0, n = size; i < n; i++) {
+            double n2 = x[i] *x[i] +y[i] *y[i];
+            if(n2 > max2) {
+                double f = max /Math.sqrt(n2);
+                x[i] *= f;
+                y[i] *= f;
+            }//si es muy largo
+        }//limita cada vector
+    }//clampMagnitude
+
+    /**
+     * Verifica que el &iacute;ndice dado corresponda a un vector del lote.
+     * @param i - El &iacute;ndice a verificar.
+     * @throws IndexOutOfBoundsException - Si no hay tal vector.
+     * @since VectorBatch 1.0, october 2026
+     */
+    private void checkIndex(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " +i +", Size: "
+                    +size);
+        }//si no hay tal vector
+    }//checkIndex
+
+    /**
+     * Verifica que el otro lote tenga el mismo tama&ntilde;o que este.
+     * @param o - El otro lote.
+     * @throws IllegalArgumentException - Si los tama&ntilde;os difieren.
+     * @since VectorBatch 1.0, october 2026
+     */
+    private void checkSize(VectorBatch o) {
+        if(o.size != size) {
+            throw new IllegalArgumentException("Batch sizes differ: " +size
+                    +" and " +o.size);
+        }//si no corresponden
+    }//checkSize
+
+    /**
+     * Verifica que el arreglo de salida tenga lugar para todo el lote.
+     * @param out - El arreglo de salida.
+     * @throws IndexOutOfBoundsException - Si el arreglo es muy corto.
+     * @since VectorBatch 1.0, october 2026
+     */
+    private void checkOut(double[] out) {
+        if(out.length < size) {
+            throw new IndexOutOfBoundsException("Output of length "
+                    +out.length +" can't hold " +size +" values.");
+        }//si no caben
+    }//checkOut
+
+}//VectorBatch class
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.datatypes;
+
+/**
+ * <p>Operaciones de vectores que no crean objetos. Cada operaci&oacute;n
+ * escribe su resultado en un vector (o arreglo) destino que puede ser uno de
+ * los operandos, as&iacute; que un ciclo de f&iacute;sica puede reusar sus
+ * vectores en lugar de crear uno nuevo por operaci&oacute;n.</p>
+ * <p>Las operaciones no calculan la direcci&oacute;n de sus resultados; la
+ * marcan para que {@link NachintochVector#getAngle()} la calcule s&oacute;lo
+ * si se solicita.</p>
+ * <p>Las operaciones por lotes trabajan sobre arreglos de pares intercalados:
+ * el vector i ocupa las posiciones <tt>2i</tt> (X) y <tt>2i +1</tt> (Y).</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public final class VectorMath {
+
+    // métodos constructores
+
+    /**
+     * No se permiten instancias; todos los m&eacute;todos son
+     * est&aacute;ticos.
+     * @since VectorMath 1.0, october 2026
+     */
+    private VectorMath() {
+    }//constructor privado
+
+    // métodos estáticos
+
+    /**
+     * Asigna las magnitudes dadas al vector destino.
+     * @param x - La magnitud en X.
+     * @param y - La magnitud en Y.
+     * @param dst - El vector destino.
+     * @return NachintochVector - El vector destino.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector set(double x, double y,
+            NachintochVector dst) {
+        dst.x = x;
+        dst.y = y;
+        dst.angleStale = true;
+        return dst;
+    }//set
+
+    /**
+     * Suma los vectores dados.
+     * @param a - Uno de los vectores a sumar.
+     * @param b - El otro vector a sumar.
+     * @param dst - El vector destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @return NachintochVector - El vector destino, con <tt>a +b</tt>.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector add(NachintochVector a, NachintochVector b,
+            NachintochVector dst) {
+        return set(a.x +b.x, a.y +b.y, dst);
+    }//add
+
+    /**
+     * Resta los vectores dados.
+     * @param a - El vector minuendo.
+     * @param b - El vector sustraendo.
+     * @param dst - El vector destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @return NachintochVector - El vector destino, con <tt>a -b</tt>.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector sub(NachintochVector a, NachintochVector b,
+            NachintochVector dst) {
+        return set(a.x -b.x, a.y -b.y, dst);
+    }//sub
+
+    /**
+     * Multiplica el vector dado por un escalar.
+     * @param v - El vector a escalar.
+     * @param s - El escalar.
+     * @param dst - El vector destino; puede ser <tt>v</tt>.
+     * @return NachintochVector - El vector destino, con <tt>s *v</tt>.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector scale(NachintochVector v, double s,
+            NachintochVector dst) {
+        return set(v.x *s, v.y *s, dst);
+    }//scale
+
+    /**
+     * Calcula el vector unitario con la direcci&oacute;n del dado. El vector
+     * cero se queda en cero.
+     * @param v - El vector a normalizar.
+     * @param dst - El vector destino; puede ser <tt>v</tt>.
+     * @return NachintochVector - El vector destino, con norma 1 o 0.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector normalize(NachintochVector v,
+            NachintochVector dst) {
+        double norm = Math.sqrt(v.x *v.x +v.y *v.y);
+        if(norm == 0) {
+            return set(0, 0, dst);
+        }//si no tiene dirección
+        return set(v.x /norm, v.y /norm, dst);
+    }//normalize
+
+    /**
+     * Interpola linealmente entre los vectores dados.
+     * @param a - El vector para <tt>t = 0</tt>.
+     * @param b - El vector para <tt>t = 1</tt>.
+     * @param t - El par&aacute;metro de interpolaci&oacute;n.
+     * @param dst - El vector destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @return NachintochVector - El vector destino, con
+     * <tt>a +t(b -a)</tt>.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static NachintochVector lerp(NachintochVector a, NachintochVector b,
+            double t, NachintochVector dst) {
+        return set(a.x +t *(b.x -a.x), a.y +t *(b.y -a.y), dst);
+    }//lerp
+
+    /**
+     * Suma por lotes los vectores de dos arreglos de pares intercalados.
+     * @param a - Los primeros sumandos.
+     * @param b - Los segundos sumandos.
+     * @param dst - El arreglo destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @param count - El n&uacute;mero de vectores a sumar.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static void add(double[] a, double[] b, double[] dst, int count) {
+        checkLength(a, count);
+        checkLength(b, count);
+        checkLength(dst, count);
+        for(int i = 0, n = count *2; i < n; i++) {
+            dst[i] = a[i] +b[i];
+        }//suma cada magnitud
+    }//add
+
+    /**
+     * Resta por lotes los vectores de dos arreglos de pares intercalados.
+     * @param a - Los minuendos.
+     * @param b - Los sustraendos.
+     * @param dst - El arreglo destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @param count - El n&uacute;mero de vectores a restar.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static void sub(double[] a, double[] b, double[] dst, int count) {
+        checkLength(a, count);
+        checkLength(b, count);
+        checkLength(dst, count);
+        for(int i = 0, n = count *2; i < n; i++) {
+            dst[i] = a[i] -b[i];
+        }//resta cada magnitud
+    }//sub
+
+    /**
+     * Multiplica por un escalar los vectores de un arreglo de pares
+     * intercalados.
+     * @param v - Los vectores a escalar.
+     * @param s - El escalar.
+     * @param dst - El arreglo destino; puede ser <tt>v</tt>.
+     * @param count - El n&uacute;mero de vectores a escalar.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static void scale(double[] v, double s, double[] dst, int count) {
+        checkLength(v, count);
+        checkLength(dst, count);
+        for(int i = 0, n = count *2; i < n; i++) {
+            dst[i] = v[i] *s;
+        }//escala cada magnitud
+    }//scale
+
+    /**
+     * Normaliza los vectores de un arreglo de pares intercalados. Los
+     * vectores cero se quedan en cero.
+     * @param v - Los vectores a normalizar.
+     * @param dst - El arreglo destino; puede ser <tt>v</tt>.
+     * @param count - El n&uacute;mero de vectores a normalizar.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static void normalize(double[] v, double[] dst, int count) {
+        checkLength(v, count);
+        checkLength(dst, count);
+        for(int i = 0, n = count *2; i < n; i += 2) {
+            double x = v[i];
+            double y = v[i +1];
+            double norm = Math.sqrt(x *x +y *y);
+            double inv = norm == 0 ? 0 : 1 /norm;
+            dst[i] = x *inv;
+            dst[i +1] = y *inv;
+        }//normaliza cada vector
+    }//normalize
+
+    /**
+     * Interpola linealmente por lotes entre los vectores de dos arreglos de
+     * pares intercalados.
+     * @param a - Los vectores para <tt>t = 0</tt>.
+     * @param b - Los vectores para <tt>t = 1</tt>.
+     * @param t - El par&aacute;metro de interpolaci&oacute;n.
+     * @param dst - El arreglo destino; puede ser <tt>a</tt> o <tt>b</tt>.
+     * @param count - El n&uacute;mero de vectores a interpolar.
+     * @since VectorMath 1.0, october 2026
+     */
+    public static void lerp(double[] a, double[] b, double t, double[] dst,
+            int count) {
+        checkLength(a, count);
+        checkLength(b, count);
+        checkLength(dst, count);
+        for(int i = 0, n = count *2; i < n; i++) {
+            dst[i] = a[i] +t *(b[i] -a[i]);
+        }//interpola cada magnitud
+    }//lerp
+
+    /**
+     * Verifica que el arreglo dado tenga lugar para el n&uacute;mero de
+     * vectores indicado. Verificarlo antes del ciclo permite al compilador
+     * quitar las verificaciones de l&iacute;mites dentro de &eacute;l.
+     * @param v - El arreglo de pares intercalados.
+     * @param count - El n&uacute;mero de vectores.
+     * @throws IndexOutOfBoundsException - Si el arreglo es muy corto.
+     * @since VectorMath 1.0, october 2026
+     */
+    private static void checkLength(double[] v, int count) {
+        if(count < 0 || v.length < count *2L) {
+            throw new IndexOutOfBoundsException("Array of length " +v.length
+                    +" can't hold " +count +" vectors.");
+        }//si no caben
+    }//checkLength
+
+}//VectorMath class
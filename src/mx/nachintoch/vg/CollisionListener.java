@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+/**
+ * Recibe las colisiones que encuentra un detector de colisiones. Cada par de
+ * sprites que colisionan se notifica una sola vez por consulta.
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public interface CollisionListener {
+
+    /**
+     * Notifica que los dos sprites dados colisionan; de acuerdo a
+     * {@link Sprite#detectCollision(Sprite)}.
+     * @param a - Uno de los sprites que colisionan.
+     * @param b - El otro sprite que colisiona.
+     * @since CollisionListener 1.0, october 2026
+     */
+    void onCollision(Sprite a, Sprite b);
+
+}//CollisionListener interface
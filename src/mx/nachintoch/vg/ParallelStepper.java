@@ -0,0 +1,528 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Calcula el movimiento de muchos sprites en paralelo. La colecci&oacute;n
+ * se parte en bloques contiguos de a lo m&aacute;s {@link #getChunkSize()}
+ * sprites y cada bloque se calcula en un hilo de un <tt>ForkJoinPool</tt> o
+ * de un <tt>Executor</tt> dado.</p>
+ * <p>El movimiento de cada sprite s&oacute;lo depende de sus propias
+ * magnitudes y cada sprite es calculado por un solo hilo, as&iacute; que el
+ * resultado es id&eacute;ntico al de llamar {@link Sprite#moveObject(long)}
+ * sobre cada sprite en secuencia. La colecci&oacute;n no debe contener dos
+ * veces al mismo sprite ni modificarse durante el paso.</p>
+ * <p>Cada paso mide sus fases; las medidas del &uacute;ltimo paso se
+ * consultan con {@link #getLastTimings()}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class ParallelStepper {
+
+    // atributos de clase
+
+    /**
+     * Tama&ntilde;o de bloque por omisi&oacute;n.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /**
+     * El pool en el que se calculan los bloques; <tt>null</tt> si se usa un
+     * <tt>Executor</tt>.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected final ForkJoinPool POOL;
+
+    /**
+     * El ejecutor en el que se calculan los bloques; <tt>null</tt> si se usa
+     * un <tt>ForkJoinPool</tt>.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected final Executor EXECUTOR;
+
+    /**
+     * El n&uacute;mero m&aacute;ximo de sprites por bloque.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected volatile int chunkSize;
+
+    /**
+     * Las medidas del &uacute;ltimo paso.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected volatile StepTimings lastTimings;
+
+    // métodos constructores
+
+    /**
+     * Construye un calculador que usa el pool com&uacute;n de
+     * <tt>ForkJoinPool</tt>.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public ParallelStepper() {
+        this(ForkJoinPool.commonPool());
+    }//constructor por omisión
+
+    /**
+     * Construye un calculador que usa el pool dado.
+     * @param pool - El pool en el que se calculan los bloques.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public ParallelStepper(ForkJoinPool pool) {
+        if(pool == null) {
+            throw new IllegalArgumentException("A pool is required.");
+        }//si no hay dónde calcular
+        this.POOL = pool;
+        this.EXECUTOR = null;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+    }//constructor con pool
+
+    /**
+     * Construye un calculador que usa el ejecutor dado. Cada bloque se le
+     * entrega como una tarea y el hilo que llama espera a que terminen todas.
+     * @param executor - El ejecutor en el que se calculan los bloques.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public ParallelStepper(Executor executor) {
+        if(executor == null) {
+            throw new IllegalArgumentException("An executor is required.");
+        }//si no hay dónde calcular
+        this.POOL = null;
+        this.EXECUTOR = executor;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+    }//constructor con ejecutor
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero m&aacute;ximo de sprites por bloque.
+     * @return int - El tama&ntilde;o de bloque.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }//getChunkSize
+
+    /**
+     * Devuelve las medidas del &uacute;ltimo paso calculado.
+     * @return StepTimings - Las medidas; <tt>null</tt> si a&uacute;n no se
+     * ha calculado ning&uacute;n paso.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public StepTimings getLastTimings() {
+        return lastTimings;
+    }//getLastTimings
+
+    // métodos de modificación
+
+    /**
+     * Cambia el n&uacute;mero m&aacute;ximo de sprites por bloque. Bloques
+     * chicos reparten mejor la carga; bloques grandes cuestan menos de
+     * coordinar.
+     * @param chunkSize - El nuevo tama&ntilde;o de bloque.
+     * @throws IllegalArgumentException - Si el tama&ntilde;o no es positivo.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public void setChunkSize(int chunkSize) {
+        if(chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }//si el bloque no tiene tamaño
+        this.chunkSize = chunkSize;
+    }//setChunkSize
+
+    // métodos de implementación
+
+    /**
+     * Calcula el movimiento de todos los sprites dados.
+     * @param sprites - Los sprites a mover.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime a los sprites.
+     * @return StepTimings - Las medidas del paso.
+     * @see Sprite#moveObject(long)
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public StepTimings step(final Sprite[] sprites, final long updateDelay) {
+        return run(sprites.length, new Range() {
+            @Override
+            public void step(int from, int to) {
+                for(int i = from; i < to; i++) {
+                    sprites[i].moveObject(updateDelay);
+                }//mueve cada sprite del bloque
+            }//step
+        });
+    }//step
+
+    /**
+     * Calcula el movimiento de todos los sprites dados.
+     * @param sprites - Los sprites a mover. Si la lista no es de acceso
+     * aleatorio, primero se copia a un arreglo.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime a los sprites.
+     * @return StepTimings - Las medidas del paso.
+     * @see Sprite#moveObject(long)
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public StepTimings step(final List<? extends Sprite> sprites,
+            final long updateDelay) {
+        if(!(sprites instanceof RandomAccess)) {
+            return step(sprites.toArray(new Sprite[sprites.size()]),
+                    updateDelay);
+        }//si recorrerla por índice sería caro
+        return run(sprites.size(), new Range() {
+            @Override
+            public void step(int from, int to) {
+                for(int i = from; i < to; i++) {
+                    sprites.get(i).moveObject(updateDelay);
+                }//mueve cada sprite del bloque
+            }//step
+        });
+    }//step
+
+    /**
+     * Calcula el movimiento de todos los cuerpos del mundo dado. El mundo no
+     * debe modificarse durante el paso.
+     * @param world - El mundo a calcular.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime al mundo.
+     * @return StepTimings - Las medidas del paso.
+     * @see SpriteWorld#step(int, int, long)
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public StepTimings step(final SpriteWorld world, final long updateDelay) {
+        return run(world.size(), new Range() {
+            @Override
+            public void step(int from, int to) {
+                world.step(from, to, updateDelay);
+            }//step
+        });
+    }//step
+
+    /**
+     * Parte el intervalo [0, size) en bloques, los calcula y mide las fases
+     * del paso.
+     * @param size - El n&uacute;mero de elementos a calcular.
+     * @param range - El c&aacute;lculo de un bloque.
+     * @return StepTimings - Las medidas del paso.
+     * @throws java.util.concurrent.RejectedExecutionException - Si el
+     * <tt>Executor</tt> rechaza un bloque; se lanza despu&eacute;s de que
+     * terminan los bloques que s&iacute; acept&oacute;.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected StepTimings run(int size, Range range) {
+        final int chunk = this.chunkSize;
+        final AtomicLong compute = new AtomicLong();
+        final AtomicLong maxChunk = new AtomicLong();
+        int chunks = size == 0 ? 0 : (size -1) /chunk +1;
+        long start = System.nanoTime();
+        long scheduled;
+        if(chunks <= 1) {
+            // un solo bloque no vale la pena repartirlo
+            scheduled = start;
+            if(chunks == 1) {
+                runChunk(range, 0, size, compute, maxChunk);
+            }//si hay algo que calcular
+        } else if(POOL != null) {
+            ChunkTask task = new ChunkTask(range, 0, size, chunk, compute,
+                    maxChunk);
+            scheduled = System.nanoTime();
+            POOL.invoke(task);
+        } else {
+            final CountDownLatch done = new CountDownLatch(chunks);
+            final AtomicReference<Throwable> failure =
+                    new AtomicReference<>();
+            RuntimeException rejected = null;
+            int submitted = 0;
+            for(int from = 0; from < size; from += chunk) {
+                final Range r = range;
+                final int f = from;
+                final int t = Math.min(size, from +chunk);
+                try {
+                    EXECUTOR.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                runChunk(r, f, t, compute, maxChunk);
+                            } catch(Throwable e) {
+                                failure.compareAndSet(null, e);
+                            } finally {
+                                done.countDown();
+                            }//siempre avisa que terminó
+                        }//run
+                    });
+                } catch(RuntimeException e) {
+                    rejected = e;
+                    break;
+                }//si el ejecutor rechazó el bloque
+                submitted++;
+            }//entrega cada bloque
+            for(int i = submitted; i < chunks && rejected != null; i++) {
+                done.countDown();
+            }//los bloques no entregados no se esperan
+            scheduled = System.nanoTime();
+            boolean interrupted = false;
+            while(true) {
+                try {
+                    done.await();
+                    break;
+                } catch(InterruptedException e) {
+                    interrupted = true;
+                }//espera aunque lo interrumpan; los bloques siguen corriendo
+            }//espera a que terminen todos los bloques
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }//conserva la interrupción
+            Throwable e = failure.get();
+            if(rejected != null) {
+                // se lanza hasta que terminan los bloques ya entregados, para
+                // que ninguno siga moviendo sprites después
+                if(e != null) {
+                    rejected.addSuppressed(e);
+                }//conserva el fallo de algún bloque
+                throw rejected;
+            } else if(e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if(e instanceof Error) {
+                throw (Error) e;
+            }//si algún bloque falló
+        }//según dónde se calcule
+        long end = System.nanoTime();
+        StepTimings timings = new StepTimings(size, chunks, end -start,
+                scheduled -start, end -scheduled, compute.get(),
+                maxChunk.get());
+        lastTimings = timings;
+        return timings;
+    }//run
+
+    /**
+     * Calcula un bloque y acumula su tiempo.
+     * @param range - El c&aacute;lculo de un bloque.
+     * @param from - El primer &iacute;ndice del bloque (inclusivo).
+     * @param to - El &uacute;ltimo &iacute;ndice del bloque (exclusivo).
+     * @param compute - El acumulado de tiempo de c&aacute;lculo.
+     * @param maxChunk - El tiempo del bloque m&aacute;s lento.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    static void runChunk(Range range, int from, int to, AtomicLong compute,
+            AtomicLong maxChunk) {
+        long start = System.nanoTime();
+        range.step(from, to);
+        long elapsed = System.nanoTime() -start;
+        compute.addAndGet(elapsed);
+        long max;
+        while(elapsed > (max = maxChunk.get()) &&
+                !maxChunk.compareAndSet(max, elapsed)) {
+            // otro bloque actualizó el máximo; se vuelve a comparar
+        }//actualiza el máximo
+    }//runChunk
+
+    // clases anidadas
+
+    /**
+     * El c&aacute;lculo de un bloque de &iacute;ndices.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    protected interface Range {
+
+        /**
+         * Calcula los elementos del intervalo dado.
+         * @param from - El primer &iacute;ndice (inclusivo).
+         * @param to - El &uacute;ltimo &iacute;ndice (exclusivo).
+         */
+        void step(int from, int to);
+
+    }//Range interface
+
+    /**
+     * Tarea que parte su intervalo a la mitad hasta que cabe en un bloque.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    private static class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * El c&aacute;lculo que se aplica a cada bloque.
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final Range RANGE;
+
+        /**
+         * El primer &iacute;ndice del intervalo (inclusivo).
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final int FROM;
+
+        /**
+         * El &uacute;ltimo &iacute;ndice del intervalo (exclusivo).
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final int TO;
+
+        /**
+         * El tama&ntilde;o m&aacute;ximo de un bloque.
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final int CHUNK;
+
+        /**
+         * Acumula el tiempo de c&aacute;lculo de todos los bloques.
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final AtomicLong COMPUTE;
+
+        /**
+         * Guarda el tiempo de c&aacute;lculo del bloque m&aacute;s lento.
+         * @since ParallelStepper 1.0, october 2026
+         */
+        private final AtomicLong MAX_CHUNK;
+
+        /**
+         * Construye la tarea de un intervalo.
+         * @param range - El c&aacute;lculo de cada bloque.
+         * @param from - El primer &iacute;ndice (inclusivo).
+         * @param to - El &uacute;ltimo &iacute;ndice (exclusivo).
+         * @param chunk - El tama&ntilde;o m&aacute;ximo de un bloque.
+         * @param compute - Acumula el tiempo de c&aacute;lculo.
+         * @param maxChunk - Guarda el tiempo del bloque m&aacute;s lento.
+         * @since ParallelStepper 1.0, october 2026
+         */
+        ChunkTask(Range range, int from, int to, int chunk, AtomicLong compute,
+                AtomicLong maxChunk) {
+            this.RANGE = range;
+            this.FROM = from;
+            this.TO = to;
+            this.CHUNK = chunk;
+            this.COMPUTE = compute;
+            this.MAX_CHUNK = maxChunk;
+        }//constructor con intervalo
+
+        @Override
+        protected void compute() {
+            if(TO -FROM <= CHUNK) {
+                runChunk(RANGE, FROM, TO, COMPUTE, MAX_CHUNK);
+                return;
+            }//si cabe en un bloque
+            // se parte en un múltiplo del bloque para no dejar bloques chicos
+            int blocks = (TO -FROM -1) /CHUNK +1;
+            int mid = FROM +(blocks /2) *CHUNK;
+            invokeAll(new ChunkTask(RANGE, FROM, mid, CHUNK, COMPUTE,
+                    MAX_CHUNK), new ChunkTask(RANGE, mid, TO, CHUNK, COMPUTE,
+                    MAX_CHUNK));
+        }//compute
+
+    }//ChunkTask class
+
+    /**
+     * Medidas de un paso. Los tiempos est&aacute;n en nanosegundos.
+     * @since ParallelStepper 1.0, october 2026
+     */
+    public static class StepTimings {
+
+        /**
+         * N&uacute;mero de elementos calculados.
+         */
+        public final int ELEMENTS;
+
+        /**
+         * N&uacute;mero de bloques en los que se parti&oacute; el paso.
+         */
+        public final int CHUNKS;
+
+        /**
+         * Tiempo total del paso, visto por el hilo que lo pidi&oacute;.
+         */
+        public final long TOTAL_NANOS;
+
+        /**
+         * Tiempo que tom&oacute; partir y entregar los bloques.
+         */
+        public final long SCHEDULE_NANOS;
+
+        /**
+         * Tiempo desde que se entregaron los bloques hasta que
+         * termin&oacute; el &uacute;ltimo.
+         */
+        public final long JOIN_NANOS;
+
+        /**
+         * Suma del tiempo de c&aacute;lculo de todos los bloques, en todos
+         * los hilos.
+         */
+        public final long COMPUTE_NANOS;
+
+        /**
+         * Tiempo de c&aacute;lculo del bloque m&aacute;s lento.
+         */
+        public final long MAX_CHUNK_NANOS;
+
+        /**
+         * Construye las medidas de un paso.
+         * @param elements - N&uacute;mero de elementos calculados.
+         * @param chunks - N&uacute;mero de bloques.
+         * @param total - Tiempo total.
+         * @param schedule - Tiempo de reparto.
+         * @param join - Tiempo de espera.
+         * @param compute - Suma del tiempo de c&aacute;lculo.
+         * @param maxChunk - Tiempo del bloque m&aacute;s lento.
+         */
+        public StepTimings(int elements, int chunks, long total, long schedule,
+                long join, long compute, long maxChunk) {
+            this.ELEMENTS = elements;
+            this.CHUNKS = chunks;
+            this.TOTAL_NANOS = total;
+            this.SCHEDULE_NANOS = schedule;
+            this.JOIN_NANOS = join;
+            this.COMPUTE_NANOS = compute;
+            this.MAX_CHUNK_NANOS = maxChunk;
+        }//constructor con medidas
+
+        /**
+         * Calcula el paralelismo efectivo del paso: el tiempo de
+         * c&aacute;lculo entre el tiempo total.
+         * @return double - El n&uacute;mero promedio de hilos que
+         * estuvieron calculando.
+         */
+        public double getParallelism() {
+            return TOTAL_NANOS == 0 ? 0 : (double) COMPUTE_NANOS /TOTAL_NANOS;
+        }//getParallelism
+
+        @Override
+        public String toString() {
+            return "elements=" +ELEMENTS +", chunks=" +CHUNKS +", total="
+                    +TOTAL_NANOS +"ns, schedule=" +SCHEDULE_NANOS +"ns, join="
+                    +JOIN_NANOS +"ns, compute=" +COMPUTE_NANOS
+                    +"ns, maxChunk=" +MAX_CHUNK_NANOS +"ns";
+        }//toString
+
+    }//StepTimings class
+
+}//ParallelStepper class
@@ -0,0 +1,629 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * <p>Detector de colisiones de fase amplia basado en una rejilla uniforme
+ * dispersa. Cada sprite se registra en todas las celdas que toca su
+ * rect&aacute;ngulo (<tt>POSITION</tt>, <tt>WIDTH</tt>, <tt>HEIGHT</tt>) y
+ * s&oacute;lo los pares que comparten alguna celda se confirman con
+ * {@link Sprite#detectCollision(Sprite)}.</p>
+ * <p>La rejilla se actualiza de forma incremental: {@link #update(Sprite)}
+ * s&oacute;lo toca las celdas de un sprite cuando &eacute;ste cambia de
+ * celdas, as&iacute; que no es necesario reconstruirla en cada cuadro. Basta
+ * con llamarlo despu&eacute;s de mover al sprite, o usar
+ * {@link #move(Sprite, long)} que hace ambas cosas.</p>
+ * <p>Conviene que el tama&ntilde;o de celda sea parecido al de los sprites
+ * m&aacute;s comunes. Esta clase no es segura para hilos.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class SpatialHashGrid {
+
+    // atributos de clase
+
+    /**
+     * El tama&ntilde;o (ancho y alto) de cada celda de la rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public final int CELL_SIZE;
+
+    /**
+     * Relaciona a cada sprite indexado con su registro en la rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected final IdentityHashMap<Sprite, Entry> ENTRIES;
+
+    /**
+     * Llaves de la tabla de celdas; cada una combina las coordenadas X y Y
+     * de la celda.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected long[] keys;
+
+    /**
+     * Celdas de la tabla; <tt>null</tt> indica una ranura libre.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected Cell[] cells;
+
+    /**
+     * N&uacute;mero de celdas ocupadas en la tabla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected int cellCount;
+
+    /**
+     * Marca de la consulta en curso; evita reportar dos veces un mismo
+     * candidato al consultar por un solo sprite.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    private int queryStamp;
+
+    // métodos constructores
+
+    /**
+     * Construye una rejilla vac&iacute;a con el tama&ntilde;o de celda dado.
+     * @param cellSize - El ancho y alto de cada celda, en pixeles.
+     * @throws IllegalArgumentException - Si el tama&ntilde;o no es positivo.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public SpatialHashGrid(int cellSize) {
+        if(cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }//si la celda no tiene tamaño
+        this.CELL_SIZE = cellSize;
+        this.ENTRIES = new IdentityHashMap<>();
+        this.keys = new long[16];
+        this.cells = new Cell[16];
+    }//constructor con tamaño de celda
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero de sprites en la rejilla.
+     * @return int - El n&uacute;mero de sprites indexados.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public int size() {
+        return ENTRIES.size();
+    }//size
+
+    /**
+     * Indica si el sprite dado est&aacute; en la rejilla.
+     * @param sprite - El sprite a buscar.
+     * @return boolean - <tt>true</tt> si el sprite est&aacute; indexado,
+     * <tt>false</tt> en otro caso.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public boolean contains(Sprite sprite) {
+        return ENTRIES.containsKey(sprite);
+    }//contains
+
+    // métodos de modificación
+
+    /**
+     * Agrega el sprite dado a la rejilla, de acuerdo a su posici&oacute;n
+     * actual.
+     * @param sprite - El sprite a agregar.
+     * @return boolean - <tt>true</tt> si el sprite se agreg&oacute;,
+     * <tt>false</tt> si ya estaba en la rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public boolean add(Sprite sprite) {
+        if(ENTRIES.containsKey(sprite)) {
+            return false;
+        }//si ya estaba
+        Entry entry = new Entry(sprite);
+        computeBounds(entry);
+        ENTRIES.put(sprite, entry);
+        insert(entry);
+        return true;
+    }//add
+
+    /**
+     * Retira el sprite dado de la rejilla.
+     * @param sprite - El sprite a retirar.
+     * @return boolean - <tt>true</tt> si el sprite se retir&oacute;,
+     * <tt>false</tt> si no estaba en la rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public boolean remove(Sprite sprite) {
+        Entry entry = ENTRIES.remove(sprite);
+        if(entry == null) {
+            return false;
+        }//si no estaba
+        erase(entry);
+        return true;
+    }//remove
+
+    /**
+     * Vac&iacute;a la rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public void clear() {
+        ENTRIES.clear();
+        Arrays.fill(cells, null);
+        cellCount = 0;
+    }//clear
+
+    /**
+     * Actualiza las celdas del sprite dado a partir de su posici&oacute;n
+     * actual. Si el sprite sigue en las mismas celdas, no se hace nada
+     * m&aacute;s.
+     * @param sprite - El sprite que se movi&oacute;.
+     * @throws IllegalArgumentException - Si el sprite no est&aacute; en la
+     * rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public void update(Sprite sprite) {
+        Entry entry = ENTRIES.get(sprite);
+        if(entry == null) {
+            throw new IllegalArgumentException("Given sprite isn't in the "
+                    + "grid.");
+        }//si no está en la rejilla
+        update(entry);
+    }//update
+
+    /**
+     * Actualiza las celdas de todos los sprites en la rejilla. S&oacute;lo
+     * se tocan las celdas de los sprites que cambiaron de celda.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public void updateAll() {
+        for(Entry entry : ENTRIES.values()) {
+            update(entry);
+        }//actualiza a cada sprite
+    }//updateAll
+
+    /**
+     * Mueve el sprite dado con {@link Sprite#moveObject(long)} y actualiza
+     * sus celdas.
+     * @param sprite - El sprite a mover.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime al sprite.
+     * @throws IllegalArgumentException - Si el sprite no est&aacute; en la
+     * rejilla.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public void move(Sprite sprite, long updateDelay) {
+        sprite.moveObject(updateDelay);
+        update(sprite);
+    }//move
+
+    /**
+     * Mueve todos los sprites de la rejilla con
+     * {@link Sprite#moveObject(long)} y actualiza sus celdas.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime a los sprites.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public void moveAll(long updateDelay) {
+        for(Entry entry : ENTRIES.values()) {
+            entry.SPRITE.moveObject(updateDelay);
+            update(entry);
+        }//mueve a cada sprite
+    }//moveAll
+
+    // métodos de implementación
+
+    /**
+     * Encuentra todos los pares de sprites que colisionan. Cada par se
+     * notifica una sola vez, aunque compartan varias celdas.
+     * @param listener - Quien recibe los pares que colisionan.
+     * @return int - El n&uacute;mero de pares que colisionan.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public int findCollisions(CollisionListener listener) {
+        int found = 0;
+        for(Cell cell : cells) {
+            if(cell == null) {
+                continue;
+            }//si la ranura está libre
+            Entry[] items = cell.items;
+            int count = cell.count;
+            for(int i = 0; i < count; i++) {
+                Entry a = items[i];
+                for(int j = i +1; j < count; j++) {
+                    Entry b = items[j];
+                    // el par se revisa sólo en la primer celda que comparten
+                    if(cell.X != Math.max(a.minX, b.minX) ||
+                            cell.Y != Math.max(a.minY, b.minY)) {
+                        continue;
+                    }//si no es la primer celda común
+                    if(a.SPRITE.detectCollision(b.SPRITE)) {
+                        listener.onCollision(a.SPRITE, b.SPRITE);
+                        found++;
+                    }//confirma con la fase estrecha
+                }//revisa contra el resto de la celda
+            }//revisa cada sprite de la celda
+        }//revisa cada celda
+        return found;
+    }//findCollisions
+
+    /**
+     * Encuentra todos los sprites de la rejilla que colisionan con el dado.
+     * El sprite dado no necesita estar en la rejilla.
+     * @param sprite - El sprite con el que se buscan colisiones.
+     * @param listener - Quien recibe los pares que colisionan. El sprite dado
+     * siempre es el primero del par.
+     * @return int - El n&uacute;mero de sprites que colisionan con el dado.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    public int findCollisions(Sprite sprite, CollisionListener listener) {
+        Entry probe = ENTRIES.get(sprite);
+        if(probe == null) {
+            probe = new Entry(sprite);
+            computeBounds(probe);
+        } else {
+            update(probe);
+        }//si no está indexado, sólo calcula sus celdas
+        int stamp = ++queryStamp;
+        int found = 0;
+        for(int x = probe.minX; x <= probe.maxX; x++) {
+            for(int y = probe.minY; y <= probe.maxY; y++) {
+                Cell cell = find(x, y);
+                if(cell == null) {
+                    continue;
+                }//si la celda está vacía
+                for(int i = 0; i < cell.count; i++) {
+                    Entry other = cell.items[i];
+                    if(other == probe || other.stamp == stamp) {
+                        continue;
+                    }//si ya se revisó
+                    other.stamp = stamp;
+                    if(sprite.detectCollision(other.SPRITE)) {
+                        listener.onCollision(sprite, other.SPRITE);
+                        found++;
+                    }//confirma con la fase estrecha
+                }//revisa cada sprite de la celda
+            }//recorre en Y
+        }//recorre en X
+        return found;
+    }//findCollisions
+
+    /**
+     * Recalcula las celdas del registro dado y lo reubica si cambiaron.
+     * @param entry - El registro del sprite que se movi&oacute;.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected void update(Entry entry) {
+        int minX = entry.minX;
+        int minY = entry.minY;
+        int maxX = entry.maxX;
+        int maxY = entry.maxY;
+        computeBounds(entry);
+        if(minX == entry.minX && minY == entry.minY && maxX == entry.maxX &&
+                maxY == entry.maxY) {
+            return;
+        }//si sigue en las mismas celdas
+        int newMinX = entry.minX;
+        int newMinY = entry.minY;
+        int newMaxX = entry.maxX;
+        int newMaxY = entry.maxY;
+        entry.minX = minX;
+        entry.minY = minY;
+        entry.maxX = maxX;
+        entry.maxY = maxY;
+        erase(entry);
+        entry.minX = newMinX;
+        entry.minY = newMinY;
+        entry.maxX = newMaxX;
+        entry.maxY = newMaxY;
+        insert(entry);
+    }//update
+
+    /**
+     * Calcula las celdas que cubre el rect&aacute;ngulo del sprite del
+     * registro dado. Los bordes se consideran parte del rect&aacute;ngulo,
+     * igual que en {@link Sprite#detectCollision(Sprite)}.
+     * @param entry - El registro a actualizar.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected void computeBounds(Entry entry) {
+        Sprite sprite = entry.SPRITE;
+        entry.minX = Math.floorDiv(sprite.POSITION.x, CELL_SIZE);
+        entry.minY = Math.floorDiv(sprite.POSITION.y, CELL_SIZE);
+        entry.maxX = Math.floorDiv(sprite.POSITION.x +sprite.WIDTH,
+                CELL_SIZE);
+        entry.maxY = Math.floorDiv(sprite.POSITION.y +sprite.HEIGHT,
+                CELL_SIZE);
+    }//computeBounds
+
+    /**
+     * Registra al sprite del registro dado en todas sus celdas.
+     * @param entry - El registro a insertar.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected void insert(Entry entry) {
+        for(int x = entry.minX; x <= entry.maxX; x++) {
+            for(int y = entry.minY; y <= entry.maxY; y++) {
+                findOrCreate(x, y).add(entry);
+            }//recorre en Y
+        }//recorre en X
+    }//insert
+
+    /**
+     * Retira al sprite del registro dado de todas sus celdas. Las celdas que
+     * quedan vac&iacute;as se liberan.
+     * @param entry - El registro a retirar.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected void erase(Entry entry) {
+        for(int x = entry.minX; x <= entry.maxX; x++) {
+            for(int y = entry.minY; y <= entry.maxY; y++) {
+                Cell cell = find(x, y);
+                if(cell != null && cell.remove(entry) && cell.count == 0) {
+                    release(cell);
+                }//si la celda quedó vacía
+            }//recorre en Y
+        }//recorre en X
+    }//erase
+
+    /**
+     * Busca la celda con las coordenadas dadas.
+     * @param x - La coordenada X de la celda.
+     * @param y - La coordenada Y de la celda.
+     * @return Cell - La celda buscada; <tt>null</tt> si est&aacute;
+     * vac&iacute;a.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected Cell find(int x, int y) {
+        long key = key(x, y);
+        int mask = cells.length -1;
+        for(int slot = hash(key) & mask; cells[slot] != null;
+                slot = (slot +1) & mask) {
+            if(keys[slot] == key) {
+                return cells[slot];
+            }//si es la celda buscada
+        }//sondeo lineal
+        return null;
+    }//find
+
+    /**
+     * Busca la celda con las coordenadas dadas; si no existe, la crea.
+     * @param x - La coordenada X de la celda.
+     * @param y - La coordenada Y de la celda.
+     * @return Cell - La celda con las coordenadas dadas.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected Cell findOrCreate(int x, int y) {
+        long key = key(x, y);
+        int mask = cells.length -1;
+        int slot = hash(key) & mask;
+        for(; cells[slot] != null; slot = (slot +1) & mask) {
+            if(keys[slot] == key) {
+                return cells[slot];
+            }//si es la celda buscada
+        }//sondeo lineal
+        Cell cell = new Cell(x, y);
+        keys[slot] = key;
+        cells[slot] = cell;
+        if(++cellCount *2 > cells.length) {
+            rehash(cells.length *2);
+        }//mantiene la tabla a lo más a la mitad
+        return cell;
+    }//findOrCreate
+
+    /**
+     * Libera la ranura de la celda dada. Usa borrado con corrimiento hacia
+     * atr&aacute;s, as&iacute; que no quedan l&aacute;pidas en la tabla.
+     * @param cell - La celda vac&iacute;a a liberar.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected void release(Cell cell) {
+        int mask = cells.length -1;
+        int slot = hash(key(cell.X, cell.Y)) & mask;
+        while(cells[slot] != cell) {
+            slot = (slot +1) & mask;
+        }//busca la ranura
+        int hole = slot;
+        for(int i = (hole +1) & mask; cells[i] != null; i = (i +1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // se recorre si su ranura de origen no está entre el hueco y i
+            if(((i -home) & mask) >= ((i -hole) & mask)) {
+                keys[hole] = keys[i];
+                cells[hole] = cells[i];
+                hole = i;
+            }//si debe ocupar el hueco
+        }//recorre el grupo
+        cells[hole] = null;
+        cellCount--;
+    }//release
+
+    /**
+     * Redimensiona la tabla de celdas.
+     * @param capacity - La nueva capacidad; debe ser potencia de 2.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Cell[] oldCells = cells;
+        keys = new long[capacity];
+        cells = new Cell[capacity];
+        int mask = capacity -1;
+        for(int i = 0; i < oldCells.length; i++) {
+            if(oldCells[i] == null) {
+                continue;
+            }//si la ranura está libre
+            int slot = hash(oldKeys[i]) & mask;
+            while(cells[slot] != null) {
+                slot = (slot +1) & mask;
+            }//sondeo lineal
+            keys[slot] = oldKeys[i];
+            cells[slot] = oldCells[i];
+        }//reubica cada celda
+    }//rehash
+
+    // métodos estáticos
+
+    /**
+     * Combina las coordenadas de una celda en una sola llave.
+     * @param x - La coordenada X de la celda.
+     * @param y - La coordenada Y de la celda.
+     * @return long - La llave de la celda.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }//key
+
+    /**
+     * Dispersa la llave dada para indexar la tabla de celdas.
+     * @param key - La llave de una celda.
+     * @return int - La dispersi&oacute;n de la llave.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    private static int hash(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32));
+    }//hash
+
+    // clases anidadas
+
+    /**
+     * Registro de un sprite en la rejilla: el intervalo de celdas que cubre.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected static class Entry {
+
+        /**
+         * El sprite registrado.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected final Sprite SPRITE;
+
+        /**
+         * Coordenada X menor (inclusiva) de las celdas que cubre el sprite.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int minX;
+
+        /**
+         * Coordenada Y menor (inclusiva) de las celdas que cubre el sprite.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int minY;
+
+        /**
+         * Coordenada X mayor (inclusiva) de las celdas que cubre el sprite.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int maxX;
+
+        /**
+         * Coordenada Y mayor (inclusiva) de las celdas que cubre el sprite.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int maxY;
+
+        /**
+         * La &uacute;ltima consulta que revis&oacute; este registro.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int stamp;
+
+        /**
+         * Construye el registro del sprite dado.
+         * @param sprite - El sprite a registrar.
+         */
+        protected Entry(Sprite sprite) {
+            this.SPRITE = sprite;
+        }//constructor con sprite
+
+    }//Entry class
+
+    /**
+     * Celda de la rejilla: los registros de los sprites que la tocan.
+     * @since SpatialHashGrid 1.0, october 2026
+     */
+    protected static class Cell {
+
+        /**
+         * Coordenada X de la celda.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected final int X;
+
+        /**
+         * Coordenada Y de la celda.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected final int Y;
+
+        /**
+         * Los registros de la celda; s&oacute;lo los primeros
+         * <tt>count</tt> son v&aacute;lidos.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected Entry[] items;
+
+        /**
+         * N&uacute;mero de registros en la celda.
+         * @since SpatialHashGrid 1.0, october 2026
+         */
+        protected int count;
+
+        /**
+         * Construye una celda vac&iacute;a con las coordenadas dadas.
+         * @param x - La coordenada X de la celda.
+         * @param y - La coordenada Y de la celda.
+         */
+        protected Cell(int x, int y) {
+            this.X = x;
+            this.Y = y;
+            this.items = new Entry[4];
+        }//constructor con coordenadas
+
+        /**
+         * Agrega el registro dado a la celda.
+         * @param entry - El registro a agregar.
+         */
+        protected void add(Entry entry) {
+            if(count == items.length) {
+                items = Arrays.copyOf(items, count *2);
+            }//si no hay lugar
+            items[count++] = entry;
+        }//add
+
+        /**
+         * Retira el registro dado de la celda.
+         * @param entry - El registro a retirar.
+         * @return boolean - <tt>true</tt> si el registro estaba en la celda.
+         */
+        protected boolean remove(Entry entry) {
+            for(int i = 0; i < count; i++) {
+                if(items[i] == entry) {
+                    items[i] = items[--count];
+                    items[count] = null;
+                    return true;
+                }//si es el registro buscado
+            }//busca el registro
+            return false;
+        }//remove
+
+    }//Cell class
+
+}//SpatialHashGrid class
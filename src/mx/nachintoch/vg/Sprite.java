@@ -25,13 +25,14 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import javax.imageio.ImageIO;
 import mx.nachintoch.datatypes.NachintochVector;
+import mx.nachintoch.datatypes.TrigProvider;
 
 /**
  * Modela un sprite.
  * 
  * @author <a href="mailto:contact@nachintoch.mx" >Manuel
  * "nachintoch" Castillo</a>
- * @version 2.0, september 2016
+ * @version 2.2, october 2026
  * @since Nachintoch Library for Java SE &amp; Android 2012
  */
 public class Sprite {
@@ -162,6 +163,21 @@ public class Sprite {
      */
     public final int ID;
     
+    /**
+     * El mundo al que pertenece el sprite, o <tt>null</tt> si no pertenece a
+     * ninguno. Mientras pertenezca a un mundo, el sprite es s&oacute;lo un
+     * manejador de su cuerpo en &eacute;l.
+     * @since Sprite 2.1, october 2026
+     */
+    protected SpriteWorld world;
+    
+    /**
+     * &Iacute;ndice del cuerpo del sprite en su mundo; -1 si no pertenece a
+     * ninguno.
+     * @since Sprite 2.1, october 2026
+     */
+    protected int worldIndex = -1;
+    
     // método constructor
     
     /**
@@ -467,10 +483,9 @@ public class Sprite {
      * @since Sprite 1.0, may 2015
      */
     public void addMovForce(double force) {
-        double x = MOV_FORCE.getX()
-                +NachintochVector.rotateX(force, rotationAngle);
-        double y = MOV_FORCE.getY()
-                +NachintochVector.rotateY(force, rotationAngle);
+        TrigProvider trig = this.getTrigProvider();
+        double x = MOV_FORCE.getX() +force *trig.cos(rotationAngle);
+        double y = MOV_FORCE.getY() +force *trig.sin(rotationAngle);
         if(NachintochVector.calculateNorm(x, y) < this.maxForce) {
             MOV_FORCE.setMagnitudes(x, y);
         }//si no se pasa de 
@@ -489,8 +504,9 @@ public class Sprite {
      */
     public void setMovForce(double movForceX, double movForceY, double limit)
             throws IllegalArgumentException {
-        double x = movForceX *Math.cos(this.rotationAngle);
-        double y = movForceY *Math.sin(this.rotationAngle);
+        TrigProvider trig = this.getTrigProvider();
+        double x = movForceX *trig.cos(this.rotationAngle);
+        double y = movForceY *trig.sin(this.rotationAngle);
         limit = Math.abs(limit);
         if(NachintochVector.calculateNorm(x, y) > limit) {
             throw new IllegalArgumentException("Given force vector norm is "
@@ -510,8 +526,9 @@ public class Sprite {
      * @since Sprite 1.0, mayo 2015
      */
     public void setAccel(double accelX, double accelY) {
-        this.MOV_FORCE.setMagnitudes(accelX *Math.cos(this.rotationAngle),
-                accelY *Math.sin(this.rotationAngle));
+        TrigProvider trig = this.getTrigProvider();
+        this.MOV_FORCE.setMagnitudes(accelX *trig.cos(this.rotationAngle),
+                accelY *trig.sin(this.rotationAngle));
         this.isAccelConstant = true;
         this.isSpeedConstant = false;
     }//setAccelX
@@ -522,12 +539,15 @@ public class Sprite {
      * @since Sprite 1.0, mayo 2015
      */
     public void setAngle(double a) {
+        TrigProvider trig = this.getTrigProvider();
+        double cos = trig.cos(a);
+        double sin = trig.sin(a);
         if(!this.isAccelConstant) {
-            this.MOV_FORCE.setAngle(a);
+            this.MOV_FORCE.setAngle(a, cos, sin);
         } if(!this.isSpeedConstant) {
-            this.ACCEL.setAngle(a);
+            this.ACCEL.setAngle(a, cos, sin);
         }//cambia la dirección del verctor que mueve el objeto
-        this.SPEED.setAngle(a);
+        this.SPEED.setAngle(a, cos, sin);
         this.rotationAngle = a;
     }//setAngle
     
@@ -537,12 +557,13 @@ public class Sprite {
      * @since Sprite 2.0, september 2016
      */
     public void addAngle(double a) {
+        TrigProvider trig = this.getTrigProvider();
         if(!this.isAccelConstant) {
-            this.MOV_FORCE.addAngle(a);
+            this.MOV_FORCE.addAngle(a, trig);
         } if(!this.isSpeedConstant) {
-            this.ACCEL.addAngle(a);
+            this.ACCEL.addAngle(a, trig);
         }//cambia la dirección del verctor que mueve el objeto
-        this.SPEED.addAngle(a);
+        this.SPEED.addAngle(a, trig);
         this.rotationAngle = a;
     }//addAngle
     
@@ -658,6 +679,38 @@ public class Sprite {
         return this.SPEED.getY();
     }//getSpeedY
     
+    /**
+     * Indica el mundo al que pertenece el sprite.
+     * @return SpriteWorld - El mundo del sprite; <tt>null</tt> si no pertenece
+     * a ninguno.
+     * @since Sprite 2.1, october 2026
+     */
+    public SpriteWorld getWorld() {
+        return this.world;
+    }//getWorld
+    
+    /**
+     * Indica el &iacute;ndice del cuerpo del sprite en su mundo.
+     * @return int - El &iacute;ndice del sprite en su mundo; -1 si no
+     * pertenece a ninguno.
+     * @since Sprite 2.1, october 2026
+     */
+    public int getWorldIndex() {
+        return this.worldIndex;
+    }//getWorldIndex
+    
+    /**
+     * Indica el proveedor de seno y coseno con el que el sprite calcula sus
+     * rotaciones: el de su mundo, si pertenece a uno, o el global.
+     * @return TrigProvider - El proveedor del sprite.
+     * @since Sprite 2.2, october 2026
+     */
+    public TrigProvider getTrigProvider() {
+        SpriteWorld world = this.world;
+        return world != null ? world.getTrigProvider()
+                : NachintochVector.getTrigProvider();
+    }//getTrigProvider
+    
     // métodos de implementación
     
     /**
@@ -738,12 +791,15 @@ public class Sprite {
      */
     public double rotateObject(double angle) {
         this.rotationAngle += angle;
+        TrigProvider trig = this.getTrigProvider();
+        double cos = trig.cos(rotationAngle);
+        double sin = trig.sin(rotationAngle);
         if(!this.isAccelConstant) {
-            MOV_FORCE.setAngle(rotationAngle);
+            MOV_FORCE.setAngle(rotationAngle, cos, sin);
         } if(!this.isSpeedConstant) {
-            ACCEL.setAngle(rotationAngle);
+            ACCEL.setAngle(rotationAngle, cos, sin);
         }//asigna el vector de fuerza, aceleración dependiendo el caso
-        SPEED.setAngle(rotationAngle);
+        SPEED.setAngle(rotationAngle, cos, sin);
         return this.rotationAngle;
     }//rotate object
     
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.util.Arrays;
+import mx.nachintoch.datatypes.NachintochVector;
+import mx.nachintoch.datatypes.TrigProvider;
+
+/**
+ * <p>Contenedor de sprites que guarda las magnitudes f&iacute;sicas de todos
+ * sus cuerpos en arreglos primitivos paralelos (una "estructura de
+ * arreglos").</p>
+ * <p>Mientras un sprite pertenece al mundo, los arreglos del mundo son la
+ * fuente de verdad de su posici&oacute;n, velocidad, aceleraci&oacute;n y
+ * fuerza; el sprite es s&oacute;lo un manejador (su &iacute;ndice). Si se
+ * modifica el sprite con sus propios m&eacute;todos, debe llamarse a
+ * {@link #load(Sprite)}; para reflejar en el sprite lo calculado por el mundo,
+ * debe llamarse a {@link #store(Sprite)} o {@link #storeAll()}.</p>
+ * <p>El paso de simulaci&oacute;n usa exactamente las mismas reglas que
+ * {@link Sprite#moveObject(long)} y {@link Sprite#frictionReduction()}; incluso
+ * el truncamiento a entero de la posici&oacute;n.</p>
+ * <p>Cada mundo puede tener su propio {@link TrigProvider}, con el que sus
+ * sprites calculan sus rotaciones; si no lo tiene, usan el global de
+ * {@link NachintochVector#getTrigProvider()}.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.1, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class SpriteWorld {
+
+    // atributos de clase
+
+    /**
+     * Capacidad inicial de los arreglos cuando no se especifica otra.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * N&uacute;mero de cuerpos en el mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected int size;
+
+    /**
+     * Los sprites que son manejados por este mundo. El sprite en la
+     * posici&oacute;n i es el due&ntilde;o del cuerpo i.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected Sprite[] sprites;
+
+    /**
+     * Posici&oacute;n en X de cada cuerpo. Siempre contiene valores enteros,
+     * pues as&iacute; los guarda <tt>Sprite.POSITION</tt>.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] posX;
+
+    /**
+     * Posici&oacute;n en Y de cada cuerpo. Siempre contiene valores enteros,
+     * pues as&iacute; los guarda <tt>Sprite.POSITION</tt>.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] posY;
+
+    /**
+     * Velocidad en X de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] speedX;
+
+    /**
+     * Velocidad en Y de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] speedY;
+
+    /**
+     * Aceleraci&oacute;n en X de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] accelX;
+
+    /**
+     * Aceleraci&oacute;n en Y de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] accelY;
+
+    /**
+     * Fuerza que mueve a cada cuerpo en X.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] forceX;
+
+    /**
+     * Fuerza que mueve a cada cuerpo en Y.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] forceY;
+
+    /**
+     * Coeficiente de fricci&oacute;n de cada cuerpo en X.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] frictionX;
+
+    /**
+     * Coeficiente de fricci&oacute;n de cada cuerpo en Y.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] frictionY;
+
+    /**
+     * Masa de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] mass;
+
+    /**
+     * Velocidad m&aacute;xima de cada cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected double[] terminalVelocity;
+
+    /**
+     * Indica para cada cuerpo si su aceleraci&oacute;n es constante.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected boolean[] isAccelConstant;
+
+    /**
+     * Indica para cada cuerpo si su velocidad es constante.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected boolean[] isSpeedConstant;
+
+    /**
+     * Proveedor de seno y coseno para las rotaciones de los sprites del
+     * mundo; <tt>null</tt> para usar el global.
+     * @since SpriteWorld 1.1, october 2026
+     */
+    protected TrigProvider trigProvider;
+
+    // métodos constructores
+
+    /**
+     * Construye un mundo vac&iacute;o con la capacidad por omisi&oacute;n.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public SpriteWorld() {
+        this(DEFAULT_CAPACITY);
+    }//constructor por omisión
+
+    /**
+     * Construye un mundo vac&iacute;o con la capacidad inicial dada. Los
+     * arreglos crecen a necesidad.
+     * @param capacity - El n&uacute;mero de cuerpos que se espera tener.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public SpriteWorld(int capacity) {
+        if(capacity < 1) {
+            capacity = 1;
+        }//al menos un lugar
+        this.sprites = new Sprite[capacity];
+        this.posX = new double[capacity];
+        this.posY = new double[capacity];
+        this.speedX = new double[capacity];
+        this.speedY = new double[capacity];
+        this.accelX = new double[capacity];
+        this.accelY = new double[capacity];
+        this.forceX = new double[capacity];
+        this.forceY = new double[capacity];
+        this.frictionX = new double[capacity];
+        this.frictionY = new double[capacity];
+        this.mass = new double[capacity];
+        this.terminalVelocity = new double[capacity];
+        this.isAccelConstant = new boolean[capacity];
+        this.isSpeedConstant = new boolean[capacity];
+    }//constructor con capacidad
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero de cuerpos en el mundo.
+     * @return int - El n&uacute;mero de cuerpos.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public int size() {
+        return size;
+    }//size
+
+    /**
+     * Devuelve el sprite due&ntilde;o del cuerpo con el &iacute;ndice dado.
+     * @param index - El &iacute;ndice del cuerpo.
+     * @return Sprite - El sprite due&ntilde;o del cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public Sprite getSprite(int index) {
+        checkIndex(index);
+        return sprites[index];
+    }//getSprite
+
+    /**
+     * Indica la posici&oacute;n en X del cuerpo dado.
+     * @param index - El &iacute;ndice del cuerpo.
+     * @return double - La posici&oacute;n en X.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return posX[index];
+    }//getX
+
+    /**
+     * Indica la posici&oacute;n en Y del cuerpo dado.
+     * @param index - El &iacute;ndice del cuerpo.
+     * @return double - La posici&oacute;n en Y.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return posY[index];
+    }//getY
+
+    /**
+     * Indica la velocidad en X del cuerpo dado.
+     * @param index - El &iacute;ndice del cuerpo.
+     * @return double - La velocidad en X.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public double getSpeedX(int index) {
+        checkIndex(index);
+        return speedX[index];
+    }//getSpeedX
+
+    /**
+     * Indica la velocidad en Y del cuerpo dado.
+     * @param index - El &iacute;ndice del cuerpo.
+     * @return double - La velocidad en Y.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public double getSpeedY(int index) {
+        checkIndex(index);
+        return speedY[index];
+    }//getSpeedY
+
+    /**
+     * Devuelve el proveedor de seno y coseno que usan los sprites del mundo.
+     * @return TrigProvider - El proveedor del mundo, o el global si el mundo
+     * no tiene uno propio.
+     * @since SpriteWorld 1.1, october 2026
+     */
+    public TrigProvider getTrigProvider() {
+        TrigProvider trig = this.trigProvider;
+        return trig != null ? trig : NachintochVector.getTrigProvider();
+    }//getTrigProvider
+
+    // métodos de modificación
+
+    /**
+     * Cambia el proveedor de seno y coseno que usan los sprites del mundo al
+     * rotar. No afecta a los vectores fuera del mundo.
+     * @param trig - El proveedor del mundo; <tt>null</tt> para usar el global.
+     * @since SpriteWorld 1.1, october 2026
+     */
+    public void setTrigProvider(TrigProvider trig) {
+        this.trigProvider = trig;
+    }//setTrigProvider
+
+    /**
+     * Agrega el sprite dado al mundo. Sus magnitudes f&iacute;sicas se copian a
+     * los arreglos del mundo y el sprite queda como manejador de su cuerpo.
+     * @param sprite - El sprite a agregar.
+     * @return int - El &iacute;ndice del cuerpo del sprite en el mundo.
+     * @throws IllegalArgumentException - Si el sprite ya pertenece a un mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public int add(Sprite sprite) {
+        if(sprite.world != null) {
+            throw new IllegalArgumentException("Given sprite already belongs "
+                    + "to a world.");
+        }//si ya tiene dueño
+        if(size == sprites.length) {
+            grow();
+        }//si no hay lugar
+        int index = size++;
+        sprites[index] = sprite;
+        sprite.world = this;
+        sprite.worldIndex = index;
+        load(sprite);
+        return index;
+    }//add
+
+    /**
+     * Retira el sprite dado del mundo. Antes de retirarlo, se le asigna el
+     * estado calculado por el mundo. El &uacute;ltimo cuerpo del mundo ocupa
+     * el &iacute;ndice que se libera.
+     * @param sprite - El sprite a retirar.
+     * @throws IllegalArgumentException - Si el sprite no pertenece a este
+     * mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void remove(Sprite sprite) {
+        checkOwner(sprite);
+        store(sprite);
+        int index = sprite.worldIndex;
+        int last = --size;
+        if(index != last) {
+            move(last, index);
+        }//si no es el último
+        sprites[last] = null;
+        sprite.world = null;
+        sprite.worldIndex = -1;
+    }//remove
+
+    /**
+     * Copia las magnitudes f&iacute;sicas del sprite dado a los arreglos del
+     * mundo. Debe usarse despu&eacute;s de modificar al sprite con sus propios
+     * m&eacute;todos.
+     * @param sprite - El sprite del mundo cuyo estado se quiere cargar.
+     * @throws IllegalArgumentException - Si el sprite no pertenece a este
+     * mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void load(Sprite sprite) {
+        checkOwner(sprite);
+        int i = sprite.worldIndex;
+        posX[i] = sprite.POSITION.x;
+        posY[i] = sprite.POSITION.y;
+        speedX[i] = sprite.SPEED.getX();
+        speedY[i] = sprite.SPEED.getY();
+        accelX[i] = sprite.ACCEL.getX();
+        accelY[i] = sprite.ACCEL.getY();
+        forceX[i] = sprite.MOV_FORCE.getX();
+        forceY[i] = sprite.MOV_FORCE.getY();
+        frictionX[i] = sprite.FRICTION.getX();
+        frictionY[i] = sprite.FRICTION.getY();
+        mass[i] = sprite.mass;
+        terminalVelocity[i] = sprite.terminalVelocity;
+        isAccelConstant[i] = sprite.isAccelConstant;
+        isSpeedConstant[i] = sprite.isSpeedConstant;
+    }//load
+
+    /**
+     * Asigna al sprite dado el estado que el mundo ha calculado para su
+     * cuerpo: posici&oacute;n, velocidad, aceleraci&oacute;n y fuerza.
+     * @param sprite - El sprite del mundo a actualizar.
+     * @throws IllegalArgumentException - Si el sprite no pertenece a este
+     * mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void store(Sprite sprite) {
+        checkOwner(sprite);
+        store(sprite.worldIndex);
+    }//store
+
+    /**
+     * Asigna a todos los sprites del mundo el estado calculado para sus
+     * cuerpos. Lo normal es llamarlo una vez por cuadro, antes de dibujar.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void storeAll() {
+        for(int i = 0; i < size; i++) {
+            store(i);
+        }//actualiza a todos los sprites
+    }//storeAll
+
+    // métodos de implementación
+
+    /**
+     * Calcula el movimiento de todos los cuerpos del mundo.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime al mundo.
+     * @see Sprite#moveObject(long)
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void step(long updateDelay) {
+        step(0, size, updateDelay);
+    }//step
+
+    /**
+     * Calcula el movimiento de los cuerpos en el intervalo de &iacute;ndices
+     * dado. Cada cuerpo es independiente del resto, as&iacute; que intervalos
+     * ajenos pueden calcularse al mismo tiempo desde hilos distintos.
+     * @param from - El primer &iacute;ndice del intervalo (inclusivo).
+     * @param to - El &uacute;ltimo &iacute;ndice del intervalo (exclusivo).
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime al mundo.
+     * @see Sprite#moveObject(long)
+     * @since SpriteWorld 1.0, october 2026
+     */
+    public void step(int from, int to, long updateDelay) {
+        checkRange(from, to);
+        for(int i = from; i < to; i++) {
+            if(!isAccelConstant[i]) {
+                double x = Math.abs(mass[i] *accelX[i] *frictionX[i]);
+                double y = Math.abs(mass[i] *accelY[i] *frictionY[i]);
+                if(speedX[i] != 0) {
+                    forceX[i] = speedX[i] > 0 ? forceX[i] -x : forceX[i] +x;
+                } if(speedY[i] != 0) {
+                    forceY[i] = speedY[i] > 0 ? forceY[i] -y : forceY[i] +y;
+                }//fricción; igual que Sprite.frictionReduction
+                accelX[i] = forceX[i] /mass[i];
+                accelY[i] = forceY[i] /mass[i];
+            }//si es necesario calcular la aceleración
+            if(!isSpeedConstant[i]) {
+                double x = speedX[i] +accelX[i] *updateDelay;
+                double y = speedY[i] +accelY[i] *updateDelay;
+                double norm = Math.sqrt(x *x +y *y);
+                if(norm > terminalVelocity[i]) {
+                    double s = terminalVelocity[i] /norm;
+                    x *= s;
+                    y *= s;
+                }//limita la velocidad; no queremos infracciones
+                speedX[i] = x;
+                speedY[i] = y;
+            }//si es necesario calcular la velocidad
+            // Point guarda enteros; se trunca igual que POSITION.x += ...
+            posX[i] = (int) (posX[i] +speedX[i]);
+            posY[i] = (int) (posY[i] +speedY[i]);
+        }//mueve a cada cuerpo
+    }//step
+
+    /**
+     * Asigna al sprite due&ntilde;o del cuerpo dado el estado calculado.
+     * @param i - El &iacute;ndice del cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected void store(int i) {
+        Sprite sprite = sprites[i];
+        sprite.POSITION.x = (int) posX[i];
+        sprite.POSITION.y = (int) posY[i];
+        sprite.SPEED.setMagnitudes(speedX[i], speedY[i]);
+        sprite.ACCEL.setMagnitudes(accelX[i], accelY[i]);
+        sprite.MOV_FORCE.setMagnitudes(forceX[i], forceY[i]);
+    }//store
+
+    /**
+     * Mueve el cuerpo en el &iacute;ndice <tt>from</tt> al &iacute;ndice
+     * <tt>to</tt>, actualizando el manejador de su sprite.
+     * @param from - El &iacute;ndice actual del cuerpo.
+     * @param to - El nuevo &iacute;ndice del cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected void move(int from, int to) {
+        sprites[to] = sprites[from];
+        sprites[to].worldIndex = to;
+        posX[to] = posX[from];
+        posY[to] = posY[from];
+        speedX[to] = speedX[from];
+        speedY[to] = speedY[from];
+        accelX[to] = accelX[from];
+        accelY[to] = accelY[from];
+        forceX[to] = forceX[from];
+        forceY[to] = forceY[from];
+        frictionX[to] = frictionX[from];
+        frictionY[to] = frictionY[from];
+        mass[to] = mass[from];
+        terminalVelocity[to] = terminalVelocity[from];
+        isAccelConstant[to] = isAccelConstant[from];
+        isSpeedConstant[to] = isSpeedConstant[from];
+    }//move
+
+    /**
+     * Duplica la capacidad de todos los arreglos del mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    protected void grow() {
+        int capacity = sprites.length *2;
+        sprites = Arrays.copyOf(sprites, capacity);
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        speedX = Arrays.copyOf(speedX, capacity);
+        speedY = Arrays.copyOf(speedY, capacity);
+        accelX = Arrays.copyOf(accelX, capacity);
+        accelY = Arrays.copyOf(accelY, capacity);
+        forceX = Arrays.copyOf(forceX, capacity);
+        forceY = Arrays.copyOf(forceY, capacity);
+        frictionX = Arrays.copyOf(frictionX, capacity);
+        frictionY = Arrays.copyOf(frictionY, capacity);
+        mass = Arrays.copyOf(mass, capacity);
+        terminalVelocity = Arrays.copyOf(terminalVelocity, capacity);
+        isAccelConstant = Arrays.copyOf(isAccelConstant, capacity);
+        isSpeedConstant = Arrays.copyOf(isSpeedConstant, capacity);
+    }//grow
+
+    /**
+     * Verifica que el sprite dado pertenezca a este mundo.
+     * @param sprite - El sprite a verificar.
+     * @throws IllegalArgumentException - Si el sprite no pertenece a este
+     * mundo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    private void checkOwner(Sprite sprite) {
+        if(sprite.world != this) {
+            throw new IllegalArgumentException("Given sprite doesn't belong "
+                    + "to this world.");
+        }//si es de otro mundo
+    }//checkOwner
+
+    /**
+     * Verifica que el &iacute;ndice dado corresponda a un cuerpo del mundo.
+     * @param index - El &iacute;ndice a verificar.
+     * @throws IndexOutOfBoundsException - Si no hay tal cuerpo.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " +index +", Size: "
+                    +size);
+        }//si no hay tal cuerpo
+    }//checkIndex
+
+    /**
+     * Verifica que el intervalo dado est&eacute; dentro del mundo.
+     * @param from - El primer &iacute;ndice del intervalo (inclusivo).
+     * @param to - El &uacute;ltimo &iacute;ndice del intervalo (exclusivo).
+     * @throws IndexOutOfBoundsException - Si el intervalo no es v&aacute;lido.
+     * @since SpriteWorld 1.0, october 2026
+     */
+    private void checkRange(int from, int to) {
+        if(from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("From: " +from +", To: " +to
+                    +", Size: " +size);
+        }//si el intervalo es inválido
+    }//checkRange
+
+}//SpriteWorld class
@@ -0,0 +1,665 @@
+/*
+ * Copyright 2012 - 2016, Manuel "Nachintoch" Castillo.
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the Lesser GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * Lesser GNU General Public License for more details.
+ *
+ * You should have received a copy of the Lesser GNU General Public License
+ * along with this code.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Get more & contribute to open source software/hardware at
+ * http://www.nachintoch.mx/ or just any other open source comunity...
+ */
+package mx.nachintoch.vg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * <p>Detector de colisiones de fase amplia por barrido y poda (<i>sweep and
+ * prune</i>). Mantiene, para cada eje, un arreglo ordenado con los extremos
+ * de los rect&aacute;ngulos de los sprites. Como los sprites se mueven poco
+ * entre cuadros, los arreglos casi no cambian y se reordenan con
+ * inserci&oacute;n en tiempo casi lineal.</p>
+ * <p>Los intercambios que hace el ordenamiento indican qu&eacute; pares
+ * empiezan o dejan de traslaparse, as&iacute; que s&oacute;lo se conservan
+ * los pares cuyos rect&aacute;ngulos se traslapan. Esos pares se confirman
+ * con {@link Sprite#detectCollision(Sprite)} y los cambios se notifican a un
+ * {@link OverlapListener}; no es necesario consultar cada par en cada
+ * cuadro.</p>
+ * <p>Esta clase no es segura para hilos.</p>
+ *
+ * @author <a href="mailto:contact@nachintoch.mx" >Manuel
+ * "nachintoch" Castillo</a>
+ * @version 1.0, october 2026
+ * @since Nachintoch Library for Java SE &amp; Android 2026
+ */
+public class SweepAndPrune {
+
+    // atributos de clase
+
+    /**
+     * Quien recibe los cambios en las colisiones.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final OverlapListener LISTENER;
+
+    /**
+     * Relaciona a cada sprite con su ranura en el detector.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final IdentityHashMap<Sprite, Integer> SLOTS;
+
+    /**
+     * Los extremos ordenados en X.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final Axis X_AXIS;
+
+    /**
+     * Los extremos ordenados en Y.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final Axis Y_AXIS;
+
+    /**
+     * Los pares cuyos rect&aacute;ngulos se traslapan.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final ArrayList<Pair> PAIRS;
+
+    /**
+     * Pares retirados durante el ordenamiento que estaban colisionando; se
+     * notifican al terminar la actualizaci&oacute;n.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected final ArrayList<Pair> ENDED;
+
+    /**
+     * El sprite de cada ranura; <tt>null</tt> si est&aacute; libre.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected Sprite[] sprites;
+
+    /**
+     * Coordenada X menor (inclusiva) del rect&aacute;ngulo de cada ranura,
+     * seg&uacute;n la &uacute;ltima actualizaci&oacute;n.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int[] minX;
+
+    /**
+     * Coordenada Y menor (inclusiva) del rect&aacute;ngulo de cada ranura,
+     * seg&uacute;n la &uacute;ltima actualizaci&oacute;n.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int[] minY;
+
+    /**
+     * Coordenada X mayor (inclusiva) del rect&aacute;ngulo de cada ranura,
+     * seg&uacute;n la &uacute;ltima actualizaci&oacute;n.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int[] maxX;
+
+    /**
+     * Coordenada Y mayor (inclusiva) del rect&aacute;ngulo de cada ranura,
+     * seg&uacute;n la &uacute;ltima actualizaci&oacute;n.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int[] maxY;
+
+    /**
+     * Ranuras libres, para reusarlas.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int[] freeSlots;
+
+    /**
+     * N&uacute;mero de ranuras libres.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int freeCount;
+
+    /**
+     * N&uacute;mero de ranuras usadas alguna vez.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected int slotCount;
+
+    /**
+     * Llaves de la tabla de pares.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected long[] pairKeys;
+
+    /**
+     * Tabla de pares; <tt>null</tt> indica una ranura libre.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected Pair[] pairTable;
+
+    // métodos constructores
+
+    /**
+     * Construye un detector vac&iacute;o.
+     * @param listener - Quien recibe los cambios en las colisiones.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public SweepAndPrune(OverlapListener listener) {
+        if(listener == null) {
+            throw new IllegalArgumentException("A listener is required.");
+        }//si no hay a quien avisar
+        this.LISTENER = listener;
+        this.SLOTS = new IdentityHashMap<>();
+        this.X_AXIS = new Axis();
+        this.Y_AXIS = new Axis();
+        this.PAIRS = new ArrayList<>();
+        this.ENDED = new ArrayList<>();
+        this.sprites = new Sprite[16];
+        this.minX = new int[16];
+        this.minY = new int[16];
+        this.maxX = new int[16];
+        this.maxY = new int[16];
+        this.freeSlots = new int[16];
+        this.pairKeys = new long[16];
+        this.pairTable = new Pair[16];
+    }//constructor con escucha
+
+    // métodos de acceso
+
+    /**
+     * Indica el n&uacute;mero de sprites en el detector.
+     * @return int - El n&uacute;mero de sprites.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public int size() {
+        return SLOTS.size();
+    }//size
+
+    /**
+     * Indica cu&aacute;ntos pares de rect&aacute;ngulos se traslapan.
+     * @return int - El n&uacute;mero de pares candidatos.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public int getOverlapCount() {
+        return PAIRS.size();
+    }//getOverlapCount
+
+    /**
+     * Indica si los dos sprites dados est&aacute;n colisionando, de acuerdo a
+     * la &uacute;ltima actualizaci&oacute;n.
+     * @param a - Uno de los sprites.
+     * @param b - El otro sprite.
+     * @return boolean - <tt>true</tt> si colisionan, <tt>false</tt> en otro
+     * caso o si alguno no est&aacute; en el detector.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public boolean isColliding(Sprite a, Sprite b) {
+        Integer p = SLOTS.get(a);
+        Integer q = SLOTS.get(b);
+        if(p == null || q == null) {
+            return false;
+        }//si alguno no está
+        Pair pair = findPair(pairKey(p, q));
+        return pair != null && pair.colliding;
+    }//isColliding
+
+    // métodos de modificación
+
+    /**
+     * Agrega el sprite dado al detector. Sus colisiones se notifican a partir
+     * de la siguiente actualizaci&oacute;n.
+     * @param sprite - El sprite a agregar.
+     * @return boolean - <tt>true</tt> si se agreg&oacute;, <tt>false</tt> si
+     * ya estaba.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public boolean add(Sprite sprite) {
+        if(SLOTS.containsKey(sprite)) {
+            return false;
+        }//si ya estaba
+        int slot;
+        if(freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if(slotCount == sprites.length) {
+                growSlots();
+            }//si no hay lugar
+            slot = slotCount++;
+        }//reusa una ranura si hay
+        sprites[slot] = sprite;
+        SLOTS.put(sprite, slot);
+        readBounds(slot);
+        // entran al final; el ordenamiento los lleva a su lugar
+        X_AXIS.append(minX[slot], slot <<1);
+        X_AXIS.append(maxX[slot], slot <<1 | 1);
+        Y_AXIS.append(minY[slot], slot <<1);
+        Y_AXIS.append(maxY[slot], slot <<1 | 1);
+        return true;
+    }//add
+
+    /**
+     * Retira el sprite dado del detector. Si colisionaba con otros, se
+     * notifica que esas colisiones terminaron.
+     * @param sprite - El sprite a retirar.
+     * @return boolean - <tt>true</tt> si se retir&oacute;, <tt>false</tt> si
+     * no estaba.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public boolean remove(Sprite sprite) {
+        Integer boxed = SLOTS.remove(sprite);
+        if(boxed == null) {
+            return false;
+        }//si no estaba
+        int slot = boxed;
+        X_AXIS.removeSlot(slot);
+        Y_AXIS.removeSlot(slot);
+        for(int i = PAIRS.size() -1; i >= 0; i--) {
+            Pair pair = PAIRS.get(i);
+            if(pair.A == slot || pair.B == slot) {
+                removePair(pair);
+                if(pair.colliding) {
+                    LISTENER.overlapEnded(sprites[pair.A], sprites[pair.B]);
+                }//si colisionaban
+            }//si el par es del sprite
+        }//retira sus pares
+        sprites[slot] = null;
+        if(freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount *2);
+        }//si no hay lugar
+        freeSlots[freeCount++] = slot;
+        return true;
+    }//remove
+
+    // métodos de implementación
+
+    /**
+     * Lee las posiciones actuales de los sprites, reordena los extremos y
+     * notifica las colisiones que empezaron o terminaron desde la
+     * actualizaci&oacute;n anterior.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public void update() {
+        for(int slot = 0; slot < slotCount; slot++) {
+            if(sprites[slot] != null) {
+                readBounds(slot);
+            }//si la ranura está ocupada
+        }//lee las posiciones
+        X_AXIS.refresh(minX, maxX);
+        Y_AXIS.refresh(minY, maxY);
+        X_AXIS.sort();
+        Y_AXIS.sort();
+        for(int i = 0; i < ENDED.size(); i++) {
+            Pair pair = ENDED.get(i);
+            LISTENER.overlapEnded(sprites[pair.A], sprites[pair.B]);
+        }//notifica los pares que dejaron de traslaparse
+        ENDED.clear();
+        for(int i = 0; i < PAIRS.size(); i++) {
+            Pair pair = PAIRS.get(i);
+            Sprite a = sprites[pair.A];
+            Sprite b = sprites[pair.B];
+            boolean colliding = a.detectCollision(b);
+            if(colliding != pair.colliding) {
+                pair.colliding = colliding;
+                if(colliding) {
+                    LISTENER.overlapBegan(a, b);
+                } else {
+                    LISTENER.overlapEnded(a, b);
+                }//notifica el cambio
+            }//si cambió el estado
+        }//confirma cada par con la fase estrecha
+    }//update
+
+    /**
+     * Mueve a todos los sprites del detector con
+     * {@link Sprite#moveObject(long)} y despu&eacute;s actualiza.
+     * @param updateDelay - La duraci&oacute;n de los intervalos de sue&ntilde;o
+     * que use el hilo que anime a los sprites.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    public void moveAll(long updateDelay) {
+        for(int slot = 0; slot < slotCount; slot++) {
+            if(sprites[slot] != null) {
+                sprites[slot].moveObject(updateDelay);
+            }//si la ranura está ocupada
+        }//mueve a cada sprite
+        update();
+    }//moveAll
+
+    /**
+     * Lee el rect&aacute;ngulo del sprite en la ranura dada.
+     * @param slot - La ranura a actualizar.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected void readBounds(int slot) {
+        Sprite sprite = sprites[slot];
+        minX[slot] = sprite.POSITION.x;
+        minY[slot] = sprite.POSITION.y;
+        maxX[slot] = sprite.POSITION.x +sprite.WIDTH;
+        maxY[slot] = sprite.POSITION.y +sprite.HEIGHT;
+    }//readBounds
+
+    /**
+     * Indica si los rect&aacute;ngulos de las ranuras dadas se traslapan en
+     * ambos ejes. Los bordes cuentan como parte del rect&aacute;ngulo.
+     * @param p - Una de las ranuras.
+     * @param q - La otra ranura.
+     * @return boolean - <tt>true</tt> si se traslapan.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected boolean overlaps(int p, int q) {
+        return minX[p] <= maxX[q] && minX[q] <= maxX[p] &&
+                minY[p] <= maxY[q] && minY[q] <= maxY[p];
+    }//overlaps
+
+    /**
+     * Atiende a que el m&iacute;nimo de una ranura pas&oacute; a la izquierda
+     * del m&aacute;ximo de otra en alg&uacute;n eje: si ahora se traslapan en
+     * ambos, se agrega el par.
+     * @param p - Una de las ranuras.
+     * @param q - La otra ranura.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected void beginOverlap(int p, int q) {
+        if(!overlaps(p, q)) {
+            return;
+        }//si no se traslapan en el otro eje
+        long key = pairKey(p, q);
+        if(findPair(key) == null) {
+            Pair pair = new Pair(Math.min(p, q), Math.max(p, q));
+            insertPair(key, pair);
+            pair.index = PAIRS.size();
+            PAIRS.add(pair);
+        }//si es un par nuevo
+    }//beginOverlap
+
+    /**
+     * Atiende a que el m&aacute;ximo de una ranura pas&oacute; a la izquierda
+     * del m&iacute;nimo de otra en alg&uacute;n eje: ya no se traslapan, se
+     * retira el par.
+     * @param p - Una de las ranuras.
+     * @param q - La otra ranura.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected void endOverlap(int p, int q) {
+        Pair pair = findPair(pairKey(p, q));
+        if(pair != null) {
+            removePair(pair);
+            if(pair.colliding) {
+                ENDED.add(pair);
+            }//si colisionaban, se notifica al final
+        }//si existía el par
+    }//endOverlap
+
+    /**
+     * Retira al par dado de la lista y de la tabla de pares.
+     * @param pair - El par a retirar.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected void removePair(Pair pair) {
+        Pair last = PAIRS.remove(PAIRS.size() -1);
+        if(last != pair) {
+            PAIRS.set(pair.index, last);
+            last.index = pair.index;
+        }//si no era el último
+        int mask = pairTable.length -1;
+        long key = pairKey(pair.A, pair.B);
+        int hole = hash(key) & mask;
+        while(pairTable[hole] != pair) {
+            hole = (hole +1) & mask;
+        }//busca la ranura
+        for(int i = (hole +1) & mask; pairTable[i] != null; i = (i +1) & mask) {
+            int home = hash(pairKeys[i]) & mask;
+            if(((i -home) & mask) >= ((i -hole) & mask)) {
+                pairKeys[hole] = pairKeys[i];
+                pairTable[hole] = pairTable[i];
+                hole = i;
+            }//si debe ocupar el hueco
+        }//corrimiento hacia atrás
+        pairTable[hole] = null;
+    }//removePair
+
+    /**
+     * Busca el par con la llave dada.
+     * @param key - La llave del par.
+     * @return Pair - El par; <tt>null</tt> si no se traslapan.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected Pair findPair(long key) {
+        int mask = pairTable.length -1;
+        for(int i = hash(key) & mask; pairTable[i] != null;
+                i = (i +1) & mask) {
+            if(pairKeys[i] == key) {
+                return pairTable[i];
+            }//si es el par buscado
+        }//sondeo lineal
+        return null;
+    }//findPair
+
+    /**
+     * Inserta el par dado en la tabla de pares.
+     * @param key - La llave del par.
+     * @param pair - El par a insertar.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    private void insertPair(long key, Pair pair) {
+        if((PAIRS.size() +1) *2 > pairTable.length) {
+            long[] oldKeys = pairKeys;
+            Pair[] oldTable = pairTable;
+            pairKeys = new long[oldTable.length *2];
+            pairTable = new Pair[oldTable.length *2];
+            for(int i = 0; i < oldTable.length; i++) {
+                if(oldTable[i] != null) {
+                    place(oldKeys[i], oldTable[i]);
+                }//si la ranura está ocupada
+            }//reubica cada par
+        }//mantiene la tabla a lo más a la mitad
+        place(key, pair);
+    }//insertPair
+
+    /**
+     * Coloca el par dado en la primer ranura libre de su grupo.
+     * @param key - La llave del par.
+     * @param pair - El par a colocar.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    private void place(long key, Pair pair) {
+        int mask = pairTable.length -1;
+        int i = hash(key) & mask;
+        while(pairTable[i] != null) {
+            i = (i +1) & mask;
+        }//sondeo lineal
+        pairKeys[i] = key;
+        pairTable[i] = pair;
+    }//place
+
+    /**
+     * Duplica la capacidad de las ranuras.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    private void growSlots() {
+        int capacity = sprites.length *2;
+        sprites = Arrays.copyOf(sprites, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+    }//growSlots
+
+    // métodos estáticos
+
+    /**
+     * Calcula la llave del par formado por las ranuras dadas, sin importar
+     * su orden.
+     * @param p - Una de las ranuras.
+     * @param q - La otra ranura.
+     * @return long - La llave del par.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    private static long pairKey(int p, int q) {
+        return p < q ? (long) p << 32 | q : (long) q << 32 | p;
+    }//pairKey
+
+    /**
+     * Dispersa la llave dada para indexar la tabla de pares.
+     * @param key - La llave de un par.
+     * @return int - La dispersi&oacute;n de la llave.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    private static int hash(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32));
+    }//hash
+
+    // clases anidadas
+
+    /**
+     * Par de ranuras cuyos rect&aacute;ngulos se traslapan.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected static class Pair {
+
+        /**
+         * La ranura menor del par.
+         * @since SweepAndPrune 1.0, october 2026
+         */
+        protected final int A;
+
+        /**
+         * La ranura mayor del par.
+         * @since SweepAndPrune 1.0, october 2026
+         */
+        protected final int B;
+
+        /**
+         * Posici&oacute;n del par en la lista de pares.
+         * @since SweepAndPrune 1.0, october 2026
+         */
+        protected int index;
+
+        /**
+         * Indica si los sprites del par colisionan seg&uacute;n la fase
+         * estrecha.
+         * @since SweepAndPrune 1.0, october 2026
+         */
+        protected boolean colliding;
+
+        /**
+         * Construye el par de las ranuras dadas.
+         * @param a - La ranura menor.
+         * @param b - La ranura mayor.
+         */
+        protected Pair(int a, int b) {
+            this.A = a;
+            this.B = b;
+        }//constructor con ranuras
+
+    }//Pair class
+
+    /**
+     * Arreglo ordenado de los extremos de los rect&aacute;ngulos en un eje.
+     * Cada extremo guarda su valor y un c&oacute;digo: la ranura de su sprite
+     * desplazada un bit, con el bit menos significativo en 1 si es un
+     * m&aacute;ximo.
+     * @since SweepAndPrune 1.0, october 2026
+     */
+    protected class Axis {
+
+        /**
+         * Valor de cada extremo.
+         */
+        protected int[] values = new int[32];
+
+        /**
+         * C&oacute;digo de cada extremo.
+         */
+        protected int[] codes = new int[32];
+
+        /**
+         * N&uacute;mero de extremos.
+         */
+        protected int count;
+
+        /**
+         * Agrega un extremo al final del arreglo.
+         * @param value - El valor del extremo.
+         * @param code - El c&oacute;digo del extremo.
+         */
+        protected void append(int value, int code) {
+            if(count == values.length) {
+                values = Arrays.copyOf(values, count *2);
+                codes = Arrays.copyOf(codes, count *2);
+            }//si no hay lugar
+            values[count] = value;
+            codes[count++] = code;
+        }//append
+
+        /**
+         * Retira los dos extremos de la ranura dada, conservando el orden
+         * del resto.
+         * @param slot - La ranura a retirar.
+         */
+        protected void removeSlot(int slot) {
+            int j = 0;
+            for(int i = 0; i < count; i++) {
+                if(codes[i] >>> 1 != slot) {
+                    values[j] = values[i];
+                    codes[j++] = codes[i];
+                }//si no es de la ranura
+            }//compacta el arreglo
+            count = j;
+        }//removeSlot
+
+        /**
+         * Actualiza el valor de cada extremo con los rect&aacute;ngulos
+         * dados.
+         * @param min - Los m&iacute;nimos de cada ranura en este eje.
+         * @param max - Los m&aacute;ximos de cada ranura en este eje.
+         */
+        protected void refresh(int[] min, int[] max) {
+            for(int i = 0; i < count; i++) {
+                int code = codes[i];
+                values[i] = (code & 1) == 0 ? min[code >>> 1] : max[code >>> 1];
+            }//lee cada extremo
+        }//refresh
+
+        /**
+         * Ordena los extremos por inserci&oacute;n. Con valores iguales, los
+         * m&iacute;nimos van antes que los m&aacute;ximos para que los bordes
+         * que se tocan cuenten como traslape. Cada intercambio entre un
+         * m&iacute;nimo y un m&aacute;ximo de ranuras distintas indica un
+         * cambio de traslape en este eje.
+         */
+        protected void sort() {
+            for(int i = 1; i < count; i++) {
+                int value = values[i];
+                int code = codes[i];
+                int j = i -1;
+                while(j >= 0 && (values[j] > value || (values[j] == value &&
+                        (codes[j] & 1) == 1 && (code & 1) == 0))) {
+                    int other = codes[j];
+                    if((code & 1) == 0 && (other & 1) == 1) {
+                        beginOverlap(code >>> 1, other >>> 1);
+                    } else if((code & 1) == 1 && (other & 1) == 0) {
+                        endOverlap(code >>> 1, other >>> 1);
+                    }//un mínimo que rebasa un máximo o viceversa
+                    values[j +1] = values[j];
+                    codes[j +1] = other;
+                    j--;
+                }//recorre a la derecha a los mayores
+                values[j +1] = value;
+                codes[j +1] = code;
+            }//inserta cada extremo
+        }//sort
+
+    }//Axis class
+
+}//SweepAndPrune class